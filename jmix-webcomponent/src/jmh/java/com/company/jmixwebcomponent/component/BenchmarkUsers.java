@@ -0,0 +1,44 @@
+package com.company.jmixwebcomponent.component;
+
+import com.company.jmixwebcomponent.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Synthetic users for the benchmarks: unique usernames/emails, low-cardinality names like real data.
+ */
+final class BenchmarkUsers {
+
+    static final RowSerializer<User> ROWS = RowSerializer.<User>create()
+            .withColumn("id", User::getId)
+            .withColumn("username", User::getUsername)
+            .withColumn("firstName", User::getFirstName)
+            .withColumn("lastName", User::getLastName)
+            .withColumn("email", User::getEmail)
+            .withColumn("active", User::getActive);
+
+    private BenchmarkUsers() {
+    }
+
+    static List<User> create(int count) {
+        // fixed seed: the same data in every run and release
+        Random random = new Random(42);
+
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId(new UUID(random.nextLong(), random.nextLong()));
+            user.setVersion(1);
+            user.setUsername("user" + i);
+            user.setFirstName("First" + random.nextInt(500));
+            user.setLastName("Last" + random.nextInt(2000));
+            user.setEmail("user" + i + "@example.com");
+            user.setActive(random.nextInt(10) != 0);
+            users.add(user);
+        }
+        return users;
+    }
+}
@@ -0,0 +1,70 @@
+package com.company.jmixwebcomponent.component;
+
+import com.company.jmixwebcomponent.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server handling of {@link ReactDataTable} data updates without the database: page requests against
+ * an in-memory provider, and {@code setItems} of a whole list as the eager mode does.
+ * <p>
+ * The table is not attached to a UI, so only property updates are measured; range requests answer with
+ * {@code callJsFunction}, which would queue invocations for a client that never comes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class PageLoadBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    @Param({"false", "true"})
+    public boolean compactRows;
+
+    private List<User> users;
+    private ReactDataTable<User> table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = BenchmarkUsers.create(rows);
+
+        table = new ReactDataTable<>();
+        table.setCompactRows(compactRows);
+        table.setPageSize(50);
+        table.setDataProvider(new ListDataProvider(users), BenchmarkUsers.ROWS);
+    }
+
+    @Benchmark
+    public void loadRandomPage() {
+        int pages = Math.max(1, rows / 50);
+        table.loadPage(ThreadLocalRandom.current().nextInt(pages), 50);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void setAllItems() {
+        table.setItems(users, BenchmarkUsers.ROWS);
+    }
+
+    private record ListDataProvider(List<User> users) implements ReactDataTableDataProvider<User> {
+
+        @Override
+        public List<User> fetch(ReactDataTableQuery query) {
+            int from = Math.min(query.getFirstResult(), users.size());
+            int to = Math.min(from + query.getMaxResults(), users.size());
+            return users.subList(from, to);
+        }
+
+        @Override
+        public int count(ReactDataTableQuery query) {
+            return users.size();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.company.jmixwebcomponent.component;
+
+import com.company.jmixwebcomponent.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaadin.flow.internal.JsonCodec;
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonValue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Server-side cost of decoding a row event: the former {@code JSON.stringify(event.detail)} payload parsed
+ * with Jackson versus the typed {@code event.detail.id} field, plus a selection-change with many ids.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RowEventDecodeBenchmark {
+
+    @Param({"1000"})
+    public int selectedRows;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private ReactDataTable<User> table;
+
+    private String detailJson;
+    private JsonValue idValue;
+    private JsonArray selectedIds;
+
+    @Setup
+    public void setUp() throws Exception {
+        table = new ReactDataTable<>();
+        List<User> users = BenchmarkUsers.create(selectedRows);
+        User user = users.get(0);
+
+        // what the element used to send: {id, row}
+        String rowJson = BenchmarkUsers.ROWS.writeRows(List.of(user));
+        detailJson = "{\"id\":\"" + user.getId() + "\",\"row\":" + rowJson.substring(1, rowJson.length() - 1) + "}";
+
+        idValue = Json.create(user.getId().toString());
+
+        selectedIds = Json.createArray();
+        for (int i = 0; i < users.size(); i++) {
+            selectedIds.set(i, users.get(i).getId().toString());
+        }
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public UUID legacyDetailJson() throws Exception {
+        Map<String, Object> row = mapper.readValue(detailJson, Map.class);
+        return UUID.fromString(row.get("id").toString());
+    }
+
+    @Benchmark
+    public UUID typedId() {
+        return UUID.fromString(JsonCodec.decodeAs(idValue, String.class));
+    }
+
+    @Benchmark
+    public List<String> selectionChange() {
+        return new ReactDataTable.SelectionChangeEvent(table, true, selectedIds).getSelectedIds();
+    }
+}
@@ -0,0 +1,90 @@
+package com.company.jmixwebcomponent.component;
+
+import com.company.jmixwebcomponent.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of building the {@code rows} payload, from the former map-per-row
+ * {@code loadTable()} code to {@link RowSerializer} and the columnar format.
+ * <p>
+ * Run with {@code ./gradlew jmh -PjmhInclude=RowSerialization}; {@code gc.alloc.rate.norm} is bytes allocated
+ * per operation. The payload size of each format is reported as the {@code bytesPerRow} secondary result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class RowSerializationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private List<User> users;
+    private ObjectMapper mapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        users = BenchmarkUsers.create(rows);
+        mapper = new ObjectMapper();
+    }
+
+    /**
+     * Payload size of the last operation, reported as is next to the timing.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public double bytesPerRow;
+    }
+
+    @Benchmark
+    public String mapsWithObjectMapper(PayloadSize size) {
+        return measure(writeWithMaps(), size);
+    }
+
+    @Benchmark
+    public String rowSerializerRows(PayloadSize size) {
+        return measure(BenchmarkUsers.ROWS.writeRows(users), size);
+    }
+
+    @Benchmark
+    public String rowSerializerColumnar(PayloadSize size) {
+        return measure(BenchmarkUsers.ROWS.writeColumnar(users), size);
+    }
+
+    // the data is ASCII, so characters are bytes
+    private String measure(String json, PayloadSize size) {
+        size.bytesPerRow = (double) json.length() / rows;
+        return json;
+    }
+
+    private String writeWithMaps() {
+        List<Map<String, Object>> list = new ArrayList<>(users.size());
+        for (User u : users) {
+            Map<String, Object> m = new HashMap<>();
+            m.put("id", u.getId().toString());
+            m.put("username", u.getUsername());
+            m.put("firstName", u.getFirstName());
+            m.put("lastName", u.getLastName());
+            m.put("email", u.getEmail());
+            m.put("active", u.getActive());
+            list.add(m);
+        }
+        try {
+            return mapper.writeValueAsString(list);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,10 +0,0 @@
-var dv=Object.defineProperty;var yv=(Rt,Pl,_a)=>Pl in Rt?dv(Rt,Pl,{enumerable:!0,configurable:!0,writable:!0,value:_a}):Rt[Pl]=_a;var Xl=(Rt,Pl,_a)=>yv(Rt,typeof Pl!="symbol"?Pl+"":Pl,_a);(function(){"use strict";var Rt={exports:{}},Pl={};var _a;function Dy(){if(_a)return Pl;_a=1;var A=Symbol.for("react.transitional.element"),al=Symbol.for("react.fragment");function _(y,R,fl){var dl=null;if(fl!==void 0&&(dl=""+fl),R.key!==void 0&&(dl=""+R.key),"key"in R){fl={};for(var ml in R)ml!=="key"&&(fl[ml]=R[ml])}else fl=R;return R=fl.ref,{$$typeof:A,type:y,key:dl,ref:R!==void 0?R:null,props:fl}}return Pl.Fragment=al,Pl.jsx=_,Pl.jsxs=_,Pl}var gc;function Uy(){return gc||(gc=1,Rt.exports=Dy()),Rt.exports}var k=Uy(),Vn={exports:{}},Uu={},Ln={exports:{}},Kn={};var rc;function Ny(){return rc||(rc=1,(function(A){function al(S,p){var C=S.length;S.push(p);l:for(;0<C;){var ul=C-1>>>1,cl=S[ul];if(0<R(cl,p))S[ul]=p,S[C]=cl,C=ul;else break l}}function _(S){return S.length===0?null:S[0]}function y(S){if(S.length===0)return null;var p=S[0],C=S.pop();if(C!==p){S[0]=C;l:for(var ul=0,cl=S.length,d=cl>>>1;ul<d;){var T=2*(ul+1)-1,M=S[T],D=T+1,Y=S[D];if(0>R(M,C))D<cl&&0>R(Y,M)?(S[ul]=Y,S[D]=C,ul=D):(S[ul]=M,S[T]=C,ul=T);else if(D<cl&&0>R(Y,C))S[ul]=Y,S[D]=C,ul=D;else break l}}return p}function R(S,p){var C=S.sortIndex-p.sortIndex;return C!==0?C:S.id-p.id}if(A.unstable_now=void 0,typeof performance=="object"&&typeof performance.now=="function"){var fl=performance;A.unstable_now=function(){return fl.now()}}else{var dl=Date,ml=dl.now();A.unstable_now=function(){return dl.now()-ml}}var N=[],E=[],w=1,q=null,I=3,Ol=!1,gl=!1,Ul=!1,lt=!1,yl=typeof setTimeout=="function"?setTimeout:null,Zl=typeof clearTimeout=="function"?clearTimeout:null,El=typeof setImmediate!="undefined"?setImmediate:null;function jl(S){for(var p=_(E);p!==null;){if(p.callback===null)y(E);else if(p.startTime<=S)y(E),p.sortIndex=p.expirationTime,al(N,p);else break;p=_(E)}}function tt(S){if(Ul=!1,jl(S),!gl)if(_(N)!==null)gl=!0,Vl||(Vl=!0,Kl());else{var p=_(E);p!==null&&Et(tt,p.startTime-S)}}var Vl=!1,K=-1,Ll=5,Mt=-1;function La(){return lt?!0:!(A.unstable_now()-Mt<Ll)}function Ot(){if(lt=!1,Vl){var S=A.unstable_now();Mt=S;var p=!0;try{l:{gl=!1,Ul&&(Ul=!1,Zl(K),K=-1),Ol=!0;var C=I;try{t:{for(jl(S),q=_(N);q!==null&&!(q.expirationTime>S&&La());){var ul=q.callback;if(typeof ul=="function"){q.callback=null,I=q.priorityLevel;var cl=ul(q.expirationTime<=S);if(S=A.unstable_now(),typeof cl=="function"){q.callback=cl,jl(S),p=!0;break t}q===_(N)&&y(N),jl(S)}else y(N);q=_(N)}if(q!==null)p=!0;else{var d=_(E);d!==null&&Et(tt,d.startTime-S),p=!1}}break l}finally{q=null,I=C,Ol=!1}p=void 0}}finally{p?Kl():Vl=!1}}}var Kl;if(typeof El=="function")Kl=function(){El(Ot)};else if(typeof MessageChannel!="undefined"){var Aa=new MessageChannel,qt=Aa.port2;Aa.port1.onmessage=Ot,Kl=function(){qt.postMessage(null)}}else Kl=function(){yl(Ot,0)};function Et(S,p){K=yl(function(){S(A.unstable_now())},p)}A.unstable_IdlePriority=5,A.unstable_ImmediatePriority=1,A.unstable_LowPriority=4,A.unstable_NormalPriority=3,A.unstable_Profiling=null,A.unstable_UserBlockingPriority=2,A.unstable_cancelCallback=function(S){S.callback=null},A.unstable_forceFrameRate=function(S){0>S||125<S?console.error("forceFrameRate takes a positive int between 0 and 125, forcing frame rates higher than 125 fps is not supported"):Ll=0<S?Math.floor(1e3/S):5},A.unstable_getCurrentPriorityLevel=function(){return I},A.unstable_next=function(S){switch(I){case 1:case 2:case 3:var p=3;break;default:p=I}var C=I;I=p;try{return S()}finally{I=C}},A.unstable_requestPaint=function(){lt=!0},A.unstable_runWithPriority=function(S,p){switch(S){case 1:case 2:case 3:case 4:case 5:break;default:S=3}var C=I;I=S;try{return p()}finally{I=C}},A.unstable_scheduleCallback=function(S,p,C){var ul=A.unstable_now();switch(typeof C=="object"&&C!==null?(C=C.delay,C=typeof C=="number"&&0<C?ul+C:ul):C=ul,S){case 1:var cl=-1;break;case 2:cl=250;break;case 5:cl=1073741823;break;case 4:cl=1e4;break;default:cl=5e3}return cl=C+cl,S={id:w++,callback:p,priorityLevel:S,startTime:C,expirationTime:cl,sortIndex:-1},C>ul?(S.sortIndex=C,al(E,S),_(N)===null&&S===_(E)&&(Ul?(Zl(K),K=-1):Ul=!0,Et(tt,C-ul))):(S.sortIndex=cl,al(N,S),gl||Ol||(gl=!0,Vl||(Vl=!0,Kl()))),S},A.unstable_shouldYield=La,A.unstable_wrapCallback=function(S){var p=I;return function(){var C=I;I=p;try{return S.apply(this,arguments)}finally{I=C}}}})(Kn)),Kn}var Sc;function Hy(){return Sc||(Sc=1,Ln.exports=Ny()),Ln.exports}var Jn={exports:{}},B={};var bc;function Ry(){if(bc)return B;bc=1;var A=Symbol.for("react.transitional.element"),al=Symbol.for("react.portal"),_=Symbol.for("react.fragment"),y=Symbol.for("react.strict_mode"),R=Symbol.for("react.profiler"),fl=Symbol.for("react.consumer"),dl=Symbol.for("react.context"),ml=Symbol.for("react.forward_ref"),N=Symbol.for("react.suspense"),E=Symbol.for("react.memo"),w=Symbol.for("react.lazy"),q=Symbol.for("react.activity"),I=Symbol.iterator;function Ol(d){return d===null||typeof d!="object"?null:(d=I&&d[I]||d["@@iterator"],typeof d=="function"?d:null)}var gl={isMounted:function(){return!1},enqueueForceUpdate:function(){},enqueueReplaceState:function(){},enqueueSetState:function(){}},Ul=Object.assign,lt={};function yl(d,T,M){this.props=d,this.context=T,this.refs=lt,this.updater=M||gl}yl.prototype.isReactComponent={},yl.prototype.setState=function(d,T){if(typeof d!="object"&&typeof d!="function"&&d!=null)throw Error("takes an object of state variables to update or a function which returns an object of state variables.");this.updater.enqueueSetState(this,d,T,"setState")},yl.prototype.forceUpdate=function(d){this.updater.enqueueForceUpdate(this,d,"forceUpdate")};function Zl(){}Zl.prototype=yl.prototype;function El(d,T,M){this.props=d,this.context=T,this.refs=lt,this.updater=M||gl}var jl=El.prototype=new Zl;jl.constructor=El,Ul(jl,yl.prototype),jl.isPureReactComponent=!0;var tt=Array.isArray;function Vl(){}var K={H:null,A:null,T:null,S:null},Ll=Object.prototype.hasOwnProperty;function Mt(d,T,M){var D=M.ref;return{$$typeof:A,type:d,key:T,ref:D!==void 0?D:null,props:M}}function La(d,T){return Mt(d.type,T,d.props)}function Ot(d){return typeof d=="object"&&d!==null&&d.$$typeof===A}function Kl(d){var T={"=":"=0",":":"=2"};return"$"+d.replace(/[=:]/g,function(M){return T[M]})}var Aa=/\/+/g;function qt(d,T){return typeof d=="object"&&d!==null&&d.key!=null?Kl(""+d.key):T.toString(36)}function Et(d){switch(d.status){case"fulfilled":return d.value;case"rejected":throw d.reason;default:switch(typeof d.status=="string"?d.then(Vl,Vl):(d.status="pending",d.then(function(T){d.status==="pending"&&(d.status="fulfilled",d.value=T)},function(T){d.status==="pending"&&(d.status="rejected",d.reason=T)})),d.status){case"fulfilled":return d.value;case"rejected":throw d.reason}}throw d}function S(d,T,M,D,Y){var Q=typeof d;(Q==="undefined"||Q==="boolean")&&(d=null);var P=!1;if(d===null)P=!0;else switch(Q){case"bigint":case"string":case"number":P=!0;break;case"object":switch(d.$$typeof){case A:case al:P=!0;break;case w:return P=d._init,S(P(d._payload),T,M,D,Y)}}if(P)return Y=Y(d),P=D===""?"."+qt(d,0):D,tt(Y)?(M="",P!=null&&(M=P.replace(Aa,"$&/")+"/"),S(Y,T,M,"",function(Nu){return Nu})):Y!=null&&(Ot(Y)&&(Y=La(Y,M+(Y.key==null||d&&d.key===Y.key?"":(""+Y.key).replace(Aa,"$&/")+"/")+P)),T.push(Y)),1;P=0;var Gl=D===""?".":D+":";if(tt(d))for(var bl=0;bl<d.length;bl++)D=d[bl],Q=Gl+qt(D,bl),P+=S(D,T,M,Q,Y);else if(bl=Ol(d),typeof bl=="function")for(d=bl.call(d),bl=0;!(D=d.next()).done;)D=D.value,Q=Gl+qt(D,bl++),P+=S(D,T,M,Q,Y);else if(Q==="object"){if(typeof d.then=="function")return S(Et(d),T,M,D,Y);throw T=String(d),Error("Objects are not valid as a React child (found: "+(T==="[object Object]"?"object with keys {"+Object.keys(d).join(", ")+"}":T)+"). If you meant to render a collection of children, use an array instead.")}return P}function p(d,T,M){if(d==null)return d;var D=[],Y=0;return S(d,D,"","",function(Q){return T.call(M,Q,Y++)}),D}function C(d){if(d._status===-1){var T=d._result;T=T(),T.then(function(M){(d._status===0||d._status===-1)&&(d._status=1,d._result=M)},function(M){(d._status===0||d._status===-1)&&(d._status=2,d._result=M)}),d._status===-1&&(d._status=0,d._result=T)}if(d._status===1)return d._result.default;throw d._result}var ul=typeof reportError=="function"?reportError:function(d){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var T=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof d=="object"&&d!==null&&typeof d.message=="string"?String(d.message):String(d),error:d});if(!window.dispatchEvent(T))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",d);return}console.error(d)},cl={map:p,forEach:function(d,T,M){p(d,function(){T.apply(this,arguments)},M)},count:function(d){var T=0;return p(d,function(){T++}),T},toArray:function(d){return p(d,function(T){return T})||[]},only:function(d){if(!Ot(d))throw Error("React.Children.only expected to receive a single React element child.");return d}};return B.Activity=q,B.Children=cl,B.Component=yl,B.Fragment=_,B.Profiler=R,B.PureComponent=El,B.StrictMode=y,B.Suspense=N,B.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=K,B.__COMPILER_RUNTIME={__proto__:null,c:function(d){return K.H.useMemoCache(d)}},B.cache=function(d){return function(){return d.apply(null,arguments)}},B.cacheSignal=function(){return null},B.cloneElement=function(d,T,M){if(d==null)throw Error("The argument must be a React element, but you passed "+d+".");var D=Ul({},d.props),Y=d.key;if(T!=null)for(Q in T.key!==void 0&&(Y=""+T.key),T)!Ll.call(T,Q)||Q==="key"||Q==="__self"||Q==="__source"||Q==="ref"&&T.ref===void 0||(D[Q]=T[Q]);var Q=arguments.length-2;if(Q===1)D.children=M;else if(1<Q){for(var P=Array(Q),Gl=0;Gl<Q;Gl++)P[Gl]=arguments[Gl+2];D.children=P}return Mt(d.type,Y,D)},B.createContext=function(d){return d={$$typeof:dl,_currentValue:d,_currentValue2:d,_threadCount:0,Provider:null,Consumer:null},d.Provider=d,d.Consumer={$$typeof:fl,_context:d},d},B.createElement=function(d,T,M){var D,Y={},Q=null;if(T!=null)for(D in T.key!==void 0&&(Q=""+T.key),T)Ll.call(T,D)&&D!=="key"&&D!=="__self"&&D!=="__source"&&(Y[D]=T[D]);var P=arguments.length-2;if(P===1)Y.children=M;else if(1<P){for(var Gl=Array(P),bl=0;bl<P;bl++)Gl[bl]=arguments[bl+2];Y.children=Gl}if(d&&d.defaultProps)for(D in P=d.defaultProps,P)Y[D]===void 0&&(Y[D]=P[D]);return Mt(d,Q,Y)},B.createRef=function(){return{current:null}},B.forwardRef=function(d){return{$$typeof:ml,render:d}},B.isValidElement=Ot,B.lazy=function(d){return{$$typeof:w,_payload:{_status:-1,_result:d},_init:C}},B.memo=function(d,T){return{$$typeof:E,type:d,compare:T===void 0?null:T}},B.startTransition=function(d){var T=K.T,M={};K.T=M;try{var D=d(),Y=K.S;Y!==null&&Y(M,D),typeof D=="object"&&D!==null&&typeof D.then=="function"&&D.then(Vl,ul)}catch(Q){ul(Q)}finally{T!==null&&M.types!==null&&(T.types=M.types),K.T=T}},B.unstable_useCacheRefresh=function(){return K.H.useCacheRefresh()},B.use=function(d){return K.H.use(d)},B.useActionState=function(d,T,M){return K.H.useActionState(d,T,M)},B.useCallback=function(d,T){return K.H.useCallback(d,T)},B.useContext=function(d){return K.H.useContext(d)},B.useDebugValue=function(){},B.useDeferredValue=function(d,T){return K.H.useDeferredValue(d,T)},B.useEffect=function(d,T){return K.H.useEffect(d,T)},B.useEffectEvent=function(d){return K.H.useEffectEvent(d)},B.useId=function(){return K.H.useId()},B.useImperativeHandle=function(d,T,M){return K.H.useImperativeHandle(d,T,M)},B.useInsertionEffect=function(d,T){return K.H.useInsertionEffect(d,T)},B.useLayoutEffect=function(d,T){return K.H.useLayoutEffect(d,T)},B.useMemo=function(d,T){return K.H.useMemo(d,T)},B.useOptimistic=function(d,T){return K.H.useOptimistic(d,T)},B.useReducer=function(d,T,M){return K.H.useReducer(d,T,M)},B.useRef=function(d){return K.H.useRef(d)},B.useState=function(d){return K.H.useState(d)},B.useSyncExternalStore=function(d,T,M){return K.H.useSyncExternalStore(d,T,M)},B.useTransition=function(){return K.H.useTransition()},B.version="19.2.3",B}var zc;function wn(){return zc||(zc=1,Jn.exports=Ry()),Jn.exports}var Wn={exports:{}},Yl={};var Tc;function qy(){if(Tc)return Yl;Tc=1;var A=wn();function al(N){var E="https://react.dev/errors/"+N;if(1<arguments.length){E+="?args[]="+encodeURIComponent(arguments[1]);for(var w=2;w<arguments.length;w++)E+="&args[]="+encodeURIComponent(arguments[w])}return"Minified React error #"+N+"; visit "+E+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function _(){}var y={d:{f:_,r:function(){throw Error(al(522))},D:_,C:_,L:_,m:_,X:_,S:_,M:_},p:0,findDOMNode:null},R=Symbol.for("react.portal");function fl(N,E,w){var q=3<arguments.length&&arguments[3]!==void 0?arguments[3]:null;return{$$typeof:R,key:q==null?null:""+q,children:N,containerInfo:E,implementation:w}}var dl=A.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE;function ml(N,E){if(N==="font")return"";if(typeof E=="string")return E==="use-credentials"?E:""}return Yl.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE=y,Yl.createPortal=function(N,E){var w=2<arguments.length&&arguments[2]!==void 0?arguments[2]:null;if(!E||E.nodeType!==1&&E.nodeType!==9&&E.nodeType!==11)throw Error(al(299));return fl(N,E,null,w)},Yl.flushSync=function(N){var E=dl.T,w=y.p;try{if(dl.T=null,y.p=2,N)return N()}finally{dl.T=E,y.p=w,y.d.f()}},Yl.preconnect=function(N,E){typeof N=="string"&&(E?(E=E.crossOrigin,E=typeof E=="string"?E==="use-credentials"?E:"":void 0):E=null,y.d.C(N,E))},Yl.prefetchDNS=function(N){typeof N=="string"&&y.d.D(N)},Yl.preinit=function(N,E){if(typeof N=="string"&&E&&typeof E.as=="string"){var w=E.as,q=ml(w,E.crossOrigin),I=typeof E.integrity=="string"?E.integrity:void 0,Ol=typeof E.fetchPriority=="string"?E.fetchPriority:void 0;w==="style"?y.d.S(N,typeof E.precedence=="string"?E.precedence:void 0,{crossOrigin:q,integrity:I,fetchPriority:Ol}):w==="script"&&y.d.X(N,{crossOrigin:q,integrity:I,fetchPriority:Ol,nonce:typeof E.nonce=="string"?E.nonce:void 0})}},Yl.preinitModule=function(N,E){if(typeof N=="string")if(typeof E=="object"&&E!==null){if(E.as==null||E.as==="script"){var w=ml(E.as,E.crossOrigin);y.d.M(N,{crossOrigin:w,integrity:typeof E.integrity=="string"?E.integrity:void 0,nonce:typeof E.nonce=="string"?E.nonce:void 0})}}else E==null&&y.d.M(N)},Yl.preload=function(N,E){if(typeof N=="string"&&typeof E=="object"&&E!==null&&typeof E.as=="string"){var w=E.as,q=ml(w,E.crossOrigin);y.d.L(N,w,{crossOrigin:q,integrity:typeof E.integrity=="string"?E.integrity:void 0,nonce:typeof E.nonce=="string"?E.nonce:void 0,type:typeof E.type=="string"?E.type:void 0,fetchPriority:typeof E.fetchPriority=="string"?E.fetchPriority:void 0,referrerPolicy:typeof E.referrerPolicy=="string"?E.referrerPolicy:void 0,imageSrcSet:typeof E.imageSrcSet=="string"?E.imageSrcSet:void 0,imageSizes:typeof E.imageSizes=="string"?E.imageSizes:void 0,media:typeof E.media=="string"?E.media:void 0})}},Yl.preloadModule=function(N,E){if(typeof N=="string")if(E){var w=ml(E.as,E.crossOrigin);y.d.m(N,{as:typeof E.as=="string"&&E.as!=="script"?E.as:void 0,crossOrigin:w,integrity:typeof E.integrity=="string"?E.integrity:void 0})}else y.d.m(N)},Yl.requestFormReset=function(N){y.d.r(N)},Yl.unstable_batchedUpdates=function(N,E){return N(E)},Yl.useFormState=function(N,E,w){return dl.H.useFormState(N,E,w)},Yl.useFormStatus=function(){return dl.H.useHostTransitionStatus()},Yl.version="19.2.3",Yl}var Ec;function xy(){if(Ec)return Wn.exports;Ec=1;function A(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__=="undefined"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(A)}catch(al){console.error(al)}}return A(),Wn.exports=qy(),Wn.exports}var _c;function Cy(){if(_c)return Uu;_c=1;var A=Hy(),al=wn(),_=xy();function y(l){var t="https://react.dev/errors/"+l;if(1<arguments.length){t+="?args[]="+encodeURIComponent(arguments[1]);for(var a=2;a<arguments.length;a++)t+="&args[]="+encodeURIComponent(arguments[a])}return"Minified React error #"+l+"; visit "+t+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}function R(l){return!(!l||l.nodeType!==1&&l.nodeType!==9&&l.nodeType!==11)}function fl(l){var t=l,a=l;if(l.alternate)for(;t.return;)t=t.return;else{l=t;do t=l,(t.flags&4098)!==0&&(a=t.return),l=t.return;while(l)}return t.tag===3?a:null}function dl(l){if(l.tag===13){var t=l.memoizedState;if(t===null&&(l=l.alternate,l!==null&&(t=l.memoizedState)),t!==null)return t.dehydrated}return null}function ml(l){if(l.tag===31){var t=l.memoizedState;if(t===null&&(l=l.alternate,l!==null&&(t=l.memoizedState)),t!==null)return t.dehydrated}return null}function N(l){if(fl(l)!==l)throw Error(y(188))}function E(l){var t=l.alternate;if(!t){if(t=fl(l),t===null)throw Error(y(188));return t!==l?null:l}for(var a=l,u=t;;){var e=a.return;if(e===null)break;var n=e.alternate;if(n===null){if(u=e.return,u!==null){a=u;continue}break}if(e.child===n.child){for(n=e.child;n;){if(n===a)return N(e),l;if(n===u)return N(e),t;n=n.sibling}throw Error(y(188))}if(a.return!==u.return)a=e,u=n;else{for(var i=!1,f=e.child;f;){if(f===a){i=!0,a=e,u=n;break}if(f===u){i=!0,u=e,a=n;break}f=f.sibling}if(!i){for(f=n.child;f;){if(f===a){i=!0,a=n,u=e;break}if(f===u){i=!0,u=n,a=e;break}f=f.sibling}if(!i)throw Error(y(189))}}if(a.alternate!==u)throw Error(y(190))}if(a.tag!==3)throw Error(y(188));return a.stateNode.current===a?l:t}function w(l){var t=l.tag;if(t===5||t===26||t===27||t===6)return l;for(l=l.child;l!==null;){if(t=w(l),t!==null)return t;l=l.sibling}return null}var q=Object.assign,I=Symbol.for("react.element"),Ol=Symbol.for("react.transitional.element"),gl=Symbol.for("react.portal"),Ul=Symbol.for("react.fragment"),lt=Symbol.for("react.strict_mode"),yl=Symbol.for("react.profiler"),Zl=Symbol.for("react.consumer"),El=Symbol.for("react.context"),jl=Symbol.for("react.forward_ref"),tt=Symbol.for("react.suspense"),Vl=Symbol.for("react.suspense_list"),K=Symbol.for("react.memo"),Ll=Symbol.for("react.lazy"),Mt=Symbol.for("react.activity"),La=Symbol.for("react.memo_cache_sentinel"),Ot=Symbol.iterator;function Kl(l){return l===null||typeof l!="object"?null:(l=Ot&&l[Ot]||l["@@iterator"],typeof l=="function"?l:null)}var Aa=Symbol.for("react.client.reference");function qt(l){if(l==null)return null;if(typeof l=="function")return l.$$typeof===Aa?null:l.displayName||l.name||null;if(typeof l=="string")return l;switch(l){case Ul:return"Fragment";case yl:return"Profiler";case lt:return"StrictMode";case tt:return"Suspense";case Vl:return"SuspenseList";case Mt:return"Activity"}if(typeof l=="object")switch(l.$$typeof){case gl:return"Portal";case El:return l.displayName||"Context";case Zl:return(l._context.displayName||"Context")+".Consumer";case jl:var t=l.render;return l=l.displayName,l||(l=t.displayName||t.name||"",l=l!==""?"ForwardRef("+l+")":"ForwardRef"),l;case K:return t=l.displayName||null,t!==null?t:qt(l.type)||"Memo";case Ll:t=l._payload,l=l._init;try{return qt(l(t))}catch(a){}}return null}var Et=Array.isArray,S=al.__CLIENT_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,p=_.__DOM_INTERNALS_DO_NOT_USE_OR_WARN_USERS_THEY_CANNOT_UPGRADE,C={pending:!1,data:null,method:null,action:null},ul=[],cl=-1;function d(l){return{current:l}}function T(l){0>cl||(l.current=ul[cl],ul[cl]=null,cl--)}function M(l,t){cl++,ul[cl]=l.current,l.current=t}var D=d(null),Y=d(null),Q=d(null),P=d(null);function Gl(l,t){switch(M(Q,t),M(Y,l),M(D,null),t.nodeType){case 9:case 11:l=(l=t.documentElement)&&(l=l.namespaceURI)?Fd(l):0;break;default:if(l=t.tagName,t=t.namespaceURI)t=Fd(t),l=Id(t,l);else switch(l){case"svg":l=1;break;case"math":l=2;break;default:l=0}}T(D),M(D,l)}function bl(){T(D),T(Y),T(Q)}function Nu(l){l.memoizedState!==null&&M(P,l);var t=D.current,a=Id(t,l.type);t!==a&&(M(Y,l),M(D,a))}function Ae(l){Y.current===l&&(T(D),T(Y)),P.current===l&&(T(P),be._currentValue=C)}var Fn,Oc;function pa(l){if(Fn===void 0)try{throw Error()}catch(a){var t=a.stack.trim().match(/\n( *(at )?)/);Fn=t&&t[1]||"",Oc=-1<a.stack.indexOf(`
-    at`)?" (<anonymous>)":-1<a.stack.indexOf("@")?"@unknown:0:0":""}return`
-`+Fn+l+Oc}var In=!1;function Pn(l,t){if(!l||In)return"";In=!0;var a=Error.prepareStackTrace;Error.prepareStackTrace=void 0;try{var u={DetermineComponentFrameRoot:function(){try{if(t){var z=function(){throw Error()};if(Object.defineProperty(z.prototype,"props",{set:function(){throw Error()}}),typeof Reflect=="object"&&Reflect.construct){try{Reflect.construct(z,[])}catch(g){var m=g}Reflect.construct(l,[],z)}else{try{z.call()}catch(g){m=g}l.call(z.prototype)}}else{try{throw Error()}catch(g){m=g}(z=l())&&typeof z.catch=="function"&&z.catch(function(){})}}catch(g){if(g&&m&&typeof g.stack=="string")return[g.stack,m.stack]}return[null,null]}};u.DetermineComponentFrameRoot.displayName="DetermineComponentFrameRoot";var e=Object.getOwnPropertyDescriptor(u.DetermineComponentFrameRoot,"name");e&&e.configurable&&Object.defineProperty(u.DetermineComponentFrameRoot,"name",{value:"DetermineComponentFrameRoot"});var n=u.DetermineComponentFrameRoot(),i=n[0],f=n[1];if(i&&f){var c=i.split(`
-`),v=f.split(`
-`);for(e=u=0;u<c.length&&!c[u].includes("DetermineComponentFrameRoot");)u++;for(;e<v.length&&!v[e].includes("DetermineComponentFrameRoot");)e++;if(u===c.length||e===v.length)for(u=c.length-1,e=v.length-1;1<=u&&0<=e&&c[u]!==v[e];)e--;for(;1<=u&&0<=e;u--,e--)if(c[u]!==v[e]){if(u!==1||e!==1)do if(u--,e--,0>e||c[u]!==v[e]){var r=`
-`+c[u].replace(" at new "," at ");return l.displayName&&r.includes("<anonymous>")&&(r=r.replace("<anonymous>",l.displayName)),r}while(1<=u&&0<=e);break}}}finally{In=!1,Error.prepareStackTrace=a}return(a=l?l.displayName||l.name:"")?pa(a):""}function Qy(l,t){switch(l.tag){case 26:case 27:case 5:return pa(l.type);case 16:return pa("Lazy");case 13:return l.child!==t&&t!==null?pa("Suspense Fallback"):pa("Suspense");case 19:return pa("SuspenseList");case 0:case 15:return Pn(l.type,!1);case 11:return Pn(l.type.render,!1);case 1:return Pn(l.type,!0);case 31:return pa("Activity");default:return""}}function Dc(l){try{var t="",a=null;do t+=Qy(l,a),a=l,l=l.return;while(l);return t}catch(u){return`
-Error generating stack: `+u.message+`
-`+u.stack}}var li=Object.prototype.hasOwnProperty,ti=A.unstable_scheduleCallback,ai=A.unstable_cancelCallback,Xy=A.unstable_shouldYield,Zy=A.unstable_requestPaint,at=A.unstable_now,Vy=A.unstable_getCurrentPriorityLevel,Uc=A.unstable_ImmediatePriority,Nc=A.unstable_UserBlockingPriority,pe=A.unstable_NormalPriority,Ly=A.unstable_LowPriority,Hc=A.unstable_IdlePriority,Ky=A.log,Jy=A.unstable_setDisableYieldValue,Hu=null,ut=null;function It(l){if(typeof Ky=="function"&&Jy(l),ut&&typeof ut.setStrictMode=="function")try{ut.setStrictMode(Hu,l)}catch(t){}}var et=Math.clz32?Math.clz32:$y,wy=Math.log,Wy=Math.LN2;function $y(l){return l>>>=0,l===0?32:31-(wy(l)/Wy|0)|0}var Me=256,Oe=262144,De=4194304;function Ma(l){var t=l&42;if(t!==0)return t;switch(l&-l){case 1:return 1;case 2:return 2;case 4:return 4;case 8:return 8;case 16:return 16;case 32:return 32;case 64:return 64;case 128:return 128;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:return l&261888;case 262144:case 524288:case 1048576:case 2097152:return l&3932160;case 4194304:case 8388608:case 16777216:case 33554432:return l&62914560;case 67108864:return 67108864;case 134217728:return 134217728;case 268435456:return 268435456;case 536870912:return 536870912;case 1073741824:return 0;default:return l}}function Ue(l,t,a){var u=l.pendingLanes;if(u===0)return 0;var e=0,n=l.suspendedLanes,i=l.pingedLanes;l=l.warmLanes;var f=u&134217727;return f!==0?(u=f&~n,u!==0?e=Ma(u):(i&=f,i!==0?e=Ma(i):a||(a=f&~l,a!==0&&(e=Ma(a))))):(f=u&~n,f!==0?e=Ma(f):i!==0?e=Ma(i):a||(a=u&~l,a!==0&&(e=Ma(a)))),e===0?0:t!==0&&t!==e&&(t&n)===0&&(n=e&-e,a=t&-t,n>=a||n===32&&(a&4194048)!==0)?t:e}function Ru(l,t){return(l.pendingLanes&~(l.suspendedLanes&~l.pingedLanes)&t)===0}function ky(l,t){switch(l){case 1:case 2:case 4:case 8:case 64:return t+250;case 16:case 32:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return t+5e3;case 4194304:case 8388608:case 16777216:case 33554432:return-1;case 67108864:case 134217728:case 268435456:case 536870912:case 1073741824:return-1;default:return-1}}function Rc(){var l=De;return De<<=1,(De&62914560)===0&&(De=4194304),l}function ui(l){for(var t=[],a=0;31>a;a++)t.push(l);return t}function qu(l,t){l.pendingLanes|=t,t!==268435456&&(l.suspendedLanes=0,l.pingedLanes=0,l.warmLanes=0)}function Fy(l,t,a,u,e,n){var i=l.pendingLanes;l.pendingLanes=a,l.suspendedLanes=0,l.pingedLanes=0,l.warmLanes=0,l.expiredLanes&=a,l.entangledLanes&=a,l.errorRecoveryDisabledLanes&=a,l.shellSuspendCounter=0;var f=l.entanglements,c=l.expirationTimes,v=l.hiddenUpdates;for(a=i&~a;0<a;){var r=31-et(a),z=1<<r;f[r]=0,c[r]=-1;var m=v[r];if(m!==null)for(v[r]=null,r=0;r<m.length;r++){var g=m[r];g!==null&&(g.lane&=-536870913)}a&=~z}u!==0&&qc(l,u,0),n!==0&&e===0&&l.tag!==0&&(l.suspendedLanes|=n&~(i&~t))}function qc(l,t,a){l.pendingLanes|=t,l.suspendedLanes&=~t;var u=31-et(t);l.entangledLanes|=t,l.entanglements[u]=l.entanglements[u]|1073741824|a&261930}function xc(l,t){var a=l.entangledLanes|=t;for(l=l.entanglements;a;){var u=31-et(a),e=1<<u;e&t|l[u]&t&&(l[u]|=t),a&=~e}}function Cc(l,t){var a=t&-t;return a=(a&42)!==0?1:ei(a),(a&(l.suspendedLanes|t))!==0?0:a}function ei(l){switch(l){case 2:l=1;break;case 8:l=4;break;case 32:l=16;break;case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:case 4194304:case 8388608:case 16777216:case 33554432:l=128;break;case 268435456:l=134217728;break;default:l=0}return l}function ni(l){return l&=-l,2<l?8<l?(l&134217727)!==0?32:268435456:8:2}function Bc(){var l=p.p;return l!==0?l:(l=window.event,l===void 0?32:Ty(l.type))}function Yc(l,t){var a=p.p;try{return p.p=l,t()}finally{p.p=a}}var Pt=Math.random().toString(36).slice(2),Rl="__reactFiber$"+Pt,Jl="__reactProps$"+Pt,Ka="__reactContainer$"+Pt,ii="__reactEvents$"+Pt,Iy="__reactListeners$"+Pt,Py="__reactHandles$"+Pt,jc="__reactResources$"+Pt,xu="__reactMarker$"+Pt;function fi(l){delete l[Rl],delete l[Jl],delete l[ii],delete l[Iy],delete l[Py]}function Ja(l){var t=l[Rl];if(t)return t;for(var a=l.parentNode;a;){if(t=a[Ka]||a[Rl]){if(a=t.alternate,t.child!==null||a!==null&&a.child!==null)for(l=ny(l);l!==null;){if(a=l[Rl])return a;l=ny(l)}return t}l=a,a=l.parentNode}return null}function wa(l){if(l=l[Rl]||l[Ka]){var t=l.tag;if(t===5||t===6||t===13||t===31||t===26||t===27||t===3)return l}return null}function Cu(l){var t=l.tag;if(t===5||t===26||t===27||t===6)return l.stateNode;throw Error(y(33))}function Wa(l){var t=l[jc];return t||(t=l[jc]={hoistableStyles:new Map,hoistableScripts:new Map}),t}function Nl(l){l[xu]=!0}var Gc=new Set,Qc={};function Oa(l,t){$a(l,t),$a(l+"Capture",t)}function $a(l,t){for(Qc[l]=t,l=0;l<t.length;l++)Gc.add(t[l])}var lo=RegExp("^[:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD][:A-Z_a-z\\u00C0-\\u00D6\\u00D8-\\u00F6\\u00F8-\\u02FF\\u0370-\\u037D\\u037F-\\u1FFF\\u200C-\\u200D\\u2070-\\u218F\\u2C00-\\u2FEF\\u3001-\\uD7FF\\uF900-\\uFDCF\\uFDF0-\\uFFFD\\-.0-9\\u00B7\\u0300-\\u036F\\u203F-\\u2040]*$"),Xc={},Zc={};function to(l){return li.call(Zc,l)?!0:li.call(Xc,l)?!1:lo.test(l)?Zc[l]=!0:(Xc[l]=!0,!1)}function Ne(l,t,a){if(to(t))if(a===null)l.removeAttribute(t);else{switch(typeof a){case"undefined":case"function":case"symbol":l.removeAttribute(t);return;case"boolean":var u=t.toLowerCase().slice(0,5);if(u!=="data-"&&u!=="aria-"){l.removeAttribute(t);return}}l.setAttribute(t,""+a)}}function He(l,t,a){if(a===null)l.removeAttribute(t);else{switch(typeof a){case"undefined":case"function":case"symbol":case"boolean":l.removeAttribute(t);return}l.setAttribute(t,""+a)}}function xt(l,t,a,u){if(u===null)l.removeAttribute(a);else{switch(typeof u){case"undefined":case"function":case"symbol":case"boolean":l.removeAttribute(a);return}l.setAttributeNS(t,a,""+u)}}function ot(l){switch(typeof l){case"bigint":case"boolean":case"number":case"string":case"undefined":return l;case"object":return l;default:return""}}function Vc(l){var t=l.type;return(l=l.nodeName)&&l.toLowerCase()==="input"&&(t==="checkbox"||t==="radio")}function ao(l,t,a){var u=Object.getOwnPropertyDescriptor(l.constructor.prototype,t);if(!l.hasOwnProperty(t)&&typeof u!="undefined"&&typeof u.get=="function"&&typeof u.set=="function"){var e=u.get,n=u.set;return Object.defineProperty(l,t,{configurable:!0,get:function(){return e.call(this)},set:function(i){a=""+i,n.call(this,i)}}),Object.defineProperty(l,t,{enumerable:u.enumerable}),{getValue:function(){return a},setValue:function(i){a=""+i},stopTracking:function(){l._valueTracker=null,delete l[t]}}}}function ci(l){if(!l._valueTracker){var t=Vc(l)?"checked":"value";l._valueTracker=ao(l,t,""+l[t])}}function Lc(l){if(!l)return!1;var t=l._valueTracker;if(!t)return!0;var a=t.getValue(),u="";return l&&(u=Vc(l)?l.checked?"true":"false":l.value),l=u,l!==a?(t.setValue(l),!0):!1}function Re(l){if(l=l||(typeof document!="undefined"?document:void 0),typeof l=="undefined")return null;try{return l.activeElement||l.body}catch(t){return l.body}}var uo=/[\n"\\]/g;function ht(l){return l.replace(uo,function(t){return"\\"+t.charCodeAt(0).toString(16)+" "})}function si(l,t,a,u,e,n,i,f){l.name="",i!=null&&typeof i!="function"&&typeof i!="symbol"&&typeof i!="boolean"?l.type=i:l.removeAttribute("type"),t!=null?i==="number"?(t===0&&l.value===""||l.value!=t)&&(l.value=""+ot(t)):l.value!==""+ot(t)&&(l.value=""+ot(t)):i!=="submit"&&i!=="reset"||l.removeAttribute("value"),t!=null?di(l,i,ot(t)):a!=null?di(l,i,ot(a)):u!=null&&l.removeAttribute("value"),e==null&&n!=null&&(l.defaultChecked=!!n),e!=null&&(l.checked=e&&typeof e!="function"&&typeof e!="symbol"),f!=null&&typeof f!="function"&&typeof f!="symbol"&&typeof f!="boolean"?l.name=""+ot(f):l.removeAttribute("name")}function Kc(l,t,a,u,e,n,i,f){if(n!=null&&typeof n!="function"&&typeof n!="symbol"&&typeof n!="boolean"&&(l.type=n),t!=null||a!=null){if(!(n!=="submit"&&n!=="reset"||t!=null)){ci(l);return}a=a!=null?""+ot(a):"",t=t!=null?""+ot(t):a,f||t===l.value||(l.value=t),l.defaultValue=t}u=u!=null?u:e,u=typeof u!="function"&&typeof u!="symbol"&&!!u,l.checked=f?l.checked:!!u,l.defaultChecked=!!u,i!=null&&typeof i!="function"&&typeof i!="symbol"&&typeof i!="boolean"&&(l.name=i),ci(l)}function di(l,t,a){t==="number"&&Re(l.ownerDocument)===l||l.defaultValue===""+a||(l.defaultValue=""+a)}function ka(l,t,a,u){if(l=l.options,t){t={};for(var e=0;e<a.length;e++)t["$"+a[e]]=!0;for(a=0;a<l.length;a++)e=t.hasOwnProperty("$"+l[a].value),l[a].selected!==e&&(l[a].selected=e),e&&u&&(l[a].defaultSelected=!0)}else{for(a=""+ot(a),t=null,e=0;e<l.length;e++){if(l[e].value===a){l[e].selected=!0,u&&(l[e].defaultSelected=!0);return}t!==null||l[e].disabled||(t=l[e])}t!==null&&(t.selected=!0)}}function Jc(l,t,a){if(t!=null&&(t=""+ot(t),t!==l.value&&(l.value=t),a==null)){l.defaultValue!==t&&(l.defaultValue=t);return}l.defaultValue=a!=null?""+ot(a):""}function wc(l,t,a,u){if(t==null){if(u!=null){if(a!=null)throw Error(y(92));if(Et(u)){if(1<u.length)throw Error(y(93));u=u[0]}a=u}a==null&&(a=""),t=a}a=ot(t),l.defaultValue=a,u=l.textContent,u===a&&u!==""&&u!==null&&(l.value=u),ci(l)}function Fa(l,t){if(t){var a=l.firstChild;if(a&&a===l.lastChild&&a.nodeType===3){a.nodeValue=t;return}}l.textContent=t}var eo=new Set("animationIterationCount aspectRatio borderImageOutset borderImageSlice borderImageWidth boxFlex boxFlexGroup boxOrdinalGroup columnCount columns flex flexGrow flexPositive flexShrink flexNegative flexOrder gridArea gridRow gridRowEnd gridRowSpan gridRowStart gridColumn gridColumnEnd gridColumnSpan gridColumnStart fontWeight lineClamp lineHeight opacity order orphans scale tabSize widows zIndex zoom fillOpacity floodOpacity stopOpacity strokeDasharray strokeDashoffset strokeMiterlimit strokeOpacity strokeWidth MozAnimationIterationCount MozBoxFlex MozBoxFlexGroup MozLineClamp msAnimationIterationCount msFlex msZoom msFlexGrow msFlexNegative msFlexOrder msFlexPositive msFlexShrink msGridColumn msGridColumnSpan msGridRow msGridRowSpan WebkitAnimationIterationCount WebkitBoxFlex WebKitBoxFlexGroup WebkitBoxOrdinalGroup WebkitColumnCount WebkitColumns WebkitFlex WebkitFlexGrow WebkitFlexPositive WebkitFlexShrink WebkitLineClamp".split(" "));function Wc(l,t,a){var u=t.indexOf("--")===0;a==null||typeof a=="boolean"||a===""?u?l.setProperty(t,""):t==="float"?l.cssFloat="":l[t]="":u?l.setProperty(t,a):typeof a!="number"||a===0||eo.has(t)?t==="float"?l.cssFloat=a:l[t]=(""+a).trim():l[t]=a+"px"}function $c(l,t,a){if(t!=null&&typeof t!="object")throw Error(y(62));if(l=l.style,a!=null){for(var u in a)!a.hasOwnProperty(u)||t!=null&&t.hasOwnProperty(u)||(u.indexOf("--")===0?l.setProperty(u,""):u==="float"?l.cssFloat="":l[u]="");for(var e in t)u=t[e],t.hasOwnProperty(e)&&a[e]!==u&&Wc(l,e,u)}else for(var n in t)t.hasOwnProperty(n)&&Wc(l,n,t[n])}function yi(l){if(l.indexOf("-")===-1)return!1;switch(l){case"annotation-xml":case"color-profile":case"font-face":case"font-face-src":case"font-face-uri":case"font-face-format":case"font-face-name":case"missing-glyph":return!1;default:return!0}}var no=new Map([["acceptCharset","accept-charset"],["htmlFor","for"],["httpEquiv","http-equiv"],["crossOrigin","crossorigin"],["accentHeight","accent-height"],["alignmentBaseline","alignment-baseline"],["arabicForm","arabic-form"],["baselineShift","baseline-shift"],["capHeight","cap-height"],["clipPath","clip-path"],["clipRule","clip-rule"],["colorInterpolation","color-interpolation"],["colorInterpolationFilters","color-interpolation-filters"],["colorProfile","color-profile"],["colorRendering","color-rendering"],["dominantBaseline","dominant-baseline"],["enableBackground","enable-background"],["fillOpacity","fill-opacity"],["fillRule","fill-rule"],["floodColor","flood-color"],["floodOpacity","flood-opacity"],["fontFamily","font-family"],["fontSize","font-size"],["fontSizeAdjust","font-size-adjust"],["fontStretch","font-stretch"],["fontStyle","font-style"],["fontVariant","font-variant"],["fontWeight","font-weight"],["glyphName","glyph-name"],["glyphOrientationHorizontal","glyph-orientation-horizontal"],["glyphOrientationVertical","glyph-orientation-vertical"],["horizAdvX","horiz-adv-x"],["horizOriginX","horiz-origin-x"],["imageRendering","image-rendering"],["letterSpacing","letter-spacing"],["lightingColor","lighting-color"],["markerEnd","marker-end"],["markerMid","marker-mid"],["markerStart","marker-start"],["overlinePosition","overline-position"],["overlineThickness","overline-thickness"],["paintOrder","paint-order"],["panose-1","panose-1"],["pointerEvents","pointer-events"],["renderingIntent","rendering-intent"],["shapeRendering","shape-rendering"],["stopColor","stop-color"],["stopOpacity","stop-opacity"],["strikethroughPosition","strikethrough-position"],["strikethroughThickness","strikethrough-thickness"],["strokeDasharray","stroke-dasharray"],["strokeDashoffset","stroke-dashoffset"],["strokeLinecap","stroke-linecap"],["strokeLinejoin","stroke-linejoin"],["strokeMiterlimit","stroke-miterlimit"],["strokeOpacity","stroke-opacity"],["strokeWidth","stroke-width"],["textAnchor","text-anchor"],["textDecoration","text-decoration"],["textRendering","text-rendering"],["transformOrigin","transform-origin"],["underlinePosition","underline-position"],["underlineThickness","underline-thickness"],["unicodeBidi","unicode-bidi"],["unicodeRange","unicode-range"],["unitsPerEm","units-per-em"],["vAlphabetic","v-alphabetic"],["vHanging","v-hanging"],["vIdeographic","v-ideographic"],["vMathematical","v-mathematical"],["vectorEffect","vector-effect"],["vertAdvY","vert-adv-y"],["vertOriginX","vert-origin-x"],["vertOriginY","vert-origin-y"],["wordSpacing","word-spacing"],["writingMode","writing-mode"],["xmlnsXlink","xmlns:xlink"],["xHeight","x-height"]]),io=/^[\u0000-\u001F ]*j[\r\n\t]*a[\r\n\t]*v[\r\n\t]*a[\r\n\t]*s[\r\n\t]*c[\r\n\t]*r[\r\n\t]*i[\r\n\t]*p[\r\n\t]*t[\r\n\t]*:/i;function qe(l){return io.test(""+l)?"javascript:throw new Error('React has blocked a javascript: URL as a security precaution.')":l}function Ct(){}var oi=null;function hi(l){return l=l.target||l.srcElement||window,l.correspondingUseElement&&(l=l.correspondingUseElement),l.nodeType===3?l.parentNode:l}var Ia=null,Pa=null;function kc(l){var t=wa(l);if(t&&(l=t.stateNode)){var a=l[Jl]||null;l:switch(l=t.stateNode,t.type){case"input":if(si(l,a.value,a.defaultValue,a.defaultValue,a.checked,a.defaultChecked,a.type,a.name),t=a.name,a.type==="radio"&&t!=null){for(a=l;a.parentNode;)a=a.parentNode;for(a=a.querySelectorAll('input[name="'+ht(""+t)+'"][type="radio"]'),t=0;t<a.length;t++){var u=a[t];if(u!==l&&u.form===l.form){var e=u[Jl]||null;if(!e)throw Error(y(90));si(u,e.value,e.defaultValue,e.defaultValue,e.checked,e.defaultChecked,e.type,e.name)}}for(t=0;t<a.length;t++)u=a[t],u.form===l.form&&Lc(u)}break l;case"textarea":Jc(l,a.value,a.defaultValue);break l;case"select":t=a.value,t!=null&&ka(l,!!a.multiple,t,!1)}}}var vi=!1;function Fc(l,t,a){if(vi)return l(t,a);vi=!0;try{var u=l(t);return u}finally{if(vi=!1,(Ia!==null||Pa!==null)&&(Tn(),Ia&&(t=Ia,l=Pa,Pa=Ia=null,kc(t),l)))for(t=0;t<l.length;t++)kc(l[t])}}function Bu(l,t){var a=l.stateNode;if(a===null)return null;var u=a[Jl]||null;if(u===null)return null;a=u[t];l:switch(t){case"onClick":case"onClickCapture":case"onDoubleClick":case"onDoubleClickCapture":case"onMouseDown":case"onMouseDownCapture":case"onMouseMove":case"onMouseMoveCapture":case"onMouseUp":case"onMouseUpCapture":case"onMouseEnter":(u=!u.disabled)||(l=l.type,u=!(l==="button"||l==="input"||l==="select"||l==="textarea")),l=!u;break l;default:l=!1}if(l)return null;if(a&&typeof a!="function")throw Error(y(231,t,typeof a));return a}var Bt=!(typeof window=="undefined"||typeof window.document=="undefined"||typeof window.document.createElement=="undefined"),mi=!1;if(Bt)try{var Yu={};Object.defineProperty(Yu,"passive",{get:function(){mi=!0}}),window.addEventListener("test",Yu,Yu),window.removeEventListener("test",Yu,Yu)}catch(l){mi=!1}var la=null,gi=null,xe=null;function Ic(){if(xe)return xe;var l,t=gi,a=t.length,u,e="value"in la?la.value:la.textContent,n=e.length;for(l=0;l<a&&t[l]===e[l];l++);var i=a-l;for(u=1;u<=i&&t[a-u]===e[n-u];u++);return xe=e.slice(l,1<u?1-u:void 0)}function Ce(l){var t=l.keyCode;return"charCode"in l?(l=l.charCode,l===0&&t===13&&(l=13)):l=t,l===10&&(l=13),32<=l||l===13?l:0}function Be(){return!0}function Pc(){return!1}function wl(l){function t(a,u,e,n,i){this._reactName=a,this._targetInst=e,this.type=u,this.nativeEvent=n,this.target=i,this.currentTarget=null;for(var f in l)l.hasOwnProperty(f)&&(a=l[f],this[f]=a?a(n):n[f]);return this.isDefaultPrevented=(n.defaultPrevented!=null?n.defaultPrevented:n.returnValue===!1)?Be:Pc,this.isPropagationStopped=Pc,this}return q(t.prototype,{preventDefault:function(){this.defaultPrevented=!0;var a=this.nativeEvent;a&&(a.preventDefault?a.preventDefault():typeof a.returnValue!="unknown"&&(a.returnValue=!1),this.isDefaultPrevented=Be)},stopPropagation:function(){var a=this.nativeEvent;a&&(a.stopPropagation?a.stopPropagation():typeof a.cancelBubble!="unknown"&&(a.cancelBubble=!0),this.isPropagationStopped=Be)},persist:function(){},isPersistent:Be}),t}var Da={eventPhase:0,bubbles:0,cancelable:0,timeStamp:function(l){return l.timeStamp||Date.now()},defaultPrevented:0,isTrusted:0},Ye=wl(Da),ju=q({},Da,{view:0,detail:0}),fo=wl(ju),ri,Si,Gu,je=q({},ju,{screenX:0,screenY:0,clientX:0,clientY:0,pageX:0,pageY:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,getModifierState:zi,button:0,buttons:0,relatedTarget:function(l){return l.relatedTarget===void 0?l.fromElement===l.srcElement?l.toElement:l.fromElement:l.relatedTarget},movementX:function(l){return"movementX"in l?l.movementX:(l!==Gu&&(Gu&&l.type==="mousemove"?(ri=l.screenX-Gu.screenX,Si=l.screenY-Gu.screenY):Si=ri=0,Gu=l),ri)},movementY:function(l){return"movementY"in l?l.movementY:Si}}),ls=wl(je),co=q({},je,{dataTransfer:0}),so=wl(co),yo=q({},ju,{relatedTarget:0}),bi=wl(yo),oo=q({},Da,{animationName:0,elapsedTime:0,pseudoElement:0}),ho=wl(oo),vo=q({},Da,{clipboardData:function(l){return"clipboardData"in l?l.clipboardData:window.clipboardData}}),mo=wl(vo),go=q({},Da,{data:0}),ts=wl(go),ro={Esc:"Escape",Spacebar:" ",Left:"ArrowLeft",Up:"ArrowUp",Right:"ArrowRight",Down:"ArrowDown",Del:"Delete",Win:"OS",Menu:"ContextMenu",Apps:"ContextMenu",Scroll:"ScrollLock",MozPrintableKey:"Unidentified"},So={8:"Backspace",9:"Tab",12:"Clear",13:"Enter",16:"Shift",17:"Control",18:"Alt",19:"Pause",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",45:"Insert",46:"Delete",112:"F1",113:"F2",114:"F3",115:"F4",116:"F5",117:"F6",118:"F7",119:"F8",120:"F9",121:"F10",122:"F11",123:"F12",144:"NumLock",145:"ScrollLock",224:"Meta"},bo={Alt:"altKey",Control:"ctrlKey",Meta:"metaKey",Shift:"shiftKey"};function zo(l){var t=this.nativeEvent;return t.getModifierState?t.getModifierState(l):(l=bo[l])?!!t[l]:!1}function zi(){return zo}var To=q({},ju,{key:function(l){if(l.key){var t=ro[l.key]||l.key;if(t!=="Unidentified")return t}return l.type==="keypress"?(l=Ce(l),l===13?"Enter":String.fromCharCode(l)):l.type==="keydown"||l.type==="keyup"?So[l.keyCode]||"Unidentified":""},code:0,location:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,repeat:0,locale:0,getModifierState:zi,charCode:function(l){return l.type==="keypress"?Ce(l):0},keyCode:function(l){return l.type==="keydown"||l.type==="keyup"?l.keyCode:0},which:function(l){return l.type==="keypress"?Ce(l):l.type==="keydown"||l.type==="keyup"?l.keyCode:0}}),Eo=wl(To),_o=q({},je,{pointerId:0,width:0,height:0,pressure:0,tangentialPressure:0,tiltX:0,tiltY:0,twist:0,pointerType:0,isPrimary:0}),as=wl(_o),Ao=q({},ju,{touches:0,targetTouches:0,changedTouches:0,altKey:0,metaKey:0,ctrlKey:0,shiftKey:0,getModifierState:zi}),po=wl(Ao),Mo=q({},Da,{propertyName:0,elapsedTime:0,pseudoElement:0}),Oo=wl(Mo),Do=q({},je,{deltaX:function(l){return"deltaX"in l?l.deltaX:"wheelDeltaX"in l?-l.wheelDeltaX:0},deltaY:function(l){return"deltaY"in l?l.deltaY:"wheelDeltaY"in l?-l.wheelDeltaY:"wheelDelta"in l?-l.wheelDelta:0},deltaZ:0,deltaMode:0}),Uo=wl(Do),No=q({},Da,{newState:0,oldState:0}),Ho=wl(No),Ro=[9,13,27,32],Ti=Bt&&"CompositionEvent"in window,Qu=null;Bt&&"documentMode"in document&&(Qu=document.documentMode);var qo=Bt&&"TextEvent"in window&&!Qu,us=Bt&&(!Ti||Qu&&8<Qu&&11>=Qu),es=" ",ns=!1;function is(l,t){switch(l){case"keyup":return Ro.indexOf(t.keyCode)!==-1;case"keydown":return t.keyCode!==229;case"keypress":case"mousedown":case"focusout":return!0;default:return!1}}function fs(l){return l=l.detail,typeof l=="object"&&"data"in l?l.data:null}var lu=!1;function xo(l,t){switch(l){case"compositionend":return fs(t);case"keypress":return t.which!==32?null:(ns=!0,es);case"textInput":return l=t.data,l===es&&ns?null:l;default:return null}}function Co(l,t){if(lu)return l==="compositionend"||!Ti&&is(l,t)?(l=Ic(),xe=gi=la=null,lu=!1,l):null;switch(l){case"paste":return null;case"keypress":if(!(t.ctrlKey||t.altKey||t.metaKey)||t.ctrlKey&&t.altKey){if(t.char&&1<t.char.length)return t.char;if(t.which)return String.fromCharCode(t.which)}return null;case"compositionend":return us&&t.locale!=="ko"?null:t.data;default:return null}}var Bo={color:!0,date:!0,datetime:!0,"datetime-local":!0,email:!0,month:!0,number:!0,password:!0,range:!0,search:!0,tel:!0,text:!0,time:!0,url:!0,week:!0};function cs(l){var t=l&&l.nodeName&&l.nodeName.toLowerCase();return t==="input"?!!Bo[l.type]:t==="textarea"}function ss(l,t,a,u){Ia?Pa?Pa.push(u):Pa=[u]:Ia=u,t=Dn(t,"onChange"),0<t.length&&(a=new Ye("onChange","change",null,a,u),l.push({event:a,listeners:t}))}var Xu=null,Zu=null;function Yo(l){Kd(l,0)}function Ge(l){var t=Cu(l);if(Lc(t))return l}function ds(l,t){if(l==="change")return t}var ys=!1;if(Bt){var Ei;if(Bt){var _i="oninput"in document;if(!_i){var os=document.createElement("div");os.setAttribute("oninput","return;"),_i=typeof os.oninput=="function"}Ei=_i}else Ei=!1;ys=Ei&&(!document.documentMode||9<document.documentMode)}function hs(){Xu&&(Xu.detachEvent("onpropertychange",vs),Zu=Xu=null)}function vs(l){if(l.propertyName==="value"&&Ge(Zu)){var t=[];ss(t,Zu,l,hi(l)),Fc(Yo,t)}}function jo(l,t,a){l==="focusin"?(hs(),Xu=t,Zu=a,Xu.attachEvent("onpropertychange",vs)):l==="focusout"&&hs()}function Go(l){if(l==="selectionchange"||l==="keyup"||l==="keydown")return Ge(Zu)}function Qo(l,t){if(l==="click")return Ge(t)}function Xo(l,t){if(l==="input"||l==="change")return Ge(t)}function Zo(l,t){return l===t&&(l!==0||1/l===1/t)||l!==l&&t!==t}var nt=typeof Object.is=="function"?Object.is:Zo;function Vu(l,t){if(nt(l,t))return!0;if(typeof l!="object"||l===null||typeof t!="object"||t===null)return!1;var a=Object.keys(l),u=Object.keys(t);if(a.length!==u.length)return!1;for(u=0;u<a.length;u++){var e=a[u];if(!li.call(t,e)||!nt(l[e],t[e]))return!1}return!0}function ms(l){for(;l&&l.firstChild;)l=l.firstChild;return l}function gs(l,t){var a=ms(l);l=0;for(var u;a;){if(a.nodeType===3){if(u=l+a.textContent.length,l<=t&&u>=t)return{node:a,offset:t-l};l=u}l:{for(;a;){if(a.nextSibling){a=a.nextSibling;break l}a=a.parentNode}a=void 0}a=ms(a)}}function rs(l,t){return l&&t?l===t?!0:l&&l.nodeType===3?!1:t&&t.nodeType===3?rs(l,t.parentNode):"contains"in l?l.contains(t):l.compareDocumentPosition?!!(l.compareDocumentPosition(t)&16):!1:!1}function Ss(l){l=l!=null&&l.ownerDocument!=null&&l.ownerDocument.defaultView!=null?l.ownerDocument.defaultView:window;for(var t=Re(l.document);t instanceof l.HTMLIFrameElement;){try{var a=typeof t.contentWindow.location.href=="string"}catch(u){a=!1}if(a)l=t.contentWindow;else break;t=Re(l.document)}return t}function Ai(l){var t=l&&l.nodeName&&l.nodeName.toLowerCase();return t&&(t==="input"&&(l.type==="text"||l.type==="search"||l.type==="tel"||l.type==="url"||l.type==="password")||t==="textarea"||l.contentEditable==="true")}var Vo=Bt&&"documentMode"in document&&11>=document.documentMode,tu=null,pi=null,Lu=null,Mi=!1;function bs(l,t,a){var u=a.window===a?a.document:a.nodeType===9?a:a.ownerDocument;Mi||tu==null||tu!==Re(u)||(u=tu,"selectionStart"in u&&Ai(u)?u={start:u.selectionStart,end:u.selectionEnd}:(u=(u.ownerDocument&&u.ownerDocument.defaultView||window).getSelection(),u={anchorNode:u.anchorNode,anchorOffset:u.anchorOffset,focusNode:u.focusNode,focusOffset:u.focusOffset}),Lu&&Vu(Lu,u)||(Lu=u,u=Dn(pi,"onSelect"),0<u.length&&(t=new Ye("onSelect","select",null,t,a),l.push({event:t,listeners:u}),t.target=tu)))}function Ua(l,t){var a={};return a[l.toLowerCase()]=t.toLowerCase(),a["Webkit"+l]="webkit"+t,a["Moz"+l]="moz"+t,a}var au={animationend:Ua("Animation","AnimationEnd"),animationiteration:Ua("Animation","AnimationIteration"),animationstart:Ua("Animation","AnimationStart"),transitionrun:Ua("Transition","TransitionRun"),transitionstart:Ua("Transition","TransitionStart"),transitioncancel:Ua("Transition","TransitionCancel"),transitionend:Ua("Transition","TransitionEnd")},Oi={},zs={};Bt&&(zs=document.createElement("div").style,"AnimationEvent"in window||(delete au.animationend.animation,delete au.animationiteration.animation,delete au.animationstart.animation),"TransitionEvent"in window||delete au.transitionend.transition);function Na(l){if(Oi[l])return Oi[l];if(!au[l])return l;var t=au[l],a;for(a in t)if(t.hasOwnProperty(a)&&a in zs)return Oi[l]=t[a];return l}var Ts=Na("animationend"),Es=Na("animationiteration"),_s=Na("animationstart"),Lo=Na("transitionrun"),Ko=Na("transitionstart"),Jo=Na("transitioncancel"),As=Na("transitionend"),ps=new Map,Di="abort auxClick beforeToggle cancel canPlay canPlayThrough click close contextMenu copy cut drag dragEnd dragEnter dragExit dragLeave dragOver dragStart drop durationChange emptied encrypted ended error gotPointerCapture input invalid keyDown keyPress keyUp load loadedData loadedMetadata loadStart lostPointerCapture mouseDown mouseMove mouseOut mouseOver mouseUp paste pause play playing pointerCancel pointerDown pointerMove pointerOut pointerOver pointerUp progress rateChange reset resize seeked seeking stalled submit suspend timeUpdate touchCancel touchEnd touchStart volumeChange scroll toggle touchMove waiting wheel".split(" ");Di.push("scrollEnd");function _t(l,t){ps.set(l,t),Oa(t,[l])}var Qe=typeof reportError=="function"?reportError:function(l){if(typeof window=="object"&&typeof window.ErrorEvent=="function"){var t=new window.ErrorEvent("error",{bubbles:!0,cancelable:!0,message:typeof l=="object"&&l!==null&&typeof l.message=="string"?String(l.message):String(l),error:l});if(!window.dispatchEvent(t))return}else if(typeof process=="object"&&typeof process.emit=="function"){process.emit("uncaughtException",l);return}console.error(l)},vt=[],uu=0,Ui=0;function Xe(){for(var l=uu,t=Ui=uu=0;t<l;){var a=vt[t];vt[t++]=null;var u=vt[t];vt[t++]=null;var e=vt[t];vt[t++]=null;var n=vt[t];if(vt[t++]=null,u!==null&&e!==null){var i=u.pending;i===null?e.next=e:(e.next=i.next,i.next=e),u.pending=e}n!==0&&Ms(a,e,n)}}function Ze(l,t,a,u){vt[uu++]=l,vt[uu++]=t,vt[uu++]=a,vt[uu++]=u,Ui|=u,l.lanes|=u,l=l.alternate,l!==null&&(l.lanes|=u)}function Ni(l,t,a,u){return Ze(l,t,a,u),Ve(l)}function Ha(l,t){return Ze(l,null,null,t),Ve(l)}function Ms(l,t,a){l.lanes|=a;var u=l.alternate;u!==null&&(u.lanes|=a);for(var e=!1,n=l.return;n!==null;)n.childLanes|=a,u=n.alternate,u!==null&&(u.childLanes|=a),n.tag===22&&(l=n.stateNode,l===null||l._visibility&1||(e=!0)),l=n,n=n.return;return l.tag===3?(n=l.stateNode,e&&t!==null&&(e=31-et(a),l=n.hiddenUpdates,u=l[e],u===null?l[e]=[t]:u.push(t),t.lane=a|536870912),n):null}function Ve(l){if(50<oe)throw oe=0,Qf=null,Error(y(185));for(var t=l.return;t!==null;)l=t,t=l.return;return l.tag===3?l.stateNode:null}var eu={};function wo(l,t,a,u){this.tag=l,this.key=a,this.sibling=this.child=this.return=this.stateNode=this.type=this.elementType=null,this.index=0,this.refCleanup=this.ref=null,this.pendingProps=t,this.dependencies=this.memoizedState=this.updateQueue=this.memoizedProps=null,this.mode=u,this.subtreeFlags=this.flags=0,this.deletions=null,this.childLanes=this.lanes=0,this.alternate=null}function it(l,t,a,u){return new wo(l,t,a,u)}function Hi(l){return l=l.prototype,!(!l||!l.isReactComponent)}function Yt(l,t){var a=l.alternate;return a===null?(a=it(l.tag,t,l.key,l.mode),a.elementType=l.elementType,a.type=l.type,a.stateNode=l.stateNode,a.alternate=l,l.alternate=a):(a.pendingProps=t,a.type=l.type,a.flags=0,a.subtreeFlags=0,a.deletions=null),a.flags=l.flags&65011712,a.childLanes=l.childLanes,a.lanes=l.lanes,a.child=l.child,a.memoizedProps=l.memoizedProps,a.memoizedState=l.memoizedState,a.updateQueue=l.updateQueue,t=l.dependencies,a.dependencies=t===null?null:{lanes:t.lanes,firstContext:t.firstContext},a.sibling=l.sibling,a.index=l.index,a.ref=l.ref,a.refCleanup=l.refCleanup,a}function Os(l,t){l.flags&=65011714;var a=l.alternate;return a===null?(l.childLanes=0,l.lanes=t,l.child=null,l.subtreeFlags=0,l.memoizedProps=null,l.memoizedState=null,l.updateQueue=null,l.dependencies=null,l.stateNode=null):(l.childLanes=a.childLanes,l.lanes=a.lanes,l.child=a.child,l.subtreeFlags=0,l.deletions=null,l.memoizedProps=a.memoizedProps,l.memoizedState=a.memoizedState,l.updateQueue=a.updateQueue,l.type=a.type,t=a.dependencies,l.dependencies=t===null?null:{lanes:t.lanes,firstContext:t.firstContext}),l}function Le(l,t,a,u,e,n){var i=0;if(u=l,typeof l=="function")Hi(l)&&(i=1);else if(typeof l=="string")i=Ih(l,a,D.current)?26:l==="html"||l==="head"||l==="body"?27:5;else l:switch(l){case Mt:return l=it(31,a,t,e),l.elementType=Mt,l.lanes=n,l;case Ul:return Ra(a.children,e,n,t);case lt:i=8,e|=24;break;case yl:return l=it(12,a,t,e|2),l.elementType=yl,l.lanes=n,l;case tt:return l=it(13,a,t,e),l.elementType=tt,l.lanes=n,l;case Vl:return l=it(19,a,t,e),l.elementType=Vl,l.lanes=n,l;default:if(typeof l=="object"&&l!==null)switch(l.$$typeof){case El:i=10;break l;case Zl:i=9;break l;case jl:i=11;break l;case K:i=14;break l;case Ll:i=16,u=null;break l}i=29,a=Error(y(130,l===null?"null":typeof l,"")),u=null}return t=it(i,a,t,e),t.elementType=l,t.type=u,t.lanes=n,t}function Ra(l,t,a,u){return l=it(7,l,u,t),l.lanes=a,l}function Ri(l,t,a){return l=it(6,l,null,t),l.lanes=a,l}function Ds(l){var t=it(18,null,null,0);return t.stateNode=l,t}function qi(l,t,a){return t=it(4,l.children!==null?l.children:[],l.key,t),t.lanes=a,t.stateNode={containerInfo:l.containerInfo,pendingChildren:null,implementation:l.implementation},t}var Us=new WeakMap;function mt(l,t){if(typeof l=="object"&&l!==null){var a=Us.get(l);return a!==void 0?a:(t={value:l,source:t,stack:Dc(t)},Us.set(l,t),t)}return{value:l,source:t,stack:Dc(t)}}var nu=[],iu=0,Ke=null,Ku=0,gt=[],rt=0,ta=null,Dt=1,Ut="";function jt(l,t){nu[iu++]=Ku,nu[iu++]=Ke,Ke=l,Ku=t}function Ns(l,t,a){gt[rt++]=Dt,gt[rt++]=Ut,gt[rt++]=ta,ta=l;var u=Dt;l=Ut;var e=32-et(u)-1;u&=~(1<<e),a+=1;var n=32-et(t)+e;if(30<n){var i=e-e%5;n=(u&(1<<i)-1).toString(32),u>>=i,e-=i,Dt=1<<32-et(t)+e|a<<e|u,Ut=n+l}else Dt=1<<n|a<<e|u,Ut=l}function xi(l){l.return!==null&&(jt(l,1),Ns(l,1,0))}function Ci(l){for(;l===Ke;)Ke=nu[--iu],nu[iu]=null,Ku=nu[--iu],nu[iu]=null;for(;l===ta;)ta=gt[--rt],gt[rt]=null,Ut=gt[--rt],gt[rt]=null,Dt=gt[--rt],gt[rt]=null}function Hs(l,t){gt[rt++]=Dt,gt[rt++]=Ut,gt[rt++]=ta,Dt=t.id,Ut=t.overflow,ta=l}var ql=null,ol=null,J=!1,aa=null,St=!1,Bi=Error(y(519));function ua(l){var t=Error(y(418,1<arguments.length&&arguments[1]!==void 0&&arguments[1]?"text":"HTML",""));throw Ju(mt(t,l)),Bi}function Rs(l){var t=l.stateNode,a=l.type,u=l.memoizedProps;switch(t[Rl]=l,t[Jl]=u,a){case"dialog":Z("cancel",t),Z("close",t);break;case"iframe":case"object":case"embed":Z("load",t);break;case"video":case"audio":for(a=0;a<ve.length;a++)Z(ve[a],t);break;case"source":Z("error",t);break;case"img":case"image":case"link":Z("error",t),Z("load",t);break;case"details":Z("toggle",t);break;case"input":Z("invalid",t),Kc(t,u.value,u.defaultValue,u.checked,u.defaultChecked,u.type,u.name,!0);break;case"select":Z("invalid",t);break;case"textarea":Z("invalid",t),wc(t,u.value,u.defaultValue,u.children)}a=u.children,typeof a!="string"&&typeof a!="number"&&typeof a!="bigint"||t.textContent===""+a||u.suppressHydrationWarning===!0||$d(t.textContent,a)?(u.popover!=null&&(Z("beforetoggle",t),Z("toggle",t)),u.onScroll!=null&&Z("scroll",t),u.onScrollEnd!=null&&Z("scrollend",t),u.onClick!=null&&(t.onclick=Ct),t=!0):t=!1,t||ua(l,!0)}function qs(l){for(ql=l.return;ql;)switch(ql.tag){case 5:case 31:case 13:St=!1;return;case 27:case 3:St=!0;return;default:ql=ql.return}}function fu(l){if(l!==ql)return!1;if(!J)return qs(l),J=!0,!1;var t=l.tag,a;if((a=t!==3&&t!==27)&&((a=t===5)&&(a=l.type,a=!(a!=="form"&&a!=="button")||tc(l.type,l.memoizedProps)),a=!a),a&&ol&&ua(l),qs(l),t===13){if(l=l.memoizedState,l=l!==null?l.dehydrated:null,!l)throw Error(y(317));ol=ey(l)}else if(t===31){if(l=l.memoizedState,l=l!==null?l.dehydrated:null,!l)throw Error(y(317));ol=ey(l)}else t===27?(t=ol,ra(l.type)?(l=ic,ic=null,ol=l):ol=t):ol=ql?zt(l.stateNode.nextSibling):null;return!0}function qa(){ol=ql=null,J=!1}function Yi(){var l=aa;return l!==null&&(Fl===null?Fl=l:Fl.push.apply(Fl,l),aa=null),l}function Ju(l){aa===null?aa=[l]:aa.push(l)}var ji=d(null),xa=null,Gt=null;function ea(l,t,a){M(ji,t._currentValue),t._currentValue=a}function Qt(l){l._currentValue=ji.current,T(ji)}function Gi(l,t,a){for(;l!==null;){var u=l.alternate;if((l.childLanes&t)!==t?(l.childLanes|=t,u!==null&&(u.childLanes|=t)):u!==null&&(u.childLanes&t)!==t&&(u.childLanes|=t),l===a)break;l=l.return}}function Qi(l,t,a,u){var e=l.child;for(e!==null&&(e.return=l);e!==null;){var n=e.dependencies;if(n!==null){var i=e.child;n=n.firstContext;l:for(;n!==null;){var f=n;n=e;for(var c=0;c<t.length;c++)if(f.context===t[c]){n.lanes|=a,f=n.alternate,f!==null&&(f.lanes|=a),Gi(n.return,a,l),u||(i=null);break l}n=f.next}}else if(e.tag===18){if(i=e.return,i===null)throw Error(y(341));i.lanes|=a,n=i.alternate,n!==null&&(n.lanes|=a),Gi(i,a,l),i=null}else i=e.child;if(i!==null)i.return=e;else for(i=e;i!==null;){if(i===l){i=null;break}if(e=i.sibling,e!==null){e.return=i.return,i=e;break}i=i.return}e=i}}function cu(l,t,a,u){l=null;for(var e=t,n=!1;e!==null;){if(!n){if((e.flags&524288)!==0)n=!0;else if((e.flags&262144)!==0)break}if(e.tag===10){var i=e.alternate;if(i===null)throw Error(y(387));if(i=i.memoizedProps,i!==null){var f=e.type;nt(e.pendingProps.value,i.value)||(l!==null?l.push(f):l=[f])}}else if(e===P.current){if(i=e.alternate,i===null)throw Error(y(387));i.memoizedState.memoizedState!==e.memoizedState.memoizedState&&(l!==null?l.push(be):l=[be])}e=e.return}l!==null&&Qi(t,l,a,u),t.flags|=262144}function Je(l){for(l=l.firstContext;l!==null;){if(!nt(l.context._currentValue,l.memoizedValue))return!0;l=l.next}return!1}function Ca(l){xa=l,Gt=null,l=l.dependencies,l!==null&&(l.firstContext=null)}function xl(l){return xs(xa,l)}function we(l,t){return xa===null&&Ca(l),xs(l,t)}function xs(l,t){var a=t._currentValue;if(t={context:t,memoizedValue:a,next:null},Gt===null){if(l===null)throw Error(y(308));Gt=t,l.dependencies={lanes:0,firstContext:t},l.flags|=524288}else Gt=Gt.next=t;return a}var Wo=typeof AbortController!="undefined"?AbortController:function(){var l=[],t=this.signal={aborted:!1,addEventListener:function(a,u){l.push(u)}};this.abort=function(){t.aborted=!0,l.forEach(function(a){return a()})}},$o=A.unstable_scheduleCallback,ko=A.unstable_NormalPriority,_l={$$typeof:El,Consumer:null,Provider:null,_currentValue:null,_currentValue2:null,_threadCount:0};function Xi(){return{controller:new Wo,data:new Map,refCount:0}}function wu(l){l.refCount--,l.refCount===0&&$o(ko,function(){l.controller.abort()})}var Wu=null,Zi=0,su=0,du=null;function Fo(l,t){if(Wu===null){var a=Wu=[];Zi=0,su=Jf(),du={status:"pending",value:void 0,then:function(u){a.push(u)}}}return Zi++,t.then(Cs,Cs),t}function Cs(){if(--Zi===0&&Wu!==null){du!==null&&(du.status="fulfilled");var l=Wu;Wu=null,su=0,du=null;for(var t=0;t<l.length;t++)(0,l[t])()}}function Io(l,t){var a=[],u={status:"pending",value:null,reason:null,then:function(e){a.push(e)}};return l.then(function(){u.status="fulfilled",u.value=t;for(var e=0;e<a.length;e++)(0,a[e])(t)},function(e){for(u.status="rejected",u.reason=e,e=0;e<a.length;e++)(0,a[e])(void 0)}),u}var Bs=S.S;S.S=function(l,t){bd=at(),typeof t=="object"&&t!==null&&typeof t.then=="function"&&Fo(l,t),Bs!==null&&Bs(l,t)};var Ba=d(null);function Vi(){var l=Ba.current;return l!==null?l:sl.pooledCache}function We(l,t){t===null?M(Ba,Ba.current):M(Ba,t.pool)}function Ys(){var l=Vi();return l===null?null:{parent:_l._currentValue,pool:l}}var yu=Error(y(460)),Li=Error(y(474)),$e=Error(y(542)),ke={then:function(){}};function js(l){return l=l.status,l==="fulfilled"||l==="rejected"}function Gs(l,t,a){switch(a=l[a],a===void 0?l.push(t):a!==t&&(t.then(Ct,Ct),t=a),t.status){case"fulfilled":return t.value;case"rejected":throw l=t.reason,Xs(l),l;default:if(typeof t.status=="string")t.then(Ct,Ct);else{if(l=sl,l!==null&&100<l.shellSuspendCounter)throw Error(y(482));l=t,l.status="pending",l.then(function(u){if(t.status==="pending"){var e=t;e.status="fulfilled",e.value=u}},function(u){if(t.status==="pending"){var e=t;e.status="rejected",e.reason=u}})}switch(t.status){case"fulfilled":return t.value;case"rejected":throw l=t.reason,Xs(l),l}throw ja=t,yu}}function Ya(l){try{var t=l._init;return t(l._payload)}catch(a){throw a!==null&&typeof a=="object"&&typeof a.then=="function"?(ja=a,yu):a}}var ja=null;function Qs(){if(ja===null)throw Error(y(459));var l=ja;return ja=null,l}function Xs(l){if(l===yu||l===$e)throw Error(y(483))}var ou=null,$u=0;function Fe(l){var t=$u;return $u+=1,ou===null&&(ou=[]),Gs(ou,l,t)}function ku(l,t){t=t.props.ref,l.ref=t!==void 0?t:null}function Ie(l,t){throw t.$$typeof===I?Error(y(525)):(l=Object.prototype.toString.call(t),Error(y(31,l==="[object Object]"?"object with keys {"+Object.keys(t).join(", ")+"}":l)))}function Zs(l){function t(o,s){if(l){var h=o.deletions;h===null?(o.deletions=[s],o.flags|=16):h.push(s)}}function a(o,s){if(!l)return null;for(;s!==null;)t(o,s),s=s.sibling;return null}function u(o){for(var s=new Map;o!==null;)o.key!==null?s.set(o.key,o):s.set(o.index,o),o=o.sibling;return s}function e(o,s){return o=Yt(o,s),o.index=0,o.sibling=null,o}function n(o,s,h){return o.index=h,l?(h=o.alternate,h!==null?(h=h.index,h<s?(o.flags|=67108866,s):h):(o.flags|=67108866,s)):(o.flags|=1048576,s)}function i(o){return l&&o.alternate===null&&(o.flags|=67108866),o}function f(o,s,h,b){return s===null||s.tag!==6?(s=Ri(h,o.mode,b),s.return=o,s):(s=e(s,h),s.return=o,s)}function c(o,s,h,b){var H=h.type;return H===Ul?r(o,s,h.props.children,b,h.key):s!==null&&(s.elementType===H||typeof H=="object"&&H!==null&&H.$$typeof===Ll&&Ya(H)===s.type)?(s=e(s,h.props),ku(s,h),s.return=o,s):(s=Le(h.type,h.key,h.props,null,o.mode,b),ku(s,h),s.return=o,s)}function v(o,s,h,b){return s===null||s.tag!==4||s.stateNode.containerInfo!==h.containerInfo||s.stateNode.implementation!==h.implementation?(s=qi(h,o.mode,b),s.return=o,s):(s=e(s,h.children||[]),s.return=o,s)}function r(o,s,h,b,H){return s===null||s.tag!==7?(s=Ra(h,o.mode,b,H),s.return=o,s):(s=e(s,h),s.return=o,s)}function z(o,s,h){if(typeof s=="string"&&s!==""||typeof s=="number"||typeof s=="bigint")return s=Ri(""+s,o.mode,h),s.return=o,s;if(typeof s=="object"&&s!==null){switch(s.$$typeof){case Ol:return h=Le(s.type,s.key,s.props,null,o.mode,h),ku(h,s),h.return=o,h;case gl:return s=qi(s,o.mode,h),s.return=o,s;case Ll:return s=Ya(s),z(o,s,h)}if(Et(s)||Kl(s))return s=Ra(s,o.mode,h,null),s.return=o,s;if(typeof s.then=="function")return z(o,Fe(s),h);if(s.$$typeof===El)return z(o,we(o,s),h);Ie(o,s)}return null}function m(o,s,h,b){var H=s!==null?s.key:null;if(typeof h=="string"&&h!==""||typeof h=="number"||typeof h=="bigint")return H!==null?null:f(o,s,""+h,b);if(typeof h=="object"&&h!==null){switch(h.$$typeof){case Ol:return h.key===H?c(o,s,h,b):null;case gl:return h.key===H?v(o,s,h,b):null;case Ll:return h=Ya(h),m(o,s,h,b)}if(Et(h)||Kl(h))return H!==null?null:r(o,s,h,b,null);if(typeof h.then=="function")return m(o,s,Fe(h),b);if(h.$$typeof===El)return m(o,s,we(o,h),b);Ie(o,h)}return null}function g(o,s,h,b,H){if(typeof b=="string"&&b!==""||typeof b=="number"||typeof b=="bigint")return o=o.get(h)||null,f(s,o,""+b,H);if(typeof b=="object"&&b!==null){switch(b.$$typeof){case Ol:return o=o.get(b.key===null?h:b.key)||null,c(s,o,b,H);case gl:return o=o.get(b.key===null?h:b.key)||null,v(s,o,b,H);case Ll:return b=Ya(b),g(o,s,h,b,H)}if(Et(b)||Kl(b))return o=o.get(h)||null,r(s,o,b,H,null);if(typeof b.then=="function")return g(o,s,h,Fe(b),H);if(b.$$typeof===El)return g(o,s,h,we(s,b),H);Ie(s,b)}return null}function O(o,s,h,b){for(var H=null,W=null,U=s,G=s=0,L=null;U!==null&&G<h.length;G++){U.index>G?(L=U,U=null):L=U.sibling;var $=m(o,U,h[G],b);if($===null){U===null&&(U=L);break}l&&U&&$.alternate===null&&t(o,U),s=n($,s,G),W===null?H=$:W.sibling=$,W=$,U=L}if(G===h.length)return a(o,U),J&&jt(o,G),H;if(U===null){for(;G<h.length;G++)U=z(o,h[G],b),U!==null&&(s=n(U,s,G),W===null?H=U:W.sibling=U,W=U);return J&&jt(o,G),H}for(U=u(U);G<h.length;G++)L=g(U,o,G,h[G],b),L!==null&&(l&&L.alternate!==null&&U.delete(L.key===null?G:L.key),s=n(L,s,G),W===null?H=L:W.sibling=L,W=L);return l&&U.forEach(function(Ea){return t(o,Ea)}),J&&jt(o,G),H}function x(o,s,h,b){if(h==null)throw Error(y(151));for(var H=null,W=null,U=s,G=s=0,L=null,$=h.next();U!==null&&!$.done;G++,$=h.next()){U.index>G?(L=U,U=null):L=U.sibling;var Ea=m(o,U,$.value,b);if(Ea===null){U===null&&(U=L);break}l&&U&&Ea.alternate===null&&t(o,U),s=n(Ea,s,G),W===null?H=Ea:W.sibling=Ea,W=Ea,U=L}if($.done)return a(o,U),J&&jt(o,G),H;if(U===null){for(;!$.done;G++,$=h.next())$=z(o,$.value,b),$!==null&&(s=n($,s,G),W===null?H=$:W.sibling=$,W=$);return J&&jt(o,G),H}for(U=u(U);!$.done;G++,$=h.next())$=g(U,o,G,$.value,b),$!==null&&(l&&$.alternate!==null&&U.delete($.key===null?G:$.key),s=n($,s,G),W===null?H=$:W.sibling=$,W=$);return l&&U.forEach(function(sv){return t(o,sv)}),J&&jt(o,G),H}function il(o,s,h,b){if(typeof h=="object"&&h!==null&&h.type===Ul&&h.key===null&&(h=h.props.children),typeof h=="object"&&h!==null){switch(h.$$typeof){case Ol:l:{for(var H=h.key;s!==null;){if(s.key===H){if(H=h.type,H===Ul){if(s.tag===7){a(o,s.sibling),b=e(s,h.props.children),b.return=o,o=b;break l}}else if(s.elementType===H||typeof H=="object"&&H!==null&&H.$$typeof===Ll&&Ya(H)===s.type){a(o,s.sibling),b=e(s,h.props),ku(b,h),b.return=o,o=b;break l}a(o,s);break}else t(o,s);s=s.sibling}h.type===Ul?(b=Ra(h.props.children,o.mode,b,h.key),b.return=o,o=b):(b=Le(h.type,h.key,h.props,null,o.mode,b),ku(b,h),b.return=o,o=b)}return i(o);case gl:l:{for(H=h.key;s!==null;){if(s.key===H)if(s.tag===4&&s.stateNode.containerInfo===h.containerInfo&&s.stateNode.implementation===h.implementation){a(o,s.sibling),b=e(s,h.children||[]),b.return=o,o=b;break l}else{a(o,s);break}else t(o,s);s=s.sibling}b=qi(h,o.mode,b),b.return=o,o=b}return i(o);case Ll:return h=Ya(h),il(o,s,h,b)}if(Et(h))return O(o,s,h,b);if(Kl(h)){if(H=Kl(h),typeof H!="function")throw Error(y(150));return h=H.call(h),x(o,s,h,b)}if(typeof h.then=="function")return il(o,s,Fe(h),b);if(h.$$typeof===El)return il(o,s,we(o,h),b);Ie(o,h)}return typeof h=="string"&&h!==""||typeof h=="number"||typeof h=="bigint"?(h=""+h,s!==null&&s.tag===6?(a(o,s.sibling),b=e(s,h),b.return=o,o=b):(a(o,s),b=Ri(h,o.mode,b),b.return=o,o=b),i(o)):a(o,s)}return function(o,s,h,b){try{$u=0;var H=il(o,s,h,b);return ou=null,H}catch(U){if(U===yu||U===$e)throw U;var W=it(29,U,null,o.mode);return W.lanes=b,W.return=o,W}}}var Ga=Zs(!0),Vs=Zs(!1),na=!1;function Ki(l){l.updateQueue={baseState:l.memoizedState,firstBaseUpdate:null,lastBaseUpdate:null,shared:{pending:null,lanes:0,hiddenCallbacks:null},callbacks:null}}function Ji(l,t){l=l.updateQueue,t.updateQueue===l&&(t.updateQueue={baseState:l.baseState,firstBaseUpdate:l.firstBaseUpdate,lastBaseUpdate:l.lastBaseUpdate,shared:l.shared,callbacks:null})}function ia(l){return{lane:l,tag:0,payload:null,callback:null,next:null}}function fa(l,t,a){var u=l.updateQueue;if(u===null)return null;if(u=u.shared,(F&2)!==0){var e=u.pending;return e===null?t.next=t:(t.next=e.next,e.next=t),u.pending=t,t=Ve(l),Ms(l,null,a),t}return Ze(l,u,t,a),Ve(l)}function Fu(l,t,a){if(t=t.updateQueue,t!==null&&(t=t.shared,(a&4194048)!==0)){var u=t.lanes;u&=l.pendingLanes,a|=u,t.lanes=a,xc(l,a)}}function wi(l,t){var a=l.updateQueue,u=l.alternate;if(u!==null&&(u=u.updateQueue,a===u)){var e=null,n=null;if(a=a.firstBaseUpdate,a!==null){do{var i={lane:a.lane,tag:a.tag,payload:a.payload,callback:null,next:null};n===null?e=n=i:n=n.next=i,a=a.next}while(a!==null);n===null?e=n=t:n=n.next=t}else e=n=t;a={baseState:u.baseState,firstBaseUpdate:e,lastBaseUpdate:n,shared:u.shared,callbacks:u.callbacks},l.updateQueue=a;return}l=a.lastBaseUpdate,l===null?a.firstBaseUpdate=t:l.next=t,a.lastBaseUpdate=t}var Wi=!1;function Iu(){if(Wi){var l=du;if(l!==null)throw l}}function Pu(l,t,a,u){Wi=!1;var e=l.updateQueue;na=!1;var n=e.firstBaseUpdate,i=e.lastBaseUpdate,f=e.shared.pending;if(f!==null){e.shared.pending=null;var c=f,v=c.next;c.next=null,i===null?n=v:i.next=v,i=c;var r=l.alternate;r!==null&&(r=r.updateQueue,f=r.lastBaseUpdate,f!==i&&(f===null?r.firstBaseUpdate=v:f.next=v,r.lastBaseUpdate=c))}if(n!==null){var z=e.baseState;i=0,r=v=c=null,f=n;do{var m=f.lane&-536870913,g=m!==f.lane;if(g?(V&m)===m:(u&m)===m){m!==0&&m===su&&(Wi=!0),r!==null&&(r=r.next={lane:0,tag:f.tag,payload:f.payload,callback:null,next:null});l:{var O=l,x=f;m=t;var il=a;switch(x.tag){case 1:if(O=x.payload,typeof O=="function"){z=O.call(il,z,m);break l}z=O;break l;case 3:O.flags=O.flags&-65537|128;case 0:if(O=x.payload,m=typeof O=="function"?O.call(il,z,m):O,m==null)break l;z=q({},z,m);break l;case 2:na=!0}}m=f.callback,m!==null&&(l.flags|=64,g&&(l.flags|=8192),g=e.callbacks,g===null?e.callbacks=[m]:g.push(m))}else g={lane:m,tag:f.tag,payload:f.payload,callback:f.callback,next:null},r===null?(v=r=g,c=z):r=r.next=g,i|=m;if(f=f.next,f===null){if(f=e.shared.pending,f===null)break;g=f,f=g.next,g.next=null,e.lastBaseUpdate=g,e.shared.pending=null}}while(!0);r===null&&(c=z),e.baseState=c,e.firstBaseUpdate=v,e.lastBaseUpdate=r,n===null&&(e.shared.lanes=0),oa|=i,l.lanes=i,l.memoizedState=z}}function Ls(l,t){if(typeof l!="function")throw Error(y(191,l));l.call(t)}function Ks(l,t){var a=l.callbacks;if(a!==null)for(l.callbacks=null,l=0;l<a.length;l++)Ls(a[l],t)}var hu=d(null),Pe=d(0);function Js(l,t){l=$t,M(Pe,l),M(hu,t),$t=l|t.baseLanes}function $i(){M(Pe,$t),M(hu,hu.current)}function ki(){$t=Pe.current,T(hu),T(Pe)}var ft=d(null),bt=null;function ca(l){var t=l.alternate;M(zl,zl.current&1),M(ft,l),bt===null&&(t===null||hu.current!==null||t.memoizedState!==null)&&(bt=l)}function Fi(l){M(zl,zl.current),M(ft,l),bt===null&&(bt=l)}function ws(l){l.tag===22?(M(zl,zl.current),M(ft,l),bt===null&&(bt=l)):sa()}function sa(){M(zl,zl.current),M(ft,ft.current)}function ct(l){T(ft),bt===l&&(bt=null),T(zl)}var zl=d(0);function ln(l){for(var t=l;t!==null;){if(t.tag===13){var a=t.memoizedState;if(a!==null&&(a=a.dehydrated,a===null||ec(a)||nc(a)))return t}else if(t.tag===19&&(t.memoizedProps.revealOrder==="forwards"||t.memoizedProps.revealOrder==="backwards"||t.memoizedProps.revealOrder==="unstable_legacy-backwards"||t.memoizedProps.revealOrder==="together")){if((t.flags&128)!==0)return t}else if(t.child!==null){t.child.return=t,t=t.child;continue}if(t===l)break;for(;t.sibling===null;){if(t.return===null||t.return===l)return null;t=t.return}t.sibling.return=t.return,t=t.sibling}return null}var Xt=0,j=null,el=null,Al=null,tn=!1,vu=!1,Qa=!1,an=0,le=0,mu=null,Po=0;function rl(){throw Error(y(321))}function Ii(l,t){if(t===null)return!1;for(var a=0;a<t.length&&a<l.length;a++)if(!nt(l[a],t[a]))return!1;return!0}function Pi(l,t,a,u,e,n){return Xt=n,j=t,t.memoizedState=null,t.updateQueue=null,t.lanes=0,S.H=l===null||l.memoizedState===null?N0:mf,Qa=!1,n=a(u,e),Qa=!1,vu&&(n=$s(t,a,u,e)),Ws(l),n}function Ws(l){S.H=ue;var t=el!==null&&el.next!==null;if(Xt=0,Al=el=j=null,tn=!1,le=0,mu=null,t)throw Error(y(300));l===null||pl||(l=l.dependencies,l!==null&&Je(l)&&(pl=!0))}function $s(l,t,a,u){j=l;var e=0;do{if(vu&&(mu=null),le=0,vu=!1,25<=e)throw Error(y(301));if(e+=1,Al=el=null,l.updateQueue!=null){var n=l.updateQueue;n.lastEffect=null,n.events=null,n.stores=null,n.memoCache!=null&&(n.memoCache.index=0)}S.H=H0,n=t(a,u)}while(vu);return n}function lh(){var l=S.H,t=l.useState()[0];return t=typeof t.then=="function"?te(t):t,l=l.useState()[0],(el!==null?el.memoizedState:null)!==l&&(j.flags|=1024),t}function lf(){var l=an!==0;return an=0,l}function tf(l,t,a){t.updateQueue=l.updateQueue,t.flags&=-2053,l.lanes&=~a}function af(l){if(tn){for(l=l.memoizedState;l!==null;){var t=l.queue;t!==null&&(t.pending=null),l=l.next}tn=!1}Xt=0,Al=el=j=null,vu=!1,le=an=0,mu=null}function Ql(){var l={memoizedState:null,baseState:null,baseQueue:null,queue:null,next:null};return Al===null?j.memoizedState=Al=l:Al=Al.next=l,Al}function Tl(){if(el===null){var l=j.alternate;l=l!==null?l.memoizedState:null}else l=el.next;var t=Al===null?j.memoizedState:Al.next;if(t!==null)Al=t,el=l;else{if(l===null)throw j.alternate===null?Error(y(467)):Error(y(310));el=l,l={memoizedState:el.memoizedState,baseState:el.baseState,baseQueue:el.baseQueue,queue:el.queue,next:null},Al===null?j.memoizedState=Al=l:Al=Al.next=l}return Al}function un(){return{lastEffect:null,events:null,stores:null,memoCache:null}}function te(l){var t=le;return le+=1,mu===null&&(mu=[]),l=Gs(mu,l,t),t=j,(Al===null?t.memoizedState:Al.next)===null&&(t=t.alternate,S.H=t===null||t.memoizedState===null?N0:mf),l}function en(l){if(l!==null&&typeof l=="object"){if(typeof l.then=="function")return te(l);if(l.$$typeof===El)return xl(l)}throw Error(y(438,String(l)))}function uf(l){var t=null,a=j.updateQueue;if(a!==null&&(t=a.memoCache),t==null){var u=j.alternate;u!==null&&(u=u.updateQueue,u!==null&&(u=u.memoCache,u!=null&&(t={data:u.data.map(function(e){return e.slice()}),index:0})))}if(t==null&&(t={data:[],index:0}),a===null&&(a=un(),j.updateQueue=a),a.memoCache=t,a=t.data[t.index],a===void 0)for(a=t.data[t.index]=Array(l),u=0;u<l;u++)a[u]=La;return t.index++,a}function Zt(l,t){return typeof t=="function"?t(l):t}function nn(l){var t=Tl();return ef(t,el,l)}function ef(l,t,a){var u=l.queue;if(u===null)throw Error(y(311));u.lastRenderedReducer=a;var e=l.baseQueue,n=u.pending;if(n!==null){if(e!==null){var i=e.next;e.next=n.next,n.next=i}t.baseQueue=e=n,u.pending=null}if(n=l.baseState,e===null)l.memoizedState=n;else{t=e.next;var f=i=null,c=null,v=t,r=!1;do{var z=v.lane&-536870913;if(z!==v.lane?(V&z)===z:(Xt&z)===z){var m=v.revertLane;if(m===0)c!==null&&(c=c.next={lane:0,revertLane:0,gesture:null,action:v.action,hasEagerState:v.hasEagerState,eagerState:v.eagerState,next:null}),z===su&&(r=!0);else if((Xt&m)===m){v=v.next,m===su&&(r=!0);continue}else z={lane:0,revertLane:v.revertLane,gesture:null,action:v.action,hasEagerState:v.hasEagerState,eagerState:v.eagerState,next:null},c===null?(f=c=z,i=n):c=c.next=z,j.lanes|=m,oa|=m;z=v.action,Qa&&a(n,z),n=v.hasEagerState?v.eagerState:a(n,z)}else m={lane:z,revertLane:v.revertLane,gesture:v.gesture,action:v.action,hasEagerState:v.hasEagerState,eagerState:v.eagerState,next:null},c===null?(f=c=m,i=n):c=c.next=m,j.lanes|=z,oa|=z;v=v.next}while(v!==null&&v!==t);if(c===null?i=n:c.next=f,!nt(n,l.memoizedState)&&(pl=!0,r&&(a=du,a!==null)))throw a;l.memoizedState=n,l.baseState=i,l.baseQueue=c,u.lastRenderedState=n}return e===null&&(u.lanes=0),[l.memoizedState,u.dispatch]}function nf(l){var t=Tl(),a=t.queue;if(a===null)throw Error(y(311));a.lastRenderedReducer=l;var u=a.dispatch,e=a.pending,n=t.memoizedState;if(e!==null){a.pending=null;var i=e=e.next;do n=l(n,i.action),i=i.next;while(i!==e);nt(n,t.memoizedState)||(pl=!0),t.memoizedState=n,t.baseQueue===null&&(t.baseState=n),a.lastRenderedState=n}return[n,u]}function ks(l,t,a){var u=j,e=Tl(),n=J;if(n){if(a===void 0)throw Error(y(407));a=a()}else a=t();var i=!nt((el||e).memoizedState,a);if(i&&(e.memoizedState=a,pl=!0),e=e.queue,sf(Ps.bind(null,u,e,l),[l]),e.getSnapshot!==t||i||Al!==null&&Al.memoizedState.tag&1){if(u.flags|=2048,gu(9,{destroy:void 0},Is.bind(null,u,e,a,t),null),sl===null)throw Error(y(349));n||(Xt&127)!==0||Fs(u,t,a)}return a}function Fs(l,t,a){l.flags|=16384,l={getSnapshot:t,value:a},t=j.updateQueue,t===null?(t=un(),j.updateQueue=t,t.stores=[l]):(a=t.stores,a===null?t.stores=[l]:a.push(l))}function Is(l,t,a,u){t.value=a,t.getSnapshot=u,l0(t)&&t0(l)}function Ps(l,t,a){return a(function(){l0(t)&&t0(l)})}function l0(l){var t=l.getSnapshot;l=l.value;try{var a=t();return!nt(l,a)}catch(u){return!0}}function t0(l){var t=Ha(l,2);t!==null&&Il(t,l,2)}function ff(l){var t=Ql();if(typeof l=="function"){var a=l;if(l=a(),Qa){It(!0);try{a()}finally{It(!1)}}}return t.memoizedState=t.baseState=l,t.queue={pending:null,lanes:0,dispatch:null,lastRenderedReducer:Zt,lastRenderedState:l},t}function a0(l,t,a,u){return l.baseState=a,ef(l,el,typeof u=="function"?u:Zt)}function th(l,t,a,u,e){if(sn(l))throw Error(y(485));if(l=t.action,l!==null){var n={payload:e,action:l,next:null,isTransition:!0,status:"pending",value:null,reason:null,listeners:[],then:function(i){n.listeners.push(i)}};S.T!==null?a(!0):n.isTransition=!1,u(n),a=t.pending,a===null?(n.next=t.pending=n,u0(t,n)):(n.next=a.next,t.pending=a.next=n)}}function u0(l,t){var a=t.action,u=t.payload,e=l.state;if(t.isTransition){var n=S.T,i={};S.T=i;try{var f=a(e,u),c=S.S;c!==null&&c(i,f),e0(l,t,f)}catch(v){cf(l,t,v)}finally{n!==null&&i.types!==null&&(n.types=i.types),S.T=n}}else try{n=a(e,u),e0(l,t,n)}catch(v){cf(l,t,v)}}function e0(l,t,a){a!==null&&typeof a=="object"&&typeof a.then=="function"?a.then(function(u){n0(l,t,u)},function(u){return cf(l,t,u)}):n0(l,t,a)}function n0(l,t,a){t.status="fulfilled",t.value=a,i0(t),l.state=a,t=l.pending,t!==null&&(a=t.next,a===t?l.pending=null:(a=a.next,t.next=a,u0(l,a)))}function cf(l,t,a){var u=l.pending;if(l.pending=null,u!==null){u=u.next;do t.status="rejected",t.reason=a,i0(t),t=t.next;while(t!==u)}l.action=null}function i0(l){l=l.listeners;for(var t=0;t<l.length;t++)(0,l[t])()}function f0(l,t){return t}function c0(l,t){if(J){var a=sl.formState;if(a!==null){l:{var u=j;if(J){if(ol){t:{for(var e=ol,n=St;e.nodeType!==8;){if(!n){e=null;break t}if(e=zt(e.nextSibling),e===null){e=null;break t}}n=e.data,e=n==="F!"||n==="F"?e:null}if(e){ol=zt(e.nextSibling),u=e.data==="F!";break l}}ua(u)}u=!1}u&&(t=a[0])}}return a=Ql(),a.memoizedState=a.baseState=t,u={pending:null,lanes:0,dispatch:null,lastRenderedReducer:f0,lastRenderedState:t},a.queue=u,a=O0.bind(null,j,u),u.dispatch=a,u=ff(!1),n=vf.bind(null,j,!1,u.queue),u=Ql(),e={state:t,dispatch:null,action:l,pending:null},u.queue=e,a=th.bind(null,j,e,n,a),e.dispatch=a,u.memoizedState=l,[t,a,!1]}function s0(l){var t=Tl();return d0(t,el,l)}function d0(l,t,a){if(t=ef(l,t,f0)[0],l=nn(Zt)[0],typeof t=="object"&&t!==null&&typeof t.then=="function")try{var u=te(t)}catch(i){throw i===yu?$e:i}else u=t;t=Tl();var e=t.queue,n=e.dispatch;return a!==t.memoizedState&&(j.flags|=2048,gu(9,{destroy:void 0},ah.bind(null,e,a),null)),[u,n,l]}function ah(l,t){l.action=t}function y0(l){var t=Tl(),a=el;if(a!==null)return d0(t,a,l);Tl(),t=t.memoizedState,a=Tl();var u=a.queue.dispatch;return a.memoizedState=l,[t,u,!1]}function gu(l,t,a,u){return l={tag:l,create:a,deps:u,inst:t,next:null},t=j.updateQueue,t===null&&(t=un(),j.updateQueue=t),a=t.lastEffect,a===null?t.lastEffect=l.next=l:(u=a.next,a.next=l,l.next=u,t.lastEffect=l),l}function o0(){return Tl().memoizedState}function fn(l,t,a,u){var e=Ql();j.flags|=l,e.memoizedState=gu(1|t,{destroy:void 0},a,u===void 0?null:u)}function cn(l,t,a,u){var e=Tl();u=u===void 0?null:u;var n=e.memoizedState.inst;el!==null&&u!==null&&Ii(u,el.memoizedState.deps)?e.memoizedState=gu(t,n,a,u):(j.flags|=l,e.memoizedState=gu(1|t,n,a,u))}function h0(l,t){fn(8390656,8,l,t)}function sf(l,t){cn(2048,8,l,t)}function uh(l){j.flags|=4;var t=j.updateQueue;if(t===null)t=un(),j.updateQueue=t,t.events=[l];else{var a=t.events;a===null?t.events=[l]:a.push(l)}}function v0(l){var t=Tl().memoizedState;return uh({ref:t,nextImpl:l}),function(){if((F&2)!==0)throw Error(y(440));return t.impl.apply(void 0,arguments)}}function m0(l,t){return cn(4,2,l,t)}function g0(l,t){return cn(4,4,l,t)}function r0(l,t){if(typeof t=="function"){l=l();var a=t(l);return function(){typeof a=="function"?a():t(null)}}if(t!=null)return l=l(),t.current=l,function(){t.current=null}}function S0(l,t,a){a=a!=null?a.concat([l]):null,cn(4,4,r0.bind(null,t,l),a)}function df(){}function b0(l,t){var a=Tl();t=t===void 0?null:t;var u=a.memoizedState;return t!==null&&Ii(t,u[1])?u[0]:(a.memoizedState=[l,t],l)}function z0(l,t){var a=Tl();t=t===void 0?null:t;var u=a.memoizedState;if(t!==null&&Ii(t,u[1]))return u[0];if(u=l(),Qa){It(!0);try{l()}finally{It(!1)}}return a.memoizedState=[u,t],u}function yf(l,t,a){return a===void 0||(Xt&1073741824)!==0&&(V&261930)===0?l.memoizedState=t:(l.memoizedState=a,l=Td(),j.lanes|=l,oa|=l,a)}function T0(l,t,a,u){return nt(a,t)?a:hu.current!==null?(l=yf(l,a,u),nt(l,t)||(pl=!0),l):(Xt&42)===0||(Xt&1073741824)!==0&&(V&261930)===0?(pl=!0,l.memoizedState=a):(l=Td(),j.lanes|=l,oa|=l,t)}function E0(l,t,a,u,e){var n=p.p;p.p=n!==0&&8>n?n:8;var i=S.T,f={};S.T=f,vf(l,!1,t,a);try{var c=e(),v=S.S;if(v!==null&&v(f,c),c!==null&&typeof c=="object"&&typeof c.then=="function"){var r=Io(c,u);ae(l,t,r,yt(l))}else ae(l,t,u,yt(l))}catch(z){ae(l,t,{then:function(){},status:"rejected",reason:z},yt())}finally{p.p=n,i!==null&&f.types!==null&&(i.types=f.types),S.T=i}}function eh(){}function of(l,t,a,u){if(l.tag!==5)throw Error(y(476));var e=_0(l).queue;E0(l,e,t,C,a===null?eh:function(){return A0(l),a(u)})}function _0(l){var t=l.memoizedState;if(t!==null)return t;t={memoizedState:C,baseState:C,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:Zt,lastRenderedState:C},next:null};var a={};return t.next={memoizedState:a,baseState:a,baseQueue:null,queue:{pending:null,lanes:0,dispatch:null,lastRenderedReducer:Zt,lastRenderedState:a},next:null},l.memoizedState=t,l=l.alternate,l!==null&&(l.memoizedState=t),t}function A0(l){var t=_0(l);t.next===null&&(t=l.alternate.memoizedState),ae(l,t.next.queue,{},yt())}function hf(){return xl(be)}function p0(){return Tl().memoizedState}function M0(){return Tl().memoizedState}function nh(l){for(var t=l.return;t!==null;){switch(t.tag){case 24:case 3:var a=yt();l=ia(a);var u=fa(t,l,a);u!==null&&(Il(u,t,a),Fu(u,t,a)),t={cache:Xi()},l.payload=t;return}t=t.return}}function ih(l,t,a){var u=yt();a={lane:u,revertLane:0,gesture:null,action:a,hasEagerState:!1,eagerState:null,next:null},sn(l)?D0(t,a):(a=Ni(l,t,a,u),a!==null&&(Il(a,l,u),U0(a,t,u)))}function O0(l,t,a){var u=yt();ae(l,t,a,u)}function ae(l,t,a,u){var e={lane:u,revertLane:0,gesture:null,action:a,hasEagerState:!1,eagerState:null,next:null};if(sn(l))D0(t,e);else{var n=l.alternate;if(l.lanes===0&&(n===null||n.lanes===0)&&(n=t.lastRenderedReducer,n!==null))try{var i=t.lastRenderedState,f=n(i,a);if(e.hasEagerState=!0,e.eagerState=f,nt(f,i))return Ze(l,t,e,0),sl===null&&Xe(),!1}catch(c){}if(a=Ni(l,t,e,u),a!==null)return Il(a,l,u),U0(a,t,u),!0}return!1}function vf(l,t,a,u){if(u={lane:2,revertLane:Jf(),gesture:null,action:u,hasEagerState:!1,eagerState:null,next:null},sn(l)){if(t)throw Error(y(479))}else t=Ni(l,a,u,2),t!==null&&Il(t,l,2)}function sn(l){var t=l.alternate;return l===j||t!==null&&t===j}function D0(l,t){vu=tn=!0;var a=l.pending;a===null?t.next=t:(t.next=a.next,a.next=t),l.pending=t}function U0(l,t,a){if((a&4194048)!==0){var u=t.lanes;u&=l.pendingLanes,a|=u,t.lanes=a,xc(l,a)}}var ue={readContext:xl,use:en,useCallback:rl,useContext:rl,useEffect:rl,useImperativeHandle:rl,useLayoutEffect:rl,useInsertionEffect:rl,useMemo:rl,useReducer:rl,useRef:rl,useState:rl,useDebugValue:rl,useDeferredValue:rl,useTransition:rl,useSyncExternalStore:rl,useId:rl,useHostTransitionStatus:rl,useFormState:rl,useActionState:rl,useOptimistic:rl,useMemoCache:rl,useCacheRefresh:rl};ue.useEffectEvent=rl;var N0={readContext:xl,use:en,useCallback:function(l,t){return Ql().memoizedState=[l,t===void 0?null:t],l},useContext:xl,useEffect:h0,useImperativeHandle:function(l,t,a){a=a!=null?a.concat([l]):null,fn(4194308,4,r0.bind(null,t,l),a)},useLayoutEffect:function(l,t){return fn(4194308,4,l,t)},useInsertionEffect:function(l,t){fn(4,2,l,t)},useMemo:function(l,t){var a=Ql();t=t===void 0?null:t;var u=l();if(Qa){It(!0);try{l()}finally{It(!1)}}return a.memoizedState=[u,t],u},useReducer:function(l,t,a){var u=Ql();if(a!==void 0){var e=a(t);if(Qa){It(!0);try{a(t)}finally{It(!1)}}}else e=t;return u.memoizedState=u.baseState=e,l={pending:null,lanes:0,dispatch:null,lastRenderedReducer:l,lastRenderedState:e},u.queue=l,l=l.dispatch=ih.bind(null,j,l),[u.memoizedState,l]},useRef:function(l){var t=Ql();return l={current:l},t.memoizedState=l},useState:function(l){l=ff(l);var t=l.queue,a=O0.bind(null,j,t);return t.dispatch=a,[l.memoizedState,a]},useDebugValue:df,useDeferredValue:function(l,t){var a=Ql();return yf(a,l,t)},useTransition:function(){var l=ff(!1);return l=E0.bind(null,j,l.queue,!0,!1),Ql().memoizedState=l,[!1,l]},useSyncExternalStore:function(l,t,a){var u=j,e=Ql();if(J){if(a===void 0)throw Error(y(407));a=a()}else{if(a=t(),sl===null)throw Error(y(349));(V&127)!==0||Fs(u,t,a)}e.memoizedState=a;var n={value:a,getSnapshot:t};return e.queue=n,h0(Ps.bind(null,u,n,l),[l]),u.flags|=2048,gu(9,{destroy:void 0},Is.bind(null,u,n,a,t),null),a},useId:function(){var l=Ql(),t=sl.identifierPrefix;if(J){var a=Ut,u=Dt;a=(u&~(1<<32-et(u)-1)).toString(32)+a,t="_"+t+"R_"+a,a=an++,0<a&&(t+="H"+a.toString(32)),t+="_"}else a=Po++,t="_"+t+"r_"+a.toString(32)+"_";return l.memoizedState=t},useHostTransitionStatus:hf,useFormState:c0,useActionState:c0,useOptimistic:function(l){var t=Ql();t.memoizedState=t.baseState=l;var a={pending:null,lanes:0,dispatch:null,lastRenderedReducer:null,lastRenderedState:null};return t.queue=a,t=vf.bind(null,j,!0,a),a.dispatch=t,[l,t]},useMemoCache:uf,useCacheRefresh:function(){return Ql().memoizedState=nh.bind(null,j)},useEffectEvent:function(l){var t=Ql(),a={impl:l};return t.memoizedState=a,function(){if((F&2)!==0)throw Error(y(440));return a.impl.apply(void 0,arguments)}}},mf={readContext:xl,use:en,useCallback:b0,useContext:xl,useEffect:sf,useImperativeHandle:S0,useInsertionEffect:m0,useLayoutEffect:g0,useMemo:z0,useReducer:nn,useRef:o0,useState:function(){return nn(Zt)},useDebugValue:df,useDeferredValue:function(l,t){var a=Tl();return T0(a,el.memoizedState,l,t)},useTransition:function(){var l=nn(Zt)[0],t=Tl().memoizedState;return[typeof l=="boolean"?l:te(l),t]},useSyncExternalStore:ks,useId:p0,useHostTransitionStatus:hf,useFormState:s0,useActionState:s0,useOptimistic:function(l,t){var a=Tl();return a0(a,el,l,t)},useMemoCache:uf,useCacheRefresh:M0};mf.useEffectEvent=v0;var H0={readContext:xl,use:en,useCallback:b0,useContext:xl,useEffect:sf,useImperativeHandle:S0,useInsertionEffect:m0,useLayoutEffect:g0,useMemo:z0,useReducer:nf,useRef:o0,useState:function(){return nf(Zt)},useDebugValue:df,useDeferredValue:function(l,t){var a=Tl();return el===null?yf(a,l,t):T0(a,el.memoizedState,l,t)},useTransition:function(){var l=nf(Zt)[0],t=Tl().memoizedState;return[typeof l=="boolean"?l:te(l),t]},useSyncExternalStore:ks,useId:p0,useHostTransitionStatus:hf,useFormState:y0,useActionState:y0,useOptimistic:function(l,t){var a=Tl();return el!==null?a0(a,el,l,t):(a.baseState=l,[l,a.queue.dispatch])},useMemoCache:uf,useCacheRefresh:M0};H0.useEffectEvent=v0;function gf(l,t,a,u){t=l.memoizedState,a=a(u,t),a=a==null?t:q({},t,a),l.memoizedState=a,l.lanes===0&&(l.updateQueue.baseState=a)}var rf={enqueueSetState:function(l,t,a){l=l._reactInternals;var u=yt(),e=ia(u);e.payload=t,a!=null&&(e.callback=a),t=fa(l,e,u),t!==null&&(Il(t,l,u),Fu(t,l,u))},enqueueReplaceState:function(l,t,a){l=l._reactInternals;var u=yt(),e=ia(u);e.tag=1,e.payload=t,a!=null&&(e.callback=a),t=fa(l,e,u),t!==null&&(Il(t,l,u),Fu(t,l,u))},enqueueForceUpdate:function(l,t){l=l._reactInternals;var a=yt(),u=ia(a);u.tag=2,t!=null&&(u.callback=t),t=fa(l,u,a),t!==null&&(Il(t,l,a),Fu(t,l,a))}};function R0(l,t,a,u,e,n,i){return l=l.stateNode,typeof l.shouldComponentUpdate=="function"?l.shouldComponentUpdate(u,n,i):t.prototype&&t.prototype.isPureReactComponent?!Vu(a,u)||!Vu(e,n):!0}function q0(l,t,a,u){l=t.state,typeof t.componentWillReceiveProps=="function"&&t.componentWillReceiveProps(a,u),typeof t.UNSAFE_componentWillReceiveProps=="function"&&t.UNSAFE_componentWillReceiveProps(a,u),t.state!==l&&rf.enqueueReplaceState(t,t.state,null)}function Xa(l,t){var a=t;if("ref"in t){a={};for(var u in t)u!=="ref"&&(a[u]=t[u])}if(l=l.defaultProps){a===t&&(a=q({},a));for(var e in l)a[e]===void 0&&(a[e]=l[e])}return a}function x0(l){Qe(l)}function C0(l){console.error(l)}function B0(l){Qe(l)}function dn(l,t){try{var a=l.onUncaughtError;a(t.value,{componentStack:t.stack})}catch(u){setTimeout(function(){throw u})}}function Y0(l,t,a){try{var u=l.onCaughtError;u(a.value,{componentStack:a.stack,errorBoundary:t.tag===1?t.stateNode:null})}catch(e){setTimeout(function(){throw e})}}function Sf(l,t,a){return a=ia(a),a.tag=3,a.payload={element:null},a.callback=function(){dn(l,t)},a}function j0(l){return l=ia(l),l.tag=3,l}function G0(l,t,a,u){var e=a.type.getDerivedStateFromError;if(typeof e=="function"){var n=u.value;l.payload=function(){return e(n)},l.callback=function(){Y0(t,a,u)}}var i=a.stateNode;i!==null&&typeof i.componentDidCatch=="function"&&(l.callback=function(){Y0(t,a,u),typeof e!="function"&&(ha===null?ha=new Set([this]):ha.add(this));var f=u.stack;this.componentDidCatch(u.value,{componentStack:f!==null?f:""})})}function fh(l,t,a,u,e){if(a.flags|=32768,u!==null&&typeof u=="object"&&typeof u.then=="function"){if(t=a.alternate,t!==null&&cu(t,a,e,!0),a=ft.current,a!==null){switch(a.tag){case 31:case 13:return bt===null?En():a.alternate===null&&Sl===0&&(Sl=3),a.flags&=-257,a.flags|=65536,a.lanes=e,u===ke?a.flags|=16384:(t=a.updateQueue,t===null?a.updateQueue=new Set([u]):t.add(u),Vf(l,u,e)),!1;case 22:return a.flags|=65536,u===ke?a.flags|=16384:(t=a.updateQueue,t===null?(t={transitions:null,markerInstances:null,retryQueue:new Set([u])},a.updateQueue=t):(a=t.retryQueue,a===null?t.retryQueue=new Set([u]):a.add(u)),Vf(l,u,e)),!1}throw Error(y(435,a.tag))}return Vf(l,u,e),En(),!1}if(J)return t=ft.current,t!==null?((t.flags&65536)===0&&(t.flags|=256),t.flags|=65536,t.lanes=e,u!==Bi&&(l=Error(y(422),{cause:u}),Ju(mt(l,a)))):(u!==Bi&&(t=Error(y(423),{cause:u}),Ju(mt(t,a))),l=l.current.alternate,l.flags|=65536,e&=-e,l.lanes|=e,u=mt(u,a),e=Sf(l.stateNode,u,e),wi(l,e),Sl!==4&&(Sl=2)),!1;var n=Error(y(520),{cause:u});if(n=mt(n,a),ye===null?ye=[n]:ye.push(n),Sl!==4&&(Sl=2),t===null)return!0;u=mt(u,a),a=t;do{switch(a.tag){case 3:return a.flags|=65536,l=e&-e,a.lanes|=l,l=Sf(a.stateNode,u,l),wi(a,l),!1;case 1:if(t=a.type,n=a.stateNode,(a.flags&128)===0&&(typeof t.getDerivedStateFromError=="function"||n!==null&&typeof n.componentDidCatch=="function"&&(ha===null||!ha.has(n))))return a.flags|=65536,e&=-e,a.lanes|=e,e=j0(e),G0(e,l,a,u),wi(a,e),!1}a=a.return}while(a!==null);return!1}var bf=Error(y(461)),pl=!1;function Cl(l,t,a,u){t.child=l===null?Vs(t,null,a,u):Ga(t,l.child,a,u)}function Q0(l,t,a,u,e){a=a.render;var n=t.ref;if("ref"in u){var i={};for(var f in u)f!=="ref"&&(i[f]=u[f])}else i=u;return Ca(t),u=Pi(l,t,a,i,n,e),f=lf(),l!==null&&!pl?(tf(l,t,e),Vt(l,t,e)):(J&&f&&xi(t),t.flags|=1,Cl(l,t,u,e),t.child)}function X0(l,t,a,u,e){if(l===null){var n=a.type;return typeof n=="function"&&!Hi(n)&&n.defaultProps===void 0&&a.compare===null?(t.tag=15,t.type=n,Z0(l,t,n,u,e)):(l=Le(a.type,null,u,t,t.mode,e),l.ref=t.ref,l.return=t,t.child=l)}if(n=l.child,!Of(l,e)){var i=n.memoizedProps;if(a=a.compare,a=a!==null?a:Vu,a(i,u)&&l.ref===t.ref)return Vt(l,t,e)}return t.flags|=1,l=Yt(n,u),l.ref=t.ref,l.return=t,t.child=l}function Z0(l,t,a,u,e){if(l!==null){var n=l.memoizedProps;if(Vu(n,u)&&l.ref===t.ref)if(pl=!1,t.pendingProps=u=n,Of(l,e))(l.flags&131072)!==0&&(pl=!0);else return t.lanes=l.lanes,Vt(l,t,e)}return zf(l,t,a,u,e)}function V0(l,t,a,u){var e=u.children,n=l!==null?l.memoizedState:null;if(l===null&&t.stateNode===null&&(t.stateNode={_visibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null}),u.mode==="hidden"){if((t.flags&128)!==0){if(n=n!==null?n.baseLanes|a:a,l!==null){for(u=t.child=l.child,e=0;u!==null;)e=e|u.lanes|u.childLanes,u=u.sibling;u=e&~n}else u=0,t.child=null;return L0(l,t,n,a,u)}if((a&536870912)!==0)t.memoizedState={baseLanes:0,cachePool:null},l!==null&&We(t,n!==null?n.cachePool:null),n!==null?Js(t,n):$i(),ws(t);else return u=t.lanes=536870912,L0(l,t,n!==null?n.baseLanes|a:a,a,u)}else n!==null?(We(t,n.cachePool),Js(t,n),sa(),t.memoizedState=null):(l!==null&&We(t,null),$i(),sa());return Cl(l,t,e,a),t.child}function ee(l,t){return l!==null&&l.tag===22||t.stateNode!==null||(t.stateNode={_visibility:1,_pendingMarkers:null,_retryCache:null,_transitions:null}),t.sibling}function L0(l,t,a,u,e){var n=Vi();return n=n===null?null:{parent:_l._currentValue,pool:n},t.memoizedState={baseLanes:a,cachePool:n},l!==null&&We(t,null),$i(),ws(t),l!==null&&cu(l,t,u,!0),t.childLanes=e,null}function yn(l,t){return t=hn({mode:t.mode,children:t.children},l.mode),t.ref=l.ref,l.child=t,t.return=l,t}function K0(l,t,a){return Ga(t,l.child,null,a),l=yn(t,t.pendingProps),l.flags|=2,ct(t),t.memoizedState=null,l}function ch(l,t,a){var u=t.pendingProps,e=(t.flags&128)!==0;if(t.flags&=-129,l===null){if(J){if(u.mode==="hidden")return l=yn(t,u),t.lanes=536870912,ee(null,l);if(Fi(t),(l=ol)?(l=uy(l,St),l=l!==null&&l.data==="&"?l:null,l!==null&&(t.memoizedState={dehydrated:l,treeContext:ta!==null?{id:Dt,overflow:Ut}:null,retryLane:536870912,hydrationErrors:null},a=Ds(l),a.return=t,t.child=a,ql=t,ol=null)):l=null,l===null)throw ua(t);return t.lanes=536870912,null}return yn(t,u)}var n=l.memoizedState;if(n!==null){var i=n.dehydrated;if(Fi(t),e)if(t.flags&256)t.flags&=-257,t=K0(l,t,a);else if(t.memoizedState!==null)t.child=l.child,t.flags|=128,t=null;else throw Error(y(558));else if(pl||cu(l,t,a,!1),e=(a&l.childLanes)!==0,pl||e){if(u=sl,u!==null&&(i=Cc(u,a),i!==0&&i!==n.retryLane))throw n.retryLane=i,Ha(l,i),Il(u,l,i),bf;En(),t=K0(l,t,a)}else l=n.treeContext,ol=zt(i.nextSibling),ql=t,J=!0,aa=null,St=!1,l!==null&&Hs(t,l),t=yn(t,u),t.flags|=4096;return t}return l=Yt(l.child,{mode:u.mode,children:u.children}),l.ref=t.ref,t.child=l,l.return=t,l}function on(l,t){var a=t.ref;if(a===null)l!==null&&l.ref!==null&&(t.flags|=4194816);else{if(typeof a!="function"&&typeof a!="object")throw Error(y(284));(l===null||l.ref!==a)&&(t.flags|=4194816)}}function zf(l,t,a,u,e){return Ca(t),a=Pi(l,t,a,u,void 0,e),u=lf(),l!==null&&!pl?(tf(l,t,e),Vt(l,t,e)):(J&&u&&xi(t),t.flags|=1,Cl(l,t,a,e),t.child)}function J0(l,t,a,u,e,n){return Ca(t),t.updateQueue=null,a=$s(t,u,a,e),Ws(l),u=lf(),l!==null&&!pl?(tf(l,t,n),Vt(l,t,n)):(J&&u&&xi(t),t.flags|=1,Cl(l,t,a,n),t.child)}function w0(l,t,a,u,e){if(Ca(t),t.stateNode===null){var n=eu,i=a.contextType;typeof i=="object"&&i!==null&&(n=xl(i)),n=new a(u,n),t.memoizedState=n.state!==null&&n.state!==void 0?n.state:null,n.updater=rf,t.stateNode=n,n._reactInternals=t,n=t.stateNode,n.props=u,n.state=t.memoizedState,n.refs={},Ki(t),i=a.contextType,n.context=typeof i=="object"&&i!==null?xl(i):eu,n.state=t.memoizedState,i=a.getDerivedStateFromProps,typeof i=="function"&&(gf(t,a,i,u),n.state=t.memoizedState),typeof a.getDerivedStateFromProps=="function"||typeof n.getSnapshotBeforeUpdate=="function"||typeof n.UNSAFE_componentWillMount!="function"&&typeof n.componentWillMount!="function"||(i=n.state,typeof n.componentWillMount=="function"&&n.componentWillMount(),typeof n.UNSAFE_componentWillMount=="function"&&n.UNSAFE_componentWillMount(),i!==n.state&&rf.enqueueReplaceState(n,n.state,null),Pu(t,u,n,e),Iu(),n.state=t.memoizedState),typeof n.componentDidMount=="function"&&(t.flags|=4194308),u=!0}else if(l===null){n=t.stateNode;var f=t.memoizedProps,c=Xa(a,f);n.props=c;var v=n.context,r=a.contextType;i=eu,typeof r=="object"&&r!==null&&(i=xl(r));var z=a.getDerivedStateFromProps;r=typeof z=="function"||typeof n.getSnapshotBeforeUpdate=="function",f=t.pendingProps!==f,r||typeof n.UNSAFE_componentWillReceiveProps!="function"&&typeof n.componentWillReceiveProps!="function"||(f||v!==i)&&q0(t,n,u,i),na=!1;var m=t.memoizedState;n.state=m,Pu(t,u,n,e),Iu(),v=t.memoizedState,f||m!==v||na?(typeof z=="function"&&(gf(t,a,z,u),v=t.memoizedState),(c=na||R0(t,a,c,u,m,v,i))?(r||typeof n.UNSAFE_componentWillMount!="function"&&typeof n.componentWillMount!="function"||(typeof n.componentWillMount=="function"&&n.componentWillMount(),typeof n.UNSAFE_componentWillMount=="function"&&n.UNSAFE_componentWillMount()),typeof n.componentDidMount=="function"&&(t.flags|=4194308)):(typeof n.componentDidMount=="function"&&(t.flags|=4194308),t.memoizedProps=u,t.memoizedState=v),n.props=u,n.state=v,n.context=i,u=c):(typeof n.componentDidMount=="function"&&(t.flags|=4194308),u=!1)}else{n=t.stateNode,Ji(l,t),i=t.memoizedProps,r=Xa(a,i),n.props=r,z=t.pendingProps,m=n.context,v=a.contextType,c=eu,typeof v=="object"&&v!==null&&(c=xl(v)),f=a.getDerivedStateFromProps,(v=typeof f=="function"||typeof n.getSnapshotBeforeUpdate=="function")||typeof n.UNSAFE_componentWillReceiveProps!="function"&&typeof n.componentWillReceiveProps!="function"||(i!==z||m!==c)&&q0(t,n,u,c),na=!1,m=t.memoizedState,n.state=m,Pu(t,u,n,e),Iu();var g=t.memoizedState;i!==z||m!==g||na||l!==null&&l.dependencies!==null&&Je(l.dependencies)?(typeof f=="function"&&(gf(t,a,f,u),g=t.memoizedState),(r=na||R0(t,a,r,u,m,g,c)||l!==null&&l.dependencies!==null&&Je(l.dependencies))?(v||typeof n.UNSAFE_componentWillUpdate!="function"&&typeof n.componentWillUpdate!="function"||(typeof n.componentWillUpdate=="function"&&n.componentWillUpdate(u,g,c),typeof n.UNSAFE_componentWillUpdate=="function"&&n.UNSAFE_componentWillUpdate(u,g,c)),typeof n.componentDidUpdate=="function"&&(t.flags|=4),typeof n.getSnapshotBeforeUpdate=="function"&&(t.flags|=1024)):(typeof n.componentDidUpdate!="function"||i===l.memoizedProps&&m===l.memoizedState||(t.flags|=4),typeof n.getSnapshotBeforeUpdate!="function"||i===l.memoizedProps&&m===l.memoizedState||(t.flags|=1024),t.memoizedProps=u,t.memoizedState=g),n.props=u,n.state=g,n.context=c,u=r):(typeof n.componentDidUpdate!="function"||i===l.memoizedProps&&m===l.memoizedState||(t.flags|=4),typeof n.getSnapshotBeforeUpdate!="function"||i===l.memoizedProps&&m===l.memoizedState||(t.flags|=1024),u=!1)}return n=u,on(l,t),u=(t.flags&128)!==0,n||u?(n=t.stateNode,a=u&&typeof a.getDerivedStateFromError!="function"?null:n.render(),t.flags|=1,l!==null&&u?(t.child=Ga(t,l.child,null,e),t.child=Ga(t,null,a,e)):Cl(l,t,a,e),t.memoizedState=n.state,l=t.child):l=Vt(l,t,e),l}function W0(l,t,a,u){return qa(),t.flags|=256,Cl(l,t,a,u),t.child}var Tf={dehydrated:null,treeContext:null,retryLane:0,hydrationErrors:null};function Ef(l){return{baseLanes:l,cachePool:Ys()}}function _f(l,t,a){return l=l!==null?l.childLanes&~a:0,t&&(l|=dt),l}function $0(l,t,a){var u=t.pendingProps,e=!1,n=(t.flags&128)!==0,i;if((i=n)||(i=l!==null&&l.memoizedState===null?!1:(zl.current&2)!==0),i&&(e=!0,t.flags&=-129),i=(t.flags&32)!==0,t.flags&=-33,l===null){if(J){if(e?ca(t):sa(),(l=ol)?(l=uy(l,St),l=l!==null&&l.data!=="&"?l:null,l!==null&&(t.memoizedState={dehydrated:l,treeContext:ta!==null?{id:Dt,overflow:Ut}:null,retryLane:536870912,hydrationErrors:null},a=Ds(l),a.return=t,t.child=a,ql=t,ol=null)):l=null,l===null)throw ua(t);return nc(l)?t.lanes=32:t.lanes=536870912,null}var f=u.children;return u=u.fallback,e?(sa(),e=t.mode,f=hn({mode:"hidden",children:f},e),u=Ra(u,e,a,null),f.return=t,u.return=t,f.sibling=u,t.child=f,u=t.child,u.memoizedState=Ef(a),u.childLanes=_f(l,i,a),t.memoizedState=Tf,ee(null,u)):(ca(t),Af(t,f))}var c=l.memoizedState;if(c!==null&&(f=c.dehydrated,f!==null)){if(n)t.flags&256?(ca(t),t.flags&=-257,t=pf(l,t,a)):t.memoizedState!==null?(sa(),t.child=l.child,t.flags|=128,t=null):(sa(),f=u.fallback,e=t.mode,u=hn({mode:"visible",children:u.children},e),f=Ra(f,e,a,null),f.flags|=2,u.return=t,f.return=t,u.sibling=f,t.child=u,Ga(t,l.child,null,a),u=t.child,u.memoizedState=Ef(a),u.childLanes=_f(l,i,a),t.memoizedState=Tf,t=ee(null,u));else if(ca(t),nc(f)){if(i=f.nextSibling&&f.nextSibling.dataset,i)var v=i.dgst;i=v,u=Error(y(419)),u.stack="",u.digest=i,Ju({value:u,source:null,stack:null}),t=pf(l,t,a)}else if(pl||cu(l,t,a,!1),i=(a&l.childLanes)!==0,pl||i){if(i=sl,i!==null&&(u=Cc(i,a),u!==0&&u!==c.retryLane))throw c.retryLane=u,Ha(l,u),Il(i,l,u),bf;ec(f)||En(),t=pf(l,t,a)}else ec(f)?(t.flags|=192,t.child=l.child,t=null):(l=c.treeContext,ol=zt(f.nextSibling),ql=t,J=!0,aa=null,St=!1,l!==null&&Hs(t,l),t=Af(t,u.children),t.flags|=4096);return t}return e?(sa(),f=u.fallback,e=t.mode,c=l.child,v=c.sibling,u=Yt(c,{mode:"hidden",children:u.children}),u.subtreeFlags=c.subtreeFlags&65011712,v!==null?f=Yt(v,f):(f=Ra(f,e,a,null),f.flags|=2),f.return=t,u.return=t,u.sibling=f,t.child=u,ee(null,u),u=t.child,f=l.child.memoizedState,f===null?f=Ef(a):(e=f.cachePool,e!==null?(c=_l._currentValue,e=e.parent!==c?{parent:c,pool:c}:e):e=Ys(),f={baseLanes:f.baseLanes|a,cachePool:e}),u.memoizedState=f,u.childLanes=_f(l,i,a),t.memoizedState=Tf,ee(l.child,u)):(ca(t),a=l.child,l=a.sibling,a=Yt(a,{mode:"visible",children:u.children}),a.return=t,a.sibling=null,l!==null&&(i=t.deletions,i===null?(t.deletions=[l],t.flags|=16):i.push(l)),t.child=a,t.memoizedState=null,a)}function Af(l,t){return t=hn({mode:"visible",children:t},l.mode),t.return=l,l.child=t}function hn(l,t){return l=it(22,l,null,t),l.lanes=0,l}function pf(l,t,a){return Ga(t,l.child,null,a),l=Af(t,t.pendingProps.children),l.flags|=2,t.memoizedState=null,l}function k0(l,t,a){l.lanes|=t;var u=l.alternate;u!==null&&(u.lanes|=t),Gi(l.return,t,a)}function Mf(l,t,a,u,e,n){var i=l.memoizedState;i===null?l.memoizedState={isBackwards:t,rendering:null,renderingStartTime:0,last:u,tail:a,tailMode:e,treeForkCount:n}:(i.isBackwards=t,i.rendering=null,i.renderingStartTime=0,i.last=u,i.tail=a,i.tailMode=e,i.treeForkCount=n)}function F0(l,t,a){var u=t.pendingProps,e=u.revealOrder,n=u.tail;u=u.children;var i=zl.current,f=(i&2)!==0;if(f?(i=i&1|2,t.flags|=128):i&=1,M(zl,i),Cl(l,t,u,a),u=J?Ku:0,!f&&l!==null&&(l.flags&128)!==0)l:for(l=t.child;l!==null;){if(l.tag===13)l.memoizedState!==null&&k0(l,a,t);else if(l.tag===19)k0(l,a,t);else if(l.child!==null){l.child.return=l,l=l.child;continue}if(l===t)break l;for(;l.sibling===null;){if(l.return===null||l.return===t)break l;l=l.return}l.sibling.return=l.return,l=l.sibling}switch(e){case"forwards":for(a=t.child,e=null;a!==null;)l=a.alternate,l!==null&&ln(l)===null&&(e=a),a=a.sibling;a=e,a===null?(e=t.child,t.child=null):(e=a.sibling,a.sibling=null),Mf(t,!1,e,a,n,u);break;case"backwards":case"unstable_legacy-backwards":for(a=null,e=t.child,t.child=null;e!==null;){if(l=e.alternate,l!==null&&ln(l)===null){t.child=e;break}l=e.sibling,e.sibling=a,a=e,e=l}Mf(t,!0,a,null,n,u);break;case"together":Mf(t,!1,null,null,void 0,u);break;default:t.memoizedState=null}return t.child}function Vt(l,t,a){if(l!==null&&(t.dependencies=l.dependencies),oa|=t.lanes,(a&t.childLanes)===0)if(l!==null){if(cu(l,t,a,!1),(a&t.childLanes)===0)return null}else return null;if(l!==null&&t.child!==l.child)throw Error(y(153));if(t.child!==null){for(l=t.child,a=Yt(l,l.pendingProps),t.child=a,a.return=t;l.sibling!==null;)l=l.sibling,a=a.sibling=Yt(l,l.pendingProps),a.return=t;a.sibling=null}return t.child}function Of(l,t){return(l.lanes&t)!==0?!0:(l=l.dependencies,!!(l!==null&&Je(l)))}function sh(l,t,a){switch(t.tag){case 3:Gl(t,t.stateNode.containerInfo),ea(t,_l,l.memoizedState.cache),qa();break;case 27:case 5:Nu(t);break;case 4:Gl(t,t.stateNode.containerInfo);break;case 10:ea(t,t.type,t.memoizedProps.value);break;case 31:if(t.memoizedState!==null)return t.flags|=128,Fi(t),null;break;case 13:var u=t.memoizedState;if(u!==null)return u.dehydrated!==null?(ca(t),t.flags|=128,null):(a&t.child.childLanes)!==0?$0(l,t,a):(ca(t),l=Vt(l,t,a),l!==null?l.sibling:null);ca(t);break;case 19:var e=(l.flags&128)!==0;if(u=(a&t.childLanes)!==0,u||(cu(l,t,a,!1),u=(a&t.childLanes)!==0),e){if(u)return F0(l,t,a);t.flags|=128}if(e=t.memoizedState,e!==null&&(e.rendering=null,e.tail=null,e.lastEffect=null),M(zl,zl.current),u)break;return null;case 22:return t.lanes=0,V0(l,t,a,t.pendingProps);case 24:ea(t,_l,l.memoizedState.cache)}return Vt(l,t,a)}function I0(l,t,a){if(l!==null)if(l.memoizedProps!==t.pendingProps)pl=!0;else{if(!Of(l,a)&&(t.flags&128)===0)return pl=!1,sh(l,t,a);pl=(l.flags&131072)!==0}else pl=!1,J&&(t.flags&1048576)!==0&&Ns(t,Ku,t.index);switch(t.lanes=0,t.tag){case 16:l:{var u=t.pendingProps;if(l=Ya(t.elementType),t.type=l,typeof l=="function")Hi(l)?(u=Xa(l,u),t.tag=1,t=w0(null,t,l,u,a)):(t.tag=0,t=zf(null,t,l,u,a));else{if(l!=null){var e=l.$$typeof;if(e===jl){t.tag=11,t=Q0(null,t,l,u,a);break l}else if(e===K){t.tag=14,t=X0(null,t,l,u,a);break l}}throw t=qt(l)||l,Error(y(306,t,""))}}return t;case 0:return zf(l,t,t.type,t.pendingProps,a);case 1:return u=t.type,e=Xa(u,t.pendingProps),w0(l,t,u,e,a);case 3:l:{if(Gl(t,t.stateNode.containerInfo),l===null)throw Error(y(387));u=t.pendingProps;var n=t.memoizedState;e=n.element,Ji(l,t),Pu(t,u,null,a);var i=t.memoizedState;if(u=i.cache,ea(t,_l,u),u!==n.cache&&Qi(t,[_l],a,!0),Iu(),u=i.element,n.isDehydrated)if(n={element:u,isDehydrated:!1,cache:i.cache},t.updateQueue.baseState=n,t.memoizedState=n,t.flags&256){t=W0(l,t,u,a);break l}else if(u!==e){e=mt(Error(y(424)),t),Ju(e),t=W0(l,t,u,a);break l}else for(l=t.stateNode.containerInfo,l.nodeType===9?l=l.body:l=l.nodeName==="HTML"?l.ownerDocument.body:l,ol=zt(l.firstChild),ql=t,J=!0,aa=null,St=!0,a=Vs(t,null,u,a),t.child=a;a;)a.flags=a.flags&-3|4096,a=a.sibling;else{if(qa(),u===e){t=Vt(l,t,a);break l}Cl(l,t,u,a)}t=t.child}return t;case 26:return on(l,t),l===null?(a=sy(t.type,null,t.pendingProps,null))?t.memoizedState=a:J||(a=t.type,l=t.pendingProps,u=Un(Q.current).createElement(a),u[Rl]=t,u[Jl]=l,Bl(u,a,l),Nl(u),t.stateNode=u):t.memoizedState=sy(t.type,l.memoizedProps,t.pendingProps,l.memoizedState),null;case 27:return Nu(t),l===null&&J&&(u=t.stateNode=iy(t.type,t.pendingProps,Q.current),ql=t,St=!0,e=ol,ra(t.type)?(ic=e,ol=zt(u.firstChild)):ol=e),Cl(l,t,t.pendingProps.children,a),on(l,t),l===null&&(t.flags|=4194304),t.child;case 5:return l===null&&J&&((e=u=ol)&&(u=Gh(u,t.type,t.pendingProps,St),u!==null?(t.stateNode=u,ql=t,ol=zt(u.firstChild),St=!1,e=!0):e=!1),e||ua(t)),Nu(t),e=t.type,n=t.pendingProps,i=l!==null?l.memoizedProps:null,u=n.children,tc(e,n)?u=null:i!==null&&tc(e,i)&&(t.flags|=32),t.memoizedState!==null&&(e=Pi(l,t,lh,null,null,a),be._currentValue=e),on(l,t),Cl(l,t,u,a),t.child;case 6:return l===null&&J&&((l=a=ol)&&(a=Qh(a,t.pendingProps,St),a!==null?(t.stateNode=a,ql=t,ol=null,l=!0):l=!1),l||ua(t)),null;case 13:return $0(l,t,a);case 4:return Gl(t,t.stateNode.containerInfo),u=t.pendingProps,l===null?t.child=Ga(t,null,u,a):Cl(l,t,u,a),t.child;case 11:return Q0(l,t,t.type,t.pendingProps,a);case 7:return Cl(l,t,t.pendingProps,a),t.child;case 8:return Cl(l,t,t.pendingProps.children,a),t.child;case 12:return Cl(l,t,t.pendingProps.children,a),t.child;case 10:return u=t.pendingProps,ea(t,t.type,u.value),Cl(l,t,u.children,a),t.child;case 9:return e=t.type._context,u=t.pendingProps.children,Ca(t),e=xl(e),u=u(e),t.flags|=1,Cl(l,t,u,a),t.child;case 14:return X0(l,t,t.type,t.pendingProps,a);case 15:return Z0(l,t,t.type,t.pendingProps,a);case 19:return F0(l,t,a);case 31:return ch(l,t,a);case 22:return V0(l,t,a,t.pendingProps);case 24:return Ca(t),u=xl(_l),l===null?(e=Vi(),e===null&&(e=sl,n=Xi(),e.pooledCache=n,n.refCount++,n!==null&&(e.pooledCacheLanes|=a),e=n),t.memoizedState={parent:u,cache:e},Ki(t),ea(t,_l,e)):((l.lanes&a)!==0&&(Ji(l,t),Pu(t,null,null,a),Iu()),e=l.memoizedState,n=t.memoizedState,e.parent!==u?(e={parent:u,cache:u},t.memoizedState=e,t.lanes===0&&(t.memoizedState=t.updateQueue.baseState=e),ea(t,_l,u)):(u=n.cache,ea(t,_l,u),u!==e.cache&&Qi(t,[_l],a,!0))),Cl(l,t,t.pendingProps.children,a),t.child;case 29:throw t.pendingProps}throw Error(y(156,t.tag))}function Lt(l){l.flags|=4}function Df(l,t,a,u,e){if((t=(l.mode&32)!==0)&&(t=!1),t){if(l.flags|=16777216,(e&335544128)===e)if(l.stateNode.complete)l.flags|=8192;else if(pd())l.flags|=8192;else throw ja=ke,Li}else l.flags&=-16777217}function P0(l,t){if(t.type!=="stylesheet"||(t.state.loading&4)!==0)l.flags&=-16777217;else if(l.flags|=16777216,!vy(t))if(pd())l.flags|=8192;else throw ja=ke,Li}function vn(l,t){t!==null&&(l.flags|=4),l.flags&16384&&(t=l.tag!==22?Rc():536870912,l.lanes|=t,zu|=t)}function ne(l,t){if(!J)switch(l.tailMode){case"hidden":t=l.tail;for(var a=null;t!==null;)t.alternate!==null&&(a=t),t=t.sibling;a===null?l.tail=null:a.sibling=null;break;case"collapsed":a=l.tail;for(var u=null;a!==null;)a.alternate!==null&&(u=a),a=a.sibling;u===null?t||l.tail===null?l.tail=null:l.tail.sibling=null:u.sibling=null}}function hl(l){var t=l.alternate!==null&&l.alternate.child===l.child,a=0,u=0;if(t)for(var e=l.child;e!==null;)a|=e.lanes|e.childLanes,u|=e.subtreeFlags&65011712,u|=e.flags&65011712,e.return=l,e=e.sibling;else for(e=l.child;e!==null;)a|=e.lanes|e.childLanes,u|=e.subtreeFlags,u|=e.flags,e.return=l,e=e.sibling;return l.subtreeFlags|=u,l.childLanes=a,t}function dh(l,t,a){var u=t.pendingProps;switch(Ci(t),t.tag){case 16:case 15:case 0:case 11:case 7:case 8:case 12:case 9:case 14:return hl(t),null;case 1:return hl(t),null;case 3:return a=t.stateNode,u=null,l!==null&&(u=l.memoizedState.cache),t.memoizedState.cache!==u&&(t.flags|=2048),Qt(_l),bl(),a.pendingContext&&(a.context=a.pendingContext,a.pendingContext=null),(l===null||l.child===null)&&(fu(t)?Lt(t):l===null||l.memoizedState.isDehydrated&&(t.flags&256)===0||(t.flags|=1024,Yi())),hl(t),null;case 26:var e=t.type,n=t.memoizedState;return l===null?(Lt(t),n!==null?(hl(t),P0(t,n)):(hl(t),Df(t,e,null,u,a))):n?n!==l.memoizedState?(Lt(t),hl(t),P0(t,n)):(hl(t),t.flags&=-16777217):(l=l.memoizedProps,l!==u&&Lt(t),hl(t),Df(t,e,l,u,a)),null;case 27:if(Ae(t),a=Q.current,e=t.type,l!==null&&t.stateNode!=null)l.memoizedProps!==u&&Lt(t);else{if(!u){if(t.stateNode===null)throw Error(y(166));return hl(t),null}l=D.current,fu(t)?Rs(t):(l=iy(e,u,a),t.stateNode=l,Lt(t))}return hl(t),null;case 5:if(Ae(t),e=t.type,l!==null&&t.stateNode!=null)l.memoizedProps!==u&&Lt(t);else{if(!u){if(t.stateNode===null)throw Error(y(166));return hl(t),null}if(n=D.current,fu(t))Rs(t);else{var i=Un(Q.current);switch(n){case 1:n=i.createElementNS("http://www.w3.org/2000/svg",e);break;case 2:n=i.createElementNS("http://www.w3.org/1998/Math/MathML",e);break;default:switch(e){case"svg":n=i.createElementNS("http://www.w3.org/2000/svg",e);break;case"math":n=i.createElementNS("http://www.w3.org/1998/Math/MathML",e);break;case"script":n=i.createElement("div"),n.innerHTML="<script><\/script>",n=n.removeChild(n.firstChild);break;case"select":n=typeof u.is=="string"?i.createElement("select",{is:u.is}):i.createElement("select"),u.multiple?n.multiple=!0:u.size&&(n.size=u.size);break;default:n=typeof u.is=="string"?i.createElement(e,{is:u.is}):i.createElement(e)}}n[Rl]=t,n[Jl]=u;l:for(i=t.child;i!==null;){if(i.tag===5||i.tag===6)n.appendChild(i.stateNode);else if(i.tag!==4&&i.tag!==27&&i.child!==null){i.child.return=i,i=i.child;continue}if(i===t)break l;for(;i.sibling===null;){if(i.return===null||i.return===t)break l;i=i.return}i.sibling.return=i.return,i=i.sibling}t.stateNode=n;l:switch(Bl(n,e,u),e){case"button":case"input":case"select":case"textarea":u=!!u.autoFocus;break l;case"img":u=!0;break l;default:u=!1}u&&Lt(t)}}return hl(t),Df(t,t.type,l===null?null:l.memoizedProps,t.pendingProps,a),null;case 6:if(l&&t.stateNode!=null)l.memoizedProps!==u&&Lt(t);else{if(typeof u!="string"&&t.stateNode===null)throw Error(y(166));if(l=Q.current,fu(t)){if(l=t.stateNode,a=t.memoizedProps,u=null,e=ql,e!==null)switch(e.tag){case 27:case 5:u=e.memoizedProps}l[Rl]=t,l=!!(l.nodeValue===a||u!==null&&u.suppressHydrationWarning===!0||$d(l.nodeValue,a)),l||ua(t,!0)}else l=Un(l).createTextNode(u),l[Rl]=t,t.stateNode=l}return hl(t),null;case 31:if(a=t.memoizedState,l===null||l.memoizedState!==null){if(u=fu(t),a!==null){if(l===null){if(!u)throw Error(y(318));if(l=t.memoizedState,l=l!==null?l.dehydrated:null,!l)throw Error(y(557));l[Rl]=t}else qa(),(t.flags&128)===0&&(t.memoizedState=null),t.flags|=4;hl(t),l=!1}else a=Yi(),l!==null&&l.memoizedState!==null&&(l.memoizedState.hydrationErrors=a),l=!0;if(!l)return t.flags&256?(ct(t),t):(ct(t),null);if((t.flags&128)!==0)throw Error(y(558))}return hl(t),null;case 13:if(u=t.memoizedState,l===null||l.memoizedState!==null&&l.memoizedState.dehydrated!==null){if(e=fu(t),u!==null&&u.dehydrated!==null){if(l===null){if(!e)throw Error(y(318));if(e=t.memoizedState,e=e!==null?e.dehydrated:null,!e)throw Error(y(317));e[Rl]=t}else qa(),(t.flags&128)===0&&(t.memoizedState=null),t.flags|=4;hl(t),e=!1}else e=Yi(),l!==null&&l.memoizedState!==null&&(l.memoizedState.hydrationErrors=e),e=!0;if(!e)return t.flags&256?(ct(t),t):(ct(t),null)}return ct(t),(t.flags&128)!==0?(t.lanes=a,t):(a=u!==null,l=l!==null&&l.memoizedState!==null,a&&(u=t.child,e=null,u.alternate!==null&&u.alternate.memoizedState!==null&&u.alternate.memoizedState.cachePool!==null&&(e=u.alternate.memoizedState.cachePool.pool),n=null,u.memoizedState!==null&&u.memoizedState.cachePool!==null&&(n=u.memoizedState.cachePool.pool),n!==e&&(u.flags|=2048)),a!==l&&a&&(t.child.flags|=8192),vn(t,t.updateQueue),hl(t),null);case 4:return bl(),l===null&&kf(t.stateNode.containerInfo),hl(t),null;case 10:return Qt(t.type),hl(t),null;case 19:if(T(zl),u=t.memoizedState,u===null)return hl(t),null;if(e=(t.flags&128)!==0,n=u.rendering,n===null)if(e)ne(u,!1);else{if(Sl!==0||l!==null&&(l.flags&128)!==0)for(l=t.child;l!==null;){if(n=ln(l),n!==null){for(t.flags|=128,ne(u,!1),l=n.updateQueue,t.updateQueue=l,vn(t,l),t.subtreeFlags=0,l=a,a=t.child;a!==null;)Os(a,l),a=a.sibling;return M(zl,zl.current&1|2),J&&jt(t,u.treeForkCount),t.child}l=l.sibling}u.tail!==null&&at()>bn&&(t.flags|=128,e=!0,ne(u,!1),t.lanes=4194304)}else{if(!e)if(l=ln(n),l!==null){if(t.flags|=128,e=!0,l=l.updateQueue,t.updateQueue=l,vn(t,l),ne(u,!0),u.tail===null&&u.tailMode==="hidden"&&!n.alternate&&!J)return hl(t),null}else 2*at()-u.renderingStartTime>bn&&a!==536870912&&(t.flags|=128,e=!0,ne(u,!1),t.lanes=4194304);u.isBackwards?(n.sibling=t.child,t.child=n):(l=u.last,l!==null?l.sibling=n:t.child=n,u.last=n)}return u.tail!==null?(l=u.tail,u.rendering=l,u.tail=l.sibling,u.renderingStartTime=at(),l.sibling=null,a=zl.current,M(zl,e?a&1|2:a&1),J&&jt(t,u.treeForkCount),l):(hl(t),null);case 22:case 23:return ct(t),ki(),u=t.memoizedState!==null,l!==null?l.memoizedState!==null!==u&&(t.flags|=8192):u&&(t.flags|=8192),u?(a&536870912)!==0&&(t.flags&128)===0&&(hl(t),t.subtreeFlags&6&&(t.flags|=8192)):hl(t),a=t.updateQueue,a!==null&&vn(t,a.retryQueue),a=null,l!==null&&l.memoizedState!==null&&l.memoizedState.cachePool!==null&&(a=l.memoizedState.cachePool.pool),u=null,t.memoizedState!==null&&t.memoizedState.cachePool!==null&&(u=t.memoizedState.cachePool.pool),u!==a&&(t.flags|=2048),l!==null&&T(Ba),null;case 24:return a=null,l!==null&&(a=l.memoizedState.cache),t.memoizedState.cache!==a&&(t.flags|=2048),Qt(_l),hl(t),null;case 25:return null;case 30:return null}throw Error(y(156,t.tag))}function yh(l,t){switch(Ci(t),t.tag){case 1:return l=t.flags,l&65536?(t.flags=l&-65537|128,t):null;case 3:return Qt(_l),bl(),l=t.flags,(l&65536)!==0&&(l&128)===0?(t.flags=l&-65537|128,t):null;case 26:case 27:case 5:return Ae(t),null;case 31:if(t.memoizedState!==null){if(ct(t),t.alternate===null)throw Error(y(340));qa()}return l=t.flags,l&65536?(t.flags=l&-65537|128,t):null;case 13:if(ct(t),l=t.memoizedState,l!==null&&l.dehydrated!==null){if(t.alternate===null)throw Error(y(340));qa()}return l=t.flags,l&65536?(t.flags=l&-65537|128,t):null;case 19:return T(zl),null;case 4:return bl(),null;case 10:return Qt(t.type),null;case 22:case 23:return ct(t),ki(),l!==null&&T(Ba),l=t.flags,l&65536?(t.flags=l&-65537|128,t):null;case 24:return Qt(_l),null;case 25:return null;default:return null}}function ld(l,t){switch(Ci(t),t.tag){case 3:Qt(_l),bl();break;case 26:case 27:case 5:Ae(t);break;case 4:bl();break;case 31:t.memoizedState!==null&&ct(t);break;case 13:ct(t);break;case 19:T(zl);break;case 10:Qt(t.type);break;case 22:case 23:ct(t),ki(),l!==null&&T(Ba);break;case 24:Qt(_l)}}function ie(l,t){try{var a=t.updateQueue,u=a!==null?a.lastEffect:null;if(u!==null){var e=u.next;a=e;do{if((a.tag&l)===l){u=void 0;var n=a.create,i=a.inst;u=n(),i.destroy=u}a=a.next}while(a!==e)}}catch(f){tl(t,t.return,f)}}function da(l,t,a){try{var u=t.updateQueue,e=u!==null?u.lastEffect:null;if(e!==null){var n=e.next;u=n;do{if((u.tag&l)===l){var i=u.inst,f=i.destroy;if(f!==void 0){i.destroy=void 0,e=t;var c=a,v=f;try{v()}catch(r){tl(e,c,r)}}}u=u.next}while(u!==n)}}catch(r){tl(t,t.return,r)}}function td(l){var t=l.updateQueue;if(t!==null){var a=l.stateNode;try{Ks(t,a)}catch(u){tl(l,l.return,u)}}}function ad(l,t,a){a.props=Xa(l.type,l.memoizedProps),a.state=l.memoizedState;try{a.componentWillUnmount()}catch(u){tl(l,t,u)}}function fe(l,t){try{var a=l.ref;if(a!==null){switch(l.tag){case 26:case 27:case 5:var u=l.stateNode;break;case 30:u=l.stateNode;break;default:u=l.stateNode}typeof a=="function"?l.refCleanup=a(u):a.current=u}}catch(e){tl(l,t,e)}}function Nt(l,t){var a=l.ref,u=l.refCleanup;if(a!==null)if(typeof u=="function")try{u()}catch(e){tl(l,t,e)}finally{l.refCleanup=null,l=l.alternate,l!=null&&(l.refCleanup=null)}else if(typeof a=="function")try{a(null)}catch(e){tl(l,t,e)}else a.current=null}function ud(l){var t=l.type,a=l.memoizedProps,u=l.stateNode;try{l:switch(t){case"button":case"input":case"select":case"textarea":a.autoFocus&&u.focus();break l;case"img":a.src?u.src=a.src:a.srcSet&&(u.srcset=a.srcSet)}}catch(e){tl(l,l.return,e)}}function Uf(l,t,a){try{var u=l.stateNode;qh(u,l.type,a,t),u[Jl]=t}catch(e){tl(l,l.return,e)}}function ed(l){return l.tag===5||l.tag===3||l.tag===26||l.tag===27&&ra(l.type)||l.tag===4}function Nf(l){l:for(;;){for(;l.sibling===null;){if(l.return===null||ed(l.return))return null;l=l.return}for(l.sibling.return=l.return,l=l.sibling;l.tag!==5&&l.tag!==6&&l.tag!==18;){if(l.tag===27&&ra(l.type)||l.flags&2||l.child===null||l.tag===4)continue l;l.child.return=l,l=l.child}if(!(l.flags&2))return l.stateNode}}function Hf(l,t,a){var u=l.tag;if(u===5||u===6)l=l.stateNode,t?(a.nodeType===9?a.body:a.nodeName==="HTML"?a.ownerDocument.body:a).insertBefore(l,t):(t=a.nodeType===9?a.body:a.nodeName==="HTML"?a.ownerDocument.body:a,t.appendChild(l),a=a._reactRootContainer,a!=null||t.onclick!==null||(t.onclick=Ct));else if(u!==4&&(u===27&&ra(l.type)&&(a=l.stateNode,t=null),l=l.child,l!==null))for(Hf(l,t,a),l=l.sibling;l!==null;)Hf(l,t,a),l=l.sibling}function mn(l,t,a){var u=l.tag;if(u===5||u===6)l=l.stateNode,t?a.insertBefore(l,t):a.appendChild(l);else if(u!==4&&(u===27&&ra(l.type)&&(a=l.stateNode),l=l.child,l!==null))for(mn(l,t,a),l=l.sibling;l!==null;)mn(l,t,a),l=l.sibling}function nd(l){var t=l.stateNode,a=l.memoizedProps;try{for(var u=l.type,e=t.attributes;e.length;)t.removeAttributeNode(e[0]);Bl(t,u,a),t[Rl]=l,t[Jl]=a}catch(n){tl(l,l.return,n)}}var Kt=!1,Ml=!1,Rf=!1,id=typeof WeakSet=="function"?WeakSet:Set,Hl=null;function oh(l,t){if(l=l.containerInfo,Pf=Bn,l=Ss(l),Ai(l)){if("selectionStart"in l)var a={start:l.selectionStart,end:l.selectionEnd};else l:{a=(a=l.ownerDocument)&&a.defaultView||window;var u=a.getSelection&&a.getSelection();if(u&&u.rangeCount!==0){a=u.anchorNode;var e=u.anchorOffset,n=u.focusNode;u=u.focusOffset;try{a.nodeType,n.nodeType}catch(x){a=null;break l}var i=0,f=-1,c=-1,v=0,r=0,z=l,m=null;t:for(;;){for(var g;z!==a||e!==0&&z.nodeType!==3||(f=i+e),z!==n||u!==0&&z.nodeType!==3||(c=i+u),z.nodeType===3&&(i+=z.nodeValue.length),(g=z.firstChild)!==null;)m=z,z=g;for(;;){if(z===l)break t;if(m===a&&++v===e&&(f=i),m===n&&++r===u&&(c=i),(g=z.nextSibling)!==null)break;z=m,m=z.parentNode}z=g}a=f===-1||c===-1?null:{start:f,end:c}}else a=null}a=a||{start:0,end:0}}else a=null;for(lc={focusedElem:l,selectionRange:a},Bn=!1,Hl=t;Hl!==null;)if(t=Hl,l=t.child,(t.subtreeFlags&1028)!==0&&l!==null)l.return=t,Hl=l;else for(;Hl!==null;){switch(t=Hl,n=t.alternate,l=t.flags,t.tag){case 0:if((l&4)!==0&&(l=t.updateQueue,l=l!==null?l.events:null,l!==null))for(a=0;a<l.length;a++)e=l[a],e.ref.impl=e.nextImpl;break;case 11:case 15:break;case 1:if((l&1024)!==0&&n!==null){l=void 0,a=t,e=n.memoizedProps,n=n.memoizedState,u=a.stateNode;try{var O=Xa(a.type,e);l=u.getSnapshotBeforeUpdate(O,n),u.__reactInternalSnapshotBeforeUpdate=l}catch(x){tl(a,a.return,x)}}break;case 3:if((l&1024)!==0){if(l=t.stateNode.containerInfo,a=l.nodeType,a===9)uc(l);else if(a===1)switch(l.nodeName){case"HEAD":case"HTML":case"BODY":uc(l);break;default:l.textContent=""}}break;case 5:case 26:case 27:case 6:case 4:case 17:break;default:if((l&1024)!==0)throw Error(y(163))}if(l=t.sibling,l!==null){l.return=t.return,Hl=l;break}Hl=t.return}}function fd(l,t,a){var u=a.flags;switch(a.tag){case 0:case 11:case 15:wt(l,a),u&4&&ie(5,a);break;case 1:if(wt(l,a),u&4)if(l=a.stateNode,t===null)try{l.componentDidMount()}catch(i){tl(a,a.return,i)}else{var e=Xa(a.type,t.memoizedProps);t=t.memoizedState;try{l.componentDidUpdate(e,t,l.__reactInternalSnapshotBeforeUpdate)}catch(i){tl(a,a.return,i)}}u&64&&td(a),u&512&&fe(a,a.return);break;case 3:if(wt(l,a),u&64&&(l=a.updateQueue,l!==null)){if(t=null,a.child!==null)switch(a.child.tag){case 27:case 5:t=a.child.stateNode;break;case 1:t=a.child.stateNode}try{Ks(l,t)}catch(i){tl(a,a.return,i)}}break;case 27:t===null&&u&4&&nd(a);case 26:case 5:wt(l,a),t===null&&u&4&&ud(a),u&512&&fe(a,a.return);break;case 12:wt(l,a);break;case 31:wt(l,a),u&4&&dd(l,a);break;case 13:wt(l,a),u&4&&yd(l,a),u&64&&(l=a.memoizedState,l!==null&&(l=l.dehydrated,l!==null&&(a=Th.bind(null,a),Xh(l,a))));break;case 22:if(u=a.memoizedState!==null||Kt,!u){t=t!==null&&t.memoizedState!==null||Ml,e=Kt;var n=Ml;Kt=u,(Ml=t)&&!n?Wt(l,a,(a.subtreeFlags&8772)!==0):wt(l,a),Kt=e,Ml=n}break;case 30:break;default:wt(l,a)}}function cd(l){var t=l.alternate;t!==null&&(l.alternate=null,cd(t)),l.child=null,l.deletions=null,l.sibling=null,l.tag===5&&(t=l.stateNode,t!==null&&fi(t)),l.stateNode=null,l.return=null,l.dependencies=null,l.memoizedProps=null,l.memoizedState=null,l.pendingProps=null,l.stateNode=null,l.updateQueue=null}var vl=null,Wl=!1;function Jt(l,t,a){for(a=a.child;a!==null;)sd(l,t,a),a=a.sibling}function sd(l,t,a){if(ut&&typeof ut.onCommitFiberUnmount=="function")try{ut.onCommitFiberUnmount(Hu,a)}catch(n){}switch(a.tag){case 26:Ml||Nt(a,t),Jt(l,t,a),a.memoizedState?a.memoizedState.count--:a.stateNode&&(a=a.stateNode,a.parentNode.removeChild(a));break;case 27:Ml||Nt(a,t);var u=vl,e=Wl;ra(a.type)&&(vl=a.stateNode,Wl=!1),Jt(l,t,a),ge(a.stateNode),vl=u,Wl=e;break;case 5:Ml||Nt(a,t);case 6:if(u=vl,e=Wl,vl=null,Jt(l,t,a),vl=u,Wl=e,vl!==null)if(Wl)try{(vl.nodeType===9?vl.body:vl.nodeName==="HTML"?vl.ownerDocument.body:vl).removeChild(a.stateNode)}catch(n){tl(a,t,n)}else try{vl.removeChild(a.stateNode)}catch(n){tl(a,t,n)}break;case 18:vl!==null&&(Wl?(l=vl,ty(l.nodeType===9?l.body:l.nodeName==="HTML"?l.ownerDocument.body:l,a.stateNode),Du(l)):ty(vl,a.stateNode));break;case 4:u=vl,e=Wl,vl=a.stateNode.containerInfo,Wl=!0,Jt(l,t,a),vl=u,Wl=e;break;case 0:case 11:case 14:case 15:da(2,a,t),Ml||da(4,a,t),Jt(l,t,a);break;case 1:Ml||(Nt(a,t),u=a.stateNode,typeof u.componentWillUnmount=="function"&&ad(a,t,u)),Jt(l,t,a);break;case 21:Jt(l,t,a);break;case 22:Ml=(u=Ml)||a.memoizedState!==null,Jt(l,t,a),Ml=u;break;default:Jt(l,t,a)}}function dd(l,t){if(t.memoizedState===null&&(l=t.alternate,l!==null&&(l=l.memoizedState,l!==null))){l=l.dehydrated;try{Du(l)}catch(a){tl(t,t.return,a)}}}function yd(l,t){if(t.memoizedState===null&&(l=t.alternate,l!==null&&(l=l.memoizedState,l!==null&&(l=l.dehydrated,l!==null))))try{Du(l)}catch(a){tl(t,t.return,a)}}function hh(l){switch(l.tag){case 31:case 13:case 19:var t=l.stateNode;return t===null&&(t=l.stateNode=new id),t;case 22:return l=l.stateNode,t=l._retryCache,t===null&&(t=l._retryCache=new id),t;default:throw Error(y(435,l.tag))}}function gn(l,t){var a=hh(l);t.forEach(function(u){if(!a.has(u)){a.add(u);var e=Eh.bind(null,l,u);u.then(e,e)}})}function $l(l,t){var a=t.deletions;if(a!==null)for(var u=0;u<a.length;u++){var e=a[u],n=l,i=t,f=i;l:for(;f!==null;){switch(f.tag){case 27:if(ra(f.type)){vl=f.stateNode,Wl=!1;break l}break;case 5:vl=f.stateNode,Wl=!1;break l;case 3:case 4:vl=f.stateNode.containerInfo,Wl=!0;break l}f=f.return}if(vl===null)throw Error(y(160));sd(n,i,e),vl=null,Wl=!1,n=e.alternate,n!==null&&(n.return=null),e.return=null}if(t.subtreeFlags&13886)for(t=t.child;t!==null;)od(t,l),t=t.sibling}var At=null;function od(l,t){var a=l.alternate,u=l.flags;switch(l.tag){case 0:case 11:case 14:case 15:$l(t,l),kl(l),u&4&&(da(3,l,l.return),ie(3,l),da(5,l,l.return));break;case 1:$l(t,l),kl(l),u&512&&(Ml||a===null||Nt(a,a.return)),u&64&&Kt&&(l=l.updateQueue,l!==null&&(u=l.callbacks,u!==null&&(a=l.shared.hiddenCallbacks,l.shared.hiddenCallbacks=a===null?u:a.concat(u))));break;case 26:var e=At;if($l(t,l),kl(l),u&512&&(Ml||a===null||Nt(a,a.return)),u&4){var n=a!==null?a.memoizedState:null;if(u=l.memoizedState,a===null)if(u===null)if(l.stateNode===null){l:{u=l.type,a=l.memoizedProps,e=e.ownerDocument||e;t:switch(u){case"title":n=e.getElementsByTagName("title")[0],(!n||n[xu]||n[Rl]||n.namespaceURI==="http://www.w3.org/2000/svg"||n.hasAttribute("itemprop"))&&(n=e.createElement(u),e.head.insertBefore(n,e.querySelector("head > title"))),Bl(n,u,a),n[Rl]=l,Nl(n),u=n;break l;case"link":var i=oy("link","href",e).get(u+(a.href||""));if(i){for(var f=0;f<i.length;f++)if(n=i[f],n.getAttribute("href")===(a.href==null||a.href===""?null:a.href)&&n.getAttribute("rel")===(a.rel==null?null:a.rel)&&n.getAttribute("title")===(a.title==null?null:a.title)&&n.getAttribute("crossorigin")===(a.crossOrigin==null?null:a.crossOrigin)){i.splice(f,1);break t}}n=e.createElement(u),Bl(n,u,a),e.head.appendChild(n);break;case"meta":if(i=oy("meta","content",e).get(u+(a.content||""))){for(f=0;f<i.length;f++)if(n=i[f],n.getAttribute("content")===(a.content==null?null:""+a.content)&&n.getAttribute("name")===(a.name==null?null:a.name)&&n.getAttribute("property")===(a.property==null?null:a.property)&&n.getAttribute("http-equiv")===(a.httpEquiv==null?null:a.httpEquiv)&&n.getAttribute("charset")===(a.charSet==null?null:a.charSet)){i.splice(f,1);break t}}n=e.createElement(u),Bl(n,u,a),e.head.appendChild(n);break;default:throw Error(y(468,u))}n[Rl]=l,Nl(n),u=n}l.stateNode=u}else hy(e,l.type,l.stateNode);else l.stateNode=yy(e,u,l.memoizedProps);else n!==u?(n===null?a.stateNode!==null&&(a=a.stateNode,a.parentNode.removeChild(a)):n.count--,u===null?hy(e,l.type,l.stateNode):yy(e,u,l.memoizedProps)):u===null&&l.stateNode!==null&&Uf(l,l.memoizedProps,a.memoizedProps)}break;case 27:$l(t,l),kl(l),u&512&&(Ml||a===null||Nt(a,a.return)),a!==null&&u&4&&Uf(l,l.memoizedProps,a.memoizedProps);break;case 5:if($l(t,l),kl(l),u&512&&(Ml||a===null||Nt(a,a.return)),l.flags&32){e=l.stateNode;try{Fa(e,"")}catch(O){tl(l,l.return,O)}}u&4&&l.stateNode!=null&&(e=l.memoizedProps,Uf(l,e,a!==null?a.memoizedProps:e)),u&1024&&(Rf=!0);break;case 6:if($l(t,l),kl(l),u&4){if(l.stateNode===null)throw Error(y(162));u=l.memoizedProps,a=l.stateNode;try{a.nodeValue=u}catch(O){tl(l,l.return,O)}}break;case 3:if(Rn=null,e=At,At=Nn(t.containerInfo),$l(t,l),At=e,kl(l),u&4&&a!==null&&a.memoizedState.isDehydrated)try{Du(t.containerInfo)}catch(O){tl(l,l.return,O)}Rf&&(Rf=!1,hd(l));break;case 4:u=At,At=Nn(l.stateNode.containerInfo),$l(t,l),kl(l),At=u;break;case 12:$l(t,l),kl(l);break;case 31:$l(t,l),kl(l),u&4&&(u=l.updateQueue,u!==null&&(l.updateQueue=null,gn(l,u)));break;case 13:$l(t,l),kl(l),l.child.flags&8192&&l.memoizedState!==null!=(a!==null&&a.memoizedState!==null)&&(Sn=at()),u&4&&(u=l.updateQueue,u!==null&&(l.updateQueue=null,gn(l,u)));break;case 22:e=l.memoizedState!==null;var c=a!==null&&a.memoizedState!==null,v=Kt,r=Ml;if(Kt=v||e,Ml=r||c,$l(t,l),Ml=r,Kt=v,kl(l),u&8192)l:for(t=l.stateNode,t._visibility=e?t._visibility&-2:t._visibility|1,e&&(a===null||c||Kt||Ml||Za(l)),a=null,t=l;;){if(t.tag===5||t.tag===26){if(a===null){c=a=t;try{if(n=c.stateNode,e)i=n.style,typeof i.setProperty=="function"?i.setProperty("display","none","important"):i.display="none";else{f=c.stateNode;var z=c.memoizedProps.style,m=z!=null&&z.hasOwnProperty("display")?z.display:null;f.style.display=m==null||typeof m=="boolean"?"":(""+m).trim()}}catch(O){tl(c,c.return,O)}}}else if(t.tag===6){if(a===null){c=t;try{c.stateNode.nodeValue=e?"":c.memoizedProps}catch(O){tl(c,c.return,O)}}}else if(t.tag===18){if(a===null){c=t;try{var g=c.stateNode;e?ay(g,!0):ay(c.stateNode,!1)}catch(O){tl(c,c.return,O)}}}else if((t.tag!==22&&t.tag!==23||t.memoizedState===null||t===l)&&t.child!==null){t.child.return=t,t=t.child;continue}if(t===l)break l;for(;t.sibling===null;){if(t.return===null||t.return===l)break l;a===t&&(a=null),t=t.return}a===t&&(a=null),t.sibling.return=t.return,t=t.sibling}u&4&&(u=l.updateQueue,u!==null&&(a=u.retryQueue,a!==null&&(u.retryQueue=null,gn(l,a))));break;case 19:$l(t,l),kl(l),u&4&&(u=l.updateQueue,u!==null&&(l.updateQueue=null,gn(l,u)));break;case 30:break;case 21:break;default:$l(t,l),kl(l)}}function kl(l){var t=l.flags;if(t&2){try{for(var a,u=l.return;u!==null;){if(ed(u)){a=u;break}u=u.return}if(a==null)throw Error(y(160));switch(a.tag){case 27:var e=a.stateNode,n=Nf(l);mn(l,n,e);break;case 5:var i=a.stateNode;a.flags&32&&(Fa(i,""),a.flags&=-33);var f=Nf(l);mn(l,f,i);break;case 3:case 4:var c=a.stateNode.containerInfo,v=Nf(l);Hf(l,v,c);break;default:throw Error(y(161))}}catch(r){tl(l,l.return,r)}l.flags&=-3}t&4096&&(l.flags&=-4097)}function hd(l){if(l.subtreeFlags&1024)for(l=l.child;l!==null;){var t=l;hd(t),t.tag===5&&t.flags&1024&&t.stateNode.reset(),l=l.sibling}}function wt(l,t){if(t.subtreeFlags&8772)for(t=t.child;t!==null;)fd(l,t.alternate,t),t=t.sibling}function Za(l){for(l=l.child;l!==null;){var t=l;switch(t.tag){case 0:case 11:case 14:case 15:da(4,t,t.return),Za(t);break;case 1:Nt(t,t.return);var a=t.stateNode;typeof a.componentWillUnmount=="function"&&ad(t,t.return,a),Za(t);break;case 27:ge(t.stateNode);case 26:case 5:Nt(t,t.return),Za(t);break;case 22:t.memoizedState===null&&Za(t);break;case 30:Za(t);break;default:Za(t)}l=l.sibling}}function Wt(l,t,a){for(a=a&&(t.subtreeFlags&8772)!==0,t=t.child;t!==null;){var u=t.alternate,e=l,n=t,i=n.flags;switch(n.tag){case 0:case 11:case 15:Wt(e,n,a),ie(4,n);break;case 1:if(Wt(e,n,a),u=n,e=u.stateNode,typeof e.componentDidMount=="function")try{e.componentDidMount()}catch(v){tl(u,u.return,v)}if(u=n,e=u.updateQueue,e!==null){var f=u.stateNode;try{var c=e.shared.hiddenCallbacks;if(c!==null)for(e.shared.hiddenCallbacks=null,e=0;e<c.length;e++)Ls(c[e],f)}catch(v){tl(u,u.return,v)}}a&&i&64&&td(n),fe(n,n.return);break;case 27:nd(n);case 26:case 5:Wt(e,n,a),a&&u===null&&i&4&&ud(n),fe(n,n.return);break;case 12:Wt(e,n,a);break;case 31:Wt(e,n,a),a&&i&4&&dd(e,n);break;case 13:Wt(e,n,a),a&&i&4&&yd(e,n);break;case 22:n.memoizedState===null&&Wt(e,n,a),fe(n,n.return);break;case 30:break;default:Wt(e,n,a)}t=t.sibling}}function qf(l,t){var a=null;l!==null&&l.memoizedState!==null&&l.memoizedState.cachePool!==null&&(a=l.memoizedState.cachePool.pool),l=null,t.memoizedState!==null&&t.memoizedState.cachePool!==null&&(l=t.memoizedState.cachePool.pool),l!==a&&(l!=null&&l.refCount++,a!=null&&wu(a))}function xf(l,t){l=null,t.alternate!==null&&(l=t.alternate.memoizedState.cache),t=t.memoizedState.cache,t!==l&&(t.refCount++,l!=null&&wu(l))}function pt(l,t,a,u){if(t.subtreeFlags&10256)for(t=t.child;t!==null;)vd(l,t,a,u),t=t.sibling}function vd(l,t,a,u){var e=t.flags;switch(t.tag){case 0:case 11:case 15:pt(l,t,a,u),e&2048&&ie(9,t);break;case 1:pt(l,t,a,u);break;case 3:pt(l,t,a,u),e&2048&&(l=null,t.alternate!==null&&(l=t.alternate.memoizedState.cache),t=t.memoizedState.cache,t!==l&&(t.refCount++,l!=null&&wu(l)));break;case 12:if(e&2048){pt(l,t,a,u),l=t.stateNode;try{var n=t.memoizedProps,i=n.id,f=n.onPostCommit;typeof f=="function"&&f(i,t.alternate===null?"mount":"update",l.passiveEffectDuration,-0)}catch(c){tl(t,t.return,c)}}else pt(l,t,a,u);break;case 31:pt(l,t,a,u);break;case 13:pt(l,t,a,u);break;case 23:break;case 22:n=t.stateNode,i=t.alternate,t.memoizedState!==null?n._visibility&2?pt(l,t,a,u):ce(l,t):n._visibility&2?pt(l,t,a,u):(n._visibility|=2,ru(l,t,a,u,(t.subtreeFlags&10256)!==0||!1)),e&2048&&qf(i,t);break;case 24:pt(l,t,a,u),e&2048&&xf(t.alternate,t);break;default:pt(l,t,a,u)}}function ru(l,t,a,u,e){for(e=e&&((t.subtreeFlags&10256)!==0||!1),t=t.child;t!==null;){var n=l,i=t,f=a,c=u,v=i.flags;switch(i.tag){case 0:case 11:case 15:ru(n,i,f,c,e),ie(8,i);break;case 23:break;case 22:var r=i.stateNode;i.memoizedState!==null?r._visibility&2?ru(n,i,f,c,e):ce(n,i):(r._visibility|=2,ru(n,i,f,c,e)),e&&v&2048&&qf(i.alternate,i);break;case 24:ru(n,i,f,c,e),e&&v&2048&&xf(i.alternate,i);break;default:ru(n,i,f,c,e)}t=t.sibling}}function ce(l,t){if(t.subtreeFlags&10256)for(t=t.child;t!==null;){var a=l,u=t,e=u.flags;switch(u.tag){case 22:ce(a,u),e&2048&&qf(u.alternate,u);break;case 24:ce(a,u),e&2048&&xf(u.alternate,u);break;default:ce(a,u)}t=t.sibling}}var se=8192;function Su(l,t,a){if(l.subtreeFlags&se)for(l=l.child;l!==null;)md(l,t,a),l=l.sibling}function md(l,t,a){switch(l.tag){case 26:Su(l,t,a),l.flags&se&&l.memoizedState!==null&&Ph(a,At,l.memoizedState,l.memoizedProps);break;case 5:Su(l,t,a);break;case 3:case 4:var u=At;At=Nn(l.stateNode.containerInfo),Su(l,t,a),At=u;break;case 22:l.memoizedState===null&&(u=l.alternate,u!==null&&u.memoizedState!==null?(u=se,se=16777216,Su(l,t,a),se=u):Su(l,t,a));break;default:Su(l,t,a)}}function gd(l){var t=l.alternate;if(t!==null&&(l=t.child,l!==null)){t.child=null;do t=l.sibling,l.sibling=null,l=t;while(l!==null)}}function de(l){var t=l.deletions;if((l.flags&16)!==0){if(t!==null)for(var a=0;a<t.length;a++){var u=t[a];Hl=u,Sd(u,l)}gd(l)}if(l.subtreeFlags&10256)for(l=l.child;l!==null;)rd(l),l=l.sibling}function rd(l){switch(l.tag){case 0:case 11:case 15:de(l),l.flags&2048&&da(9,l,l.return);break;case 3:de(l);break;case 12:de(l);break;case 22:var t=l.stateNode;l.memoizedState!==null&&t._visibility&2&&(l.return===null||l.return.tag!==13)?(t._visibility&=-3,rn(l)):de(l);break;default:de(l)}}function rn(l){var t=l.deletions;if((l.flags&16)!==0){if(t!==null)for(var a=0;a<t.length;a++){var u=t[a];Hl=u,Sd(u,l)}gd(l)}for(l=l.child;l!==null;){switch(t=l,t.tag){case 0:case 11:case 15:da(8,t,t.return),rn(t);break;case 22:a=t.stateNode,a._visibility&2&&(a._visibility&=-3,rn(t));break;default:rn(t)}l=l.sibling}}function Sd(l,t){for(;Hl!==null;){var a=Hl;switch(a.tag){case 0:case 11:case 15:da(8,a,t);break;case 23:case 22:if(a.memoizedState!==null&&a.memoizedState.cachePool!==null){var u=a.memoizedState.cachePool.pool;u!=null&&u.refCount++}break;case 24:wu(a.memoizedState.cache)}if(u=a.child,u!==null)u.return=a,Hl=u;else l:for(a=l;Hl!==null;){u=Hl;var e=u.sibling,n=u.return;if(cd(u),u===a){Hl=null;break l}if(e!==null){e.return=n,Hl=e;break l}Hl=n}}}var vh={getCacheForType:function(l){var t=xl(_l),a=t.data.get(l);return a===void 0&&(a=l(),t.data.set(l,a)),a},cacheSignal:function(){return xl(_l).controller.signal}},mh=typeof WeakMap=="function"?WeakMap:Map,F=0,sl=null,X=null,V=0,ll=0,st=null,ya=!1,bu=!1,Cf=!1,$t=0,Sl=0,oa=0,Va=0,Bf=0,dt=0,zu=0,ye=null,Fl=null,Yf=!1,Sn=0,bd=0,bn=1/0,zn=null,ha=null,Dl=0,va=null,Tu=null,kt=0,jf=0,Gf=null,zd=null,oe=0,Qf=null;function yt(){return(F&2)!==0&&V!==0?V&-V:S.T!==null?Jf():Bc()}function Td(){if(dt===0)if((V&536870912)===0||J){var l=Oe;Oe<<=1,(Oe&3932160)===0&&(Oe=262144),dt=l}else dt=536870912;return l=ft.current,l!==null&&(l.flags|=32),dt}function Il(l,t,a){(l===sl&&(ll===2||ll===9)||l.cancelPendingCommit!==null)&&(Eu(l,0),ma(l,V,dt,!1)),qu(l,a),((F&2)===0||l!==sl)&&(l===sl&&((F&2)===0&&(Va|=a),Sl===4&&ma(l,V,dt,!1)),Ht(l))}function Ed(l,t,a){if((F&6)!==0)throw Error(y(327));var u=!a&&(t&127)===0&&(t&l.expiredLanes)===0||Ru(l,t),e=u?Sh(l,t):Zf(l,t,!0),n=u;do{if(e===0){bu&&!u&&ma(l,t,0,!1);break}else{if(a=l.current.alternate,n&&!gh(a)){e=Zf(l,t,!1),n=!1;continue}if(e===2){if(n=t,l.errorRecoveryDisabledLanes&n)var i=0;else i=l.pendingLanes&-536870913,i=i!==0?i:i&536870912?536870912:0;if(i!==0){t=i;l:{var f=l;e=ye;var c=f.current.memoizedState.isDehydrated;if(c&&(Eu(f,i).flags|=256),i=Zf(f,i,!1),i!==2){if(Cf&&!c){f.errorRecoveryDisabledLanes|=n,Va|=n,e=4;break l}n=Fl,Fl=e,n!==null&&(Fl===null?Fl=n:Fl.push.apply(Fl,n))}e=i}if(n=!1,e!==2)continue}}if(e===1){Eu(l,0),ma(l,t,0,!0);break}l:{switch(u=l,n=e,n){case 0:case 1:throw Error(y(345));case 4:if((t&4194048)!==t)break;case 6:ma(u,t,dt,!ya);break l;case 2:Fl=null;break;case 3:case 5:break;default:throw Error(y(329))}if((t&62914560)===t&&(e=Sn+300-at(),10<e)){if(ma(u,t,dt,!ya),Ue(u,0,!0)!==0)break l;kt=t,u.timeoutHandle=Pd(_d.bind(null,u,a,Fl,zn,Yf,t,dt,Va,zu,ya,n,"Throttled",-0,0),e);break l}_d(u,a,Fl,zn,Yf,t,dt,Va,zu,ya,n,null,-0,0)}}break}while(!0);Ht(l)}function _d(l,t,a,u,e,n,i,f,c,v,r,z,m,g){if(l.timeoutHandle=-1,z=t.subtreeFlags,z&8192||(z&16785408)===16785408){z={stylesheets:null,count:0,imgCount:0,imgBytes:0,suspenseyImages:[],waitingForImages:!0,waitingForViewTransition:!1,unsuspend:Ct},md(t,n,z);var O=(n&62914560)===n?Sn-at():(n&4194048)===n?bd-at():0;if(O=lv(z,O),O!==null){kt=n,l.cancelPendingCommit=O(Hd.bind(null,l,t,n,a,u,e,i,f,c,r,z,null,m,g)),ma(l,n,i,!v);return}}Hd(l,t,n,a,u,e,i,f,c)}function gh(l){for(var t=l;;){var a=t.tag;if((a===0||a===11||a===15)&&t.flags&16384&&(a=t.updateQueue,a!==null&&(a=a.stores,a!==null)))for(var u=0;u<a.length;u++){var e=a[u],n=e.getSnapshot;e=e.value;try{if(!nt(n(),e))return!1}catch(i){return!1}}if(a=t.child,t.subtreeFlags&16384&&a!==null)a.return=t,t=a;else{if(t===l)break;for(;t.sibling===null;){if(t.return===null||t.return===l)return!0;t=t.return}t.sibling.return=t.return,t=t.sibling}}return!0}function ma(l,t,a,u){t&=~Bf,t&=~Va,l.suspendedLanes|=t,l.pingedLanes&=~t,u&&(l.warmLanes|=t),u=l.expirationTimes;for(var e=t;0<e;){var n=31-et(e),i=1<<n;u[n]=-1,e&=~i}a!==0&&qc(l,a,t)}function Tn(){return(F&6)===0?(he(0),!1):!0}function Xf(){if(X!==null){if(ll===0)var l=X.return;else l=X,Gt=xa=null,af(l),ou=null,$u=0,l=X;for(;l!==null;)ld(l.alternate,l),l=l.return;X=null}}function Eu(l,t){var a=l.timeoutHandle;a!==-1&&(l.timeoutHandle=-1,Bh(a)),a=l.cancelPendingCommit,a!==null&&(l.cancelPendingCommit=null,a()),kt=0,Xf(),sl=l,X=a=Yt(l.current,null),V=t,ll=0,st=null,ya=!1,bu=Ru(l,t),Cf=!1,zu=dt=Bf=Va=oa=Sl=0,Fl=ye=null,Yf=!1,(t&8)!==0&&(t|=t&32);var u=l.entangledLanes;if(u!==0)for(l=l.entanglements,u&=t;0<u;){var e=31-et(u),n=1<<e;t|=l[e],u&=~n}return $t=t,Xe(),a}function Ad(l,t){j=null,S.H=ue,t===yu||t===$e?(t=Qs(),ll=3):t===Li?(t=Qs(),ll=4):ll=t===bf?8:t!==null&&typeof t=="object"&&typeof t.then=="function"?6:1,st=t,X===null&&(Sl=1,dn(l,mt(t,l.current)))}function pd(){var l=ft.current;return l===null?!0:(V&4194048)===V?bt===null:(V&62914560)===V||(V&536870912)!==0?l===bt:!1}function Md(){var l=S.H;return S.H=ue,l===null?ue:l}function Od(){var l=S.A;return S.A=vh,l}function En(){Sl=4,ya||(V&4194048)!==V&&ft.current!==null||(bu=!0),(oa&134217727)===0&&(Va&134217727)===0||sl===null||ma(sl,V,dt,!1)}function Zf(l,t,a){var u=F;F|=2;var e=Md(),n=Od();(sl!==l||V!==t)&&(zn=null,Eu(l,t)),t=!1;var i=Sl;l:do try{if(ll!==0&&X!==null){var f=X,c=st;switch(ll){case 8:Xf(),i=6;break l;case 3:case 2:case 9:case 6:ft.current===null&&(t=!0);var v=ll;if(ll=0,st=null,_u(l,f,c,v),a&&bu){i=0;break l}break;default:v=ll,ll=0,st=null,_u(l,f,c,v)}}rh(),i=Sl;break}catch(r){Ad(l,r)}while(!0);return t&&l.shellSuspendCounter++,Gt=xa=null,F=u,S.H=e,S.A=n,X===null&&(sl=null,V=0,Xe()),i}function rh(){for(;X!==null;)Dd(X)}function Sh(l,t){var a=F;F|=2;var u=Md(),e=Od();sl!==l||V!==t?(zn=null,bn=at()+500,Eu(l,t)):bu=Ru(l,t);l:do try{if(ll!==0&&X!==null){t=X;var n=st;t:switch(ll){case 1:ll=0,st=null,_u(l,t,n,1);break;case 2:case 9:if(js(n)){ll=0,st=null,Ud(t);break}t=function(){ll!==2&&ll!==9||sl!==l||(ll=7),Ht(l)},n.then(t,t);break l;case 3:ll=7;break l;case 4:ll=5;break l;case 7:js(n)?(ll=0,st=null,Ud(t)):(ll=0,st=null,_u(l,t,n,7));break;case 5:var i=null;switch(X.tag){case 26:i=X.memoizedState;case 5:case 27:var f=X;if(i?vy(i):f.stateNode.complete){ll=0,st=null;var c=f.sibling;if(c!==null)X=c;else{var v=f.return;v!==null?(X=v,_n(v)):X=null}break t}}ll=0,st=null,_u(l,t,n,5);break;case 6:ll=0,st=null,_u(l,t,n,6);break;case 8:Xf(),Sl=6;break l;default:throw Error(y(462))}}bh();break}catch(r){Ad(l,r)}while(!0);return Gt=xa=null,S.H=u,S.A=e,F=a,X!==null?0:(sl=null,V=0,Xe(),Sl)}function bh(){for(;X!==null&&!Xy();)Dd(X)}function Dd(l){var t=I0(l.alternate,l,$t);l.memoizedProps=l.pendingProps,t===null?_n(l):X=t}function Ud(l){var t=l,a=t.alternate;switch(t.tag){case 15:case 0:t=J0(a,t,t.pendingProps,t.type,void 0,V);break;case 11:t=J0(a,t,t.pendingProps,t.type.render,t.ref,V);break;case 5:af(t);default:ld(a,t),t=X=Os(t,$t),t=I0(a,t,$t)}l.memoizedProps=l.pendingProps,t===null?_n(l):X=t}function _u(l,t,a,u){Gt=xa=null,af(t),ou=null,$u=0;var e=t.return;try{if(fh(l,e,t,a,V)){Sl=1,dn(l,mt(a,l.current)),X=null;return}}catch(n){if(e!==null)throw X=e,n;Sl=1,dn(l,mt(a,l.current)),X=null;return}t.flags&32768?(J||u===1?l=!0:bu||(V&536870912)!==0?l=!1:(ya=l=!0,(u===2||u===9||u===3||u===6)&&(u=ft.current,u!==null&&u.tag===13&&(u.flags|=16384))),Nd(t,l)):_n(t)}function _n(l){var t=l;do{if((t.flags&32768)!==0){Nd(t,ya);return}l=t.return;var a=dh(t.alternate,t,$t);if(a!==null){X=a;return}if(t=t.sibling,t!==null){X=t;return}X=t=l}while(t!==null);Sl===0&&(Sl=5)}function Nd(l,t){do{var a=yh(l.alternate,l);if(a!==null){a.flags&=32767,X=a;return}if(a=l.return,a!==null&&(a.flags|=32768,a.subtreeFlags=0,a.deletions=null),!t&&(l=l.sibling,l!==null)){X=l;return}X=l=a}while(l!==null);Sl=6,X=null}function Hd(l,t,a,u,e,n,i,f,c){l.cancelPendingCommit=null;do An();while(Dl!==0);if((F&6)!==0)throw Error(y(327));if(t!==null){if(t===l.current)throw Error(y(177));if(n=t.lanes|t.childLanes,n|=Ui,Fy(l,a,n,i,f,c),l===sl&&(X=sl=null,V=0),Tu=t,va=l,kt=a,jf=n,Gf=e,zd=u,(t.subtreeFlags&10256)!==0||(t.flags&10256)!==0?(l.callbackNode=null,l.callbackPriority=0,_h(pe,function(){return Bd(),null})):(l.callbackNode=null,l.callbackPriority=0),u=(t.flags&13878)!==0,(t.subtreeFlags&13878)!==0||u){u=S.T,S.T=null,e=p.p,p.p=2,i=F,F|=4;try{oh(l,t,a)}finally{F=i,p.p=e,S.T=u}}Dl=1,Rd(),qd(),xd()}}function Rd(){if(Dl===1){Dl=0;var l=va,t=Tu,a=(t.flags&13878)!==0;if((t.subtreeFlags&13878)!==0||a){a=S.T,S.T=null;var u=p.p;p.p=2;var e=F;F|=4;try{od(t,l);var n=lc,i=Ss(l.containerInfo),f=n.focusedElem,c=n.selectionRange;if(i!==f&&f&&f.ownerDocument&&rs(f.ownerDocument.documentElement,f)){if(c!==null&&Ai(f)){var v=c.start,r=c.end;if(r===void 0&&(r=v),"selectionStart"in f)f.selectionStart=v,f.selectionEnd=Math.min(r,f.value.length);else{var z=f.ownerDocument||document,m=z&&z.defaultView||window;if(m.getSelection){var g=m.getSelection(),O=f.textContent.length,x=Math.min(c.start,O),il=c.end===void 0?x:Math.min(c.end,O);!g.extend&&x>il&&(i=il,il=x,x=i);var o=gs(f,x),s=gs(f,il);if(o&&s&&(g.rangeCount!==1||g.anchorNode!==o.node||g.anchorOffset!==o.offset||g.focusNode!==s.node||g.focusOffset!==s.offset)){var h=z.createRange();h.setStart(o.node,o.offset),g.removeAllRanges(),x>il?(g.addRange(h),g.extend(s.node,s.offset)):(h.setEnd(s.node,s.offset),g.addRange(h))}}}}for(z=[],g=f;g=g.parentNode;)g.nodeType===1&&z.push({element:g,left:g.scrollLeft,top:g.scrollTop});for(typeof f.focus=="function"&&f.focus(),f=0;f<z.length;f++){var b=z[f];b.element.scrollLeft=b.left,b.element.scrollTop=b.top}}Bn=!!Pf,lc=Pf=null}finally{F=e,p.p=u,S.T=a}}l.current=t,Dl=2}}function qd(){if(Dl===2){Dl=0;var l=va,t=Tu,a=(t.flags&8772)!==0;if((t.subtreeFlags&8772)!==0||a){a=S.T,S.T=null;var u=p.p;p.p=2;var e=F;F|=4;try{fd(l,t.alternate,t)}finally{F=e,p.p=u,S.T=a}}Dl=3}}function xd(){if(Dl===4||Dl===3){Dl=0,Zy();var l=va,t=Tu,a=kt,u=zd;(t.subtreeFlags&10256)!==0||(t.flags&10256)!==0?Dl=5:(Dl=0,Tu=va=null,Cd(l,l.pendingLanes));var e=l.pendingLanes;if(e===0&&(ha=null),ni(a),t=t.stateNode,ut&&typeof ut.onCommitFiberRoot=="function")try{ut.onCommitFiberRoot(Hu,t,void 0,(t.current.flags&128)===128)}catch(c){}if(u!==null){t=S.T,e=p.p,p.p=2,S.T=null;try{for(var n=l.onRecoverableError,i=0;i<u.length;i++){var f=u[i];n(f.value,{componentStack:f.stack})}}finally{S.T=t,p.p=e}}(kt&3)!==0&&An(),Ht(l),e=l.pendingLanes,(a&261930)!==0&&(e&42)!==0?l===Qf?oe++:(oe=0,Qf=l):oe=0,he(0)}}function Cd(l,t){(l.pooledCacheLanes&=t)===0&&(t=l.pooledCache,t!=null&&(l.pooledCache=null,wu(t)))}function An(){return Rd(),qd(),xd(),Bd()}function Bd(){if(Dl!==5)return!1;var l=va,t=jf;jf=0;var a=ni(kt),u=S.T,e=p.p;try{p.p=32>a?32:a,S.T=null,a=Gf,Gf=null;var n=va,i=kt;if(Dl=0,Tu=va=null,kt=0,(F&6)!==0)throw Error(y(331));var f=F;if(F|=4,rd(n.current),vd(n,n.current,i,a),F=f,he(0,!1),ut&&typeof ut.onPostCommitFiberRoot=="function")try{ut.onPostCommitFiberRoot(Hu,n)}catch(c){}return!0}finally{p.p=e,S.T=u,Cd(l,t)}}function Yd(l,t,a){t=mt(a,t),t=Sf(l.stateNode,t,2),l=fa(l,t,2),l!==null&&(qu(l,2),Ht(l))}function tl(l,t,a){if(l.tag===3)Yd(l,l,a);else for(;t!==null;){if(t.tag===3){Yd(t,l,a);break}else if(t.tag===1){var u=t.stateNode;if(typeof t.type.getDerivedStateFromError=="function"||typeof u.componentDidCatch=="function"&&(ha===null||!ha.has(u))){l=mt(a,l),a=j0(2),u=fa(t,a,2),u!==null&&(G0(a,u,t,l),qu(u,2),Ht(u));break}}t=t.return}}function Vf(l,t,a){var u=l.pingCache;if(u===null){u=l.pingCache=new mh;var e=new Set;u.set(t,e)}else e=u.get(t),e===void 0&&(e=new Set,u.set(t,e));e.has(a)||(Cf=!0,e.add(a),l=zh.bind(null,l,t,a),t.then(l,l))}function zh(l,t,a){var u=l.pingCache;u!==null&&u.delete(t),l.pingedLanes|=l.suspendedLanes&a,l.warmLanes&=~a,sl===l&&(V&a)===a&&(Sl===4||Sl===3&&(V&62914560)===V&&300>at()-Sn?(F&2)===0&&Eu(l,0):Bf|=a,zu===V&&(zu=0)),Ht(l)}function jd(l,t){t===0&&(t=Rc()),l=Ha(l,t),l!==null&&(qu(l,t),Ht(l))}function Th(l){var t=l.memoizedState,a=0;t!==null&&(a=t.retryLane),jd(l,a)}function Eh(l,t){var a=0;switch(l.tag){case 31:case 13:var u=l.stateNode,e=l.memoizedState;e!==null&&(a=e.retryLane);break;case 19:u=l.stateNode;break;case 22:u=l.stateNode._retryCache;break;default:throw Error(y(314))}u!==null&&u.delete(t),jd(l,a)}function _h(l,t){return ti(l,t)}var pn=null,Au=null,Lf=!1,Mn=!1,Kf=!1,ga=0;function Ht(l){l!==Au&&l.next===null&&(Au===null?pn=Au=l:Au=Au.next=l),Mn=!0,Lf||(Lf=!0,ph())}function he(l,t){if(!Kf&&Mn){Kf=!0;do for(var a=!1,u=pn;u!==null;){if(l!==0){var e=u.pendingLanes;if(e===0)var n=0;else{var i=u.suspendedLanes,f=u.pingedLanes;n=(1<<31-et(42|l)+1)-1,n&=e&~(i&~f),n=n&201326741?n&201326741|1:n?n|2:0}n!==0&&(a=!0,Zd(u,n))}else n=V,n=Ue(u,u===sl?n:0,u.cancelPendingCommit!==null||u.timeoutHandle!==-1),(n&3)===0||Ru(u,n)||(a=!0,Zd(u,n));u=u.next}while(a);Kf=!1}}function Ah(){Gd()}function Gd(){Mn=Lf=!1;var l=0;ga!==0&&Ch()&&(l=ga);for(var t=at(),a=null,u=pn;u!==null;){var e=u.next,n=Qd(u,t);n===0?(u.next=null,a===null?pn=e:a.next=e,e===null&&(Au=a)):(a=u,(l!==0||(n&3)!==0)&&(Mn=!0)),u=e}Dl!==0&&Dl!==5||he(l),ga!==0&&(ga=0)}function Qd(l,t){for(var a=l.suspendedLanes,u=l.pingedLanes,e=l.expirationTimes,n=l.pendingLanes&-62914561;0<n;){var i=31-et(n),f=1<<i,c=e[i];c===-1?((f&a)===0||(f&u)!==0)&&(e[i]=ky(f,t)):c<=t&&(l.expiredLanes|=f),n&=~f}if(t=sl,a=V,a=Ue(l,l===t?a:0,l.cancelPendingCommit!==null||l.timeoutHandle!==-1),u=l.callbackNode,a===0||l===t&&(ll===2||ll===9)||l.cancelPendingCommit!==null)return u!==null&&u!==null&&ai(u),l.callbackNode=null,l.callbackPriority=0;if((a&3)===0||Ru(l,a)){if(t=a&-a,t===l.callbackPriority)return t;switch(u!==null&&ai(u),ni(a)){case 2:case 8:a=Nc;break;case 32:a=pe;break;case 268435456:a=Hc;break;default:a=pe}return u=Xd.bind(null,l),a=ti(a,u),l.callbackPriority=t,l.callbackNode=a,t}return u!==null&&u!==null&&ai(u),l.callbackPriority=2,l.callbackNode=null,2}function Xd(l,t){if(Dl!==0&&Dl!==5)return l.callbackNode=null,l.callbackPriority=0,null;var a=l.callbackNode;if(An()&&l.callbackNode!==a)return null;var u=V;return u=Ue(l,l===sl?u:0,l.cancelPendingCommit!==null||l.timeoutHandle!==-1),u===0?null:(Ed(l,u,t),Qd(l,at()),l.callbackNode!=null&&l.callbackNode===a?Xd.bind(null,l):null)}function Zd(l,t){if(An())return null;Ed(l,t,!0)}function ph(){Yh(function(){(F&6)!==0?ti(Uc,Ah):Gd()})}function Jf(){if(ga===0){var l=su;l===0&&(l=Me,Me<<=1,(Me&261888)===0&&(Me=256)),ga=l}return ga}function Vd(l){return l==null||typeof l=="symbol"||typeof l=="boolean"?null:typeof l=="function"?l:qe(""+l)}function Ld(l,t){var a=t.ownerDocument.createElement("input");return a.name=t.name,a.value=t.value,l.id&&a.setAttribute("form",l.id),t.parentNode.insertBefore(a,t),l=new FormData(l),a.parentNode.removeChild(a),l}function Mh(l,t,a,u,e){if(t==="submit"&&a&&a.stateNode===e){var n=Vd((e[Jl]||null).action),i=u.submitter;i&&(t=(t=i[Jl]||null)?Vd(t.formAction):i.getAttribute("formAction"),t!==null&&(n=t,i=null));var f=new Ye("action","action",null,u,e);l.push({event:f,listeners:[{instance:null,listener:function(){if(u.defaultPrevented){if(ga!==0){var c=i?Ld(e,i):new FormData(e);of(a,{pending:!0,data:c,method:e.method,action:n},null,c)}}else typeof n=="function"&&(f.preventDefault(),c=i?Ld(e,i):new FormData(e),of(a,{pending:!0,data:c,method:e.method,action:n},n,c))},currentTarget:e}]})}}for(var wf=0;wf<Di.length;wf++){var Wf=Di[wf],Oh=Wf.toLowerCase(),Dh=Wf[0].toUpperCase()+Wf.slice(1);_t(Oh,"on"+Dh)}_t(Ts,"onAnimationEnd"),_t(Es,"onAnimationIteration"),_t(_s,"onAnimationStart"),_t("dblclick","onDoubleClick"),_t("focusin","onFocus"),_t("focusout","onBlur"),_t(Lo,"onTransitionRun"),_t(Ko,"onTransitionStart"),_t(Jo,"onTransitionCancel"),_t(As,"onTransitionEnd"),$a("onMouseEnter",["mouseout","mouseover"]),$a("onMouseLeave",["mouseout","mouseover"]),$a("onPointerEnter",["pointerout","pointerover"]),$a("onPointerLeave",["pointerout","pointerover"]),Oa("onChange","change click focusin focusout input keydown keyup selectionchange".split(" ")),Oa("onSelect","focusout contextmenu dragend focusin keydown keyup mousedown mouseup selectionchange".split(" ")),Oa("onBeforeInput",["compositionend","keypress","textInput","paste"]),Oa("onCompositionEnd","compositionend focusout keydown keypress keyup mousedown".split(" ")),Oa("onCompositionStart","compositionstart focusout keydown keypress keyup mousedown".split(" ")),Oa("onCompositionUpdate","compositionupdate focusout keydown keypress keyup mousedown".split(" "));var ve="abort canplay canplaythrough durationchange emptied encrypted ended error loadeddata loadedmetadata loadstart pause play playing progress ratechange resize seeked seeking stalled suspend timeupdate volumechange waiting".split(" "),Uh=new Set("beforetoggle cancel close invalid load scroll scrollend toggle".split(" ").concat(ve));function Kd(l,t){t=(t&4)!==0;for(var a=0;a<l.length;a++){var u=l[a],e=u.event;u=u.listeners;l:{var n=void 0;if(t)for(var i=u.length-1;0<=i;i--){var f=u[i],c=f.instance,v=f.currentTarget;if(f=f.listener,c!==n&&e.isPropagationStopped())break l;n=f,e.currentTarget=v;try{n(e)}catch(r){Qe(r)}e.currentTarget=null,n=c}else for(i=0;i<u.length;i++){if(f=u[i],c=f.instance,v=f.currentTarget,f=f.listener,c!==n&&e.isPropagationStopped())break l;n=f,e.currentTarget=v;try{n(e)}catch(r){Qe(r)}e.currentTarget=null,n=c}}}}function Z(l,t){var a=t[ii];a===void 0&&(a=t[ii]=new Set);var u=l+"__bubble";a.has(u)||(Jd(t,l,2,!1),a.add(u))}function $f(l,t,a){var u=0;t&&(u|=4),Jd(a,l,u,t)}var On="_reactListening"+Math.random().toString(36).slice(2);function kf(l){if(!l[On]){l[On]=!0,Gc.forEach(function(a){a!=="selectionchange"&&(Uh.has(a)||$f(a,!1,l),$f(a,!0,l))});var t=l.nodeType===9?l:l.ownerDocument;t===null||t[On]||(t[On]=!0,$f("selectionchange",!1,t))}}function Jd(l,t,a,u){switch(Ty(t)){case 2:var e=uv;break;case 8:e=ev;break;default:e=yc}a=e.bind(null,t,a,l),e=void 0,!mi||t!=="touchstart"&&t!=="touchmove"&&t!=="wheel"||(e=!0),u?e!==void 0?l.addEventListener(t,a,{capture:!0,passive:e}):l.addEventListener(t,a,!0):e!==void 0?l.addEventListener(t,a,{passive:e}):l.addEventListener(t,a,!1)}function Ff(l,t,a,u,e){var n=u;if((t&1)===0&&(t&2)===0&&u!==null)l:for(;;){if(u===null)return;var i=u.tag;if(i===3||i===4){var f=u.stateNode.containerInfo;if(f===e)break;if(i===4)for(i=u.return;i!==null;){var c=i.tag;if((c===3||c===4)&&i.stateNode.containerInfo===e)return;i=i.return}for(;f!==null;){if(i=Ja(f),i===null)return;if(c=i.tag,c===5||c===6||c===26||c===27){u=n=i;continue l}f=f.parentNode}}u=u.return}Fc(function(){var v=n,r=hi(a),z=[];l:{var m=ps.get(l);if(m!==void 0){var g=Ye,O=l;switch(l){case"keypress":if(Ce(a)===0)break l;case"keydown":case"keyup":g=Eo;break;case"focusin":O="focus",g=bi;break;case"focusout":O="blur",g=bi;break;case"beforeblur":case"afterblur":g=bi;break;case"click":if(a.button===2)break l;case"auxclick":case"dblclick":case"mousedown":case"mousemove":case"mouseup":case"mouseout":case"mouseover":case"contextmenu":g=ls;break;case"drag":case"dragend":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"dragstart":case"drop":g=so;break;case"touchcancel":case"touchend":case"touchmove":case"touchstart":g=po;break;case Ts:case Es:case _s:g=ho;break;case As:g=Oo;break;case"scroll":case"scrollend":g=fo;break;case"wheel":g=Uo;break;case"copy":case"cut":case"paste":g=mo;break;case"gotpointercapture":case"lostpointercapture":case"pointercancel":case"pointerdown":case"pointermove":case"pointerout":case"pointerover":case"pointerup":g=as;break;case"toggle":case"beforetoggle":g=Ho}var x=(t&4)!==0,il=!x&&(l==="scroll"||l==="scrollend"),o=x?m!==null?m+"Capture":null:m;x=[];for(var s=v,h;s!==null;){var b=s;if(h=b.stateNode,b=b.tag,b!==5&&b!==26&&b!==27||h===null||o===null||(b=Bu(s,o),b!=null&&x.push(me(s,b,h))),il)break;s=s.return}0<x.length&&(m=new g(m,O,null,a,r),z.push({event:m,listeners:x}))}}if((t&7)===0){l:{if(m=l==="mouseover"||l==="pointerover",g=l==="mouseout"||l==="pointerout",m&&a!==oi&&(O=a.relatedTarget||a.fromElement)&&(Ja(O)||O[Ka]))break l;if((g||m)&&(m=r.window===r?r:(m=r.ownerDocument)?m.defaultView||m.parentWindow:window,g?(O=a.relatedTarget||a.toElement,g=v,O=O?Ja(O):null,O!==null&&(il=fl(O),x=O.tag,O!==il||x!==5&&x!==27&&x!==6)&&(O=null)):(g=null,O=v),g!==O)){if(x=ls,b="onMouseLeave",o="onMouseEnter",s="mouse",(l==="pointerout"||l==="pointerover")&&(x=as,b="onPointerLeave",o="onPointerEnter",s="pointer"),il=g==null?m:Cu(g),h=O==null?m:Cu(O),m=new x(b,s+"leave",g,a,r),m.target=il,m.relatedTarget=h,b=null,Ja(r)===v&&(x=new x(o,s+"enter",O,a,r),x.target=h,x.relatedTarget=il,b=x),il=b,g&&O)t:{for(x=Nh,o=g,s=O,h=0,b=o;b;b=x(b))h++;b=0;for(var H=s;H;H=x(H))b++;for(;0<h-b;)o=x(o),h--;for(;0<b-h;)s=x(s),b--;for(;h--;){if(o===s||s!==null&&o===s.alternate){x=o;break t}o=x(o),s=x(s)}x=null}else x=null;g!==null&&wd(z,m,g,x,!1),O!==null&&il!==null&&wd(z,il,O,x,!0)}}l:{if(m=v?Cu(v):window,g=m.nodeName&&m.nodeName.toLowerCase(),g==="select"||g==="input"&&m.type==="file")var W=ds;else if(cs(m))if(ys)W=Xo;else{W=Go;var U=jo}else g=m.nodeName,!g||g.toLowerCase()!=="input"||m.type!=="checkbox"&&m.type!=="radio"?v&&yi(v.elementType)&&(W=ds):W=Qo;if(W&&(W=W(l,v))){ss(z,W,a,r);break l}U&&U(l,m,v),l==="focusout"&&v&&m.type==="number"&&v.memoizedProps.value!=null&&di(m,"number",m.value)}switch(U=v?Cu(v):window,l){case"focusin":(cs(U)||U.contentEditable==="true")&&(tu=U,pi=v,Lu=null);break;case"focusout":Lu=pi=tu=null;break;case"mousedown":Mi=!0;break;case"contextmenu":case"mouseup":case"dragend":Mi=!1,bs(z,a,r);break;case"selectionchange":if(Vo)break;case"keydown":case"keyup":bs(z,a,r)}var G;if(Ti)l:{switch(l){case"compositionstart":var L="onCompositionStart";break l;case"compositionend":L="onCompositionEnd";break l;case"compositionupdate":L="onCompositionUpdate";break l}L=void 0}else lu?is(l,a)&&(L="onCompositionEnd"):l==="keydown"&&a.keyCode===229&&(L="onCompositionStart");L&&(us&&a.locale!=="ko"&&(lu||L!=="onCompositionStart"?L==="onCompositionEnd"&&lu&&(G=Ic()):(la=r,gi="value"in la?la.value:la.textContent,lu=!0)),U=Dn(v,L),0<U.length&&(L=new ts(L,l,null,a,r),z.push({event:L,listeners:U}),G?L.data=G:(G=fs(a),G!==null&&(L.data=G)))),(G=qo?xo(l,a):Co(l,a))&&(L=Dn(v,"onBeforeInput"),0<L.length&&(U=new ts("onBeforeInput","beforeinput",null,a,r),z.push({event:U,listeners:L}),U.data=G)),Mh(z,l,v,a,r)}Kd(z,t)})}function me(l,t,a){return{instance:l,listener:t,currentTarget:a}}function Dn(l,t){for(var a=t+"Capture",u=[];l!==null;){var e=l,n=e.stateNode;if(e=e.tag,e!==5&&e!==26&&e!==27||n===null||(e=Bu(l,a),e!=null&&u.unshift(me(l,e,n)),e=Bu(l,t),e!=null&&u.push(me(l,e,n))),l.tag===3)return u;l=l.return}return[]}function Nh(l){if(l===null)return null;do l=l.return;while(l&&l.tag!==5&&l.tag!==27);return l||null}function wd(l,t,a,u,e){for(var n=t._reactName,i=[];a!==null&&a!==u;){var f=a,c=f.alternate,v=f.stateNode;if(f=f.tag,c!==null&&c===u)break;f!==5&&f!==26&&f!==27||v===null||(c=v,e?(v=Bu(a,n),v!=null&&i.unshift(me(a,v,c))):e||(v=Bu(a,n),v!=null&&i.push(me(a,v,c)))),a=a.return}i.length!==0&&l.push({event:t,listeners:i})}var Hh=/\r\n?/g,Rh=/\u0000|\uFFFD/g;function Wd(l){return(typeof l=="string"?l:""+l).replace(Hh,`
-`).replace(Rh,"")}function $d(l,t){return t=Wd(t),Wd(l)===t}function nl(l,t,a,u,e,n){switch(a){case"children":typeof u=="string"?t==="body"||t==="textarea"&&u===""||Fa(l,u):(typeof u=="number"||typeof u=="bigint")&&t!=="body"&&Fa(l,""+u);break;case"className":He(l,"class",u);break;case"tabIndex":He(l,"tabindex",u);break;case"dir":case"role":case"viewBox":case"width":case"height":He(l,a,u);break;case"style":$c(l,u,n);break;case"data":if(t!=="object"){He(l,"data",u);break}case"src":case"href":if(u===""&&(t!=="a"||a!=="href")){l.removeAttribute(a);break}if(u==null||typeof u=="function"||typeof u=="symbol"||typeof u=="boolean"){l.removeAttribute(a);break}u=qe(""+u),l.setAttribute(a,u);break;case"action":case"formAction":if(typeof u=="function"){l.setAttribute(a,"javascript:throw new Error('A React form was unexpectedly submitted. If you called form.submit() manually, consider using form.requestSubmit() instead. If you\\'re trying to use event.stopPropagation() in a submit event handler, consider also calling event.preventDefault().')");break}else typeof n=="function"&&(a==="formAction"?(t!=="input"&&nl(l,t,"name",e.name,e,null),nl(l,t,"formEncType",e.formEncType,e,null),nl(l,t,"formMethod",e.formMethod,e,null),nl(l,t,"formTarget",e.formTarget,e,null)):(nl(l,t,"encType",e.encType,e,null),nl(l,t,"method",e.method,e,null),nl(l,t,"target",e.target,e,null)));if(u==null||typeof u=="symbol"||typeof u=="boolean"){l.removeAttribute(a);break}u=qe(""+u),l.setAttribute(a,u);break;case"onClick":u!=null&&(l.onclick=Ct);break;case"onScroll":u!=null&&Z("scroll",l);break;case"onScrollEnd":u!=null&&Z("scrollend",l);break;case"dangerouslySetInnerHTML":if(u!=null){if(typeof u!="object"||!("__html"in u))throw Error(y(61));if(a=u.__html,a!=null){if(e.children!=null)throw Error(y(60));l.innerHTML=a}}break;case"multiple":l.multiple=u&&typeof u!="function"&&typeof u!="symbol";break;case"muted":l.muted=u&&typeof u!="function"&&typeof u!="symbol";break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"defaultValue":case"defaultChecked":case"innerHTML":case"ref":break;case"autoFocus":break;case"xlinkHref":if(u==null||typeof u=="function"||typeof u=="boolean"||typeof u=="symbol"){l.removeAttribute("xlink:href");break}a=qe(""+u),l.setAttributeNS("http://www.w3.org/1999/xlink","xlink:href",a);break;case"contentEditable":case"spellCheck":case"draggable":case"value":case"autoReverse":case"externalResourcesRequired":case"focusable":case"preserveAlpha":u!=null&&typeof u!="function"&&typeof u!="symbol"?l.setAttribute(a,""+u):l.removeAttribute(a);break;case"inert":case"allowFullScreen":case"async":case"autoPlay":case"controls":case"default":case"defer":case"disabled":case"disablePictureInPicture":case"disableRemotePlayback":case"formNoValidate":case"hidden":case"loop":case"noModule":case"noValidate":case"open":case"playsInline":case"readOnly":case"required":case"reversed":case"scoped":case"seamless":case"itemScope":u&&typeof u!="function"&&typeof u!="symbol"?l.setAttribute(a,""):l.removeAttribute(a);break;case"capture":case"download":u===!0?l.setAttribute(a,""):u!==!1&&u!=null&&typeof u!="function"&&typeof u!="symbol"?l.setAttribute(a,u):l.removeAttribute(a);break;case"cols":case"rows":case"size":case"span":u!=null&&typeof u!="function"&&typeof u!="symbol"&&!isNaN(u)&&1<=u?l.setAttribute(a,u):l.removeAttribute(a);break;case"rowSpan":case"start":u==null||typeof u=="function"||typeof u=="symbol"||isNaN(u)?l.removeAttribute(a):l.setAttribute(a,u);break;case"popover":Z("beforetoggle",l),Z("toggle",l),Ne(l,"popover",u);break;case"xlinkActuate":xt(l,"http://www.w3.org/1999/xlink","xlink:actuate",u);break;case"xlinkArcrole":xt(l,"http://www.w3.org/1999/xlink","xlink:arcrole",u);break;case"xlinkRole":xt(l,"http://www.w3.org/1999/xlink","xlink:role",u);break;case"xlinkShow":xt(l,"http://www.w3.org/1999/xlink","xlink:show",u);break;case"xlinkTitle":xt(l,"http://www.w3.org/1999/xlink","xlink:title",u);break;case"xlinkType":xt(l,"http://www.w3.org/1999/xlink","xlink:type",u);break;case"xmlBase":xt(l,"http://www.w3.org/XML/1998/namespace","xml:base",u);break;case"xmlLang":xt(l,"http://www.w3.org/XML/1998/namespace","xml:lang",u);break;case"xmlSpace":xt(l,"http://www.w3.org/XML/1998/namespace","xml:space",u);break;case"is":Ne(l,"is",u);break;case"innerText":case"textContent":break;default:(!(2<a.length)||a[0]!=="o"&&a[0]!=="O"||a[1]!=="n"&&a[1]!=="N")&&(a=no.get(a)||a,Ne(l,a,u))}}function If(l,t,a,u,e,n){switch(a){case"style":$c(l,u,n);break;case"dangerouslySetInnerHTML":if(u!=null){if(typeof u!="object"||!("__html"in u))throw Error(y(61));if(a=u.__html,a!=null){if(e.children!=null)throw Error(y(60));l.innerHTML=a}}break;case"children":typeof u=="string"?Fa(l,u):(typeof u=="number"||typeof u=="bigint")&&Fa(l,""+u);break;case"onScroll":u!=null&&Z("scroll",l);break;case"onScrollEnd":u!=null&&Z("scrollend",l);break;case"onClick":u!=null&&(l.onclick=Ct);break;case"suppressContentEditableWarning":case"suppressHydrationWarning":case"innerHTML":case"ref":break;case"innerText":case"textContent":break;default:if(!Qc.hasOwnProperty(a))l:{if(a[0]==="o"&&a[1]==="n"&&(e=a.endsWith("Capture"),t=a.slice(2,e?a.length-7:void 0),n=l[Jl]||null,n=n!=null?n[a]:null,typeof n=="function"&&l.removeEventListener(t,n,e),typeof u=="function")){typeof n!="function"&&n!==null&&(a in l?l[a]=null:l.hasAttribute(a)&&l.removeAttribute(a)),l.addEventListener(t,u,e);break l}a in l?l[a]=u:u===!0?l.setAttribute(a,""):Ne(l,a,u)}}}function Bl(l,t,a){switch(t){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"img":Z("error",l),Z("load",l);var u=!1,e=!1,n;for(n in a)if(a.hasOwnProperty(n)){var i=a[n];if(i!=null)switch(n){case"src":u=!0;break;case"srcSet":e=!0;break;case"children":case"dangerouslySetInnerHTML":throw Error(y(137,t));default:nl(l,t,n,i,a,null)}}e&&nl(l,t,"srcSet",a.srcSet,a,null),u&&nl(l,t,"src",a.src,a,null);return;case"input":Z("invalid",l);var f=n=i=e=null,c=null,v=null;for(u in a)if(a.hasOwnProperty(u)){var r=a[u];if(r!=null)switch(u){case"name":e=r;break;case"type":i=r;break;case"checked":c=r;break;case"defaultChecked":v=r;break;case"value":n=r;break;case"defaultValue":f=r;break;case"children":case"dangerouslySetInnerHTML":if(r!=null)throw Error(y(137,t));break;default:nl(l,t,u,r,a,null)}}Kc(l,n,f,c,v,i,e,!1);return;case"select":Z("invalid",l),u=i=n=null;for(e in a)if(a.hasOwnProperty(e)&&(f=a[e],f!=null))switch(e){case"value":n=f;break;case"defaultValue":i=f;break;case"multiple":u=f;default:nl(l,t,e,f,a,null)}t=n,a=i,l.multiple=!!u,t!=null?ka(l,!!u,t,!1):a!=null&&ka(l,!!u,a,!0);return;case"textarea":Z("invalid",l),n=e=u=null;for(i in a)if(a.hasOwnProperty(i)&&(f=a[i],f!=null))switch(i){case"value":u=f;break;case"defaultValue":e=f;break;case"children":n=f;break;case"dangerouslySetInnerHTML":if(f!=null)throw Error(y(91));break;default:nl(l,t,i,f,a,null)}wc(l,u,e,n);return;case"option":for(c in a)a.hasOwnProperty(c)&&(u=a[c],u!=null)&&(c==="selected"?l.selected=u&&typeof u!="function"&&typeof u!="symbol":nl(l,t,c,u,a,null));return;case"dialog":Z("beforetoggle",l),Z("toggle",l),Z("cancel",l),Z("close",l);break;case"iframe":case"object":Z("load",l);break;case"video":case"audio":for(u=0;u<ve.length;u++)Z(ve[u],l);break;case"image":Z("error",l),Z("load",l);break;case"details":Z("toggle",l);break;case"embed":case"source":case"link":Z("error",l),Z("load",l);case"area":case"base":case"br":case"col":case"hr":case"keygen":case"meta":case"param":case"track":case"wbr":case"menuitem":for(v in a)if(a.hasOwnProperty(v)&&(u=a[v],u!=null))switch(v){case"children":case"dangerouslySetInnerHTML":throw Error(y(137,t));default:nl(l,t,v,u,a,null)}return;default:if(yi(t)){for(r in a)a.hasOwnProperty(r)&&(u=a[r],u!==void 0&&If(l,t,r,u,a,void 0));return}}for(f in a)a.hasOwnProperty(f)&&(u=a[f],u!=null&&nl(l,t,f,u,a,null))}function qh(l,t,a,u){switch(t){case"div":case"span":case"svg":case"path":case"a":case"g":case"p":case"li":break;case"input":var e=null,n=null,i=null,f=null,c=null,v=null,r=null;for(g in a){var z=a[g];if(a.hasOwnProperty(g)&&z!=null)switch(g){case"checked":break;case"value":break;case"defaultValue":c=z;default:u.hasOwnProperty(g)||nl(l,t,g,null,u,z)}}for(var m in u){var g=u[m];if(z=a[m],u.hasOwnProperty(m)&&(g!=null||z!=null))switch(m){case"type":n=g;break;case"name":e=g;break;case"checked":v=g;break;case"defaultChecked":r=g;break;case"value":i=g;break;case"defaultValue":f=g;break;case"children":case"dangerouslySetInnerHTML":if(g!=null)throw Error(y(137,t));break;default:g!==z&&nl(l,t,m,g,u,z)}}si(l,i,f,c,v,r,n,e);return;case"select":g=i=f=m=null;for(n in a)if(c=a[n],a.hasOwnProperty(n)&&c!=null)switch(n){case"value":break;case"multiple":g=c;default:u.hasOwnProperty(n)||nl(l,t,n,null,u,c)}for(e in u)if(n=u[e],c=a[e],u.hasOwnProperty(e)&&(n!=null||c!=null))switch(e){case"value":m=n;break;case"defaultValue":f=n;break;case"multiple":i=n;default:n!==c&&nl(l,t,e,n,u,c)}t=f,a=i,u=g,m!=null?ka(l,!!a,m,!1):!!u!=!!a&&(t!=null?ka(l,!!a,t,!0):ka(l,!!a,a?[]:"",!1));return;case"textarea":g=m=null;for(f in a)if(e=a[f],a.hasOwnProperty(f)&&e!=null&&!u.hasOwnProperty(f))switch(f){case"value":break;case"children":break;default:nl(l,t,f,null,u,e)}for(i in u)if(e=u[i],n=a[i],u.hasOwnProperty(i)&&(e!=null||n!=null))switch(i){case"value":m=e;break;case"defaultValue":g=e;break;case"children":break;case"dangerouslySetInnerHTML":if(e!=null)throw Error(y(91));break;default:e!==n&&nl(l,t,i,e,u,n)}Jc(l,m,g);return;case"option":for(var O in a)m=a[O],a.hasOwnProperty(O)&&m!=null&&!u.hasOwnProperty(O)&&(O==="selected"?l.selected=!1:nl(l,t,O,null,u,m));for(c in u)m=u[c],g=a[c],u.hasOwnProperty(c)&&m!==g&&(m!=null||g!=null)&&(c==="selected"?l.selected=m&&typeof m!="function"&&typeof m!="symbol":nl(l,t,c,m,u,g));return;case"img":case"link":case"area":case"base":case"br":case"col":case"embed":case"hr":case"keygen":case"meta":case"param":case"source":case"track":case"wbr":case"menuitem":for(var x in a)m=a[x],a.hasOwnProperty(x)&&m!=null&&!u.hasOwnProperty(x)&&nl(l,t,x,null,u,m);for(v in u)if(m=u[v],g=a[v],u.hasOwnProperty(v)&&m!==g&&(m!=null||g!=null))switch(v){case"children":case"dangerouslySetInnerHTML":if(m!=null)throw Error(y(137,t));break;default:nl(l,t,v,m,u,g)}return;default:if(yi(t)){for(var il in a)m=a[il],a.hasOwnProperty(il)&&m!==void 0&&!u.hasOwnProperty(il)&&If(l,t,il,void 0,u,m);for(r in u)m=u[r],g=a[r],!u.hasOwnProperty(r)||m===g||m===void 0&&g===void 0||If(l,t,r,m,u,g);return}}for(var o in a)m=a[o],a.hasOwnProperty(o)&&m!=null&&!u.hasOwnProperty(o)&&nl(l,t,o,null,u,m);for(z in u)m=u[z],g=a[z],!u.hasOwnProperty(z)||m===g||m==null&&g==null||nl(l,t,z,m,u,g)}function kd(l){switch(l){case"css":case"script":case"font":case"img":case"image":case"input":case"link":return!0;default:return!1}}function xh(){if(typeof performance.getEntriesByType=="function"){for(var l=0,t=0,a=performance.getEntriesByType("resource"),u=0;u<a.length;u++){var e=a[u],n=e.transferSize,i=e.initiatorType,f=e.duration;if(n&&f&&kd(i)){for(i=0,f=e.responseEnd,u+=1;u<a.length;u++){var c=a[u],v=c.startTime;if(v>f)break;var r=c.transferSize,z=c.initiatorType;r&&kd(z)&&(c=c.responseEnd,i+=r*(c<f?1:(f-v)/(c-v)))}if(--u,t+=8*(n+i)/(e.duration/1e3),l++,10<l)break}}if(0<l)return t/l/1e6}return navigator.connection&&(l=navigator.connection.downlink,typeof l=="number")?l:5}var Pf=null,lc=null;function Un(l){return l.nodeType===9?l:l.ownerDocument}function Fd(l){switch(l){case"http://www.w3.org/2000/svg":return 1;case"http://www.w3.org/1998/Math/MathML":return 2;default:return 0}}function Id(l,t){if(l===0)switch(t){case"svg":return 1;case"math":return 2;default:return 0}return l===1&&t==="foreignObject"?0:l}function tc(l,t){return l==="textarea"||l==="noscript"||typeof t.children=="string"||typeof t.children=="number"||typeof t.children=="bigint"||typeof t.dangerouslySetInnerHTML=="object"&&t.dangerouslySetInnerHTML!==null&&t.dangerouslySetInnerHTML.__html!=null}var ac=null;function Ch(){var l=window.event;return l&&l.type==="popstate"?l===ac?!1:(ac=l,!0):(ac=null,!1)}var Pd=typeof setTimeout=="function"?setTimeout:void 0,Bh=typeof clearTimeout=="function"?clearTimeout:void 0,ly=typeof Promise=="function"?Promise:void 0,Yh=typeof queueMicrotask=="function"?queueMicrotask:typeof ly!="undefined"?function(l){return ly.resolve(null).then(l).catch(jh)}:Pd;function jh(l){setTimeout(function(){throw l})}function ra(l){return l==="head"}function ty(l,t){var a=t,u=0;do{var e=a.nextSibling;if(l.removeChild(a),e&&e.nodeType===8)if(a=e.data,a==="/$"||a==="/&"){if(u===0){l.removeChild(e),Du(t);return}u--}else if(a==="$"||a==="$?"||a==="$~"||a==="$!"||a==="&")u++;else if(a==="html")ge(l.ownerDocument.documentElement);else if(a==="head"){a=l.ownerDocument.head,ge(a);for(var n=a.firstChild;n;){var i=n.nextSibling,f=n.nodeName;n[xu]||f==="SCRIPT"||f==="STYLE"||f==="LINK"&&n.rel.toLowerCase()==="stylesheet"||a.removeChild(n),n=i}}else a==="body"&&ge(l.ownerDocument.body);a=e}while(a);Du(t)}function ay(l,t){var a=l;l=0;do{var u=a.nextSibling;if(a.nodeType===1?t?(a._stashedDisplay=a.style.display,a.style.display="none"):(a.style.display=a._stashedDisplay||"",a.getAttribute("style")===""&&a.removeAttribute("style")):a.nodeType===3&&(t?(a._stashedText=a.nodeValue,a.nodeValue=""):a.nodeValue=a._stashedText||""),u&&u.nodeType===8)if(a=u.data,a==="/$"){if(l===0)break;l--}else a!=="$"&&a!=="$?"&&a!=="$~"&&a!=="$!"||l++;a=u}while(a)}function uc(l){var t=l.firstChild;for(t&&t.nodeType===10&&(t=t.nextSibling);t;){var a=t;switch(t=t.nextSibling,a.nodeName){case"HTML":case"HEAD":case"BODY":uc(a),fi(a);continue;case"SCRIPT":case"STYLE":continue;case"LINK":if(a.rel.toLowerCase()==="stylesheet")continue}l.removeChild(a)}}function Gh(l,t,a,u){for(;l.nodeType===1;){var e=a;if(l.nodeName.toLowerCase()!==t.toLowerCase()){if(!u&&(l.nodeName!=="INPUT"||l.type!=="hidden"))break}else if(u){if(!l[xu])switch(t){case"meta":if(!l.hasAttribute("itemprop"))break;return l;case"link":if(n=l.getAttribute("rel"),n==="stylesheet"&&l.hasAttribute("data-precedence"))break;if(n!==e.rel||l.getAttribute("href")!==(e.href==null||e.href===""?null:e.href)||l.getAttribute("crossorigin")!==(e.crossOrigin==null?null:e.crossOrigin)||l.getAttribute("title")!==(e.title==null?null:e.title))break;return l;case"style":if(l.hasAttribute("data-precedence"))break;return l;case"script":if(n=l.getAttribute("src"),(n!==(e.src==null?null:e.src)||l.getAttribute("type")!==(e.type==null?null:e.type)||l.getAttribute("crossorigin")!==(e.crossOrigin==null?null:e.crossOrigin))&&n&&l.hasAttribute("async")&&!l.hasAttribute("itemprop"))break;return l;default:return l}}else if(t==="input"&&l.type==="hidden"){var n=e.name==null?null:""+e.name;if(e.type==="hidden"&&l.getAttribute("name")===n)return l}else return l;if(l=zt(l.nextSibling),l===null)break}return null}function Qh(l,t,a){if(t==="")return null;for(;l.nodeType!==3;)if((l.nodeType!==1||l.nodeName!=="INPUT"||l.type!=="hidden")&&!a||(l=zt(l.nextSibling),l===null))return null;return l}function uy(l,t){for(;l.nodeType!==8;)if((l.nodeType!==1||l.nodeName!=="INPUT"||l.type!=="hidden")&&!t||(l=zt(l.nextSibling),l===null))return null;return l}function ec(l){return l.data==="$?"||l.data==="$~"}function nc(l){return l.data==="$!"||l.data==="$?"&&l.ownerDocument.readyState!=="loading"}function Xh(l,t){var a=l.ownerDocument;if(l.data==="$~")l._reactRetry=t;else if(l.data!=="$?"||a.readyState!=="loading")t();else{var u=function(){t(),a.removeEventListener("DOMContentLoaded",u)};a.addEventListener("DOMContentLoaded",u),l._reactRetry=u}}function zt(l){for(;l!=null;l=l.nextSibling){var t=l.nodeType;if(t===1||t===3)break;if(t===8){if(t=l.data,t==="$"||t==="$!"||t==="$?"||t==="$~"||t==="&"||t==="F!"||t==="F")break;if(t==="/$"||t==="/&")return null}}return l}var ic=null;function ey(l){l=l.nextSibling;for(var t=0;l;){if(l.nodeType===8){var a=l.data;if(a==="/$"||a==="/&"){if(t===0)return zt(l.nextSibling);t--}else a!=="$"&&a!=="$!"&&a!=="$?"&&a!=="$~"&&a!=="&"||t++}l=l.nextSibling}return null}function ny(l){l=l.previousSibling;for(var t=0;l;){if(l.nodeType===8){var a=l.data;if(a==="$"||a==="$!"||a==="$?"||a==="$~"||a==="&"){if(t===0)return l;t--}else a!=="/$"&&a!=="/&"||t++}l=l.previousSibling}return null}function iy(l,t,a){switch(t=Un(a),l){case"html":if(l=t.documentElement,!l)throw Error(y(452));return l;case"head":if(l=t.head,!l)throw Error(y(453));return l;case"body":if(l=t.body,!l)throw Error(y(454));return l;default:throw Error(y(451))}}function ge(l){for(var t=l.attributes;t.length;)l.removeAttributeNode(t[0]);fi(l)}var Tt=new Map,fy=new Set;function Nn(l){return typeof l.getRootNode=="function"?l.getRootNode():l.nodeType===9?l:l.ownerDocument}var Ft=p.d;p.d={f:Zh,r:Vh,D:Lh,C:Kh,L:Jh,m:wh,X:$h,S:Wh,M:kh};function Zh(){var l=Ft.f(),t=Tn();return l||t}function Vh(l){var t=wa(l);t!==null&&t.tag===5&&t.type==="form"?A0(t):Ft.r(l)}var pu=typeof document=="undefined"?null:document;function cy(l,t,a){var u=pu;if(u&&typeof t=="string"&&t){var e=ht(t);e='link[rel="'+l+'"][href="'+e+'"]',typeof a=="string"&&(e+='[crossorigin="'+a+'"]'),fy.has(e)||(fy.add(e),l={rel:l,crossOrigin:a,href:t},u.querySelector(e)===null&&(t=u.createElement("link"),Bl(t,"link",l),Nl(t),u.head.appendChild(t)))}}function Lh(l){Ft.D(l),cy("dns-prefetch",l,null)}function Kh(l,t){Ft.C(l,t),cy("preconnect",l,t)}function Jh(l,t,a){Ft.L(l,t,a);var u=pu;if(u&&l&&t){var e='link[rel="preload"][as="'+ht(t)+'"]';t==="image"&&a&&a.imageSrcSet?(e+='[imagesrcset="'+ht(a.imageSrcSet)+'"]',typeof a.imageSizes=="string"&&(e+='[imagesizes="'+ht(a.imageSizes)+'"]')):e+='[href="'+ht(l)+'"]';var n=e;switch(t){case"style":n=Mu(l);break;case"script":n=Ou(l)}Tt.has(n)||(l=q({rel:"preload",href:t==="image"&&a&&a.imageSrcSet?void 0:l,as:t},a),Tt.set(n,l),u.querySelector(e)!==null||t==="style"&&u.querySelector(re(n))||t==="script"&&u.querySelector(Se(n))||(t=u.createElement("link"),Bl(t,"link",l),Nl(t),u.head.appendChild(t)))}}function wh(l,t){Ft.m(l,t);var a=pu;if(a&&l){var u=t&&typeof t.as=="string"?t.as:"script",e='link[rel="modulepreload"][as="'+ht(u)+'"][href="'+ht(l)+'"]',n=e;switch(u){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":n=Ou(l)}if(!Tt.has(n)&&(l=q({rel:"modulepreload",href:l},t),Tt.set(n,l),a.querySelector(e)===null)){switch(u){case"audioworklet":case"paintworklet":case"serviceworker":case"sharedworker":case"worker":case"script":if(a.querySelector(Se(n)))return}u=a.createElement("link"),Bl(u,"link",l),Nl(u),a.head.appendChild(u)}}}function Wh(l,t,a){Ft.S(l,t,a);var u=pu;if(u&&l){var e=Wa(u).hoistableStyles,n=Mu(l);t=t||"default";var i=e.get(n);if(!i){var f={loading:0,preload:null};if(i=u.querySelector(re(n)))f.loading=5;else{l=q({rel:"stylesheet",href:l,"data-precedence":t},a),(a=Tt.get(n))&&fc(l,a);var c=i=u.createElement("link");Nl(c),Bl(c,"link",l),c._p=new Promise(function(v,r){c.onload=v,c.onerror=r}),c.addEventListener("load",function(){f.loading|=1}),c.addEventListener("error",function(){f.loading|=2}),f.loading|=4,Hn(i,t,u)}i={type:"stylesheet",instance:i,count:1,state:f},e.set(n,i)}}}function $h(l,t){Ft.X(l,t);var a=pu;if(a&&l){var u=Wa(a).hoistableScripts,e=Ou(l),n=u.get(e);n||(n=a.querySelector(Se(e)),n||(l=q({src:l,async:!0},t),(t=Tt.get(e))&&cc(l,t),n=a.createElement("script"),Nl(n),Bl(n,"link",l),a.head.appendChild(n)),n={type:"script",instance:n,count:1,state:null},u.set(e,n))}}function kh(l,t){Ft.M(l,t);var a=pu;if(a&&l){var u=Wa(a).hoistableScripts,e=Ou(l),n=u.get(e);n||(n=a.querySelector(Se(e)),n||(l=q({src:l,async:!0,type:"module"},t),(t=Tt.get(e))&&cc(l,t),n=a.createElement("script"),Nl(n),Bl(n,"link",l),a.head.appendChild(n)),n={type:"script",instance:n,count:1,state:null},u.set(e,n))}}function sy(l,t,a,u){var e=(e=Q.current)?Nn(e):null;if(!e)throw Error(y(446));switch(l){case"meta":case"title":return null;case"style":return typeof a.precedence=="string"&&typeof a.href=="string"?(t=Mu(a.href),a=Wa(e).hoistableStyles,u=a.get(t),u||(u={type:"style",instance:null,count:0,state:null},a.set(t,u)),u):{type:"void",instance:null,count:0,state:null};case"link":if(a.rel==="stylesheet"&&typeof a.href=="string"&&typeof a.precedence=="string"){l=Mu(a.href);var n=Wa(e).hoistableStyles,i=n.get(l);if(i||(e=e.ownerDocument||e,i={type:"stylesheet",instance:null,count:0,state:{loading:0,preload:null}},n.set(l,i),(n=e.querySelector(re(l)))&&!n._p&&(i.instance=n,i.state.loading=5),Tt.has(l)||(a={rel:"preload",as:"style",href:a.href,crossOrigin:a.crossOrigin,integrity:a.integrity,media:a.media,hrefLang:a.hrefLang,referrerPolicy:a.referrerPolicy},Tt.set(l,a),n||Fh(e,l,a,i.state))),t&&u===null)throw Error(y(528,""));return i}if(t&&u!==null)throw Error(y(529,""));return null;case"script":return t=a.async,a=a.src,typeof a=="string"&&t&&typeof t!="function"&&typeof t!="symbol"?(t=Ou(a),a=Wa(e).hoistableScripts,u=a.get(t),u||(u={type:"script",instance:null,count:0,state:null},a.set(t,u)),u):{type:"void",instance:null,count:0,state:null};default:throw Error(y(444,l))}}function Mu(l){return'href="'+ht(l)+'"'}function re(l){return'link[rel="stylesheet"]['+l+"]"}function dy(l){return q({},l,{"data-precedence":l.precedence,precedence:null})}function Fh(l,t,a,u){l.querySelector('link[rel="preload"][as="style"]['+t+"]")?u.loading=1:(t=l.createElement("link"),u.preload=t,t.addEventListener("load",function(){return u.loading|=1}),t.addEventListener("error",function(){return u.loading|=2}),Bl(t,"link",a),Nl(t),l.head.appendChild(t))}function Ou(l){return'[src="'+ht(l)+'"]'}function Se(l){return"script[async]"+l}function yy(l,t,a){if(t.count++,t.instance===null)switch(t.type){case"style":var u=l.querySelector('style[data-href~="'+ht(a.href)+'"]');if(u)return t.instance=u,Nl(u),u;var e=q({},a,{"data-href":a.href,"data-precedence":a.precedence,href:null,precedence:null});return u=(l.ownerDocument||l).createElement("style"),Nl(u),Bl(u,"style",e),Hn(u,a.precedence,l),t.instance=u;case"stylesheet":e=Mu(a.href);var n=l.querySelector(re(e));if(n)return t.state.loading|=4,t.instance=n,Nl(n),n;u=dy(a),(e=Tt.get(e))&&fc(u,e),n=(l.ownerDocument||l).createElement("link"),Nl(n);var i=n;return i._p=new Promise(function(f,c){i.onload=f,i.onerror=c}),Bl(n,"link",u),t.state.loading|=4,Hn(n,a.precedence,l),t.instance=n;case"script":return n=Ou(a.src),(e=l.querySelector(Se(n)))?(t.instance=e,Nl(e),e):(u=a,(e=Tt.get(n))&&(u=q({},a),cc(u,e)),l=l.ownerDocument||l,e=l.createElement("script"),Nl(e),Bl(e,"link",u),l.head.appendChild(e),t.instance=e);case"void":return null;default:throw Error(y(443,t.type))}else t.type==="stylesheet"&&(t.state.loading&4)===0&&(u=t.instance,t.state.loading|=4,Hn(u,a.precedence,l));return t.instance}function Hn(l,t,a){for(var u=a.querySelectorAll('link[rel="stylesheet"][data-precedence],style[data-precedence]'),e=u.length?u[u.length-1]:null,n=e,i=0;i<u.length;i++){var f=u[i];if(f.dataset.precedence===t)n=f;else if(n!==e)break}n?n.parentNode.insertBefore(l,n.nextSibling):(t=a.nodeType===9?a.head:a,t.insertBefore(l,t.firstChild))}function fc(l,t){l.crossOrigin==null&&(l.crossOrigin=t.crossOrigin),l.referrerPolicy==null&&(l.referrerPolicy=t.referrerPolicy),l.title==null&&(l.title=t.title)}function cc(l,t){l.crossOrigin==null&&(l.crossOrigin=t.crossOrigin),l.referrerPolicy==null&&(l.referrerPolicy=t.referrerPolicy),l.integrity==null&&(l.integrity=t.integrity)}var Rn=null;function oy(l,t,a){if(Rn===null){var u=new Map,e=Rn=new Map;e.set(a,u)}else e=Rn,u=e.get(a),u||(u=new Map,e.set(a,u));if(u.has(l))return u;for(u.set(l,null),a=a.getElementsByTagName(l),e=0;e<a.length;e++){var n=a[e];if(!(n[xu]||n[Rl]||l==="link"&&n.getAttribute("rel")==="stylesheet")&&n.namespaceURI!=="http://www.w3.org/2000/svg"){var i=n.getAttribute(t)||"";i=l+i;var f=u.get(i);f?f.push(n):u.set(i,[n])}}return u}function hy(l,t,a){l=l.ownerDocument||l,l.head.insertBefore(a,t==="title"?l.querySelector("head > title"):null)}function Ih(l,t,a){if(a===1||t.itemProp!=null)return!1;switch(l){case"meta":case"title":return!0;case"style":if(typeof t.precedence!="string"||typeof t.href!="string"||t.href==="")break;return!0;case"link":if(typeof t.rel!="string"||typeof t.href!="string"||t.href===""||t.onLoad||t.onError)break;return t.rel==="stylesheet"?(l=t.disabled,typeof t.precedence=="string"&&l==null):!0;case"script":if(t.async&&typeof t.async!="function"&&typeof t.async!="symbol"&&!t.onLoad&&!t.onError&&t.src&&typeof t.src=="string")return!0}return!1}function vy(l){return!(l.type==="stylesheet"&&(l.state.loading&3)===0)}function Ph(l,t,a,u){if(a.type==="stylesheet"&&(typeof u.media!="string"||matchMedia(u.media).matches!==!1)&&(a.state.loading&4)===0){if(a.instance===null){var e=Mu(u.href),n=t.querySelector(re(e));if(n){t=n._p,t!==null&&typeof t=="object"&&typeof t.then=="function"&&(l.count++,l=qn.bind(l),t.then(l,l)),a.state.loading|=4,a.instance=n,Nl(n);return}n=t.ownerDocument||t,u=dy(u),(e=Tt.get(e))&&fc(u,e),n=n.createElement("link"),Nl(n);var i=n;i._p=new Promise(function(f,c){i.onload=f,i.onerror=c}),Bl(n,"link",u),a.instance=n}l.stylesheets===null&&(l.stylesheets=new Map),l.stylesheets.set(a,t),(t=a.state.preload)&&(a.state.loading&3)===0&&(l.count++,a=qn.bind(l),t.addEventListener("load",a),t.addEventListener("error",a))}}var sc=0;function lv(l,t){return l.stylesheets&&l.count===0&&Cn(l,l.stylesheets),0<l.count||0<l.imgCount?function(a){var u=setTimeout(function(){if(l.stylesheets&&Cn(l,l.stylesheets),l.unsuspend){var n=l.unsuspend;l.unsuspend=null,n()}},6e4+t);0<l.imgBytes&&sc===0&&(sc=62500*xh());var e=setTimeout(function(){if(l.waitingForImages=!1,l.count===0&&(l.stylesheets&&Cn(l,l.stylesheets),l.unsuspend)){var n=l.unsuspend;l.unsuspend=null,n()}},(l.imgBytes>sc?50:800)+t);return l.unsuspend=a,function(){l.unsuspend=null,clearTimeout(u),clearTimeout(e)}}:null}function qn(){if(this.count--,this.count===0&&(this.imgCount===0||!this.waitingForImages)){if(this.stylesheets)Cn(this,this.stylesheets);else if(this.unsuspend){var l=this.unsuspend;this.unsuspend=null,l()}}}var xn=null;function Cn(l,t){l.stylesheets=null,l.unsuspend!==null&&(l.count++,xn=new Map,t.forEach(tv,l),xn=null,qn.call(l))}function tv(l,t){if(!(t.state.loading&4)){var a=xn.get(l);if(a)var u=a.get(null);else{a=new Map,xn.set(l,a);for(var e=l.querySelectorAll("link[data-precedence],style[data-precedence]"),n=0;n<e.length;n++){var i=e[n];(i.nodeName==="LINK"||i.getAttribute("media")!=="not all")&&(a.set(i.dataset.precedence,i),u=i)}u&&a.set(null,u)}e=t.instance,i=e.getAttribute("data-precedence"),n=a.get(i)||u,n===u&&a.set(null,e),a.set(i,e),this.count++,u=qn.bind(this),e.addEventListener("load",u),e.addEventListener("error",u),n?n.parentNode.insertBefore(e,n.nextSibling):(l=l.nodeType===9?l.head:l,l.insertBefore(e,l.firstChild)),t.state.loading|=4}}var be={$$typeof:El,Provider:null,Consumer:null,_currentValue:C,_currentValue2:C,_threadCount:0};function av(l,t,a,u,e,n,i,f,c){this.tag=1,this.containerInfo=l,this.pingCache=this.current=this.pendingChildren=null,this.timeoutHandle=-1,this.callbackNode=this.next=this.pendingContext=this.context=this.cancelPendingCommit=null,this.callbackPriority=0,this.expirationTimes=ui(-1),this.entangledLanes=this.shellSuspendCounter=this.errorRecoveryDisabledLanes=this.expiredLanes=this.warmLanes=this.pingedLanes=this.suspendedLanes=this.pendingLanes=0,this.entanglements=ui(0),this.hiddenUpdates=ui(null),this.identifierPrefix=u,this.onUncaughtError=e,this.onCaughtError=n,this.onRecoverableError=i,this.pooledCache=null,this.pooledCacheLanes=0,this.formState=c,this.incompleteTransitions=new Map}function my(l,t,a,u,e,n,i,f,c,v,r,z){return l=new av(l,t,a,i,c,v,r,z,f),t=1,n===!0&&(t|=24),n=it(3,null,null,t),l.current=n,n.stateNode=l,t=Xi(),t.refCount++,l.pooledCache=t,t.refCount++,n.memoizedState={element:u,isDehydrated:a,cache:t},Ki(n),l}function gy(l){return l?(l=eu,l):eu}function ry(l,t,a,u,e,n){e=gy(e),u.context===null?u.context=e:u.pendingContext=e,u=ia(t),u.payload={element:a},n=n===void 0?null:n,n!==null&&(u.callback=n),a=fa(l,u,t),a!==null&&(Il(a,l,t),Fu(a,l,t))}function Sy(l,t){if(l=l.memoizedState,l!==null&&l.dehydrated!==null){var a=l.retryLane;l.retryLane=a!==0&&a<t?a:t}}function dc(l,t){Sy(l,t),(l=l.alternate)&&Sy(l,t)}function by(l){if(l.tag===13||l.tag===31){var t=Ha(l,67108864);t!==null&&Il(t,l,67108864),dc(l,67108864)}}function zy(l){if(l.tag===13||l.tag===31){var t=yt();t=ei(t);var a=Ha(l,t);a!==null&&Il(a,l,t),dc(l,t)}}var Bn=!0;function uv(l,t,a,u){var e=S.T;S.T=null;var n=p.p;try{p.p=2,yc(l,t,a,u)}finally{p.p=n,S.T=e}}function ev(l,t,a,u){var e=S.T;S.T=null;var n=p.p;try{p.p=8,yc(l,t,a,u)}finally{p.p=n,S.T=e}}function yc(l,t,a,u){if(Bn){var e=oc(u);if(e===null)Ff(l,t,u,Yn,a),Ey(l,u);else if(iv(e,l,t,a,u))u.stopPropagation();else if(Ey(l,u),t&4&&-1<nv.indexOf(l)){for(;e!==null;){var n=wa(e);if(n!==null)switch(n.tag){case 3:if(n=n.stateNode,n.current.memoizedState.isDehydrated){var i=Ma(n.pendingLanes);if(i!==0){var f=n;for(f.pendingLanes|=2,f.entangledLanes|=2;i;){var c=1<<31-et(i);f.entanglements[1]|=c,i&=~c}Ht(n),(F&6)===0&&(bn=at()+500,he(0))}}break;case 31:case 13:f=Ha(n,2),f!==null&&Il(f,n,2),Tn(),dc(n,2)}if(n=oc(u),n===null&&Ff(l,t,u,Yn,a),n===e)break;e=n}e!==null&&u.stopPropagation()}else Ff(l,t,u,null,a)}}function oc(l){return l=hi(l),hc(l)}var Yn=null;function hc(l){if(Yn=null,l=Ja(l),l!==null){var t=fl(l);if(t===null)l=null;else{var a=t.tag;if(a===13){if(l=dl(t),l!==null)return l;l=null}else if(a===31){if(l=ml(t),l!==null)return l;l=null}else if(a===3){if(t.stateNode.current.memoizedState.isDehydrated)return t.tag===3?t.stateNode.containerInfo:null;l=null}else t!==l&&(l=null)}}return Yn=l,null}function Ty(l){switch(l){case"beforetoggle":case"cancel":case"click":case"close":case"contextmenu":case"copy":case"cut":case"auxclick":case"dblclick":case"dragend":case"dragstart":case"drop":case"focusin":case"focusout":case"input":case"invalid":case"keydown":case"keypress":case"keyup":case"mousedown":case"mouseup":case"paste":case"pause":case"play":case"pointercancel":case"pointerdown":case"pointerup":case"ratechange":case"reset":case"resize":case"seeked":case"submit":case"toggle":case"touchcancel":case"touchend":case"touchstart":case"volumechange":case"change":case"selectionchange":case"textInput":case"compositionstart":case"compositionend":case"compositionupdate":case"beforeblur":case"afterblur":case"beforeinput":case"blur":case"fullscreenchange":case"focus":case"hashchange":case"popstate":case"select":case"selectstart":return 2;case"drag":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"mousemove":case"mouseout":case"mouseover":case"pointermove":case"pointerout":case"pointerover":case"scroll":case"touchmove":case"wheel":case"mouseenter":case"mouseleave":case"pointerenter":case"pointerleave":return 8;case"message":switch(Vy()){case Uc:return 2;case Nc:return 8;case pe:case Ly:return 32;case Hc:return 268435456;default:return 32}default:return 32}}var vc=!1,Sa=null,ba=null,za=null,ze=new Map,Te=new Map,Ta=[],nv="mousedown mouseup touchcancel touchend touchstart auxclick dblclick pointercancel pointerdown pointerup dragend dragstart drop compositionend compositionstart keydown keypress keyup input textInput copy cut paste click change contextmenu reset".split(" ");function Ey(l,t){switch(l){case"focusin":case"focusout":Sa=null;break;case"dragenter":case"dragleave":ba=null;break;case"mouseover":case"mouseout":za=null;break;case"pointerover":case"pointerout":ze.delete(t.pointerId);break;case"gotpointercapture":case"lostpointercapture":Te.delete(t.pointerId)}}function Ee(l,t,a,u,e,n){return l===null||l.nativeEvent!==n?(l={blockedOn:t,domEventName:a,eventSystemFlags:u,nativeEvent:n,targetContainers:[e]},t!==null&&(t=wa(t),t!==null&&by(t)),l):(l.eventSystemFlags|=u,t=l.targetContainers,e!==null&&t.indexOf(e)===-1&&t.push(e),l)}function iv(l,t,a,u,e){switch(t){case"focusin":return Sa=Ee(Sa,l,t,a,u,e),!0;case"dragenter":return ba=Ee(ba,l,t,a,u,e),!0;case"mouseover":return za=Ee(za,l,t,a,u,e),!0;case"pointerover":var n=e.pointerId;return ze.set(n,Ee(ze.get(n)||null,l,t,a,u,e)),!0;case"gotpointercapture":return n=e.pointerId,Te.set(n,Ee(Te.get(n)||null,l,t,a,u,e)),!0}return!1}function _y(l){var t=Ja(l.target);if(t!==null){var a=fl(t);if(a!==null){if(t=a.tag,t===13){if(t=dl(a),t!==null){l.blockedOn=t,Yc(l.priority,function(){zy(a)});return}}else if(t===31){if(t=ml(a),t!==null){l.blockedOn=t,Yc(l.priority,function(){zy(a)});return}}else if(t===3&&a.stateNode.current.memoizedState.isDehydrated){l.blockedOn=a.tag===3?a.stateNode.containerInfo:null;return}}}l.blockedOn=null}function jn(l){if(l.blockedOn!==null)return!1;for(var t=l.targetContainers;0<t.length;){var a=oc(l.nativeEvent);if(a===null){a=l.nativeEvent;var u=new a.constructor(a.type,a);oi=u,a.target.dispatchEvent(u),oi=null}else return t=wa(a),t!==null&&by(t),l.blockedOn=a,!1;t.shift()}return!0}function Ay(l,t,a){jn(l)&&a.delete(t)}function fv(){vc=!1,Sa!==null&&jn(Sa)&&(Sa=null),ba!==null&&jn(ba)&&(ba=null),za!==null&&jn(za)&&(za=null),ze.forEach(Ay),Te.forEach(Ay)}function Gn(l,t){l.blockedOn===t&&(l.blockedOn=null,vc||(vc=!0,A.unstable_scheduleCallback(A.unstable_NormalPriority,fv)))}var Qn=null;function py(l){Qn!==l&&(Qn=l,A.unstable_scheduleCallback(A.unstable_NormalPriority,function(){Qn===l&&(Qn=null);for(var t=0;t<l.length;t+=3){var a=l[t],u=l[t+1],e=l[t+2];if(typeof u!="function"){if(hc(u||a)===null)continue;break}var n=wa(a);n!==null&&(l.splice(t,3),t-=3,of(n,{pending:!0,data:e,method:a.method,action:u},u,e))}}))}function Du(l){function t(c){return Gn(c,l)}Sa!==null&&Gn(Sa,l),ba!==null&&Gn(ba,l),za!==null&&Gn(za,l),ze.forEach(t),Te.forEach(t);for(var a=0;a<Ta.length;a++){var u=Ta[a];u.blockedOn===l&&(u.blockedOn=null)}for(;0<Ta.length&&(a=Ta[0],a.blockedOn===null);)_y(a),a.blockedOn===null&&Ta.shift();if(a=(l.ownerDocument||l).$$reactFormReplay,a!=null)for(u=0;u<a.length;u+=3){var e=a[u],n=a[u+1],i=e[Jl]||null;if(typeof n=="function")i||py(a);else if(i){var f=null;if(n&&n.hasAttribute("formAction")){if(e=n,i=n[Jl]||null)f=i.formAction;else if(hc(e)!==null)continue}else f=i.action;typeof f=="function"?a[u+1]=f:(a.splice(u,3),u-=3),py(a)}}}function My(){function l(n){n.canIntercept&&n.info==="react-transition"&&n.intercept({handler:function(){return new Promise(function(i){return e=i})},focusReset:"manual",scroll:"manual"})}function t(){e!==null&&(e(),e=null),u||setTimeout(a,20)}function a(){if(!u&&!navigation.transition){var n=navigation.currentEntry;n&&n.url!=null&&navigation.navigate(n.url,{state:n.getState(),info:"react-transition",history:"replace"})}}if(typeof navigation=="object"){var u=!1,e=null;return navigation.addEventListener("navigate",l),navigation.addEventListener("navigatesuccess",t),navigation.addEventListener("navigateerror",t),setTimeout(a,100),function(){u=!0,navigation.removeEventListener("navigate",l),navigation.removeEventListener("navigatesuccess",t),navigation.removeEventListener("navigateerror",t),e!==null&&(e(),e=null)}}}function mc(l){this._internalRoot=l}Xn.prototype.render=mc.prototype.render=function(l){var t=this._internalRoot;if(t===null)throw Error(y(409));var a=t.current,u=yt();ry(a,u,l,t,null,null)},Xn.prototype.unmount=mc.prototype.unmount=function(){var l=this._internalRoot;if(l!==null){this._internalRoot=null;var t=l.containerInfo;ry(l.current,2,null,l,null,null),Tn(),t[Ka]=null}};function Xn(l){this._internalRoot=l}Xn.prototype.unstable_scheduleHydration=function(l){if(l){var t=Bc();l={blockedOn:null,target:l,priority:t};for(var a=0;a<Ta.length&&t!==0&&t<Ta[a].priority;a++);Ta.splice(a,0,l),a===0&&_y(l)}};var Oy=al.version;if(Oy!=="19.2.3")throw Error(y(527,Oy,"19.2.3"));p.findDOMNode=function(l){var t=l._reactInternals;if(t===void 0)throw typeof l.render=="function"?Error(y(188)):(l=Object.keys(l).join(","),Error(y(268,l)));return l=E(t),l=l!==null?w(l):null,l=l===null?null:l.stateNode,l};var cv={bundleType:0,version:"19.2.3",rendererPackageName:"react-dom",currentDispatcherRef:S,reconcilerVersion:"19.2.3"};if(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__!="undefined"){var Zn=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(!Zn.isDisabled&&Zn.supportsFiber)try{Hu=Zn.inject(cv),ut=Zn}catch(l){}}return Uu.createRoot=function(l,t){if(!R(l))throw Error(y(299));var a=!1,u="",e=x0,n=C0,i=B0;return t!=null&&(t.unstable_strictMode===!0&&(a=!0),t.identifierPrefix!==void 0&&(u=t.identifierPrefix),t.onUncaughtError!==void 0&&(e=t.onUncaughtError),t.onCaughtError!==void 0&&(n=t.onCaughtError),t.onRecoverableError!==void 0&&(i=t.onRecoverableError)),t=my(l,1,!1,null,null,a,u,null,e,n,i,My),l[Ka]=t.current,kf(l),new mc(t)},Uu.hydrateRoot=function(l,t,a){if(!R(l))throw Error(y(299));var u=!1,e="",n=x0,i=C0,f=B0,c=null;return a!=null&&(a.unstable_strictMode===!0&&(u=!0),a.identifierPrefix!==void 0&&(e=a.identifierPrefix),a.onUncaughtError!==void 0&&(n=a.onUncaughtError),a.onCaughtError!==void 0&&(i=a.onCaughtError),a.onRecoverableError!==void 0&&(f=a.onRecoverableError),a.formState!==void 0&&(c=a.formState)),t=my(l,1,!0,t,a!=null?a:null,u,e,c,n,i,f,My),t.context=gy(null),a=t.current,u=yt(),u=ei(u),e=ia(u),e.callback=null,fa(a,e,u),a=u,t.current.lanes=a,qu(t,a),Ht(t),l[Ka]=t.current,kf(l),new Xn(t)},Uu.version="19.2.3",Uu}var Ac;function By(){if(Ac)return Vn.exports;Ac=1;function A(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__=="undefined"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(A)}catch(al){console.error(al)}}return A(),Vn.exports=Cy(),Vn.exports}var Yy=By(),$n=wn();function jy({columns:A,rows:al,pageSize:_,emptyText:y,density:R,editable:fl,deletable:dl,getRowKey:ml,onEdit:N,onDelete:E}){const[w,q]=$n.useState(0),I=Math.max(1,_),Ol=$n.useMemo(()=>Math.max(1,Math.ceil(al.length/I)),[al.length,I]),gl=Math.min(Math.max(0,w),Ol-1),Ul=$n.useMemo(()=>{const yl=gl*I;return al.slice(yl,yl+I)},[al,gl,I]),lt=fl||dl;return A.length?k.jsxs("div",{className:`tw-wrapper tw-density-${R}`,children:[k.jsx("div",{className:"tw-table-container",children:k.jsxs("table",{className:"tw-table",children:[k.jsx("thead",{children:k.jsxs("tr",{children:[A.map(yl=>{var Zl;return k.jsx("th",{className:"tw-th",style:{textAlign:(Zl=yl.align)!=null?Zl:"center"},children:yl.label},yl.key)}),lt&&k.jsx("th",{className:"tw-th tw-actions-header",children:"Actions"})]})}),k.jsx("tbody",{children:Ul.length===0?k.jsx("tr",{children:k.jsx("td",{colSpan:A.length+(lt?1:0),className:"tw-empty",children:y})}):Ul.map((yl,Zl)=>k.jsxs("tr",{className:Zl%2===0?"tw-row-even":"tw-row-odd",children:[A.map(El=>{var jl,tt;return k.jsx("td",{className:"tw-td",style:{textAlign:(jl=El.align)!=null?jl:"center"},children:String((tt=yl[El.key])!=null?tt:"")},El.key)}),lt&&k.jsx("td",{className:"tw-td tw-actions-cell",children:k.jsxs("div",{className:"tw-actions",children:[fl&&N&&k.jsx("button",{className:"tw-action tw-action-edit",onClick:()=>N(yl),title:"Edit",type:"button",children:k.jsxs("svg",{viewBox:"0 0 24 24",width:"18",height:"18",fill:"none",stroke:"currentColor",strokeWidth:"2",strokeLinecap:"round",strokeLinejoin:"round",children:[k.jsx("path",{d:"M12 20h9"}),k.jsx("path",{d:"M16.5 3.5a2.1 2.1 0 0 1 3 3L7 19l-4 1 1-4Z"})]})}),dl&&E&&k.jsx("button",{className:"tw-action tw-action-delete",onClick:()=>E(yl),title:"Delete",type:"button",children:k.jsxs("svg",{viewBox:"0 0 24 24",width:"18",height:"18",fill:"none",stroke:"currentColor",strokeWidth:"2",strokeLinecap:"round",strokeLinejoin:"round",children:[k.jsx("path",{d:"M3 6h18"}),k.jsx("path",{d:"M8 6V4h8v2"}),k.jsx("path",{d:"M19 6l-1 14H6L5 6"}),k.jsx("path",{d:"M10 11v6"}),k.jsx("path",{d:"M14 11v6"})]})})]})})]},ml(yl,Zl)))})]})}),Ol>1&&k.jsxs("div",{className:"tw-pagination",children:[k.jsx("button",{className:"tw-page-btn",disabled:gl===0,onClick:()=>q(()=>Math.max(0,gl-1)),type:"button",children:"◀"}),k.jsxs("span",{className:"tw-page-info",children:["Page ",gl+1," / ",Ol]}),k.jsx("button",{className:"tw-page-btn",disabled:gl>=Ol-1,onClick:()=>q(()=>Math.min(Ol-1,gl+1)),type:"button",children:"▶"})]})]}):k.jsx("div",{className:"tw-empty",children:"No columns defined"})}const Gy=`/*! tailwindcss v4.1.18 | MIT License | https://tailwindcss.com */
-@layer properties{@supports (((-webkit-hyphens:none)) and (not (margin-trim:inline))) or ((-moz-orient:inline) and (not (color:rgb(from red r g b)))){*,:before,:after,::backdrop{--tw-shadow:0 0 #0000;--tw-shadow-color:initial;--tw-shadow-alpha:100%;--tw-inset-shadow:0 0 #0000;--tw-inset-shadow-color:initial;--tw-inset-shadow-alpha:100%;--tw-ring-color:initial;--tw-ring-shadow:0 0 #0000;--tw-inset-ring-color:initial;--tw-inset-ring-shadow:0 0 #0000;--tw-ring-inset:initial;--tw-ring-offset-width:0px;--tw-ring-offset-color:#fff;--tw-ring-offset-shadow:0 0 #0000}}}.static{position:static}.shadow{--tw-shadow:0 1px 3px 0 var(--tw-shadow-color,#0000001a),0 1px 2px -1px var(--tw-shadow-color,#0000001a);box-shadow:var(--tw-inset-shadow),var(--tw-inset-ring-shadow),var(--tw-ring-offset-shadow),var(--tw-ring-shadow),var(--tw-shadow)}:host{width:100%;min-width:0;height:100%;display:block}.tw-root{flex-direction:column;width:100%;min-width:0;height:100%;display:flex}.tw-wrapper{box-sizing:border-box;flex-direction:column;flex:1;width:100%;min-width:0;height:100%;display:flex}.tw-table-container{background:#fff;flex:1;width:100%;min-width:0;overflow:auto}.tw-table{border-collapse:separate;border-spacing:0;color:#1f2937;width:100%}.tw-th{z-index:2;color:#374151;text-align:center;white-space:nowrap;background:#f8fafc;border-bottom:1px solid #d1d5db;font-weight:600;position:sticky;top:0}.tw-td{text-align:center;vertical-align:middle;color:#1f2937;white-space:nowrap;border-bottom:1px solid #e5e7eb}.tw-density-compact .tw-th,.tw-density-compact .tw-td{padding:10px 12px;font-size:13.5px}.tw-density-normal .tw-th,.tw-density-normal .tw-td{padding:16px 20px;font-size:14.5px}.tw-density-comfortable .tw-th,.tw-density-comfortable .tw-td{padding:20px 24px;font-size:15px}.tw-row-even{background:#fff}.tw-row-odd{background:#f9fafb}.tw-row-even:hover,.tw-row-odd:hover{background:#eef2ff}.tw-empty{text-align:center;color:#6b7280;padding:32px;font-style:italic}.tw-actions-header{text-align:right;white-space:nowrap;width:1%}.tw-actions-cell{text-align:right}.tw-actions{align-items:center;gap:10px;display:inline-flex}.tw-action{cursor:pointer;color:#64748b;background:0 0;border:none;border-radius:6px;padding:6px;transition:background .15s,color .15s}.tw-action:hover{background:#0000000d}.tw-action-edit:hover{color:#2563eb}.tw-action-delete:hover{color:#dc2626}.tw-pagination{flex-shrink:0;justify-content:center;align-items:center;gap:16px;padding:16px 0;display:flex}.tw-page-btn{color:#374151;cursor:pointer;background:#fff;border:1px solid #d1d5db;border-radius:6px;padding:6px 12px;transition:background .15s}.tw-page-btn:hover:not(:disabled){background:#f3f4f6}.tw-page-btn:disabled{opacity:.4;cursor:not-allowed}.tw-page-info{color:#4b5563;font-size:14px}@property --tw-shadow{syntax:"*";inherits:false;initial-value:0 0 #0000}@property --tw-shadow-color{syntax:"*";inherits:false}@property --tw-shadow-alpha{syntax:"<percentage>";inherits:false;initial-value:100%}@property --tw-inset-shadow{syntax:"*";inherits:false;initial-value:0 0 #0000}@property --tw-inset-shadow-color{syntax:"*";inherits:false}@property --tw-inset-shadow-alpha{syntax:"<percentage>";inherits:false;initial-value:100%}@property --tw-ring-color{syntax:"*";inherits:false}@property --tw-ring-shadow{syntax:"*";inherits:false;initial-value:0 0 #0000}@property --tw-inset-ring-color{syntax:"*";inherits:false}@property --tw-inset-ring-shadow{syntax:"*";inherits:false;initial-value:0 0 #0000}@property --tw-ring-inset{syntax:"*";inherits:false}@property --tw-ring-offset-width{syntax:"<length>";inherits:false;initial-value:0}@property --tw-ring-offset-color{syntax:"*";inherits:false;initial-value:#fff}@property --tw-ring-offset-shadow{syntax:"*";inherits:false;initial-value:0 0 #0000}`;function _e(A,al){try{const _=JSON.parse(A);return Array.isArray(_)?_:al}catch(_){return al}}function pc(A,al,_){const y=typeof A=="number"?A:Number(A);return Number.isFinite(y)?Math.max(_,Math.trunc(y)):al}function kn(A){return A==="compact"||A==="comfortable"||A==="normal"?A:"normal"}class Mc extends HTMLElement{constructor(){super(...arguments);Xl(this,"root",null);Xl(this,"_columns",[]);Xl(this,"_rows",[]);Xl(this,"_pageSize",5);Xl(this,"_rowIdKey","id");Xl(this,"_editable",!0);Xl(this,"_deletable",!0);Xl(this,"_density","normal");Xl(this,"_emptyText","No data");Xl(this,"_columnsRaw",null);Xl(this,"_rowsRaw",null);Xl(this,"_renderQueued",!1);Xl(this,"getRowKey",(_,y)=>{const R=_==null?void 0:_[this._rowIdKey];return R==null?String(y):String(R)})}attributeChangedCallback(_,y,R){if(_==="editable"){this.editable=R!==null;return}if(_==="deletable"){this.deletable=R!==null;return}if(R!=null)switch(_){case"columns":this.columns=R;break;case"rows":this.rows=R;break;case"page-size":this.pageSize=R;break;case"row-id-key":this.rowIdKey=R||"id";break;case"density":this.density=kn(R);break;case"empty-text":this.emptyText=R||"No data";break}}set columns(_){if(typeof _=="string"){if(_===this._columnsRaw)return;this._columnsRaw=_,this._columns=_e(_,[])}else this._columnsRaw=null,this._columns=Array.isArray(_)?_:[];this.queueRender()}get columns(){return this._columns}set rows(_){if(typeof _=="string"){if(_===this._rowsRaw)return;this._rowsRaw=_,this._rows=_e(_,[])}else this._rowsRaw=null,this._rows=Array.isArray(_)?_:[];this.queueRender()}get rows(){return this._rows}set pageSize(_){const y=pc(_,10,1);y!==this._pageSize&&(this._pageSize=y,this.queueRender())}get pageSize(){return this._pageSize}set rowIdKey(_){const y=(_||"id").trim();y!==this._rowIdKey&&(this._rowIdKey=y,this.queueRender())}get rowIdKey(){return this._rowIdKey}set editable(_){const y=!!_;y!==this._editable&&(this._editable=y,this.queueRender())}get editable(){return this._editable}set deletable(_){const y=!!_;y!==this._deletable&&(this._deletable=y,this.queueRender())}get deletable(){return this._deletable}set density(_){const y=kn(_);y!==this._density&&(this._density=y,this.queueRender())}get density(){return this._density}set emptyText(_){const y=(_||"No data").trim();y!==this._emptyText&&(this._emptyText=y,this.queueRender())}get emptyText(){return this._emptyText}upgradeProperty(_){const y=this;if(Object.prototype.hasOwnProperty.call(y,_)){const R=y[_];delete y[_],y[_]=R}}syncFromAttributes(){const _=this.getAttribute("page-size");_!=null&&(this._pageSize=pc(_,10,1));const y=this.getAttribute("row-id-key");y!=null&&y.trim()&&(this._rowIdKey=y.trim());const R=this.getAttribute("density");R!=null&&(this._density=kn(R));const fl=this.getAttribute("empty-text");fl!=null&&(this._emptyText=fl),this._editable=this.hasAttribute("editable"),this._deletable=this.hasAttribute("deletable");const dl=this.getAttribute("columns");dl!=null&&dl!==this._columnsRaw&&(this._columnsRaw=dl,this._columns=_e(dl,[]));const ml=this.getAttribute("rows");ml!=null&&ml!==this._rowsRaw&&(this._rowsRaw=ml,this._rows=_e(ml,[]))}connectedCallback(){if(this.shadowRoot)return;this.upgradeProperty("pageSize"),this.upgradeProperty("rowIdKey"),this.upgradeProperty("editable"),this.upgradeProperty("deletable"),this.upgradeProperty("density"),this.upgradeProperty("emptyText"),this.upgradeProperty("columns"),this.upgradeProperty("rows"),this.syncFromAttributes();const _=this.attachShadow({mode:"open"}),y=document.createElement("style");y.textContent=Gy;const R=document.createElement("div");R.className="tw-root",_.append(y,R),this.root=Yy.createRoot(R),this.queueRender()}disconnectedCallback(){var _;(_=this.root)==null||_.unmount(),this.root=null}queueRender(){this._renderQueued||(this._renderQueued=!0,queueMicrotask(()=>{this._renderQueued=!1,this.renderNow()}))}fire(_,y){const R=y==null?void 0:y[this._rowIdKey],fl={id:R==null?void 0:String(R),row:y};this.dispatchEvent(new CustomEvent(_,{detail:fl,bubbles:!0,composed:!0}))}renderNow(){if(!this.root)return;const _=this._editable,y=this._deletable;this.root.render(k.jsx(jy,{columns:this._columns,rows:this._rows,pageSize:this._pageSize,emptyText:this._emptyText,density:this._density,editable:_,deletable:y,getRowKey:this.getRowKey,onEdit:_?R=>this.fire("row-edit",R):void 0,onDelete:y?R=>this.fire("row-delete",R):void 0}))}}Xl(Mc,"observedAttributes",["columns","rows","page-size","row-id-key","editable","deletable","density","empty-text"]),customElements.get("react-data-table")||customElements.define("react-data-table",Mc)})();
@@ -0,0 +1,114 @@
+package com.company.jmixwebcomponent.app;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Application-wide cache of reference data shown in lookup fields, e.g. the time zone ids of
+ * {@code UserDetailView}. Each list is built once on first use, kept immutable and shared by all sessions;
+ * fields take only the filtered page they display with {@link #fetch}, e.g. from a lazy ComboBox data provider:
+ * <pre>
+ * comboBox.setItems(query -&gt; lookupDataCache.fetch(LookupDataCache.TIME_ZONES,
+ *         query.getFilter().orElse(null), query.getOffset(), query.getLimit()));
+ * </pre>
+ * Other lookups are added as further {@link LookupKey} constants.
+ */
+@Component("app_LookupDataCache")
+public class LookupDataCache {
+
+    public static final LookupKey<String> TIME_ZONES = new LookupKey<>("timeZones",
+            () -> Arrays.stream(TimeZone.getAvailableIDs()).sorted().toList(),
+            Function.identity());
+
+    /**
+     * Identifies a lookup list, compared by identity: declare keys as constants.
+     *
+     * @param <T> item type
+     */
+    public static final class LookupKey<T> {
+
+        private final String name;
+        private final Supplier<List<T>> loader;
+        private final Function<T, String> label;
+
+        /**
+         * @param loader builds the list in display order
+         * @param label  text matched by the filter
+         */
+        public LookupKey(String name, Supplier<List<T>> loader, Function<T, String> label) {
+            this.name = name;
+            this.loader = loader;
+            this.label = label;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    // items with their lower-case labels, so filtering does not convert them on every keystroke
+    private record Lookup<T>(List<T> items, List<String> searchTexts) {
+    }
+
+    private final Map<LookupKey<?>, Lookup<?>> lookups = new ConcurrentHashMap<>();
+
+    /**
+     * @return all items of the lookup, immutable
+     */
+    public <T> List<T> getItems(LookupKey<T> key) {
+        return lookup(key).items();
+    }
+
+    /**
+     * Returns a page of the items whose label contains {@code filter}, ignoring case.
+     *
+     * @param filter text typed into the field, {@code null} or empty for all items
+     */
+    public <T> Stream<T> fetch(LookupKey<T> key, @Nullable String filter, int offset, int limit) {
+        return filter(key, filter).skip(offset).limit(limit);
+    }
+
+    public <T> int count(LookupKey<T> key, @Nullable String filter) {
+        return (int) filter(key, filter).count();
+    }
+
+    /**
+     * Drops the list, the next call builds it again.
+     */
+    public void invalidate(LookupKey<?> key) {
+        lookups.remove(key);
+    }
+
+    private <T> Stream<T> filter(LookupKey<T> key, @Nullable String filter) {
+        Lookup<T> lookup = lookup(key);
+        if (filter == null || filter.isBlank()) return lookup.items().stream();
+
+        String text = filter.trim().toLowerCase(Locale.ROOT);
+        return IntStream.range(0, lookup.items().size())
+                .filter(i -> lookup.searchTexts().get(i).contains(text))
+                .mapToObj(lookup.items()::get);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Lookup<T> lookup(LookupKey<T> key) {
+        return (Lookup<T>) lookups.computeIfAbsent(key, k -> {
+            List<T> items = List.copyOf(key.loader.get());
+            List<String> searchTexts = items.stream()
+                    .map(item -> key.label.apply(item).toLowerCase(Locale.ROOT))
+                    .toList();
+            return new Lookup<>(items, searchTexts);
+        });
+    }
+}
@@ -0,0 +1,160 @@
+package com.company.jmixwebcomponent.app;
+
+import com.company.jmixwebcomponent.component.ReactDataTableSearchIndex;
+import com.company.jmixwebcomponent.component.TrigramIndex;
+import com.company.jmixwebcomponent.entity.User;
+import io.jmix.core.DataManager;
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.core.security.SystemAuthenticator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Trigram index over the user attributes shown in {@code ReactDataTableView}, so type-ahead filtering does not
+ * scan the whole USER_ table with {@code like '%text%'}.
+ * <p>
+ * Built in the background after startup on a thread of its own, then kept up to date from {@link EntityChangedEvent}s. Until the index
+ * is built, and for queries it cannot answer, the table falls back to the {@code like} query.
+ * Memory grows with the number of users: roughly the lower-case texts plus four bytes per distinct trigram
+ * of each user.
+ */
+@Component("app_UserSearchIndex")
+public class UserSearchIndex implements ReactDataTableSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSearchIndex.class);
+
+    public static final List<String> PROPERTIES = List.of("username", "firstName", "lastName", "email");
+
+    private static final int LOAD_BATCH = 10_000;
+
+    private final DataManager dataManager;
+    private final SystemAuthenticator systemAuthenticator;
+    private final boolean enabled;
+    // larger results are cheaper to filter in the database than to pass as an id list
+    private final int maxIds;
+
+    private final TrigramIndex<UUID> index = new TrigramIndex<>(PROPERTIES.size());
+    private volatile boolean ready;
+    // users changed while the index was being built, indexed again afterwards
+    private final Set<UUID> changedDuringBuild = ConcurrentHashMap.newKeySet();
+
+    // not the common pool: the build queries the database for minutes on large tables
+    private final ExecutorService builder = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "user-search-index-build");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public UserSearchIndex(DataManager dataManager, SystemAuthenticator systemAuthenticator,
+                           @Value("${app.user-search-index.enabled:true}") boolean enabled,
+                           @Value("${app.user-search-index.max-ids:5000}") int maxIds) {
+        this.dataManager = dataManager;
+        this.systemAuthenticator = systemAuthenticator;
+        this.enabled = enabled;
+        this.maxIds = maxIds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) return;
+
+        CompletableFuture.runAsync(() -> systemAuthenticator.runWithSystem(this::build), builder)
+                .exceptionally(e -> {
+                    log.error("Cannot build the user search index, filtering uses like queries", e);
+                    return null;
+                });
+    }
+
+    private void build() {
+        long start = System.currentTimeMillis();
+        UUID lastId = null;
+
+        while (true) {
+            // keyset over the primary key: every batch costs the same
+            List<User> users = dataManager.load(User.class)
+                    .query(lastId == null
+                            ? "select e from User e order by e.id"
+                            : "select e from User e where e.id > :lastId order by e.id")
+                    .parameters(lastId == null ? Map.of() : Map.of("lastId", lastId))
+                    .fetchPlan(builder -> builder.addAll(PROPERTIES.toArray(String[]::new)))
+                    .maxResults(LOAD_BATCH)
+                    .list();
+
+            users.forEach(this::put);
+            if (users.size() < LOAD_BATCH) break;
+            lastId = users.get(users.size() - 1).getId();
+        }
+
+        ready = true;
+        for (UUID id : changedDuringBuild) {
+            reindex(id);
+        }
+        changedDuringBuild.clear();
+
+        log.info("User search index built: {} users in {} ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(EntityChangedEvent<User> event) {
+        if (!enabled) return;
+
+        UUID id = (UUID) event.getEntityId().getValue();
+        if (!ready) {
+            changedDuringBuild.add(id);
+        }
+
+        if (event.getType() == EntityChangedEvent.Type.DELETED) {
+            index.remove(id);
+        } else {
+            systemAuthenticator.runWithSystem(() -> reindex(id));
+        }
+    }
+
+    private void reindex(UUID id) {
+        dataManager.load(User.class)
+                .id(id)
+                .fetchPlan(builder -> builder.addAll(PROPERTIES.toArray(String[]::new)))
+                .optional()
+                .ifPresentOrElse(this::put, () -> index.remove(id));
+    }
+
+    private void put(User user) {
+        index.put(user.getId(), user.getUsername(), user.getFirstName(), user.getLastName(), user.getEmail());
+    }
+
+    @Nullable
+    @Override
+    public Collection<?> search(String text, List<String> keys) {
+        if (!ready || text == null) return null;
+
+        int[] fields = new int[keys.size()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = PROPERTIES.indexOf(keys.get(i));
+            if (fields[i] < 0) return null; // not indexed
+        }
+
+        return index.search(text, fields, maxIds);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+}
@@ -0,0 +1,132 @@
+package com.company.jmixwebcomponent.component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Encodes table rows in the compact columnar format understood by the {@code react-data-table} element.
+ * <p>
+ * Instead of an array of objects that repeats every key in every row, the rows are written column by column:
+ * <pre>
+ * {"n":2,
+ *  "keys":["id","username","active"],
+ *  "cols":[["a1","b2"], ["admin","bob"], {"dict":[true,false],"idx":[0,1]}]}
+ * </pre>
+ * Low-cardinality columns (booleans, time zones, statuses...) are dictionary-encoded:
+ * {@code dict} holds the distinct values and {@code idx} the index of each row's value.
+ */
+public final class ColumnarRowsEncoder {
+
+    /**
+     * Columns with more distinct values than this are always written as plain arrays.
+     */
+    public static final int MAX_DICTIONARY_SIZE = 256;
+
+    /**
+     * Cell accessor, lets the encoder read values without materializing rows.
+     */
+    @FunctionalInterface
+    public interface ValueSource {
+
+        Object get(int column, int row);
+    }
+
+    private ColumnarRowsEncoder() {
+    }
+
+    /**
+     * Encodes rows using the union of their keys, in first-seen order.
+     */
+    public static String encode(List<? extends Map<String, ?>> rows) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (Map<String, ?> row : rows) {
+            keys.addAll(row.keySet());
+        }
+        return encode(new ArrayList<>(keys), rows);
+    }
+
+    public static String encode(List<String> keys, List<? extends Map<String, ?>> rows) {
+        return encode(keys, rows.size(), (c, r) -> rows.get(r).get(keys.get(c)));
+    }
+
+    public static String encode(List<String> keys, int rowCount, ValueSource values) {
+        return RowJson.write(new RowJson.Payload() {
+            @Override
+            public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+                write(gen, provider, keys, rowCount, values);
+            }
+        });
+    }
+
+    static void write(JsonGenerator gen, SerializerProvider provider,
+                      List<String> keys, int rowCount, ValueSource values) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("n", rowCount);
+
+        gen.writeArrayFieldStart("keys");
+        for (String key : keys) {
+            gen.writeString(key);
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("cols");
+        for (int c = 0; c < keys.size(); c++) {
+            writeColumn(gen, provider, c, rowCount, values);
+        }
+        gen.writeEndArray();
+
+        gen.writeEndObject();
+    }
+
+    private static void writeColumn(JsonGenerator gen, SerializerProvider provider,
+                                    int column, int rowCount, ValueSource values) throws IOException {
+        Map<Object, Integer> dictionary = buildDictionary(column, rowCount, values);
+
+        if (dictionary == null) {
+            gen.writeStartArray();
+            for (int r = 0; r < rowCount; r++) {
+                RowJson.writeValue(gen, provider, values.get(column, r));
+            }
+            gen.writeEndArray();
+            return;
+        }
+
+        gen.writeStartObject();
+
+        gen.writeArrayFieldStart("dict");
+        for (Object value : dictionary.keySet()) {
+            RowJson.writeValue(gen, provider, value);
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("idx");
+        for (int r = 0; r < rowCount; r++) {
+            gen.writeNumber(dictionary.get(values.get(column, r)));
+        }
+        gen.writeEndArray();
+
+        gen.writeEndObject();
+    }
+
+    /**
+     * Returns value-to-index mapping if dictionary encoding makes the column smaller, otherwise {@code null}.
+     */
+    private static Map<Object, Integer> buildDictionary(int column, int rowCount, ValueSource values) {
+        // a dictionary only pays off when values repeat
+        int limit = Math.min(MAX_DICTIONARY_SIZE, rowCount / 2);
+        if (limit < 1) return null;
+
+        Map<Object, Integer> dictionary = new LinkedHashMap<>();
+        for (int r = 0; r < rowCount; r++) {
+            Object value = values.get(column, r);
+            if (!dictionary.containsKey(value)) {
+                if (dictionary.size() == limit) return null;
+                dictionary.put(value, dictionary.size());
+            }
+        }
+        return dictionary;
+    }
+}
@@ -0,0 +1,375 @@
+package com.company.jmixwebcomponent.component;
+
+import io.jmix.core.DataManager;
+import io.jmix.core.FluentLoader;
+import io.jmix.core.FluentValueLoader;
+import io.jmix.core.Metadata;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link ReactDataTableDataProvider} that loads JPA entities with {@link DataManager}
+ * using {@code firstResult}/{@code maxResults}.
+ * <p>
+ * Sorting and filtering are pushed down to the database: the sorted column becomes the JPQL {@code order by}
+ * and the filter text a case-insensitive {@code like} over the filterable string properties.
+ * <p>
+ * Only the attributes of the table's columns are loaded (see {@link ReactDataTableQuery#getProperties()}),
+ * plus {@link #withFetchProperties(String...) extra attributes} read by the row serializer.
+ * <p>
+ * With a {@link #withSearchIndex(ReactDataTableSearchIndex) search index} the filter becomes
+ * {@code e.id in :searchIds} with the ids found by the index, whenever the index can answer the query.
+ * <p>
+ * With {@link #withKeysetPaging(String) keyset paging} pages are loaded as "rows after the last row of the
+ * previous page" instead of skipping {@code firstResult} rows, so a deep page costs the same as the first one.
+ *
+ * @param <E> entity type
+ */
+public class DataManagerDataProvider<E> implements ReactDataTableDataProvider<E> {
+
+    // seek keys remembered for the current sort/filter
+    private static final int MAX_SEEK_KEYS = 10_000;
+
+    private static final Pattern ORDER_BY_PROPERTY = Pattern.compile("\\be\\.(\\w+)");
+
+    private final DataManager dataManager;
+    private final Class<E> entityClass;
+    private final MetaClass metaClass;
+    private final String entityName;
+
+    private String orderBy;
+    private List<String> fetchProperties = List.of();
+    private ReactDataTableSearchIndex searchIndex;
+
+    private boolean keysetPaging;
+    private String keysetDefaultSortKey;
+
+    // sort/filter the seek keys belong to
+    private String seekSignature;
+    // row offset -> sort value and id of the row just before it
+    private final NavigableMap<Integer, SeekKey> seekKeys = new TreeMap<>();
+
+    public DataManagerDataProvider(DataManager dataManager, Metadata metadata, Class<E> entityClass) {
+        this.dataManager = dataManager;
+        this.entityClass = entityClass;
+        this.metaClass = metadata.getClass(entityClass);
+        this.entityName = metaClass.getName();
+    }
+
+    private DataManagerDataProvider(DataManagerDataProvider<E> source) {
+        this.dataManager = source.dataManager;
+        this.entityClass = source.entityClass;
+        this.metaClass = source.metaClass;
+        this.entityName = source.entityName;
+        this.orderBy = source.orderBy;
+        this.fetchProperties = source.fetchProperties;
+        this.searchIndex = source.searchIndex;
+        this.keysetPaging = source.keysetPaging;
+        this.keysetDefaultSortKey = source.keysetDefaultSortKey;
+    }
+
+    /**
+     * Sets the default JPQL order by clause without the {@code order by} keyword, e.g. {@code "e.username"}.
+     * It is used when the table is not sorted by a column.
+     */
+    public DataManagerDataProvider<E> withOrderBy(String orderBy) {
+        this.orderBy = orderBy;
+        return this;
+    }
+
+    /**
+     * Adds attributes to the fetch plan derived from the table columns, e.g. attributes a computed column of
+     * the row serializer reads. Items are partially loaded: reading any other attribute fails.
+     */
+    public DataManagerDataProvider<E> withFetchProperties(String... properties) {
+        this.fetchProperties = List.of(properties);
+        return this;
+    }
+
+    /**
+     * Filters by the ids found in {@code searchIndex} instead of {@code like} over the filterable columns,
+     * falling back to {@code like} for queries the index cannot answer.
+     */
+    public DataManagerDataProvider<E> withSearchIndex(ReactDataTableSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+        return this;
+    }
+
+    /**
+     * Enables keyset (seek) pagination: the next page is loaded with
+     * {@code (e.<sortKey> > :value or (e.<sortKey> = :value and e.id > :id))} ordered by the sort key and id,
+     * so the database reads only the requested rows from an index on {@code (<sortKey>, ID)}.
+     * <p>
+     * Keyset paging is used for mandatory properties only: null ordering differs between databases. For other
+     * sort columns and for pages far from any already loaded page the provider falls back to
+     * {@code firstResult}.
+     *
+     * @param defaultSortKey property used when the table is not sorted by a column, e.g. {@code "username"}
+     */
+    public DataManagerDataProvider<E> withKeysetPaging(String defaultSortKey) {
+        this.keysetPaging = true;
+        this.keysetDefaultSortKey = defaultSortKey;
+        return this;
+    }
+
+    @Override
+    public List<E> fetch(ReactDataTableQuery query) {
+        Collection<?> searchIds = search(query);
+        if (searchIds != null && searchIds.isEmpty()) return List.of();
+
+        String seekProperty = getSeekProperty(query);
+        if (seekProperty != null) {
+            return fetchBySeek(query, seekProperty, searchIds);
+        }
+
+        String where = buildWhere(query, searchIds, null);
+        String jpql = "select e from " + entityName + " e" + where + buildOrderBy(query);
+
+        FluentLoader.ByQuery<E> loader = dataManager.load(entityClass)
+                .query(jpql)
+                .firstResult(query.getFirstResult())
+                .maxResults(query.getMaxResults());
+        applyFetchPlan(loader, query, null);
+        setFilterParameter(loader::parameter, query, where, searchIds);
+
+        return loader.list();
+    }
+
+    /**
+     * Loads the entities by id in one query with the fetch plan of the table's pages, so a reloaded row holds
+     * the same attributes as a row of a page.
+     */
+    @Override
+    public List<E> fetchByIds(Collection<String> ids, ReactDataTableQuery query) {
+        if (ids.isEmpty()) return List.of();
+
+        FluentLoader.ByQuery<E> loader = dataManager.load(entityClass)
+                .query("select e from " + entityName + " e where e.id in :ids")
+                .parameter("ids", ids.stream().map(this::parseId).toList());
+        applyFetchPlan(loader, query, null);
+
+        return loader.list();
+    }
+
+    protected Object parseId(String id) {
+        Class<?> type = metaClass.getProperty("id").getJavaType();
+        if (UUID.class.equals(type)) return UUID.fromString(id);
+        if (Long.class.equals(type)) return Long.valueOf(id);
+        if (Integer.class.equals(type)) return Integer.valueOf(id);
+        return id;
+    }
+
+    /**
+     * Returns a provider with the same settings and its own seek keys.
+     */
+    @Override
+    public DataManagerDataProvider<E> copy() {
+        return new DataManagerDataProvider<>(this);
+    }
+
+    @Override
+    public List<String> getDefaultOrderKeys() {
+        Set<String> keys = new LinkedHashSet<>();
+        if (keysetPaging && keysetDefaultSortKey != null) {
+            keys.add(keysetDefaultSortKey);
+        }
+        if (orderBy != null) {
+            Matcher matcher = ORDER_BY_PROPERTY.matcher(orderBy);
+            while (matcher.find()) keys.add(matcher.group(1));
+        }
+        return List.copyOf(keys);
+    }
+
+    @Override
+    public int count(ReactDataTableQuery query) {
+        // the table counts again after data changes: offsets of remembered rows may have moved
+        seekKeys.clear();
+
+        Collection<?> searchIds = search(query);
+        if (searchIds != null && searchIds.isEmpty()) return 0;
+
+        // ids from the index are counted in the database too: row-level policies may hide some of them
+        String where = buildWhere(query, searchIds, null);
+        String jpql = "select count(e) from " + entityName + " e" + where;
+
+        FluentValueLoader<Long> loader = dataManager.loadValue(jpql, Long.class);
+        setFilterParameter(loader::parameter, query, where, searchIds);
+
+        return loader.one().intValue();
+    }
+
+    protected List<E> fetchBySeek(ReactDataTableQuery query, String seekProperty, Collection<?> searchIds) {
+        boolean ascending = query.getSortKey() == null || query.isAscending();
+
+        String signature = seekProperty + ":" + ascending + ":" + query.getFilterText() + ":" + query.getFilterKeys();
+        if (!signature.equals(seekSignature)) {
+            seekKeys.clear();
+            seekSignature = signature;
+        }
+
+        int first = query.getFirstResult();
+        // nearest known row before the requested one; the rest is skipped with firstResult
+        Map.Entry<Integer, SeekKey> anchor = first == 0 ? null : seekKeys.floorEntry(first);
+
+        String seekCondition = anchor == null ? null : buildSeekCondition(seekProperty, ascending);
+        String where = buildWhere(query, searchIds, seekCondition);
+        String direction = ascending ? " asc" : " desc";
+        String jpql = "select e from " + entityName + " e" + where
+                + " order by e." + seekProperty + direction
+                + ("id".equals(seekProperty) ? "" : ", e.id" + direction);
+
+        FluentLoader.ByQuery<E> loader = dataManager.load(entityClass)
+                .query(jpql)
+                .firstResult(anchor == null ? first : first - anchor.getKey())
+                .maxResults(query.getMaxResults());
+        applyFetchPlan(loader, query, seekProperty);
+
+        setFilterParameter(loader::parameter, query, where, searchIds);
+        if (anchor != null) {
+            loader.parameter("seekValue", anchor.getValue().value());
+            if (!"id".equals(seekProperty)) {
+                loader.parameter("seekId", anchor.getValue().id());
+            }
+        }
+
+        List<E> items = loader.list();
+        if (!items.isEmpty()) {
+            rememberSeekKey(first + items.size(), items.get(items.size() - 1), seekProperty);
+        }
+        return items;
+    }
+
+    /**
+     * Restricts the loaded attributes to the table's columns and the id, so that e.g. the password or other
+     * unused columns do not leave the database. Keeps the default fetch plan if the table has no columns.
+     */
+    protected void applyFetchPlan(FluentLoader.ByQuery<E> loader, ReactDataTableQuery query, String seekProperty) {
+        Set<String> properties = new LinkedHashSet<>();
+        for (String key : query.getProperties()) {
+            // computed row serializer columns are not entity attributes
+            if (metaClass.getPropertyPath(key) != null) properties.add(key);
+        }
+        if (properties.isEmpty()) return;
+
+        if (metaClass.findProperty("id") != null) properties.add("id");
+        // read from the last row of a page to seek the next one
+        if (seekProperty != null) properties.add(seekProperty);
+        properties.addAll(fetchProperties);
+
+        loader.fetchPlan(builder -> builder.addAll(properties.toArray(String[]::new)));
+    }
+
+    protected String buildSeekCondition(String seekProperty, boolean ascending) {
+        String op = ascending ? " > " : " < ";
+        if ("id".equals(seekProperty)) {
+            return "e.id" + op + ":seekValue";
+        }
+        return "(e." + seekProperty + op + ":seekValue"
+                + " or (e." + seekProperty + " = :seekValue and e.id" + op + ":seekId))";
+    }
+
+    /**
+     * @return ids found by the search index, {@code null} if rows are not filtered or the index cannot answer
+     */
+    protected Collection<?> search(ReactDataTableQuery query) {
+        if (searchIndex == null || !query.isFiltered()) return null;
+        return searchIndex.search(query.getFilterText(), query.getFilterKeys());
+    }
+
+    protected String buildWhere(ReactDataTableQuery query, Collection<?> searchIds, String seekCondition) {
+        List<String> clauses = new ArrayList<>();
+
+        if (searchIds != null) {
+            clauses.add("e.id in :searchIds");
+        } else if (query.isFiltered()) {
+            List<String> conditions = new ArrayList<>();
+            for (String key : query.getFilterKeys()) {
+                MetaProperty property = metaClass.findProperty(key);
+                // like only makes sense for string attributes
+                if (property != null && String.class.equals(property.getJavaType())) {
+                    conditions.add("lower(e." + key + ") like :filter escape '\\'");
+                }
+            }
+            if (!conditions.isEmpty()) {
+                clauses.add("(" + String.join(" or ", conditions) + ")");
+            }
+        }
+
+        if (seekCondition != null) {
+            clauses.add(seekCondition);
+        }
+
+        return clauses.isEmpty() ? "" : " where " + String.join(" and ", clauses);
+    }
+
+    protected String buildOrderBy(ReactDataTableQuery query) {
+        String sortKey = query.getSortKey();
+        if (sortKey != null && metaClass.findProperty(sortKey) != null) {
+            String direction = query.isAscending() ? " asc" : " desc";
+            // id as tie-breaker keeps paging stable for non-unique columns
+            String tieBreaker = !"id".equals(sortKey) && metaClass.findProperty("id") != null
+                    ? ", e.id" + direction
+                    : "";
+            return " order by e." + sortKey + direction + tieBreaker;
+        }
+        return orderBy == null || orderBy.isBlank() ? "" : " order by " + orderBy;
+    }
+
+    /**
+     * @return property to seek by or {@code null} if the page has to be loaded with an offset
+     */
+    protected String getSeekProperty(ReactDataTableQuery query) {
+        if (!keysetPaging || metaClass.findProperty("id") == null) return null;
+
+        String key = query.getSortKey() != null ? query.getSortKey() : keysetDefaultSortKey;
+        if (key == null) return null;
+
+        MetaProperty property = metaClass.findProperty(key);
+        if (property == null || !property.getRange().isDatatype()) return null;
+
+        return "id".equals(key) || property.isMandatory() ? key : null;
+    }
+
+    private void rememberSeekKey(int offset, E lastItem, String seekProperty) {
+        Object value = EntityValues.getValue(lastItem, seekProperty);
+        Object id = EntityValues.getId(lastItem);
+        if (value == null || id == null) return;
+
+        seekKeys.put(offset, new SeekKey(value, id));
+
+        if (seekKeys.size() > MAX_SEEK_KEYS) {
+            // drop the key farthest from the page just loaded
+            if (offset - seekKeys.firstKey() > seekKeys.lastKey() - offset) {
+                seekKeys.pollFirstEntry();
+            } else {
+                seekKeys.pollLastEntry();
+            }
+        }
+    }
+
+    private void setFilterParameter(BiConsumer<String, Object> parameter, ReactDataTableQuery query,
+                                    String where, Collection<?> searchIds) {
+        if (searchIds != null) {
+            parameter.accept("searchIds", searchIds);
+        } else if (where.contains(":filter")) {
+            parameter.accept("filter", likePattern(query.getFilterText()));
+        }
+    }
+
+    protected String likePattern(String text) {
+        String escaped = text.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private record SeekKey(Object value, Object id) {
+    }
+}
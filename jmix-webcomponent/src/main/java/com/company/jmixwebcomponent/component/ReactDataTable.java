@@ -1,12 +1,122 @@
 package com.company.jmixwebcomponent.component;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.vaadin.flow.component.*;
-import com.vaadin.flow.component.dependency.JsModule;
+import com.vaadin.flow.server.Command;
+import com.vaadin.flow.server.StreamResource;
 import com.vaadin.flow.shared.Registration;
+import elemental.json.JsonArray;
+import io.jmix.core.common.event.Subscription;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.flowui.component.UiComponentUtils;
+import io.jmix.flowui.view.View;
+import io.jmix.flowui.model.CollectionContainer;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Tag("react-data-table")
-@JsModule("./react-data-table.js")
-public class ReactDataTable extends Component implements HasSize, HasStyle {
+public class ReactDataTable<T> extends Component implements HasSize, HasStyle, ApplicationContextAware {
+
+    // upper bound of rows fetched for one range-request
+    public static final int MAX_RANGE_SIZE = 1000;
+    // upper bound of lazily loaded items kept for findItem()
+    private static final int MAX_LOADED_ITEMS = 2 * MAX_RANGE_SIZE;
+
+    // read by change processing outside of the session lock
+    private volatile List<ReactDataTableColumn> columns = List.of();
+    private volatile String rowIdKey = "id";
+
+    private ReactDataTableDataProvider<T> dataProvider;
+    private RowSerializer<T> rowSerializer;
+    private Registration pageRequestRegistration;
+    private Registration rangeRequestRegistration;
+
+    // items sent in lazy mode by row id, so row events are resolved without a query
+    private final Map<String, T> loadedItems = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+            return size() > MAX_LOADED_ITEMS;
+        }
+    };
+    private Function<String, T> itemResolver;
+    // rowIdKey values of the rows the element shows in lazy mode, also of pages served from the page cache;
+    // read by change resolution outside the session lock
+    private final Set<String> shownIds = Collections.synchronizedSet(Collections.newSetFromMap(
+            new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > MAX_LOADED_ITEMS;
+                }
+            }));
+
+    // null when created outside the Spring context (tests, benchmarks)
+    private ReactDataTableMetrics metrics;
+    private String metricsViewId;
+
+    private ReactDataTableExecutor executor;
+    private boolean asyncLoading;
+    // load running on the executor; loadSequence tells its result from an outdated one
+    private Future<?> pendingLoad;
+    private int loadSequence;
+
+    private ReactDataTablePageCache pageCache;
+    private String pageCacheEntityName;
+    private String pageCacheQueryId;
+    private String pageCacheScope;
+
+    private ReactDataTableBroadcaster changeBroadcaster;
+    private Class<?> changeEntityClass;
+    private Registration changeRegistration;
+    // filled by the broadcaster thread, drained by one executor task for all changes received meanwhile
+    private final Queue<ReactDataTableBroadcaster.Change> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean changesScheduled = new AtomicBoolean();
+    // changes were dropped because the executor was saturated: the shown rows and the count may be outdated
+    private volatile boolean changesDropped;
+
+    private CollectionContainer<T> dataContainer;
+    private final List<Subscription> containerSubscriptions = new ArrayList<>();
+    // rowIdKey value -> hash of the row last sent to the element, in display order
+    private Map<String, Integer> sentRows = new LinkedHashMap<>();
+
+    // rowIdKey values of the selected rows, kept in sync by selection-change events
+    private Set<String> selectedIds = new LinkedHashSet<>();
+
+    private boolean compactRows;
+    private boolean virtualScroll;
+
+    // streaming mode: rows after the first page go out in chunks of this size, 0 = off
+    private int streamChunkSize;
+    private RowStream<?> rowStream;
+    private int rowStreamId;
+    // element rows no longer match the "rows" property, it has to be sent again even if unchanged
+    private boolean rowsAppended;
+    private Registration rowsChunkAckRegistration;
+
+    private int pageSize = 10;
+    private int pageIndex;
+
+    // current sort/filter, applied by the data provider
+    private String sortKey;
+    private boolean ascending = true;
+    private String filterText;
+
+    // cached result of the count query, -1 = not loaded yet
+    private int totalCount = -1;
 
     public ReactDataTable() {
         // ✅ Defaults: không phụ thuộc XML/Studio
@@ -16,46 +126,271 @@ public class ReactDataTable extends Component implements HasSize, HasStyle {
         setDeletable(true);
         setDensity("normal");
         setEmptyText("No data");
+
+        // registered first, so other listeners already see the new selection
+        addSelectionChangeListener(e -> selectedIds = new LinkedHashSet<>(e.getSelectedIds()));
+
+        addAttachListener(e -> {
+            // the element module is not in the Vaadin bundle, only pages with a table download it
+            ReactDataTableModule.load(e.getUI());
+            subscribeToChanges(e.getUI());
+        });
+        // nobody will see the result of a load started for a detached view, nor its row changes
+        addDetachListener(e -> {
+            cancelLoad();
+            unsubscribeFromChanges();
+        });
     }
 
     /* ================= EVENTS ================= */
 
     @DomEvent("row-edit")
     public static class RowEditEvent extends ComponentEvent<ReactDataTable> {
-        private final String detailJson;
+        private final String id;
+        private final Integer version;
 
         public RowEditEvent(ReactDataTable source, boolean fromClient,
-                            @EventData("JSON.stringify(event.detail)") String detailJson) {
+                            @EventData("event.detail.id") String id,
+                            @EventData("event.detail.version") Integer version) {
             super(source, fromClient);
-            this.detailJson = detailJson;
+            this.id = id;
+            this.version = version;
         }
 
-        public String getDetailJson() {
-            return detailJson;
+        /**
+         * @return {@code rowIdKey} value of the row, resolve it with {@link ReactDataTable#findItem(String)}
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * @return {@code version} value of the row or {@code null} if rows are sent without it
+         */
+        public Integer getVersion() {
+            return version;
         }
     }
 
     public Registration addRowEditListener(ComponentEventListener<RowEditEvent> listener) {
-        return addListener(RowEditEvent.class, listener);
+        return addListener(RowEditEvent.class, timed("row-edit", listener));
     }
 
     @DomEvent("row-delete")
     public static class RowDeleteEvent extends ComponentEvent<ReactDataTable> {
-        private final String detailJson;
+        private final String id;
+        private final Integer version;
 
         public RowDeleteEvent(ReactDataTable source, boolean fromClient,
-                              @EventData("JSON.stringify(event.detail)") String detailJson) {
+                              @EventData("event.detail.id") String id,
+                              @EventData("event.detail.version") Integer version) {
             super(source, fromClient);
-            this.detailJson = detailJson;
+            this.id = id;
+            this.version = version;
+        }
+
+        /**
+         * @return {@code rowIdKey} value of the row, resolve it with {@link ReactDataTable#findItem(String)}
+         */
+        public String getId() {
+            return id;
         }
 
-        public String getDetailJson() {
-            return detailJson;
+        /**
+         * @return {@code version} value of the row or {@code null} if rows are sent without it
+         */
+        public Integer getVersion() {
+            return version;
         }
     }
 
     public Registration addRowDeleteListener(ComponentEventListener<RowDeleteEvent> listener) {
-        return addListener(RowDeleteEvent.class, listener);
+        return addListener(RowDeleteEvent.class, timed("row-delete", listener));
+    }
+
+    @DomEvent("page-request")
+    public static class PageRequestEvent extends ComponentEvent<ReactDataTable> {
+        private final int page;
+        private final int pageSize;
+        private final String sortKey;
+        private final String sortDirection;
+        private final String filter;
+
+        public PageRequestEvent(ReactDataTable source, boolean fromClient,
+                                @EventData("event.detail.page") int page,
+                                @EventData("event.detail.pageSize") int pageSize,
+                                @EventData("event.detail.sortKey") String sortKey,
+                                @EventData("event.detail.sortDirection") String sortDirection,
+                                @EventData("event.detail.filter") String filter) {
+            super(source, fromClient);
+            this.page = page;
+            this.pageSize = pageSize;
+            this.sortKey = sortKey;
+            this.sortDirection = sortDirection;
+            this.filter = filter;
+        }
+
+        public int getPage() {
+            return page;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        /**
+         * @return key of the sorted column, {@code null} if not sorted
+         */
+        public String getSortKey() {
+            return sortKey;
+        }
+
+        /**
+         * @return {@code asc} or {@code desc}
+         */
+        public String getSortDirection() {
+            return sortDirection;
+        }
+
+        public String getFilter() {
+            return filter;
+        }
+    }
+
+    public Registration addPageRequestListener(ComponentEventListener<PageRequestEvent> listener) {
+        return addListener(PageRequestEvent.class, timed("page-request", listener));
+    }
+
+    /**
+     * Fired when rows are checked or unchecked in {@link #setSelectable(boolean) selectable} mode.
+     * Carries the ids of all selected rows, including rows on other pages.
+     */
+    @DomEvent("selection-change")
+    public static class SelectionChangeEvent extends ComponentEvent<ReactDataTable> {
+        private final List<String> selectedIds;
+
+        public SelectionChangeEvent(ReactDataTable source, boolean fromClient,
+                                    @EventData("event.detail.ids") JsonArray ids) {
+            super(source, fromClient);
+
+            List<String> list = new ArrayList<>(ids == null ? 0 : ids.length());
+            for (int i = 0; ids != null && i < ids.length(); i++) {
+                list.add(ids.getString(i));
+            }
+            this.selectedIds = Collections.unmodifiableList(list);
+        }
+
+        public List<String> getSelectedIds() {
+            return selectedIds;
+        }
+    }
+
+    public Registration addSelectionChangeListener(ComponentEventListener<SelectionChangeEvent> listener) {
+        return addListener(SelectionChangeEvent.class, timed("selection-change", listener));
+    }
+
+    /**
+     * Fired in virtual scroll mode when rows that are not in the element's row store scroll into view.
+     * {@code first} is the index of the first requested row in the sorted and filtered result.
+     */
+    @DomEvent("range-request")
+    public static class RangeRequestEvent extends ComponentEvent<ReactDataTable> {
+        private final int generation;
+        private final int first;
+        private final int count;
+        private final String sortKey;
+        private final String sortDirection;
+        private final String filter;
+
+        public RangeRequestEvent(ReactDataTable source, boolean fromClient,
+                                 @EventData("event.detail.generation") int generation,
+                                 @EventData("event.detail.first") int first,
+                                 @EventData("event.detail.count") int count,
+                                 @EventData("event.detail.sortKey") String sortKey,
+                                 @EventData("event.detail.sortDirection") String sortDirection,
+                                 @EventData("event.detail.filter") String filter) {
+            super(source, fromClient);
+            this.generation = generation;
+            this.first = first;
+            this.count = count;
+            this.sortKey = sortKey;
+            this.sortDirection = sortDirection;
+            this.filter = filter;
+        }
+
+        /**
+         * @return row store generation of the element, echoed back so that answers to an outdated
+         * sort/filter are dropped
+         */
+        public int getGeneration() {
+            return generation;
+        }
+
+        public int getFirst() {
+            return first;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public String getSortKey() {
+            return sortKey;
+        }
+
+        public String getSortDirection() {
+            return sortDirection;
+        }
+
+        public String getFilter() {
+            return filter;
+        }
+    }
+
+    public Registration addRangeRequestListener(ComponentEventListener<RangeRequestEvent> listener) {
+        return addListener(RangeRequestEvent.class, timed("range-request", listener));
+    }
+
+    /**
+     * Browser-side timings, sent in batches at most every 10 seconds: time to parse row payloads
+     * and time from a render request to the React commit, in milliseconds.
+     */
+    @DomEvent("render-stats")
+    public static class RenderStatsEvent extends ComponentEvent<ReactDataTable> {
+        private final double[] parseMillis;
+        private final double[] renderMillis;
+
+        public RenderStatsEvent(ReactDataTable source, boolean fromClient,
+                                @EventData("event.detail.parse") JsonArray parse,
+                                @EventData("event.detail.render") JsonArray render) {
+            super(source, fromClient);
+            this.parseMillis = toArray(parse);
+            this.renderMillis = toArray(render);
+        }
+
+        private static double[] toArray(JsonArray values) {
+            double[] result = new double[values == null ? 0 : values.length()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = values.getNumber(i);
+            }
+            return result;
+        }
+
+        public double[] getParseMillis() {
+            return parseMillis;
+        }
+
+        public double[] getRenderMillis() {
+            return renderMillis;
+        }
+    }
+
+    /**
+     * Also switches on the measurements in the browser, they cost nothing until a listener is added.
+     */
+    public Registration addRenderStatsListener(ComponentEventListener<RenderStatsEvent> listener) {
+        getElement().setProperty("renderStats", true);
+        return addListener(RenderStatsEvent.class, listener);
     }
 
     /* ================= RUNTIME DATA ================= */
@@ -67,16 +402,1210 @@ public class ReactDataTable extends Component implements HasSize, HasStyle {
         else getElement().removeAttribute("columns");
     }
 
+    public void setColumns(List<ReactDataTableColumn> columns) {
+        this.columns = columns == null ? List.of() : List.copyOf(columns);
+        setColumns(RowJson.write(this.columns));
+    }
+
+    public List<ReactDataTableColumn> getColumns() {
+        return columns;
+    }
+
     public void setRows(String json) {
+        sendRows(json, -1);
+    }
+
+    private void sendRows(String json, int rowCount) {
+        rowStream = null; // replaces a row set that is still streaming
+        if (rowsAppended) {
+            getElement().removeProperty("rows");
+            rowsAppended = false;
+        }
+
+        // property only: mirroring rows into the DOM attribute doubled the payload on the wire and in memory
+        getElement().removeAttribute("rows");
         getElement().setProperty("rows", json);
-        if (json != null) getElement().setAttribute("rows", json);
-        else getElement().removeAttribute("rows");
+        recordPayload("rows", json, rowCount);
+    }
+
+    /**
+     * Sends rows using the columnar format if {@link #setCompactRows(boolean) compact rows} are enabled,
+     * otherwise as a regular array of objects.
+     */
+    public void setRows(List<Map<String, Object>> rows) {
+        streamRows(rows, chunk -> compactRows ? ColumnarRowsEncoder.encode(chunk) : RowJson.write(chunk));
+    }
+
+    /**
+     * Serializes items with the given serializer and sends them as rows.
+     */
+    public void setItems(List<? extends T> items, RowSerializer<T> serializer) {
+        streamRows(items, chunk -> compactRows ? serializer.writeColumnar(chunk) : serializer.writeRows(chunk));
+    }
+
+    /* ================= STREAMING ================= */
+
+    /**
+     * Sent by the element when it has shown a streamed chunk and is ready for the next one.
+     */
+    @DomEvent("rows-chunk-ack")
+    public static class RowsChunkAckEvent extends ComponentEvent<ReactDataTable> {
+        private final int stream;
+
+        public RowsChunkAckEvent(ReactDataTable source, boolean fromClient,
+                                 @EventData("event.detail.stream") int stream) {
+            super(source, fromClient);
+            this.stream = stream;
+        }
+
+        public int getStream() {
+            return stream;
+        }
+    }
+
+    /**
+     * Enables streaming of row sets passed to {@link #setItems} and {@link #setRows(List)}: the first page is
+     * sent right away, the remaining rows follow in chunks of {@code chunkSize} rows, each serialized and sent
+     * only after the element acknowledges the previous one. Time to the first rows no longer depends on the
+     * size of the row set.
+     *
+     * @param chunkSize rows per chunk, {@code 0} to send row sets in one piece
+     */
+    public void setStreamChunkSize(int chunkSize) {
+        this.streamChunkSize = Math.max(0, chunkSize);
+    }
+
+    public int getStreamChunkSize() {
+        return streamChunkSize;
+    }
+
+    private <R> void streamRows(List<? extends R> rows, Function<List<? extends R>, String> writer) {
+        List<? extends R> all = rows == null ? List.of() : rows;
+        int first = Math.min(all.size(), pageSize);
+
+        if (streamChunkSize == 0 || all.size() <= first + streamChunkSize) {
+            sendRows(serialize(() -> writer.apply(all)), all.size());
+            return;
+        }
+
+        sendRows(serialize(() -> writer.apply(all.subList(0, first))), first);
+
+        // copy: the caller may change its list while chunks are still going out
+        rowStream = new RowStream<>(++rowStreamId, new ArrayList<>(all), first, writer);
+        if (rowsChunkAckRegistration == null) {
+            rowsChunkAckRegistration = addListener(RowsChunkAckEvent.class, this::onRowsChunkAck);
+        }
+
+        // one chunk in flight right away, the next one after its ack
+        sendNextChunk(streamChunkSize);
+    }
+
+    private void onRowsChunkAck(RowsChunkAckEvent event) {
+        if (rowStream == null || rowStream.id() != event.getStream()) return; // replaced meanwhile
+        sendNextChunk(streamChunkSize);
+    }
+
+    private void sendNextChunk(int size) {
+        RowStream<?> stream = rowStream;
+        int count = Math.min(size, stream.remaining());
+        String json = serialize(() -> stream.write(count));
+
+        boolean last = stream.remaining() == 0;
+        if (last) rowStream = null;
+
+        rowsAppended = true;
+        getElement().callJsFunction("appendRows", stream.id(), json, last);
+        recordPayload("chunk", json, count);
+    }
+
+    /**
+     * Patches refer to rows by id: the element must have all rows of the stream before a patch arrives.
+     */
+    private void finishRowStream() {
+        if (rowStream != null) {
+            sendNextChunk(rowStream.remaining());
+        }
+    }
+
+    private static final class RowStream<R> {
+        private final int id;
+        private final List<? extends R> rows;
+        private final Function<List<? extends R>, String> writer;
+        private int next;
+
+        RowStream(int id, List<? extends R> rows, int next, Function<List<? extends R>, String> writer) {
+            this.id = id;
+            this.rows = rows;
+            this.next = next;
+            this.writer = writer;
+        }
+
+        int id() {
+            return id;
+        }
+
+        int remaining() {
+            return rows.size() - next;
+        }
+
+        String write(int count) {
+            List<? extends R> chunk = rows.subList(next, next + count);
+            next += count;
+            return writer.apply(chunk);
+        }
+    }
+
+    /* ================= ROW PATCHES ================= */
+
+    /**
+     * Inserts or replaces rows by {@code rowIdKey} without re-sending the whole table. Rows are written in the
+     * same format as pages, columnar with {@link #setCompactRows(boolean) compact rows}.
+     */
+    public void upsertRows(List<Map<String, Object>> rows) {
+        if (rows == null || rows.isEmpty()) return;
+
+        if (!compactRows) {
+            sendRowPatch(serialize(() -> RowJson.write(Map.of("upsert", rows))), rows.size());
+            return;
+        }
+
+        Set<String> keySet = new LinkedHashSet<>();
+        for (Map<String, Object> row : rows) keySet.addAll(row.keySet());
+        List<String> keys = new ArrayList<>(keySet);
+
+        sendRowPatch(serialize(() -> RowJson.write(new RowJson.Payload() {
+            @Override
+            public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeStartObject();
+                gen.writeFieldName("upsert");
+                ColumnarRowsEncoder.write(gen, provider, keys, rows.size(), (c, r) -> rows.get(r).get(keys.get(c)));
+                gen.writeEndObject();
+            }
+        })), rows.size());
+    }
+
+    /**
+     * Serializes items with the table's row serializer and upserts them, in the same format as pages.
+     */
+    public void upsertItems(List<? extends T> items) {
+        if (items == null || items.isEmpty()) return;
+
+        RowSerializer<T> serializer = getEffectiveRowSerializer();
+        boolean columnar = compactRows;
+        sendRowPatch(serialize(() -> RowJson.write(new RowJson.Payload() {
+            @Override
+            public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeStartObject();
+                gen.writeFieldName("upsert");
+                if (columnar) serializer.writeColumnar(gen, provider, items);
+                else serializer.writeRows(gen, provider, items);
+                gen.writeEndObject();
+            }
+        })), items.size());
+    }
+
+    /**
+     * Removes rows with the given {@code rowIdKey} values.
+     */
+    public void removeRows(String... ids) {
+        if (ids == null || ids.length == 0) return;
+
+        sendRowPatch(RowJson.write(Map.of("remove", List.of(ids))), 0);
+        for (String id : ids) loadedItems.remove(id);
+        shownIds.removeAll(Arrays.asList(ids));
+        // the element drops removed rows from its selection as well
+        selectedIds.removeAll(Arrays.asList(ids));
+
+        // keep the "Page X / Y" indicator in sync without re-running the count query
+        if (dataProvider != null && totalCount >= 0) {
+            totalCount = Math.max(0, totalCount - ids.length);
+            setPageState(pageIndex, totalCount);
+        }
+    }
+
+    public void clearRows() {
+        sendRowPatch(RowJson.write(Map.of("clear", true)), 0);
+        loadedItems.clear();
+        shownIds.clear();
+        selectedIds.clear();
+
+        if (dataProvider != null && totalCount >= 0) {
+            totalCount = 0;
+            pageIndex = 0;
+            setPageState(0, 0);
+        }
+    }
+
+    private void sendRowPatch(String patchJson, int rowCount) {
+        finishRowStream();
+        getElement().callJsFunction("applyRowPatch", patchJson);
+        recordPayload("patch", patchJson, rowCount);
+    }
+
+    /* ================= DATA CONTAINER ================= */
+
+    /**
+     * Binds the table to a collection container. Container changes (loader refresh, filter, pagination,
+     * item edits) are compared with the rows already sent, and only new/changed rows, removed ids and,
+     * if needed, the new row order are sent to the element.
+     * <p>
+     * Rows are written with {@link #setRowSerializer(RowSerializer) the row serializer}; if none is set,
+     * column keys are read as entity property paths.
+     */
+    public void setDataContainer(CollectionContainer<T> dataContainer) {
+        unbindContainer();
+
+        if (dataContainer == null) return;
+
+        if (dataProvider != null) {
+            setDataProvider(null, null);
+        }
+
+        this.dataContainer = dataContainer;
+
+        containerSubscriptions.add(dataContainer.addCollectionChangeListener(e -> syncWithContainer()));
+        containerSubscriptions.add(dataContainer.addItemPropertyChangeListener(e ->
+                syncWithContainer(List.of(e.getItem()))));
+        containerSubscriptions.add(dataContainer.addItemChangeListener(e -> {
+            if (e.getItem() != null) syncWithContainer(List.of(e.getItem()));
+        }));
+
+        List<T> items = dataContainer.getItems();
+        RowSerializer<T> serializer = getEffectiveRowSerializer();
+
+        setItems(items, serializer);
+
+        sentRows = new LinkedHashMap<>();
+        for (T item : items) {
+            sentRows.put(getRowId(serializer, item), serializer.rowHash(item));
+        }
+    }
+
+    public CollectionContainer<T> getDataContainer() {
+        return dataContainer;
+    }
+
+    /**
+     * Sets the serializer used for container items and row patches.
+     */
+    public void setRowSerializer(RowSerializer<T> rowSerializer) {
+        this.rowSerializer = rowSerializer;
+    }
+
+    public RowSerializer<T> getRowSerializer() {
+        return rowSerializer;
+    }
+
+    private void unbindContainer() {
+        containerSubscriptions.forEach(Subscription::remove);
+        containerSubscriptions.clear();
+        sentRows = new LinkedHashMap<>();
+        dataContainer = null;
+    }
+
+    private void syncWithContainer() {
+        List<T> items = dataContainer.getItems();
+        RowSerializer<T> serializer = getEffectiveRowSerializer();
+
+        Map<String, Integer> nextRows = new LinkedHashMap<>();
+        List<T> changed = new ArrayList<>();
+
+        for (T item : items) {
+            String id = getRowId(serializer, item);
+            int hash = serializer.rowHash(item);
+            nextRows.put(id, hash);
+
+            Integer sentHash = sentRows.get(id);
+            if (sentHash == null || sentHash != hash) {
+                changed.add(item);
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        for (String id : sentRows.keySet()) {
+            if (!nextRows.containsKey(id)) removed.add(id);
+        }
+
+        boolean reordered = !isSameOrder(sentRows, nextRows);
+
+        sentRows = nextRows;
+
+        if (changed.isEmpty() && removed.isEmpty() && !reordered) return;
+
+        sendRowPatch(serializer, changed, removed, reordered ? new ArrayList<>(nextRows.keySet()) : null);
+    }
+
+    private void syncWithContainer(List<T> items) {
+        RowSerializer<T> serializer = getEffectiveRowSerializer();
+        List<T> changed = new ArrayList<>();
+
+        for (T item : items) {
+            String id = getRowId(serializer, item);
+            // items outside the container (e.g. a new current item not added yet) are ignored
+            if (!sentRows.containsKey(id)) continue;
+
+            int hash = serializer.rowHash(item);
+            if (sentRows.put(id, hash) != hash) {
+                changed.add(item);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            sendRowPatch(serializer, changed, List.of(), null);
+        }
+    }
+
+    /**
+     * Element order = previous ids without removed ones, followed by new ids.
+     * Any other difference requires sending the new order.
+     */
+    private static boolean isSameOrder(Map<String, Integer> previous, Map<String, Integer> next) {
+        Iterator<String> nextIds = next.keySet().iterator();
+
+        for (String id : previous.keySet()) {
+            if (!next.containsKey(id)) continue;
+            if (!nextIds.hasNext() || !id.equals(nextIds.next())) return false;
+        }
+        while (nextIds.hasNext()) {
+            if (previous.containsKey(nextIds.next())) return false;
+        }
+        return true;
+    }
+
+    private void sendRowPatch(RowSerializer<T> serializer, List<T> upsert, List<String> remove, List<String> order) {
+        boolean columnar = compactRows;
+
+        sendRowPatch(serialize(() -> RowJson.write(new RowJson.Payload() {
+            @Override
+            public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeStartObject();
+
+                if (!remove.isEmpty()) {
+                    gen.writeArrayFieldStart("remove");
+                    for (String id : remove) gen.writeString(id);
+                    gen.writeEndArray();
+                }
+
+                if (!upsert.isEmpty()) {
+                    gen.writeFieldName("upsert");
+                    if (columnar) serializer.writeColumnar(gen, provider, upsert);
+                    else serializer.writeRows(gen, provider, upsert);
+                }
+
+                if (order != null) {
+                    gen.writeArrayFieldStart("order");
+                    for (String id : order) gen.writeString(id);
+                    gen.writeEndArray();
+                }
+
+                gen.writeEndObject();
+            }
+        })), upsert.size());
+    }
+
+    private String getRowId(RowSerializer<T> serializer, T item) {
+        return String.valueOf(serializer.getValue(item, rowIdKey));
+    }
+
+    private RowSerializer<T> getEffectiveRowSerializer() {
+        if (rowSerializer == null) {
+            rowSerializer = createPropertySerializer();
+        }
+        return rowSerializer;
+    }
+
+    private RowSerializer<T> createPropertySerializer() {
+        String idKey = rowIdKey;
+        RowSerializer<T> serializer = RowSerializer.<T>create()
+                .withColumn(idKey, item -> EntityValues.getValueEx(item, idKey));
+
+        for (ReactDataTableColumn column : columns) {
+            String key = column.getKey();
+            if (!key.equals(idKey)) {
+                serializer = serializer.withColumn(key, item -> EntityValues.getValueEx(item, key));
+            }
+        }
+        return serializer;
+    }
+
+    /* ================= SELECTION ================= */
+
+    /**
+     * Shows a checkbox column and a "select page" checkbox in the header.
+     */
+    public void setSelectable(boolean selectable) {
+        getElement().setProperty("selectable", selectable);
+
+        if (selectable) getElement().setAttribute("selectable", "");
+        else getElement().removeAttribute("selectable");
+
+        if (!selectable) clearSelection();
+    }
+
+    /**
+     * @return {@code rowIdKey} values of the selected rows, in selection order
+     */
+    public Set<String> getSelectedIds() {
+        return Collections.unmodifiableSet(selectedIds);
+    }
+
+    public void clearSelection() {
+        selectedIds = new LinkedHashSet<>();
+        getElement().callJsFunction("clearSelection");
+    }
+
+    /* ================= ITEM RESOLUTION ================= */
+
+    /**
+     * Finds the item of a row by its {@code rowIdKey} value, e.g. from {@link RowEditEvent#getId()}.
+     * Items of the bound container and the items last loaded by the data provider are returned without
+     * a query; otherwise the {@link #setItemResolver(Function) item resolver} is asked.
+     */
+    public Optional<T> findItem(String id) {
+        if (id == null) return Optional.empty();
+
+        if (dataContainer != null) {
+            RowSerializer<T> serializer = getEffectiveRowSerializer();
+            for (T item : dataContainer.getItems()) {
+                if (id.equals(getRowId(serializer, item))) return Optional.of(item);
+            }
+        }
+
+        T item = loadedItems.get(id);
+        if (item == null) {
+            Map<String, T> items = loadItems(List.of(id));
+            item = items == null ? null : items.get(id);
+        }
+        return Optional.ofNullable(item);
+    }
+
+    /**
+     * Sets the fallback used by {@link #findItem(String)} and by change processing for rows whose item is no
+     * longer held by the table, when the data provider cannot {@link ReactDataTableDataProvider#fetchByIds load
+     * items by id}, e.g. {@code id -> dataManager.load(User.class).id(UUID.fromString(id)).optional().orElse(null)}.
+     */
+    public void setItemResolver(Function<String, T> itemResolver) {
+        this.itemResolver = itemResolver;
+    }
+
+    /**
+     * Loads items by row id with the attributes of the table's pages, or with the item resolver if the data
+     * provider cannot load by id. Ids missing from the result are gone or not visible to the user.
+     *
+     * @return loaded items by row id, {@code null} if neither the data provider nor a resolver can load them
+     */
+    private Map<String, T> loadItems(Collection<String> ids) {
+        ReactDataTableDataProvider<T> provider = dataProvider;
+        List<T> items = provider == null ? null
+                : provider.fetchByIds(ids, new ReactDataTableQuery(0, ids.size(), null, true, null, List.of(),
+                getQueryProperties()));
+
+        Map<String, T> result = new HashMap<>();
+        if (items != null) {
+            for (T item : items) result.put(getRowId(rowSerializer, item), item);
+            return result;
+        }
+
+        Function<String, T> resolver = itemResolver;
+        if (resolver == null) return null;
+
+        for (String id : ids) {
+            T item = resolver.apply(id);
+            if (item != null) result.put(id, item);
+        }
+        return result;
+    }
+
+    private void rememberItems(List<T> items) {
+        for (T item : items) {
+            loadedItems.put(getRowId(rowSerializer, item), item);
+        }
+    }
+
+    /* ================= CHANGE BROADCAST ================= */
+
+    /**
+     * Keeps the loaded rows in sync with entity changes committed by any session, without reloading the page.
+     * While the table is attached, deleted rows are removed and updated rows are reloaded with the fetch plan of
+     * the pages ({@link ReactDataTableDataProvider#fetchByIds}, else the {@link #setItemResolver(Function) item
+     * resolver}) and upserted; if neither can load them the current page is reloaded. This covers every row the element shows, also rows of pages served from the
+     * {@link #setPageCache page cache}, and only these rows are pushed to the browser. Created rows and deletes
+     * of rows that are not shown only reset the count; like the new position of an updated row, they show with
+     * the next page request.
+     * <p>
+     * Rows are reloaded on the {@link ReactDataTableExecutor} outside of the session lock, so the broadcaster
+     * thread does not query the database for one session after another. Tables with the same
+     * {@link #setPageCache page cache} query and scope load a changed row once, see
+     * {@link ReactDataTableBroadcaster#resolve}. When the executor is saturated the changes are dropped, and the
+     * table is refreshed with the next change or reloads the count with the next page.
+     * <p>
+     * Only used in lazy mode, and {@code rowIdKey} values must be the entity ids.
+     *
+     * @param broadcaster shared broadcaster, {@code null} to stop receiving changes
+     * @param entityClass entity loaded by the data provider
+     */
+    public void setChangeBroadcaster(ReactDataTableBroadcaster broadcaster, Class<?> entityClass) {
+        unsubscribeFromChanges();
+        this.changeBroadcaster = broadcaster;
+        this.changeEntityClass = entityClass;
+        getUI().ifPresent(this::subscribeToChanges);
+    }
+
+    private void subscribeToChanges(UI ui) {
+        unsubscribeFromChanges();
+        if (changeBroadcaster == null || changeEntityClass == null) return;
+
+        // rows are reloaded with the permissions of the user of this table, not of the broadcaster thread
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+
+        changeRegistration = changeBroadcaster.subscribe(changeEntityClass, change -> {
+            pendingChanges.add(change);
+            if (!changesScheduled.compareAndSet(false, true)) return; // a task is already on its way
+
+            Runnable task = new DelegatingSecurityContextRunnable(() -> processChanges(ui), securityContext);
+            try {
+                if (executor == null) throw new RejectedExecutionException("No ReactDataTableExecutor");
+                executor.submit(task);
+            } catch (RejectedExecutionException e) {
+                // never resolve on the broadcaster thread: the table is reloaded with the next change or page
+                pendingChanges.clear();
+                changesDropped = true;
+                changesScheduled.set(false);
+            }
+        });
+    }
+
+    private void unsubscribeFromChanges() {
+        if (changeRegistration == null) return;
+
+        changeRegistration.remove();
+        changeRegistration = null;
+        pendingChanges.clear();
+        changesScheduled.set(false);
+    }
+
+    // outside of the session lock: reloads the changed rows, then applies them under the lock
+    private void processChanges(UI ui) {
+        changesScheduled.set(false);
+
+        List<ReactDataTableBroadcaster.Change> changes = new ArrayList<>();
+        for (ReactDataTableBroadcaster.Change c; (c = pendingChanges.poll()) != null; ) {
+            changes.add(c);
+        }
+        if (changes.isEmpty()) return;
+
+        try {
+            if (changesDropped) {
+                // earlier changes are unknown: patching only these rows is not enough
+                ui.access(this::reloadAfterDroppedChanges);
+                return;
+            }
+
+            ResolvedChanges<T> resolved;
+            try {
+                resolved = resolveChanges(changes);
+            } catch (RuntimeException e) {
+                ui.access(() -> {
+                    throw e; // reported by the session error handler
+                });
+                return;
+            }
+            ui.access(() -> applyChanges(resolved));
+        } catch (UIDetachedException e) {
+            // the detach listener unsubscribes
+        }
+    }
+
+    // a load after dropped changes brings fresh rows, only the count has to be queried again
+    private void clearDroppedChanges() {
+        if (changesDropped) {
+            changesDropped = false;
+            totalCount = -1;
+        }
+    }
+
+    private void reloadAfterDroppedChanges() {
+        if (changesDropped) {
+            changesDropped = false;
+            refresh();
+        }
+    }
+
+    /**
+     * Applies changes on the calling thread, which must hold the session lock.
+     */
+    void applyChanges(List<ReactDataTableBroadcaster.Change> changes) {
+        applyChanges(resolveChanges(changes));
+    }
+
+    /**
+     * Changes of one batch matched against the shown rows.
+     *
+     * @param updated      reloaded items of shown rows
+     * @param removed      ids of shown rows that were deleted or are no longer visible to the user
+     * @param countChanged the total count is outdated
+     * @param reload       rows changed but they cannot be loaded by id: the page is reloaded
+     */
+    private record ResolvedChanges<T>(List<T> updated, Set<String> removed, boolean countChanged,
+                                      boolean reload) {
+    }
+
+    // must not touch the state of the table except for reading shownIds
+    private ResolvedChanges<T> resolveChanges(List<ReactDataTableBroadcaster.Change> changes) {
+        Set<String> removed = new LinkedHashSet<>();
+        // the last change of each id
+        Map<String, ReactDataTableBroadcaster.Change> updated = new LinkedHashMap<>();
+        boolean countChanged = false;
+
+        for (ReactDataTableBroadcaster.Change change : changes) {
+            String id = change.id();
+            switch (change.type()) {
+                case CREATED -> countChanged = true;
+                case UPDATED -> {
+                    if (shownIds.contains(id)) updated.put(id, change);
+                }
+                case DELETED -> {
+                    updated.remove(id);
+                    if (shownIds.contains(id)) removed.add(id);
+                    else countChanged = true;
+                }
+            }
+        }
+
+        if (updated.isEmpty()) {
+            return new ResolvedChanges<>(List.of(), removed, countChanged, false);
+        }
+
+        ReactDataTableBroadcaster broadcaster = changeBroadcaster;
+        Map<String, T> loaded = broadcaster == null || pageCache == null || pageCacheQueryId == null
+                ? loadItems(updated.keySet())
+                // tables of the same query and user scope load a changed row once per change
+                : broadcaster.resolve(updated.values(),
+                        List.of(pageCacheQueryId, pageCacheScope, getQueryProperties()), this::loadItems);
+        if (loaded == null) {
+            return new ResolvedChanges<>(List.of(), Set.of(), true, true);
+        }
+
+        List<T> items = new ArrayList<>();
+        for (String id : updated.keySet()) {
+            T item = loaded.get(id);
+            if (item == null) {
+                removed.add(id); // no longer visible to this user
+            } else {
+                items.add(item);
+            }
+        }
+        return new ResolvedChanges<>(items, removed, countChanged, false);
+    }
+
+    private void applyChanges(ResolvedChanges<T> resolved) {
+        if (dataProvider == null) return;
+
+        if (resolved.reload()) {
+            refresh();
+            return;
+        }
+
+        // another page may have been loaded meanwhile: only rows still shown are patched
+        List<T> items = new ArrayList<>();
+        for (T item : resolved.updated()) {
+            String id = getRowId(rowSerializer, item);
+            if (shownIds.contains(id)) {
+                items.add(item);
+                loadedItems.put(id, item);
+            }
+        }
+        upsertItems(items);
+        removeRows(resolved.removed().stream().filter(shownIds::contains).toArray(String[]::new));
+
+        if (resolved.countChanged()) {
+            // the next page request runs the count query again
+            totalCount = -1;
+        }
+    }
+
+    /* ================= LAZY MODE ================= */
+
+    /**
+     * Switches the table to lazy mode: the web component only receives the current page
+     * and requests other pages with a {@code page-request} event.
+     *
+     * @param dataProvider  provider answering page requests, {@code null} to leave lazy mode
+     * @param rowSerializer writes items as rows sent to the browser
+     */
+    public void setDataProvider(ReactDataTableDataProvider<T> dataProvider, RowSerializer<T> rowSerializer) {
+        if (dataProvider != null) {
+            unbindContainer();
+            this.rowSerializer = rowSerializer;
+        }
+
+        cancelLoad();
+
+        if (pageRequestRegistration != null) {
+            pageRequestRegistration.remove();
+            pageRequestRegistration = null;
+        }
+        if (rangeRequestRegistration != null) {
+            rangeRequestRegistration.remove();
+            rangeRequestRegistration = null;
+        }
+
+        this.dataProvider = dataProvider;
+        this.loadedItems.clear();
+        this.shownIds.clear();
+        this.totalCount = -1;
+        this.pageIndex = 0;
+        this.sortKey = null;
+        this.ascending = true;
+        this.filterText = null;
+
+        setLazy(dataProvider != null);
+
+        if (dataProvider != null) {
+            pageRequestRegistration = addPageRequestListener(this::onPageRequest);
+            rangeRequestRegistration = addRangeRequestListener(this::onRangeRequest);
+            reload();
+        }
+    }
+
+    public ReactDataTableDataProvider<T> getDataProvider() {
+        return dataProvider;
+    }
+
+    /**
+     * Re-runs the count query and reloads the current page.
+     */
+    public void refresh() {
+        if (dataProvider == null) return;
+
+        totalCount = -1;
+        if (virtualScroll) {
+            reload();
+        } else {
+            loadPage(pageIndex, pageSize);
+        }
+    }
+
+    protected void onPageRequest(PageRequestEvent event) {
+        applyQueryState(event.getSortKey(), event.getSortDirection(), event.getFilter());
+        loadPage(event.getPage(), event.getPageSize());
+    }
+
+    protected void onRangeRequest(RangeRequestEvent event) {
+        applyQueryState(event.getSortKey(), event.getSortDirection(), event.getFilter());
+        loadRange(event.getGeneration(), event.getFirst(), event.getCount());
+    }
+
+    private void applyQueryState(String requestedSort, String sortDirection, String filter) {
+        // only declared sortable columns are passed on: the key may end up in a query
+        String nextSortKey = columns.stream()
+                .filter(c -> c.isSortable() && c.getKey().equals(requestedSort))
+                .map(ReactDataTableColumn::getKey)
+                .findFirst()
+                .orElse(null);
+
+        String nextFilter = filter == null || filter.isBlank() ? null : filter.trim();
+
+        if (!Objects.equals(nextFilter, filterText)) {
+            // the cached count is only valid for the previous filter
+            totalCount = -1;
+        }
+
+        sortKey = nextSortKey;
+        ascending = !"desc".equalsIgnoreCase(sortDirection);
+        filterText = nextFilter;
+    }
+
+    protected ReactDataTableQuery createQuery(int firstResult, int maxResults) {
+        List<String> filterKeys = columns.stream()
+                .filter(ReactDataTableColumn::isFilterable)
+                .map(ReactDataTableColumn::getKey)
+                .toList();
+
+        return new ReactDataTableQuery(firstResult, maxResults, sortKey, ascending, filterText, filterKeys,
+                getQueryProperties());
+    }
+
+    private List<String> getQueryProperties() {
+        List<ReactDataTableColumn> columns = this.columns;
+        if (columns.isEmpty()) return List.of();
+
+        List<String> properties = new ArrayList<>(columns.size() + 1);
+        properties.add(rowIdKey);
+        for (ReactDataTableColumn column : columns) {
+            if (!properties.contains(column.getKey())) properties.add(column.getKey());
+        }
+        return properties;
+    }
+
+    protected void loadPage(int page, int size) {
+        int s = Math.max(1, size);
+        clearDroppedChanges();
+        int knownCount = totalCount;
+        ReactDataTableDataProvider<T> provider = dataProvider;
+        ReactDataTableQuery countQuery = createQuery(0, s);
+
+        runLoad(() -> {
+            int count = knownCount >= 0 ? knownCount : Math.max(0, countItems(provider, countQuery));
+
+            // page may be out of range after deletes
+            int lastPage = count == 0 ? 0 : (count - 1) / s;
+            int p = Math.min(Math.max(0, page), lastPage);
+
+            List<T> items = new ArrayList<>();
+            ReactDataTablePageCache.Page rows = fetchRows(provider, countQuery.withPage(p, s), items);
+            return new LoadResult<>(p, count, rows, items);
+        }, result -> {
+            totalCount = result.count();
+            pageIndex = result.first();
+            loadedItems.clear();
+            rememberItems(result.items());
+            shownIds.clear();
+            shownIds.addAll(result.rows().ids());
+
+            sendRows(result.rows().rowsJson(), Math.max(0, Math.min(s, totalCount - pageIndex * s)));
+            setPageState(pageIndex, totalCount);
+        });
+    }
+
+    /**
+     * Answers a {@code range-request}: fetches at most {@link #MAX_RANGE_SIZE} rows starting at {@code first}
+     * and sends them to the element's row store together with the current total count.
+     */
+    protected void loadRange(int generation, int first, int count) {
+        int f = Math.max(0, first);
+        int c = Math.min(Math.max(0, count), MAX_RANGE_SIZE);
+        clearDroppedChanges();
+        int knownCount = totalCount;
+        ReactDataTableDataProvider<T> provider = dataProvider;
+        ReactDataTableQuery countQuery = createQuery(0, 1);
+        ReactDataTableQuery rangeQuery = createQuery(f, c);
+
+        runLoad(() -> {
+            int total = knownCount >= 0 ? knownCount : Math.max(0, countItems(provider, countQuery));
+
+            List<T> items = new ArrayList<>();
+            ReactDataTablePageCache.Page rows = c == 0 || f >= total
+                    ? new ReactDataTablePageCache.Page(writeRows(List.of()), Set.of())
+                    : fetchRows(provider, rangeQuery, items);
+            return new LoadResult<>(f, total, rows, items);
+        }, result -> {
+            totalCount = result.count();
+            rememberItems(result.items());
+            shownIds.addAll(result.rows().ids());
+
+            String rowsJson = result.rows().rowsJson();
+            getElement().callJsFunction("setRange", generation, f, rowsJson, totalCount);
+            recordPayload("range", rowsJson, Math.max(0, Math.min(c, totalCount - f)));
+        });
+    }
+
+    /**
+     * Runs {@code load} and hands its result to {@code apply}. In {@link #setAsyncLoading(boolean) async mode}
+     * the load runs on the {@link ReactDataTableExecutor} and the result is applied under the session lock
+     * with {@link UI#access}; a newer load or detaching the table cancels it. {@code load} must not touch the
+     * state of the table.
+     */
+    private <R> void runLoad(Supplier<R> load, Consumer<R> apply) {
+        UI ui = getUI().orElse(UI.getCurrent()); // BeforeShowEvent comes before the view is attached
+        if (!asyncLoading || executor == null || ui == null) {
+            apply.accept(load.get());
+            return;
+        }
+
+        cancelLoad();
+        int sequence = ++loadSequence;
+        getMetricsViewId(); // resolved on the UI thread, serialization timers use it
+
+        try {
+            pendingLoad = executor.submit(() -> {
+                R result;
+                try {
+                    result = load.get();
+                } catch (RuntimeException e) {
+                    access(ui, sequence, () -> {
+                        throw e; // reported by the session error handler
+                    });
+                    return;
+                }
+                access(ui, sequence, () -> apply.accept(result));
+            });
+        } catch (RejectedExecutionException e) {
+            // executor saturated: load on the request thread rather than not at all
+            apply.accept(load.get());
+            return;
+        }
+        setLoading(true);
+    }
+
+    private void access(UI ui, int sequence, Command command) {
+        try {
+            ui.access(() -> {
+                if (sequence != loadSequence) return; // superseded or cancelled
+
+                pendingLoad = null;
+                setLoading(false);
+                command.execute();
+            });
+        } catch (UIDetachedException e) {
+            // the user has left, nothing to update
+        }
+    }
+
+    private void cancelLoad() {
+        if (pendingLoad == null) return;
+
+        pendingLoad.cancel(true);
+        pendingLoad = null;
+        loadSequence++;
+        setLoading(false);
+    }
+
+    /**
+     * Loads pages and ranges on the {@link ReactDataTableExecutor} instead of the request thread, so a slow
+     * query does not hold the session lock. The element shows a loading state meanwhile, results are pushed
+     * to the browser. Without an attached UI or executor bean the table still loads synchronously.
+     */
+    public void setAsyncLoading(boolean asyncLoading) {
+        this.asyncLoading = asyncLoading;
+        if (!asyncLoading) cancelLoad();
+    }
+
+    public boolean isAsyncLoading() {
+        return asyncLoading;
+    }
+
+    private void setLoading(boolean loading) {
+        getElement().setProperty("loading", loading);
+
+        if (loading) getElement().setAttribute("loading", "");
+        else getElement().removeAttribute("loading");
+    }
+
+    /**
+     * Result of a page or range load, {@code first} is the page index or the first row.
+     */
+    private record LoadResult<T>(int first, int count, ReactDataTablePageCache.Page rows, List<T> items) {
+    }
+
+    private int countItems(ReactDataTableDataProvider<T> provider, ReactDataTableQuery query) {
+        if (pageCache == null) return count(provider, query);
+
+        return pageCache.getCount(createCacheKey(provider, query, true), () -> count(provider, query));
+    }
+
+    /**
+     * Loads and serializes the rows of a query, or takes them from the {@link #setPageCache page cache}.
+     * Only items that were actually loaded are added to {@code loaded}, to be remembered for
+     * {@link #findItem(String)}; the ids of the page are known either way.
+     */
+    private ReactDataTablePageCache.Page fetchRows(ReactDataTableDataProvider<T> provider,
+                                                   ReactDataTableQuery query, List<T> loaded) {
+        if (pageCache == null) {
+            List<T> items = fetch(provider, query);
+            loaded.addAll(items);
+
+            Set<String> ids = new HashSet<>();
+            for (T item : items) ids.add(getRowId(rowSerializer, item));
+            return new ReactDataTablePageCache.Page(writeRows(items), ids);
+        }
+
+        return pageCache.getPage(createCacheKey(provider, query, false), () -> {
+            List<T> items = fetch(provider, query);
+            loaded.addAll(items);
+
+            Set<String> ids = new HashSet<>();
+            for (T item : items) ids.add(String.valueOf(EntityValues.getId(item)));
+            return new ReactDataTablePageCache.Page(writeRows(items), ids);
+        });
+    }
+
+    // providers keep state between pages (seek keys): a cancelled load may still run, one at a time
+    private int count(ReactDataTableDataProvider<T> provider, ReactDataTableQuery query) {
+        synchronized (provider) {
+            return provider.count(query);
+        }
+    }
+
+    private List<T> fetch(ReactDataTableDataProvider<T> provider, ReactDataTableQuery query) {
+        synchronized (provider) {
+            return provider.fetch(query);
+        }
+    }
+
+    private String writeRows(List<T> items) {
+        return serialize(() -> compactRows ? rowSerializer.writeColumnar(items) : rowSerializer.writeRows(items));
+    }
+
+    private ReactDataTablePageCache.Key createCacheKey(ReactDataTableDataProvider<T> provider,
+                                                       ReactDataTableQuery query, boolean count) {
+        String rowFormat = (compactRows ? "columnar:" : "rows:") + rowSerializer.getKeys();
+        List<String> orderKeys = query.getSortKey() != null
+                ? List.of(query.getSortKey())
+                : provider.getDefaultOrderKeys();
+        return new ReactDataTablePageCache.Key(pageCacheEntityName, pageCacheQueryId, pageCacheScope,
+                count ? null : rowFormat, query.getSortKey(), query.isAscending(), orderKeys,
+                query.isFiltered() ? query.getFilterText() : null, query.getFilterKeys(),
+                count ? null : query.getFirstResult(), count ? null : query.getMaxResults());
+    }
+
+    /**
+     * Serves pages and counts of this table from the shared {@link ReactDataTablePageCache}, so views showing
+     * the same query do not hit the database or re-serialize rows. The pages are shared with the users of the
+     * current user's {@link ReactDataTablePageCache#getCurrentScope() scope}.
+     *
+     * @param pageCache   shared cache, {@code null} to load every page from the data provider
+     * @param entityClass entity loaded by the data provider, used for invalidation
+     * @param queryId     identifies the data provider query among all cached tables
+     */
+    public void setPageCache(ReactDataTablePageCache pageCache, Class<?> entityClass, String queryId) {
+        this.pageCache = pageCache;
+        this.pageCacheEntityName = entityClass == null ? null : entityClass.getName();
+        this.pageCacheQueryId = queryId;
+        this.pageCacheScope = pageCache == null ? null : pageCache.getCurrentScope();
+    }
+
+    /**
+     * Starts over from the first page or, in virtual scroll mode, from an empty row store:
+     * the element then requests the rows in its viewport.
+     */
+    private void reload() {
+        pageIndex = 0;
+
+        if (virtualScroll) {
+            if (totalCount < 0) {
+                totalCount = Math.max(0, countItems(dataProvider, createQuery(0, 1)));
+            }
+            setPageState(0, totalCount);
+            getElement().callJsFunction("resetRange");
+        } else {
+            loadPage(0, pageSize);
+        }
+    }
+
+    private void setPageState(int page, int total) {
+        getElement().setProperty("totalCount", total);
+        getElement().setAttribute("total-count", String.valueOf(total));
+
+        getElement().setProperty("page", page);
+        getElement().setAttribute("page", String.valueOf(page));
+    }
+
+    private void setLazy(boolean lazy) {
+        getElement().setProperty("lazy", lazy);
+
+        if (lazy) getElement().setAttribute("lazy", "");
+        else getElement().removeAttribute("lazy");
+    }
+
+    /* ================= EXPORT ================= */
+
+    /**
+     * Creates a download of all rows of the current sort and filter, e.g. for an {@code Anchor}. The rows are
+     * loaded by a {@link ReactDataTableDataProvider#copy() copy} of the {@link #setDataProvider data provider}
+     * page by page while the response is written, outside of the session lock and without the page cache, so
+     * the export does not share seek keys or the provider lock with the table. Sort and filter are taken when
+     * the download starts.
+     * <p>
+     * XLSX is sent only once all rows are written to the workbook (POI keeps all but a window of rows in a
+     * temporary file): the browser sees no progress until then, unlike CSV, which is streamed.
+     *
+     * @param fileName file name without extension
+     */
+    public StreamResource createExportResource(ReactDataTableExporter.Format format, String fileName) {
+        StreamResource resource = new StreamResource(fileName + "." + format.getExtension(), (out, session) -> {
+            ReactDataTableExporter<T> exporter;
+            session.lock();
+            try {
+                exporter = createExporter();
+            } finally {
+                session.unlock();
+            }
+            exporter.write(format, out);
+        });
+        resource.setContentType(format.getContentType());
+        resource.setCacheTime(0);
+        return resource;
+    }
+
+    protected ReactDataTableExporter<T> createExporter() {
+        ReactDataTableDataProvider<T> provider = dataProvider;
+        if (provider == null) {
+            throw new IllegalStateException("ReactDataTable export requires a data provider");
+        }
+
+        ReactDataTableDataProvider<T> exportProvider = provider.copy();
+        Function<ReactDataTableQuery, List<T>> pageLoader = exportProvider == provider
+                ? query -> fetch(provider, query)
+                : exportProvider::fetch;
+
+        return new ReactDataTableExporter<>(columns, rowSerializer,
+                createQuery(0, ReactDataTableExporter.PAGE_SIZE), pageLoader);
+    }
+
+    /* ================= METRICS ================= */
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        metrics = applicationContext.getBeanProvider(ReactDataTableMetrics.class).getIfAvailable();
+        executor = applicationContext.getBeanProvider(ReactDataTableExecutor.class).getIfAvailable();
+        if (metrics != null) {
+            addRenderStatsListener(this::recordRenderStats);
+        }
+    }
+
+    private void recordRenderStats(RenderStatsEvent event) {
+        String viewId = getMetricsViewId();
+        for (double millis : event.getParseMillis()) {
+            metrics.recordClientTiming(viewId, "parse", millis);
+        }
+        for (double millis : event.getRenderMillis()) {
+            metrics.recordClientTiming(viewId, "render", millis);
+        }
+    }
+
+    private String serialize(Supplier<String> writer) {
+        return metrics == null ? writer.get() : metrics.timeSerialization(getMetricsViewId(), writer);
+    }
+
+    private void recordPayload(String kind, String json, int rowCount) {
+        if (metrics != null && json != null) {
+            metrics.recordPayload(getMetricsViewId(), kind, json, rowCount);
+        }
+    }
+
+    private <E extends ComponentEvent<?>> ComponentEventListener<E> timed(String event,
+                                                                          ComponentEventListener<E> listener) {
+        return e -> {
+            if (metrics == null) {
+                listener.onComponentEvent(e);
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                listener.onComponentEvent(e);
+            } finally {
+                metrics.recordEvent(getMetricsViewId(), event, System.nanoTime() - start);
+            }
+        };
+    }
+
+    private String getMetricsViewId() {
+        if (metricsViewId != null) return metricsViewId;
+
+        View<?> view = UiComponentUtils.findView(this);
+        if (view == null) return "none"; // not attached yet: resolve again next time
+
+        metricsViewId = view.getId().orElse(view.getClass().getSimpleName());
+        return metricsViewId;
     }
 
     /* ================= STUDIO-FRIENDLY PROPS ================= */
 
     public void setPageSize(int pageSize) {
         int v = Math.max(1, pageSize);
+        this.pageSize = v;
 
         // camelCase property (Vaadin hay set kiểu này)
         getElement().setProperty("pageSize", v);
@@ -87,6 +1616,7 @@ public class ReactDataTable extends Component implements HasSize, HasStyle {
 
     public void setRowIdKey(String rowIdKey) {
         String v = (rowIdKey == null || rowIdKey.isBlank()) ? "id" : rowIdKey.trim();
+        this.rowIdKey = v;
 
         getElement().setProperty("rowIdKey", v);
         getElement().setAttribute("row-id-key", v); // ✅
@@ -114,6 +1644,41 @@ public class ReactDataTable extends Component implements HasSize, HasStyle {
         getElement().setAttribute("density", v); // ok (observe "density")
     }
 
+    /**
+     * Enables the compact columnar, dictionary-encoded row format, see {@link ColumnarRowsEncoder}.
+     */
+    public void setCompactRows(boolean compactRows) {
+        this.compactRows = compactRows;
+    }
+
+    public boolean isCompactRows() {
+        return compactRows;
+    }
+
+    /**
+     * Replaces pagination with one scrollable list. Only the visible rows plus an overscan buffer are rendered;
+     * the element requests row ranges from the {@link #setDataProvider data provider} as the viewport moves
+     * and evicts ranges far from it, so the DOM and browser memory do not grow with the row count.
+     */
+    public void setVirtualScroll(boolean virtualScroll) {
+        if (this.virtualScroll == virtualScroll) return;
+        this.virtualScroll = virtualScroll;
+
+        getElement().setProperty("virtual", virtualScroll);
+
+        if (virtualScroll) getElement().setAttribute("virtual", "");
+        else getElement().removeAttribute("virtual");
+
+        if (dataProvider != null) {
+            totalCount = -1;
+            reload();
+        }
+    }
+
+    public boolean isVirtualScroll() {
+        return virtualScroll;
+    }
+
     public void setEmptyText(String emptyText) {
         String v = (emptyText == null) ? "No data" : emptyText;
 
@@ -0,0 +1,160 @@
+package com.company.jmixwebcomponent.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vaadin.flow.shared.Registration;
+import io.jmix.core.event.EntityChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Tells the {@link ReactDataTable}s of all sessions which rows of an entity changed, see
+ * {@link ReactDataTable#setChangeBroadcaster(ReactDataTableBroadcaster, Class)}.
+ * <p>
+ * Subscribers are kept per entity in concurrent sets: subscribing, unsubscribing and dispatching take no lock,
+ * and a change is only offered to the subscribers of its entity. Changes are dispatched after commit on a single
+ * thread, in commit order, so the committing request does not wait for other sessions.
+ * <p>
+ * Subscribers reloading the same rows the same way share one load per change, see {@link #resolve}.
+ */
+@Component("app_ReactDataTableBroadcaster")
+public class ReactDataTableBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactDataTableBroadcaster.class);
+
+    /**
+     * @param id entity id as string, compared with the {@code rowIdKey} values of the table
+     */
+    public record Change(String entityName, String id, EntityChangedEvent.Type type) {
+    }
+
+    // marks a load whose loader cannot load by id
+    private static final Object NOT_LOADABLE = new Object();
+
+    private final Map<String, Set<Consumer<Change>>> subscribers = new ConcurrentHashMap<>();
+
+    // loads per dispatched change and signature; keys are compared by identity and dropped once no subscriber
+    // holds the change anymore
+    private final Cache<Change, Map<Object, CompletableFuture<Object>>> resolutions = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "react-data-table-broadcaster");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Calls {@code listener} on the dispatcher thread for every committed change of {@code entityClass}.
+     * The listener must return quickly, e.g. hand the change over to the {@link ReactDataTableExecutor}:
+     * {@code UI.access} runs its command right away on the calling thread when the session is not locked.
+     */
+    public Registration subscribe(Class<?> entityClass, Consumer<Change> listener) {
+        Set<Consumer<Change>> entitySubscribers =
+                subscribers.computeIfAbsent(entityClass.getName(), k -> ConcurrentHashMap.newKeySet());
+        entitySubscribers.add(listener);
+
+        return () -> entitySubscribers.remove(listener);
+    }
+
+    public int getSubscriberCount(Class<?> entityClass) {
+        Set<Consumer<Change>> entitySubscribers = subscribers.get(entityClass.getName());
+        return entitySubscribers == null ? 0 : entitySubscribers.size();
+    }
+
+    /**
+     * Loads the items of delivered changes once for all subscribers passing an equal {@code signature}, e.g. the
+     * tables of one query and user scope: the subscriber that comes first runs {@code loader} for the ids
+     * nobody has loaded yet, the others wait for that load.
+     *
+     * @param changes   changes delivered to the subscriber, one per id
+     * @param signature what the items are loaded with: subscribers with equal signatures get the same items
+     * @param loader    loads items by id, ids missing from its result are gone or not visible; returns
+     *                  {@code null} if it cannot load by id
+     * @return loaded items by id, {@code null} if the loader cannot load by id
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> resolve(Collection<Change> changes, Object signature,
+                                      Function<Collection<String>, Map<String, T>> loader) {
+        Map<String, CompletableFuture<Object>> own = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Object>> all = new LinkedHashMap<>();
+        for (Change change : changes) {
+            CompletableFuture<Object> created = new CompletableFuture<>();
+            CompletableFuture<Object> existing = resolutions.get(change, c -> new ConcurrentHashMap<>())
+                    .putIfAbsent(signature, created);
+            if (existing == null) own.put(change.id(), created);
+            all.put(change.id(), existing == null ? created : existing);
+        }
+
+        if (!own.isEmpty()) {
+            try {
+                Map<String, T> loaded = loader.apply(own.keySet());
+                own.forEach((id, future) -> future.complete(loaded == null ? NOT_LOADABLE : loaded.get(id)));
+            } catch (RuntimeException e) {
+                own.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            }
+        }
+
+        Map<String, T> result = new HashMap<>();
+        List<String> failed = new ArrayList<>();
+        for (Map.Entry<String, CompletableFuture<Object>> entry : all.entrySet()) {
+            Object item;
+            try {
+                item = entry.getValue().join();
+            } catch (CompletionException e) {
+                failed.add(entry.getKey()); // reported to the subscriber that ran the load
+                continue;
+            }
+            if (item == NOT_LOADABLE) return null;
+            if (item != null) result.put(entry.getKey(), (T) item);
+        }
+
+        if (!failed.isEmpty()) {
+            Map<String, T> loaded = loader.apply(failed);
+            if (loaded == null) return null;
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    @TransactionalEventListener
+    public void onEntityChanged(EntityChangedEvent<?> event) {
+        String entityName = event.getEntityId().getEntityClass().getName();
+        if (!subscribers.containsKey(entityName)) return;
+
+        Change change = new Change(entityName, String.valueOf(event.getEntityId().getValue()), event.getType());
+        try {
+            dispatcher.execute(() -> dispatch(change));
+        } catch (RejectedExecutionException e) {
+            // shutting down
+        }
+    }
+
+    private void dispatch(Change change) {
+        Set<Consumer<Change>> entitySubscribers = subscribers.get(change.entityName());
+        if (entitySubscribers == null) return;
+
+        for (Consumer<Change> listener : entitySubscribers) {
+            try {
+                listener.accept(change);
+            } catch (RuntimeException e) {
+                log.warn("ReactDataTable change listener failed for {} {}", change.entityName(), change.id(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+}
@@ -0,0 +1,73 @@
+package com.company.jmixwebcomponent.component;
+
+/**
+ * Column definition of {@link ReactDataTable}, serialized to the element's {@code columns} property.
+ * <p>
+ * {@code key} is the row key; for tables bound to a data container it is the entity property path.
+ */
+public class ReactDataTableColumn {
+
+    private final String key;
+    private String label;
+    private String align;
+    private boolean sortable;
+    private boolean filterable;
+
+    public ReactDataTableColumn(String key) {
+        this(key, key);
+    }
+
+    public ReactDataTableColumn(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public ReactDataTableColumn withLabel(String label) {
+        this.label = label;
+        return this;
+    }
+
+    /**
+     * @return {@code left}, {@code center}, {@code right} or {@code null} for the element default
+     */
+    public String getAlign() {
+        return align;
+    }
+
+    public ReactDataTableColumn withAlign(String align) {
+        this.align = align;
+        return this;
+    }
+
+    /**
+     * Sortable columns can be sorted by clicking the header; in lazy mode sorting is done by the data provider.
+     */
+    public boolean isSortable() {
+        return sortable;
+    }
+
+    public ReactDataTableColumn withSortable(boolean sortable) {
+        this.sortable = sortable;
+        return this;
+    }
+
+    /**
+     * Filterable columns are matched against the text typed into the table's filter box.
+     */
+    public boolean isFilterable() {
+        return filterable;
+    }
+
+    public ReactDataTableColumn withFilterable(boolean filterable) {
+        this.filterable = filterable;
+        return this;
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.jmixwebcomponent.component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Supplies rows to {@link ReactDataTable} page by page, so that only the visible page
+ * is loaded and sent to the browser.
+ *
+ * @param <T> item type
+ */
+public interface ReactDataTableDataProvider<T> {
+
+    /**
+     * Loads the items of the requested page.
+     */
+    List<T> fetch(ReactDataTableQuery query);
+
+    /**
+     * Returns the total number of items. The table caches the result until it is refreshed.
+     */
+    int count(ReactDataTableQuery query);
+
+    /**
+     * Loads the items with the given row ids with the same attributes as the pages of {@code query}, to reload
+     * rows changed in other sessions. Items that no longer exist or are not visible to the user are left out.
+     *
+     * @return the items, or {@code null} if the provider cannot load items by id
+     */
+    default List<T> fetchByIds(Collection<String> ids, ReactDataTableQuery query) {
+        return null;
+    }
+
+    /**
+     * Returns a provider answering the same queries with state of its own, e.g. for an export running next to
+     * the table. By default the provider itself, which is then used for one query at a time.
+     */
+    default ReactDataTableDataProvider<T> copy() {
+        return this;
+    }
+
+    /**
+     * Returns the attributes the items are ordered by when the table is not sorted by a column, so that the
+     * {@link ReactDataTablePageCache} can drop pages whose order an update changes. Empty if the order does
+     * not depend on item attributes.
+     */
+    default List<String> getDefaultOrderKeys() {
+        return List.of();
+    }
+}
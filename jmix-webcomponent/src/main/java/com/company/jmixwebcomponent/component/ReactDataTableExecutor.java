@@ -0,0 +1,46 @@
+package com.company.jmixwebcomponent.component;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded thread pool running {@link ReactDataTable#setAsyncLoading(boolean) asynchronous} page and range
+ * loads outside of the Vaadin session lock.
+ * <p>
+ * Tasks run with the security context of the submitting request, so data access checks see the current user.
+ * When all threads are busy and the queue is full {@link #submit(Runnable)} throws
+ * {@link RejectedExecutionException}, and the table loads synchronously instead.
+ */
+@Component("app_ReactDataTableExecutor")
+public class ReactDataTableExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public ReactDataTableExecutor(@Value("${app.react-data-table.async.threads:4}") int threads,
+                                  @Value("${app.react-data-table.async.queue-capacity:100}") int queueCapacity) {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "react-data-table-loader-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public Future<?> submit(Runnable task) {
+        return executor.submit(new DelegatingSecurityContextRunnable(task));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,186 @@
+package com.company.jmixwebcomponent.component;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Writes all rows of a {@link ReactDataTable} query as CSV or XLSX. Rows are loaded page by page and written as
+ * they arrive, so memory use does not depend on the number of rows: a page of items for CSV, plus a window of
+ * {@link #XLSX_ROW_WINDOW} rows for XLSX, the rest of the sheet is flushed to a temporary file by POI.
+ * <p>
+ * CSV goes to the output stream as it is written. XLSX is a zip whose sheets are only written to the stream
+ * once the workbook is complete, so the first byte is sent after the last page has been loaded.
+ *
+ * @param <T> item type
+ * @see ReactDataTable#createExportResource(Format, String)
+ */
+public class ReactDataTableExporter<T> {
+
+    public static final int PAGE_SIZE = 1000;
+
+    static final int XLSX_ROW_WINDOW = 100;
+
+    public enum Format {
+        CSV("text/csv;charset=UTF-8", "csv"),
+        XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private final List<ReactDataTableColumn> columns;
+    private final RowSerializer<T> serializer;
+    private final ReactDataTableQuery query;
+    private final Function<ReactDataTableQuery, List<T>> pageLoader;
+
+    /**
+     * @param columns    exported columns, in this order
+     * @param serializer supplies the values by column key
+     * @param query      sort and filter of the export, the page is ignored
+     * @param pageLoader loads one page, e.g. {@link ReactDataTableDataProvider#fetch}
+     */
+    public ReactDataTableExporter(List<ReactDataTableColumn> columns, RowSerializer<T> serializer,
+                                  ReactDataTableQuery query, Function<ReactDataTableQuery, List<T>> pageLoader) {
+        this.columns = List.copyOf(columns);
+        this.serializer = serializer;
+        this.query = query;
+        this.pageLoader = pageLoader;
+    }
+
+    /**
+     * Writes all rows to {@code out} without closing it.
+     *
+     * @return number of exported rows
+     */
+    public long write(Format format, OutputStream out) throws IOException {
+        return format == Format.XLSX ? writeXlsx(out) : writeCsv(out);
+    }
+
+    protected long writeCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF'); // BOM: Excel opens the file as UTF-8
+
+        for (int c = 0; c < columns.size(); c++) {
+            if (c > 0) writer.write(',');
+            writer.write(csvValue(columns.get(c).getLabel()));
+        }
+        writer.write("\r\n");
+
+        long count = 0;
+        for (int page = 0; ; page++) {
+            List<T> items = pageLoader.apply(query.withPage(page, PAGE_SIZE));
+
+            for (T item : items) {
+                for (int c = 0; c < columns.size(); c++) {
+                    if (c > 0) writer.write(',');
+                    writer.write(csvValue(serializer.getValue(item, columns.get(c).getKey())));
+                }
+                writer.write("\r\n");
+            }
+
+            count += items.size();
+            if (items.size() < PAGE_SIZE) break;
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    protected long writeXlsx(OutputStream out) throws IOException {
+        // one header row per sheet, the data continues on the next sheet when a sheet is full
+        int rowsPerSheet = SpreadsheetVersion.EXCEL2007.getMaxRows() - 1;
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = null;
+            int rowIndex = 0;
+            long count = 0;
+
+            for (int page = 0; ; page++) {
+                List<T> items = pageLoader.apply(query.withPage(page, PAGE_SIZE));
+
+                for (T item : items) {
+                    if (sheet == null || rowIndex > rowsPerSheet) {
+                        sheet = workbook.createSheet();
+                        writeHeader(sheet.createRow(0));
+                        rowIndex = 1;
+                    }
+
+                    Row row = sheet.createRow(rowIndex++);
+                    for (int c = 0; c < columns.size(); c++) {
+                        setCellValue(row.createCell(c), serializer.getValue(item, columns.get(c).getKey()));
+                    }
+                }
+
+                count += items.size();
+                if (items.size() < PAGE_SIZE) break;
+            }
+
+            if (sheet == null) {
+                writeHeader(workbook.createSheet().createRow(0));
+            }
+
+            workbook.write(out);
+            out.flush();
+            return count;
+        } finally {
+            workbook.dispose(); // deletes the temporary sheet files
+            workbook.close();
+        }
+    }
+
+    private void writeHeader(Row row) {
+        for (int c = 0; c < columns.size(); c++) {
+            row.createCell(c).setCellValue(columns.get(c).getLabel());
+        }
+    }
+
+    private static void setCellValue(Cell cell, Object value) {
+        if (value == null) return;
+
+        if (value instanceof Number n) {
+            cell.setCellValue(n.doubleValue());
+        } else if (value instanceof Boolean b) {
+            cell.setCellValue(b);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+
+    static String csvValue(Object value) {
+        if (value == null) return "";
+
+        String s = value.toString();
+        if (!(value instanceof Number) && !s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0) {
+            // would be evaluated as a formula by spreadsheet applications
+            s = "'" + s;
+        }
+
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            return s;
+        }
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,127 @@
+package com.company.jmixwebcomponent.component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer meters of {@link ReactDataTable}, tagged by view id:
+ * <ul>
+ *     <li>{@code reactdatatable.serialize} - time to write rows/patches as JSON</li>
+ *     <li>{@code reactdatatable.payload.bytes} - size of every rows/patch/range update sent to the browser</li>
+ *     <li>{@code reactdatatable.payload.rows} - rows per update</li>
+ *     <li>{@code reactdatatable.event} - server handling time of element events, tagged by event name</li>
+ *     <li>{@code reactdatatable.client} - browser time to parse row payloads and to render them, reported by
+ *     the element in {@code render-stats} events and tagged by phase</li>
+ * </ul>
+ * Meters are looked up once per view and kind, so recording costs a map lookup and the meter update.
+ * Histogram buckets are enabled in {@code application.properties} with
+ * {@code management.metrics.distribution.percentiles-histogram.reactdatatable}.
+ */
+@Component("app_ReactDataTableMetrics")
+public class ReactDataTableMetrics {
+
+    public static final String PREFIX = "reactdatatable";
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Timer> serializeTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadBytes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadRows = new ConcurrentHashMap<>();
+    private final Map<String, Timer> eventTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> clientTimers = new ConcurrentHashMap<>();
+
+    public ReactDataTableMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public <R> R timeSerialization(String viewId, Supplier<R> writer) {
+        Timer timer = serializeTimers.computeIfAbsent(viewId, v -> Timer.builder(PREFIX + ".serialize")
+                .description("Time to serialize ReactDataTable rows and patches")
+                .tag("view", v)
+                .register(registry));
+
+        long start = System.nanoTime();
+        try {
+            return writer.get();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @param kind     {@code rows}, {@code patch} or {@code range}
+     * @param json     the update, recorded as its UTF-8 size
+     * @param rowCount rows in the update, negative if unknown
+     */
+    public void recordPayload(String viewId, String kind, String json, int rowCount) {
+        String key = viewId + '|' + kind;
+
+        payloadBytes.computeIfAbsent(key, k -> DistributionSummary.builder(PREFIX + ".payload.bytes")
+                        .description("Size of ReactDataTable updates sent to the browser")
+                        .baseUnit("bytes")
+                        .tag("view", viewId)
+                        .tag("kind", kind)
+                        .register(registry))
+                .record(utf8Length(json));
+
+        if (rowCount >= 0) {
+            payloadRows.computeIfAbsent(key, k -> DistributionSummary.builder(PREFIX + ".payload.rows")
+                            .description("Rows per ReactDataTable update")
+                            .baseUnit("rows")
+                            .tag("view", viewId)
+                            .tag("kind", kind)
+                            .register(registry))
+                    .record(rowCount);
+        }
+    }
+
+    // counts without encoding the payload a second time
+    static long utf8Length(CharSequence s) {
+        long bytes = 0;
+        for (int i = 0, n = s.length(); i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(s.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    public void recordEvent(String viewId, String event, long nanos) {
+        eventTimers.computeIfAbsent(viewId + '|' + event, k -> Timer.builder(PREFIX + ".event")
+                        .description("Server handling time of ReactDataTable events")
+                        .tag("view", viewId)
+                        .tag("event", event)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param phase  {@code parse} or {@code render}
+     * @param millis duration measured in the browser
+     */
+    public void recordClientTiming(String viewId, String phase, double millis) {
+        if (!(millis >= 0)) return; // NaN or clock skew
+
+        clientTimers.computeIfAbsent(viewId + '|' + phase, k -> Timer.builder(PREFIX + ".client")
+                        .description("Browser time to parse and render ReactDataTable rows")
+                        .tag("view", viewId)
+                        .tag("phase", phase)
+                        .register(registry))
+                .record((long) (millis * 1_000_000), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,89 @@
+package com.company.jmixwebcomponent.component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.VaadinRequest;
+import com.vaadin.flow.server.VaadinService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * Loads the {@code <react-data-table>} element module on demand. The module is not part of the Vaadin bundle:
+ * the Gradle task {@code buildReactDataTable} builds it into {@code META-INF/resources/react-data-table/} with a
+ * content hash in the file name, and the first {@link ReactDataTable} attached to a UI adds it to the page.
+ * Views without a table never download it, and a new build never hits a stale browser cache.
+ * <p>
+ * Production builds always build the module from the element sources, so it cannot fall behind the server side,
+ * and a production deployment without it fails on the first table instead of showing empty pages. In development
+ * mode the manifest is read on every load, so a rebuild ({@code ./gradlew buildReactDataTable processResources})
+ * is picked up without a restart.
+ */
+final class ReactDataTableModule {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactDataTableModule.class);
+
+    static final String DIRECTORY = "react-data-table";
+    private static final String MANIFEST = "META-INF/resources/" + DIRECTORY + "/manifest.json";
+
+    // read once in production mode, null until read or if the module has not been built
+    private static volatile String productionFile;
+
+    private ReactDataTableModule() {
+    }
+
+    /**
+     * Adds the module to the page of {@code ui}; Vaadin sends it once per UI and applies the element's
+     * properties only after it is loaded.
+     */
+    static void load(UI ui) {
+        boolean productionMode = ui.getSession().getConfiguration().isProductionMode();
+        String file = productionMode ? getProductionFile() : readEntryFile();
+        if (file == null) {
+            if (productionMode) {
+                throw new IllegalStateException(
+                        MANIFEST + " not found: the deployment was built without buildReactDataTable");
+            }
+            return;
+        }
+
+        VaadinRequest request = VaadinService.getCurrentRequest();
+        String contextPath = request == null ? "" : request.getContextPath();
+        ui.getPage().addJsModule(contextPath + "/" + DIRECTORY + "/" + file);
+    }
+
+    private static String getProductionFile() {
+        String file = productionFile;
+        if (file == null) {
+            file = readEntryFile();
+            productionFile = file;
+        }
+        return file;
+    }
+
+    private static String readEntryFile() {
+        try (InputStream in = ReactDataTableModule.class.getClassLoader().getResourceAsStream(MANIFEST)) {
+            if (in == null) {
+                log.warn("{} not found, <react-data-table> will not render: "
+                        + "run ./gradlew buildReactDataTable processResources", MANIFEST);
+                return null;
+            }
+
+            // Vite manifest: { "src/main.ts": { "file": "react-data-table-<hash>.js", "isEntry": true }, ... }
+            JsonNode manifest = new ObjectMapper().readTree(in);
+            for (Iterator<JsonNode> it = manifest.elements(); it.hasNext(); ) {
+                JsonNode chunk = it.next();
+                if (chunk.path("isEntry").asBoolean()) return chunk.path("file").asText();
+            }
+            log.warn("{} has no entry chunk", MANIFEST);
+            return null;
+        } catch (IOException e) {
+            log.warn("Cannot read {}", MANIFEST, e);
+            return null;
+        }
+    }
+}
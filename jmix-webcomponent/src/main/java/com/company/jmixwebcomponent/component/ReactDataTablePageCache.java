@@ -0,0 +1,213 @@
+package com.company.jmixwebcomponent.component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.jmix.core.event.AttributeChanges;
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.security.authentication.RoleGrantedAuthorityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Application-wide cache of serialized {@link ReactDataTable} pages and counts, shared by all sessions.
+ * <p>
+ * Entries are keyed by entity, query id, row format, sort, filter and page, bounded by size and TTL, and
+ * invalidated after commit by {@link EntityChangedEvent}: an update drops only the pages holding the changed
+ * entity, plus all pages of the entity if an attribute they are filtered or ordered by changed (the sort column
+ * or the provider's {@link ReactDataTableDataProvider#getDefaultOrderKeys() default order}); a create or delete
+ * drops all pages and counts of the entity.
+ * <p>
+ * Pages are shared by users with the same {@link #getCurrentScope() scope}: users without row-level roles
+ * share one scope, a user with row-level roles gets pages of their own, as the policies may depend on the
+ * user. Pages are loaded outside of the cache's locks, concurrent requests for a page being loaded wait for
+ * that load instead of querying too.
+ */
+@Component("app_ReactDataTablePageCache")
+public class ReactDataTablePageCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactDataTablePageCache.class);
+
+    private final AsyncCache<Key, Entry> cache;
+
+    // bumped on invalidation, so a page loaded during a change is not stored
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired(required = false)
+    private RoleGrantedAuthorityUtils roleGrantedAuthorityUtils;
+
+    public ReactDataTablePageCache(@Value("${app.react-data-table.page-cache.max-size:500}") long maxSize,
+                                   @Value("${app.react-data-table.page-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Cache key of a page or, with {@code firstResult = null}, of the count of a query.
+     *
+     * @param entityName class name of the loaded entity, used for invalidation
+     * @param queryId    identifies the data provider query, e.g. {@code "ReactDataTableView.users"}
+     * @param scope      users the entry is shared by, see {@link #getCurrentScope()}
+     * @param rowFormat  row keys and format of the serialized rows
+     * @param orderKeys  attributes the rows are ordered by: the sort key or the provider's default order
+     */
+    public record Key(String entityName, String queryId, String scope, String rowFormat,
+                      String sortKey, boolean ascending, List<String> orderKeys,
+                      String filterText, List<String> filterKeys,
+                      Integer firstResult, Integer maxResults) {
+
+        public boolean isCount() {
+            return firstResult == null;
+        }
+    }
+
+    /**
+     * Serialized rows of a page with the ids of its entities.
+     */
+    public record Page(String rowsJson, Set<String> ids) {
+    }
+
+    private record Entry(Page page, int count) {
+    }
+
+    public Page getPage(Key key, Supplier<Page> loader) {
+        return get(key, () -> new Entry(loader.get(), -1)).page();
+    }
+
+    public int getCount(Key key, Supplier<Integer> loader) {
+        return get(key, () -> new Entry(null, loader.get())).count();
+    }
+
+    private Entry get(Key key, Supplier<Entry> loader) {
+        // records the hit or miss
+        CompletableFuture<Entry> cached = cache.getIfPresent(key);
+        if (cached != null) return join(cached, loader);
+
+        long generation = generation(key.entityName()).get();
+
+        CompletableFuture<Entry> loading = new CompletableFuture<>();
+        CompletableFuture<Entry> other = cache.asMap().putIfAbsent(key, loading);
+        if (other != null) return join(other, loader);
+
+        // the query runs here, not in a compute of the map holding its lock
+        Entry entry;
+        try {
+            entry = loader.get();
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        loading.complete(entry);
+
+        if (generation(key.entityName()).get() != generation) {
+            // loaded while the entity changed: serve it once, but do not keep it
+            cache.asMap().remove(key, loading);
+        }
+        return entry;
+    }
+
+    // a load of another session failed: load without caching, the failure is reported to that session
+    private static Entry join(CompletableFuture<Entry> future, Supplier<Entry> loader) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            return loader.get();
+        }
+    }
+
+    /**
+     * Returns the scope of the current user's entries: empty for users without row-level roles, who see the
+     * same rows, or the username and row-level roles otherwise.
+     */
+    public String getCurrentScope() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || roleGrantedAuthorityUtils == null) return "";
+
+        String prefix = roleGrantedAuthorityUtils.getDefaultRowLevelRolePrefix();
+        List<String> rowLevelRoles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority != null && authority.startsWith(prefix))
+                .sorted()
+                .toList();
+        return rowLevelRoles.isEmpty() ? "" : authentication.getName() + ":" + rowLevelRoles;
+    }
+
+    @TransactionalEventListener
+    public void onEntityChanged(EntityChangedEvent<?> event) {
+        String entityName = event.getEntityId().getEntityClass().getName();
+        String id = String.valueOf(event.getEntityId().getValue());
+        boolean updated = event.getType() == EntityChangedEvent.Type.UPDATED;
+
+        generation(entityName).incrementAndGet();
+
+        // iterating the map view does not touch the hit/miss statistics
+        cache.asMap().entrySet().removeIf(e -> {
+            Key key = e.getKey();
+            if (!key.entityName().equals(entityName)) return false;
+
+            // a page still loading is dropped: its rows may be older than the change
+            Entry entry = e.getValue().getNow(null);
+            boolean invalid = !updated || entry == null || isAffectedByUpdate(key, entry, id, event.getChanges());
+            if (invalid) invalidations.incrementAndGet();
+            return invalid;
+        });
+
+        log.debug("Invalidated ReactDataTable pages of {} {} ({})", entityName, id, event.getType());
+    }
+
+    private static boolean isAffectedByUpdate(Key key, Entry entry, String id, AttributeChanges changes) {
+        boolean filterChanged = key.filterText() != null && key.filterKeys().stream().anyMatch(changes::isChanged);
+        if (key.isCount()) return filterChanged;
+
+        boolean sortChanged = key.orderKeys().stream().anyMatch(changes::isChanged);
+        return filterChanged || sortChanged || entry.page().ids().contains(id);
+    }
+
+    public void invalidateAll() {
+        generations.values().forEach(AtomicLong::incrementAndGet);
+        invalidations.addAndGet(cache.synchronous().estimatedSize());
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * @return hit, miss and eviction counters
+     */
+    public CacheStats getStats() {
+        return cache.synchronous().stats();
+    }
+
+    /**
+     * @return number of entries dropped because of entity changes
+     */
+    public long getInvalidationCount() {
+        return invalidations.get();
+    }
+
+    public long getSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    private AtomicLong generation(String entityName) {
+        return generations.computeIfAbsent(entityName, k -> new AtomicLong());
+    }
+}
@@ -0,0 +1,109 @@
+package com.company.jmixwebcomponent.component;
+
+import java.util.List;
+
+/**
+ * Describes one page requested by {@link ReactDataTable} in lazy mode, with the current sort and filter.
+ * <p>
+ * Sort key and filter keys are always keys of columns declared sortable/filterable, so data providers
+ * may use them as property names.
+ */
+public class ReactDataTableQuery {
+
+    private final int firstResult;
+    private final int maxResults;
+
+    private final String sortKey;
+    private final boolean ascending;
+
+    private final String filterText;
+    private final List<String> filterKeys;
+
+    private final List<String> properties;
+
+    public ReactDataTableQuery(int firstResult, int maxResults) {
+        this(firstResult, maxResults, null, true, null, List.of());
+    }
+
+    public ReactDataTableQuery(int firstResult, int maxResults,
+                               String sortKey, boolean ascending,
+                               String filterText, List<String> filterKeys) {
+        this(firstResult, maxResults, sortKey, ascending, filterText, filterKeys, List.of());
+    }
+
+    public ReactDataTableQuery(int firstResult, int maxResults,
+                               String sortKey, boolean ascending,
+                               String filterText, List<String> filterKeys,
+                               List<String> properties) {
+        this.firstResult = Math.max(0, firstResult);
+        this.maxResults = Math.max(1, maxResults);
+        this.sortKey = sortKey;
+        this.ascending = ascending;
+        this.filterText = filterText == null || filterText.isBlank() ? null : filterText.trim();
+        this.filterKeys = filterKeys == null ? List.of() : List.copyOf(filterKeys);
+        this.properties = properties == null ? List.of() : List.copyOf(properties);
+    }
+
+    public static ReactDataTableQuery ofPage(int pageIndex, int pageSize) {
+        int size = Math.max(1, pageSize);
+        return new ReactDataTableQuery(Math.max(0, pageIndex) * size, size);
+    }
+
+    /**
+     * Returns a query for another page with the same sort and filter.
+     */
+    public ReactDataTableQuery withPage(int pageIndex, int pageSize) {
+        int size = Math.max(1, pageSize);
+        return new ReactDataTableQuery(Math.max(0, pageIndex) * size, size,
+                sortKey, ascending, filterText, filterKeys, properties);
+    }
+
+    public int getFirstResult() {
+        return firstResult;
+    }
+
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    public int getPageIndex() {
+        return firstResult / maxResults;
+    }
+
+    /**
+     * @return key of the sorted column or {@code null} for the provider's default order
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * @return trimmed filter text or {@code null} if rows are not filtered
+     */
+    public String getFilterText() {
+        return filterText;
+    }
+
+    /**
+     * @return keys of the filterable columns the filter text is matched against
+     */
+    public List<String> getFilterKeys() {
+        return filterKeys;
+    }
+
+    /**
+     * @return keys of all columns and the {@code rowIdKey}: the only values the table shows, so providers may
+     * load just these; empty if unknown
+     */
+    public List<String> getProperties() {
+        return properties;
+    }
+
+    public boolean isFiltered() {
+        return filterText != null && !filterKeys.isEmpty();
+    }
+}
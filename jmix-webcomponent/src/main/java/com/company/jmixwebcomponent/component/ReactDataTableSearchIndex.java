@@ -0,0 +1,22 @@
+package com.company.jmixwebcomponent.component;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Answers the filter of a {@link ReactDataTable} from an index instead of a {@code like} scan,
+ * see {@link DataManagerDataProvider#withSearchIndex(ReactDataTableSearchIndex)}.
+ */
+public interface ReactDataTableSearchIndex {
+
+    /**
+     * @param text filter text
+     * @param keys filterable column keys, the text may be contained in any of them
+     * @return ids of the matching entities, or {@code null} if the index cannot answer the query (text too short,
+     * key not indexed, index not built yet, too many matches) and the provider has to filter with {@code like}
+     */
+    @Nullable
+    Collection<?> search(String text, List<String> keys);
+}
@@ -0,0 +1,74 @@
+package com.company.jmixwebcomponent.component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Shared JSON plumbing of the table serializers.
+ * <p>
+ * Payloads are written as {@link JsonSerializable} straight into the {@link JsonGenerator}: Jackson renders
+ * them into its recycled (pooled) text buffers, so no intermediate row maps or trees are built.
+ * {@link ObjectWriter} is immutable and thread-safe, one instance serves all tables.
+ */
+final class RowJson {
+
+    static final ObjectWriter WRITER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .writer();
+
+    private RowJson() {
+    }
+
+    static String write(Object value) {
+        try {
+            return WRITER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize table rows", e);
+        }
+    }
+
+    /**
+     * Writes common cell types without serializer lookup, everything else through Jackson.
+     */
+    static void writeValue(JsonGenerator gen, SerializerProvider provider, Object value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value instanceof String s) {
+            gen.writeString(s);
+        } else if (value instanceof Boolean b) {
+            gen.writeBoolean(b);
+        } else if (value instanceof Integer i) {
+            gen.writeNumber(i);
+        } else if (value instanceof Long l) {
+            gen.writeNumber(l);
+        } else if (value instanceof UUID u) {
+            gen.writeString(u.toString());
+        } else if (value instanceof Enum<?> e) {
+            gen.writeString(e.name());
+        } else {
+            provider.defaultSerializeValue(value, gen);
+        }
+    }
+
+    /**
+     * Base class for payloads that stream themselves into the generator.
+     */
+    abstract static class Payload implements JsonSerializable {
+
+        @Override
+        public void serializeWithType(JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+                throws IOException {
+            serialize(gen, provider);
+        }
+    }
+}
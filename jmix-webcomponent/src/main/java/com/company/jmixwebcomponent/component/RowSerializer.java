@@ -0,0 +1,144 @@
+package com.company.jmixwebcomponent.component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Serializes items into {@link ReactDataTable} rows without building a map per row.
+ * <p>
+ * Values are read with the registered column extractors and written directly through a Jackson
+ * {@link JsonGenerator}. A serializer is immutable once configured and can be shared between views:
+ * <pre>
+ * private static final RowSerializer&lt;User&gt; ROWS = RowSerializer.&lt;User&gt;create()
+ *         .withColumn("id", User::getId)
+ *         .withColumn("username", User::getUsername);
+ * </pre>
+ *
+ * @param <T> item type
+ */
+public class RowSerializer<T> {
+
+    private final List<String> keys;
+    private final List<Function<? super T, ?>> extractors;
+
+    private RowSerializer(List<String> keys, List<Function<? super T, ?>> extractors) {
+        this.keys = keys;
+        this.extractors = extractors;
+    }
+
+    public static <T> RowSerializer<T> create() {
+        return new RowSerializer<>(List.of(), List.of());
+    }
+
+    /**
+     * Returns a copy of this serializer with one more column.
+     */
+    public RowSerializer<T> withColumn(String key, Function<? super T, ?> valueExtractor) {
+        List<String> newKeys = new ArrayList<>(keys);
+        newKeys.add(key);
+
+        List<Function<? super T, ?>> newExtractors = new ArrayList<>(extractors);
+        newExtractors.add(valueExtractor);
+
+        return new RowSerializer<T>(List.copyOf(newKeys), Collections.unmodifiableList(newExtractors));
+    }
+
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    public Object getValue(T item, String key) {
+        int i = keys.indexOf(key);
+        return i < 0 ? null : extractors.get(i).apply(item);
+    }
+
+    /**
+     * Hash of the row values, used to detect rows that changed since they were sent.
+     */
+    public int rowHash(T item) {
+        int h = 1;
+        for (Function<? super T, ?> extractor : extractors) {
+            h = 31 * h + Objects.hashCode(extractor.apply(item));
+        }
+        return h;
+    }
+
+    /**
+     * Writes items as a JSON array of row objects.
+     */
+    public String writeRows(List<? extends T> items) {
+        return RowJson.write(new RowJson.Payload() {
+            @Override
+            public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+                writeRows(gen, provider, items);
+            }
+        });
+    }
+
+    /**
+     * Writes items in the compact columnar format, see {@link ColumnarRowsEncoder}.
+     */
+    public String writeColumnar(List<? extends T> items) {
+        return ColumnarRowsEncoder.encode(keys, items.size(),
+                (c, r) -> extractors.get(c).apply(items.get(r)));
+    }
+
+    /**
+     * Builds the rows directly as a Vaadin {@code elemental.json} array, for
+     * {@link com.vaadin.flow.dom.Element#setPropertyJson(String, elemental.json.JsonValue)}.
+     */
+    public JsonArray toJsonArray(List<? extends T> items) {
+        JsonArray array = Json.createArray();
+
+        for (int r = 0; r < items.size(); r++) {
+            T item = items.get(r);
+            JsonObject row = Json.createObject();
+
+            for (int c = 0; c < keys.size(); c++) {
+                putValue(row, keys.get(c), extractors.get(c).apply(item));
+            }
+            array.set(r, row);
+        }
+        return array;
+    }
+
+    void writeRows(JsonGenerator gen, SerializerProvider provider, List<? extends T> items) throws IOException {
+        gen.writeStartArray();
+
+        for (T item : items) {
+            gen.writeStartObject();
+            for (int c = 0; c < keys.size(); c++) {
+                gen.writeFieldName(keys.get(c));
+                RowJson.writeValue(gen, provider, extractors.get(c).apply(item));
+            }
+            gen.writeEndObject();
+        }
+
+        gen.writeEndArray();
+    }
+
+    void writeColumnar(JsonGenerator gen, SerializerProvider provider, List<? extends T> items)
+            throws IOException {
+        ColumnarRowsEncoder.write(gen, provider, keys, items.size(),
+                (c, r) -> extractors.get(c).apply(items.get(r)));
+    }
+
+    private static void putValue(JsonObject row, String key, Object value) {
+        if (value == null) {
+            row.put(key, Json.createNull());
+        } else if (value instanceof Boolean b) {
+            row.put(key, b);
+        } else if (value instanceof Number n) {
+            row.put(key, n.doubleValue());
+        } else {
+            row.put(key, value.toString());
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.company.jmixwebcomponent.component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index answering case-insensitive substring queries, like {@code lower(x) like '%text%'},
+ * without scanning all entries.
+ * <p>
+ * Every entry has a fixed number of text fields. Each distinct trigram (three consecutive characters) of a
+ * field points to the entries containing it. A query of at least three characters intersects the lists of
+ * its trigrams, starting with the shortest, and checks the remaining candidates against the requested fields.
+ * <p>
+ * Entries get increasing internal numbers, so every posting list stays sorted. An update adds the entry again
+ * under a new number and leaves the old postings as garbage, which is dropped once it makes up half of the
+ * index. Thread-safe: searches share a read lock, updates take the write lock.
+ *
+ * @param <K> entry key, e.g. entity id
+ */
+public class TrigramIndex<K> {
+
+    public static final int MIN_QUERY_LENGTH = 3;
+
+    private static final int COMPACT_MIN_GARBAGE = 1000;
+
+    private final int fieldCount;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<K, Integer> docs = new HashMap<>();
+    // doc number -> key, null for replaced or removed docs
+    private List<K> keys = new ArrayList<>();
+    // doc number -> lower-case field values
+    private List<String[]> texts = new ArrayList<>();
+    private Map<Long, IntList> postings = new HashMap<>();
+    private int garbage;
+
+    public TrigramIndex(int fieldCount) {
+        this.fieldCount = fieldCount;
+    }
+
+    /**
+     * Adds or replaces an entry.
+     *
+     * @param values field values, {@code null} values are not indexed
+     */
+    public void put(K key, String... values) {
+        if (values.length != fieldCount) {
+            throw new IllegalArgumentException("Expected " + fieldCount + " values, got " + values.length);
+        }
+
+        String[] normalized = new String[fieldCount];
+        for (int f = 0; f < fieldCount; f++) {
+            normalized[f] = values[f] == null ? null : normalize(values[f]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeDoc(key);
+            addDoc(key, normalized);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(key);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the entries where one of the given fields contains {@code text}, ignoring case.
+     *
+     * @param fields indexes of the fields to match
+     * @param limit  maximum number of keys worth returning
+     * @return matching keys in no particular order, or {@code null} if the text is shorter than
+     * {@link #MIN_QUERY_LENGTH} or more than {@code limit} entries match
+     */
+    public List<K> search(String text, int[] fields, int limit) {
+        String query = normalize(text);
+        if (query.length() < MIN_QUERY_LENGTH) return null;
+
+        lock.readLock().lock();
+        try {
+            List<IntList> lists = new ArrayList<>();
+            for (long trigram : trigrams(query)) {
+                IntList list = postings.get(trigram);
+                if (list == null) return List.of();
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(IntList::size));
+
+            IntList shortest = lists.get(0);
+            List<K> result = new ArrayList<>();
+
+            for (int i = 0; i < shortest.size(); i++) {
+                int doc = shortest.get(i);
+                K key = keys.get(doc);
+                if (key == null || !inAll(lists, doc) || !matches(texts.get(doc), fields, query)) continue;
+
+                if (result.size() == limit) return null;
+                result.add(key);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDoc(K key, String[] values) {
+        int doc = keys.size();
+        keys.add(key);
+        texts.add(values);
+        docs.put(key, doc);
+
+        Set<Long> docTrigrams = new HashSet<>();
+        for (String value : values) {
+            if (value != null) docTrigrams.addAll(trigrams(value));
+        }
+        for (long trigram : docTrigrams) {
+            postings.computeIfAbsent(trigram, t -> new IntList()).add(doc);
+        }
+    }
+
+    private void removeDoc(K key) {
+        Integer doc = docs.remove(key);
+        if (doc == null) return;
+
+        keys.set(doc, null);
+        texts.set(doc, null);
+        garbage++;
+    }
+
+    private void compactIfNeeded() {
+        if (garbage < COMPACT_MIN_GARBAGE || garbage < docs.size()) return;
+
+        List<K> oldKeys = keys;
+        List<String[]> oldTexts = texts;
+
+        keys = new ArrayList<>(docs.size());
+        texts = new ArrayList<>(docs.size());
+        postings = new HashMap<>();
+        docs.clear();
+        garbage = 0;
+
+        for (int doc = 0; doc < oldKeys.size(); doc++) {
+            K key = oldKeys.get(doc);
+            if (key != null) addDoc(key, oldTexts.get(doc));
+        }
+    }
+
+    private static boolean inAll(List<IntList> lists, int doc) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(doc)) return false;
+        }
+        return true;
+    }
+
+    private static boolean matches(String[] values, int[] fields, String query) {
+        for (int f : fields) {
+            String value = values[f];
+            if (value != null && value.contains(query)) return true;
+        }
+        return false;
+    }
+
+    private static Set<Long> trigrams(String s) {
+        Set<Long> result = new LinkedHashSet<>();
+        for (int i = 0; i + MIN_QUERY_LENGTH <= s.length(); i++) {
+            result.add(((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2));
+        }
+        return result;
+    }
+
+    private static String normalize(String s) {
+        return s.toLowerCase(Locale.ROOT);
+    }
+
+    // sorted, because doc numbers only grow
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+    }
+}
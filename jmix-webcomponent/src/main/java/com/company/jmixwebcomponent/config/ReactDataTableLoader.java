@@ -1,12 +1,20 @@
 package com.company.jmixwebcomponent.config;
 
 import com.company.jmixwebcomponent.component.ReactDataTable;
+import com.company.jmixwebcomponent.component.ReactDataTableColumn;
+import io.jmix.flowui.exception.GuiDevelopmentException;
+import io.jmix.flowui.model.CollectionContainer;
+import io.jmix.flowui.model.InstanceContainer;
 import io.jmix.flowui.xml.layout.loader.AbstractComponentLoader;
+import org.dom4j.Element;
 
-public class ReactDataTableLoader extends AbstractComponentLoader<ReactDataTable> {
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReactDataTableLoader extends AbstractComponentLoader<ReactDataTable<?>> {
 
     @Override
-    protected ReactDataTable createComponent() {
+    protected ReactDataTable<?> createComponent() {
         return factory.create(ReactDataTable.class);
     }
 
@@ -27,6 +35,48 @@ public class ReactDataTableLoader extends AbstractComponentLoader<ReactDataTable
         loadBoolean(element, "deletable", resultComponent::setDeletable);
         loadString(element, "density", resultComponent::setDensity);
         loadString(element, "emptyText", resultComponent::setEmptyText);
+        loadBoolean(element, "compactRows", resultComponent::setCompactRows);
+        loadBoolean(element, "virtualScroll", resultComponent::setVirtualScroll);
+        loadBoolean(element, "selectable", resultComponent::setSelectable);
+        loadBoolean(element, "asyncLoading", resultComponent::setAsyncLoading);
+        loadInteger(element, "streamChunkSize", resultComponent::setStreamChunkSize);
+
+        // columns first: container binding sends the initial rows using their keys
+        loadColumns();
+        loadString(element, "dataContainer", this::loadDataContainer);
         System.out.println("ReactDataTableLoader loaded: pageSize=" + element.attributeValue("pageSize"));
     }
+
+    protected void loadColumns() {
+        Element columnsElement = element.element("columns");
+        if (columnsElement == null) return;
+
+        List<ReactDataTableColumn> columns = new ArrayList<>();
+        for (Element columnElement : columnsElement.elements("column")) {
+            String key = columnElement.attributeValue("key");
+            if (key == null || key.isBlank()) {
+                throw new GuiDevelopmentException("Column 'key' is required", context);
+            }
+
+            ReactDataTableColumn column = new ReactDataTableColumn(key);
+            loadResourceString(columnElement, "label", context.getMessageGroup(), column::withLabel);
+            loadString(columnElement, "align", column::withAlign);
+            loadBoolean(columnElement, "sortable", column::withSortable);
+            loadBoolean(columnElement, "filterable", column::withFilterable);
+            columns.add(column);
+        }
+
+        resultComponent.setColumns(columns);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected void loadDataContainer(String containerId) {
+        InstanceContainer<?> container = getComponentContext().getViewData().getContainer(containerId);
+        if (!(container instanceof CollectionContainer<?> collectionContainer)) {
+            throw new GuiDevelopmentException("ReactDataTable requires a CollectionContainer: " + containerId,
+                    context);
+        }
+
+        ((ReactDataTable) resultComponent).setDataContainer(collectionContainer);
+    }
 }
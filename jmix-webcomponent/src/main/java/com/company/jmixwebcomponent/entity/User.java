@@ -3,6 +3,7 @@ package com.company.jmixwebcomponent.entity;
 import io.jmix.core.HasTimeZone;
 import io.jmix.core.annotation.Secret;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
+import io.jmix.core.entity.annotation.PublishEntityChangedEvents;
 import io.jmix.core.entity.annotation.SystemLevel;
 import io.jmix.core.metamodel.annotation.DependsOnProperties;
 import io.jmix.core.metamodel.annotation.InstanceName;
@@ -17,8 +18,13 @@ import java.util.UUID;
 
 @JmixEntity
 @Entity
+@PublishEntityChangedEvents
 @Table(name = "USER_", indexes = {
-        @Index(name = "IDX_USER__ON_USERNAME", columnList = "USERNAME", unique = true)
+        @Index(name = "IDX_USER__ON_USERNAME", columnList = "USERNAME", unique = true),
+        @Index(name = "IDX_USER__ON_USERNAME_ID", columnList = "USERNAME, ID"),
+        @Index(name = "IDX_USER__ON_FIRST_NAME_ID", columnList = "FIRST_NAME, ID"),
+        @Index(name = "IDX_USER__ON_LAST_NAME_ID", columnList = "LAST_NAME, ID"),
+        @Index(name = "IDX_USER__ON_EMAIL_ID", columnList = "EMAIL, ID")
 })
 public class User implements JmixUserDetails, HasTimeZone {
 
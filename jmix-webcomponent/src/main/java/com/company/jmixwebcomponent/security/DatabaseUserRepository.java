@@ -1,16 +1,94 @@
 package com.company.jmixwebcomponent.security;
 
 import com.company.jmixwebcomponent.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.core.event.EntityChangedEvent;
+import io.jmix.securitydata.entity.RoleAssignmentEntity;
 import io.jmix.securitydata.user.AbstractDatabaseUserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Users with their granted authorities are cached by username, so logins, user substitution and HTTP basic
+ * requests to the actuator do not load the user and its role assignments every time.
+ * <p>
+ * The cache is bounded by size and TTL. A committed change of a user or of one of its role assignments drops
+ * the entry of that user; role assignments changed without DataManager (e.g. by SQL) take effect with the TTL.
+ * Each caller gets its own copy of the cached user. Meters: {@code cache.*} tagged {@code cache=users}, plus
+ * {@code cache.invalidations}.
+ * <p>
+ * Passwords stored in plain text ({@code {noop}}) or with a weaker bcrypt strength than the one calibrated by
+ * {@link PasswordHashingService} are rehashed after the next successful login.
+ */
 @Primary
 @Component("UserRepository")
-public class DatabaseUserRepository extends AbstractDatabaseUserRepository<User> {
+public class DatabaseUserRepository extends AbstractDatabaseUserRepository<User>
+        implements UserDetailsPasswordService {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseUserRepository.class);
+
+    private static final String CACHE_NAME = "users";
+
+    private final MetadataTools metadataTools;
+    private final UnconstrainedDataManager unconstrainedDataManager;
+    private final PasswordHashingService passwordHashingService;
+    private final Cache<String, CachedUser> cache;
+    // user id -> username of the cached users, to drop a changed user by key
+    private final Map<Object, String> usernames = new ConcurrentHashMap<>();
+    private final Counter invalidations;
+
+    // bumped on invalidation, so a user loaded during a change is not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    public DatabaseUserRepository(MetadataTools metadataTools, UnconstrainedDataManager unconstrainedDataManager,
+                                  PasswordHashingService passwordHashingService, MeterRegistry meterRegistry,
+                                  @Value("${app.user-cache.max-size:10000}") long maxSize,
+                                  @Value("${app.user-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.metadataTools = metadataTools;
+        this.unconstrainedDataManager = unconstrainedDataManager;
+        this.passwordHashingService = passwordHashingService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                // runs atomically with the eviction, so the id mapping never outlives its entry
+                .evictionListener((String username, CachedUser cached, RemovalCause cause) -> {
+                    if (username != null && cached != null) usernames.remove(cached.user().getId(), username);
+                })
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.invalidations = Counter.builder("cache.invalidations")
+                .description("Entries dropped because the cached data changed")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    private record CachedUser(User user, List<GrantedAuthority> authorities) {
+    }
 
     @Override
     protected Class<User> getUserClass() {
@@ -28,4 +106,142 @@ public class DatabaseUserRepository extends AbstractDatabaseUserRepository<User>
     @Override
     protected void initAnonymousUser(final User anonymousUser) {
     }
-}
\ No newline at end of file
+
+    @Override
+    public User loadUserByUsername(String username) throws UsernameNotFoundException {
+        long loadGeneration = generation.get();
+
+        // unknown usernames are not cached: UsernameNotFoundException passes through
+        CachedUser cached = cache.get(username, this::loadUser);
+
+        if (generation.get() != loadGeneration) {
+            // loaded while a user or role assignment changed: serve it once, but do not keep it
+            evict(username, cached);
+        }
+
+        // authentication keeps and may modify the returned instance
+        User copy = metadataTools.copy(cached.user());
+        copy.setAuthorities(cached.authorities());
+        return copy;
+    }
+
+    private CachedUser loadUser(String username) {
+        User user = unconstrainedDataManager.load(User.class)
+                .query("select e from User e where e.username = :username")
+                .parameter("username", username)
+                .optional()
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+
+        usernames.put(user.getId(), username);
+        return new CachedUser(user, List.copyOf(createAuthorities(username)));
+    }
+
+    /**
+     * Checks the password of a login on the hashing pool, without blocking the calling request thread. The
+     * authentication that follows takes the result instead of hashing again, see
+     * {@link PasswordHashingService#matchesAsync}. Completes with {@code false} for unknown users.
+     */
+    public CompletableFuture<Boolean> verifyPasswordAsync(String username, String rawPassword) {
+        String password;
+        try {
+            password = loadUserByUsername(username).getPassword();
+        } catch (UsernameNotFoundException e) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (password == null) return CompletableFuture.completedFuture(false);
+
+        return passwordHashingService.matchesAsync(rawPassword, password);
+    }
+
+    /**
+     * Rehashes the password of a user who has just logged in with {@code rawPassword} if
+     * {@link PasswordHashingService#upgradeEncoding(String) the stored hash is outdated}. The hash is taken from the
+     * entry cached by the login, not loaded again. Hashing and saving run on the hashing pool, the login does not
+     * wait for them.
+     */
+    public void upgradePasswordIfNeeded(String username, String rawPassword) {
+        // not counted as a cache hit: the login has just loaded the user
+        CachedUser cached = cache.asMap().get(username);
+        String password = cached == null ? null : cached.user().getPassword();
+        if (password == null || !passwordHashingService.upgradeEncoding(password)) return;
+
+        passwordHashingService.encodeAsync(rawPassword)
+                .thenAccept(encodedPassword -> storePassword(username, encodedPassword))
+                .exceptionally(e -> {
+                    log.warn("Cannot rehash the password of user '{}'", username, e);
+                    return null;
+                });
+    }
+
+    /**
+     * Stores a rehashed password, called by {@link #upgradePasswordIfNeeded} and by Spring Security's
+     * {@code DaoAuthenticationProvider}. The saved user publishes an entity change, which drops the cached entry.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        storePassword(user.getUsername(), newPassword);
+
+        if (user instanceof User u) {
+            u.setPassword(newPassword);
+        }
+        return user;
+    }
+
+    private void storePassword(String username, String newPassword) {
+        unconstrainedDataManager.load(User.class)
+                .query("select e from User e where e.username = :username")
+                .parameter("username", username)
+                .optional()
+                .ifPresent(stored -> {
+                    stored.setPassword(newPassword);
+                    unconstrainedDataManager.save(stored);
+                });
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(EntityChangedEvent<User> event) {
+        generation.incrementAndGet();
+
+        // by id: the username itself may have changed
+        String username = usernames.get(event.getEntityId().getValue());
+        if (username != null) evict(username, null);
+    }
+
+    @TransactionalEventListener
+    public void onRoleAssignmentChanged(EntityChangedEvent<RoleAssignmentEntity> event) {
+        generation.incrementAndGet();
+
+        // the previous user of an updated or deleted assignment, then the current one
+        String oldUsername = event.getChanges().getOldValue("username");
+        if (oldUsername != null) evict(oldUsername, null);
+
+        if (event.getType() != EntityChangedEvent.Type.DELETED) {
+            unconstrainedDataManager.load(event.getEntityId())
+                    .optional()
+                    .ifPresent(assignment -> evict(assignment.getUsername(), null));
+        }
+    }
+
+    /**
+     * Drops the entry of {@code username}, if {@code expected} is not {@code null} only if it is still that entry.
+     */
+    private void evict(String username, CachedUser expected) {
+        CachedUser removed;
+        if (expected == null) {
+            removed = cache.asMap().remove(username);
+        } else {
+            removed = cache.asMap().remove(username, expected) ? expected : null;
+        }
+        if (removed == null) return;
+
+        usernames.remove(removed.user().getId(), username);
+        invalidations.increment();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        invalidations.increment(cache.estimatedSize());
+        cache.invalidateAll();
+        usernames.clear();
+    }
+}
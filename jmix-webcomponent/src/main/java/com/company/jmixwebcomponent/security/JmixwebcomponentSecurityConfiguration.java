@@ -1,10 +1,16 @@
 package com.company.jmixwebcomponent.security;
 
 import io.jmix.core.JmixSecurityFilterChainOrder;
+import io.jmix.security.authentication.UserRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
@@ -46,4 +52,32 @@ public class JmixwebcomponentSecurityConfiguration {
 
         return http.build();
     }
+
+    /**
+     * Actuator endpoints: health is public for load balancers, the rest (metrics, prometheus) requires
+     * HTTP basic authentication of a user with the full access role. Ordered right after
+     * {@link #publicFilterChain}, still before the Jmix chains.
+     */
+    @Bean
+    @Order(JmixSecurityFilterChainOrder.CUSTOM + 1)
+    SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+                                            UserRepository userRepository,
+                                            PasswordEncoder passwordEncoder,
+                                            UserDetailsPasswordService userDetailsPasswordService) throws Exception {
+        DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
+        authenticationProvider.setUserDetailsService(userRepository);
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+        // outdated hashes ({noop}, weaker bcrypt) are replaced after a successful login
+        authenticationProvider.setUserDetailsPasswordService(userDetailsPasswordService);
+
+        http.securityMatcher("/actuator/**")
+                .authenticationProvider(authenticationProvider)
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .anyRequest().hasRole(FullAccessRole.CODE))
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+        return http.build();
+    }
 }
\ No newline at end of file
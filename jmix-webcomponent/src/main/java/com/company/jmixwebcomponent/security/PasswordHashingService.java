@@ -0,0 +1,271 @@
+package com.company.jmixwebcomponent.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Application {@link PasswordEncoder}: hashes and verifies passwords on a bounded thread pool, so bursts of logins
+ * or user creation use at most {@code app.password-hashing.threads} cores instead of every request thread.
+ * <p>
+ * New passwords are stored as {@code {bcrypt}} with a strength calibrated at startup: the highest strength,
+ * from {@link #MIN_STRENGTH}, whose hash takes at most {@code app.password-hashing.target-millis} on this machine.
+ * Hashes of the other encoders of {@link PasswordEncoderFactories} ({@code {noop}}, {@code {pbkdf2}},
+ * {@code {scrypt}}, {@code {argon2}}, {@code {sha256}}, ...) are still accepted, and {@link #upgradeEncoding(String)}
+ * reports them, and weaker bcrypt hashes, as due for a rehash (see
+ * {@link DatabaseUserRepository#upgradePasswordIfNeeded}).
+ * <p>
+ * {@link #encodeAsync} and {@link #matchesAsync} do not block the caller: use them where the caller can resume
+ * later, e.g. the login view, which authenticates once the check is done. {@link #encode} and {@link #matches}
+ * are the blocking bridge for the {@link PasswordEncoder} contract, used by Spring Security's authentication
+ * providers: the request thread waits at most {@code app.password-hashing.timeout-millis} and then fails the
+ * authentication instead of queueing up behind a burst of logins. A {@link #matches} call right after
+ * {@link #matchesAsync} with the same arguments takes its result instead of hashing again.
+ * <p>
+ * When all threads are busy and the queue is full, the caller hashes on its own thread. Meters:
+ * {@code executor.*} tagged {@code name=password-hashing} (queued, active, ...) and {@code password.hashing}
+ * tagged by operation.
+ */
+@Primary
+@Component("app_PasswordHashingService")
+public class PasswordHashingService implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    // Spring Security default, never go below it
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 16;
+
+    private static final String BCRYPT = "bcrypt";
+
+    // how long a matchesAsync result waits for the authentication that confirms it
+    private static final Duration VERIFIED_TTL = Duration.ofSeconds(30);
+
+    private final int strength;
+    private final DelegatingPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    // keyed by a keyed hash of the password and the stored hash, never the password itself; used once
+    private final Cache<String, Boolean> verified = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(VERIFIED_TTL)
+            .build();
+    private final SecretKeySpec verifiedKey;
+
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+
+    public PasswordHashingService(MeterRegistry meterRegistry,
+                                  @Value("${app.password-hashing.threads:0}") int threads,
+                                  @Value("${app.password-hashing.queue-capacity:500}") int queueCapacity,
+                                  @Value("${app.password-hashing.strength:0}") int fixedStrength,
+                                  @Value("${app.password-hashing.target-millis:100}") long targetMillis,
+                                  @Value("${app.password-hashing.timeout-millis:5000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.strength = fixedStrength > 0 ? fixedStrength : calibrate(targetMillis);
+        log.info("Password hashing: bcrypt strength {}", strength);
+
+        // {noop} for the seeded users; ids this map does not know (pbkdf2, scrypt, argon2, sha256, ...) are
+        // matched by the encoders of PasswordEncoderFactories: the first successful login replaces them
+        this.encoder = new DelegatingPasswordEncoder(BCRYPT, Map.of(
+                BCRYPT, new BCryptPasswordEncoder(strength),
+                "noop", NoOpPasswordEncoder.getInstance()));
+        this.encoder.setDefaultPasswordEncoderForMatches(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.verifiedKey = new SecretKeySpec(key, "HmacSHA256");
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        new ExecutorServiceMetrics(executor, "password-hashing", Tags.empty()).bindTo(meterRegistry);
+        Gauge.builder("password.hashing.strength", () -> strength)
+                .description("Calibrated bcrypt strength of new password hashes")
+                .register(meterRegistry);
+        this.encodeTimer = hashingTimer(meterRegistry, "encode");
+        this.matchTimer = hashingTimer(meterRegistry, "matches");
+    }
+
+    private static Timer hashingTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("password.hashing")
+                .description("Password hashing time including the wait for a hashing thread")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return the highest strength whose hash takes at most {@code targetMillis}, at least {@link #MIN_STRENGTH}
+     */
+    static int calibrate(long targetMillis) {
+        String sample = "calibration-password";
+        new BCryptPasswordEncoder(MIN_STRENGTH).encode(sample); // warm-up
+
+        int result = MIN_STRENGTH;
+        for (int s = MIN_STRENGTH; s <= MAX_STRENGTH; s++) {
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(s).encode(sample);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            if (millis > targetMillis) break;
+            result = s;
+            if (2 * millis > targetMillis) break; // every step doubles the cost
+        }
+        return result;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Hashes {@code rawPassword} on the hashing pool without blocking the caller, e.g. a thread holding
+     * the Vaadin session lock.
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return runAsync(encodeTimer, () -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * Verifies {@code rawPassword} on the hashing pool without blocking the caller. The result answers the next
+     * {@link #matches} call with the same arguments within 30 seconds, e.g. by the authentication that follows.
+     */
+    public CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword, String encodedPassword) {
+        return runAsync(matchTimer, () -> {
+            boolean matches = encoder.matches(rawPassword, encodedPassword);
+            if (rawPassword != null && encodedPassword != null) verified.put(verifiedKey(rawPassword, encodedPassword), matches);
+            return matches;
+        });
+    }
+
+    /**
+     * Blocking bridge to {@link #encodeAsync}, waits at most {@code app.password-hashing.timeout-millis}.
+     *
+     * @throws AuthenticationServiceException if the hash is not ready in time
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * Blocking bridge to {@link #matchesAsync}, waits at most {@code app.password-hashing.timeout-millis}.
+     *
+     * @throws AuthenticationServiceException if the check is not done in time
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword != null && encodedPassword != null) {
+            Boolean known = verified.asMap().remove(verifiedKey(rawPassword, encodedPassword));
+            if (known != null) return known;
+        }
+        return run(matchTimer, () -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    private String verifiedKey(CharSequence rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(verifiedKey);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(rawPassword.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <R> CompletableFuture<R> runAsync(Timer timer, Supplier<R> hashing) {
+        long start = System.nanoTime();
+        Supplier<R> timed = () -> {
+            try {
+                return hashing.get();
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+
+        try {
+            return CompletableFuture.supplyAsync(timed, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(timed.get());
+        }
+    }
+
+    private <R> R run(Timer timer, Supplier<R> hashing) {
+        long start = System.nanoTime();
+        Future<R> future;
+        try {
+            future = executor.submit(hashing::get);
+        } catch (RejectedExecutionException e) {
+            // pool saturated: hash on the caller's thread rather than fail the login
+            future = CompletableFuture.completedFuture(hashing.get());
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // drops the task if it is still queued
+            future.cancel(true);
+            throw new AuthenticationServiceException(
+                    "Password hashing did not finish within " + timeoutMillis + " ms", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -24,7 +24,13 @@ public interface AppStudioUiKit {
                     @StudioProperty(xmlAttribute = "deletable", type = StudioPropertyType.BOOLEAN, defaultValue = "true"),
                     @StudioProperty(xmlAttribute = "density", type = StudioPropertyType.ENUMERATION,
                             defaultValue = "normal", options = {"compact", "normal", "comfortable"}),
-                    @StudioProperty(xmlAttribute = "emptyText", type = StudioPropertyType.STRING, defaultValue = "No data")
+                    @StudioProperty(xmlAttribute = "emptyText", type = StudioPropertyType.STRING, defaultValue = "No data"),
+                    @StudioProperty(xmlAttribute = "compactRows", type = StudioPropertyType.BOOLEAN, defaultValue = "false"),
+                    @StudioProperty(xmlAttribute = "virtualScroll", type = StudioPropertyType.BOOLEAN, defaultValue = "false"),
+                    @StudioProperty(xmlAttribute = "selectable", type = StudioPropertyType.BOOLEAN, defaultValue = "false"),
+                    @StudioProperty(xmlAttribute = "asyncLoading", type = StudioPropertyType.BOOLEAN, defaultValue = "false"),
+                    @StudioProperty(xmlAttribute = "streamChunkSize", type = StudioPropertyType.INTEGER, defaultValue = "0"),
+                    @StudioProperty(xmlAttribute = "dataContainer", type = StudioPropertyType.COLLECTION_DATA_CONTAINER_REF)
             }
     )
     void reactDataTable();
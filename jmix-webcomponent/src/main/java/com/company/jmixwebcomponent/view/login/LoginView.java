@@ -1,6 +1,8 @@
 package com.company.jmixwebcomponent.view.login;
 
+import com.company.jmixwebcomponent.security.DatabaseUserRepository;
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.login.AbstractLogin.LoginEvent;
 import com.vaadin.flow.component.login.LoginI18n;
 import com.vaadin.flow.i18n.LocaleChangeEvent;
@@ -21,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.LockedException;
@@ -46,6 +49,9 @@ public class LoginView extends StandardView implements LocaleChangeObserver {
     @Autowired
     private MessageTools messageTools;
 
+    @Autowired
+    private DatabaseUserRepository userRepository;
+
     @ViewComponent
     private JmixLoginForm login;
 
@@ -86,13 +92,34 @@ public class LoginView extends StandardView implements LocaleChangeObserver {
 
     @Subscribe("login")
     public void onLogin(final LoginEvent event) {
+        UI ui = UI.getCurrent();
+
+        // bcrypt runs on the hashing pool and this request returns; the login goes on when the check is done
+        userRepository.verifyPasswordAsync(event.getUsername(), event.getPassword())
+                .whenComplete((matches, e) -> {
+                    try {
+                        ui.access(() -> ui.getPage().executeJs("return null")
+                                // authenticate in a request of the client: the security context is stored in
+                                // its HTTP session, and the password check takes the result computed above
+                                .then(ignored -> authenticate(event)));
+                    } catch (UIDetachedException detached) {
+                        // the login view was closed meanwhile
+                    }
+                });
+    }
+
+    private void authenticate(final LoginEvent event) {
         try {
             loginViewSupport.authenticate(
                     AuthDetails.of(event.getUsername(), event.getPassword())
                             .withLocale(login.getSelectedLocale())
                             .withRememberMe(login.isRememberMe())
             );
-        } catch (final BadCredentialsException | DisabledException | LockedException | AccessDeniedException e) {
+            // the raw password is only known here: rehash {noop} and weaker hashes in the background
+            userRepository.upgradePasswordIfNeeded(event.getUsername(), event.getPassword());
+        } catch (final BadCredentialsException | DisabledException | LockedException | AccessDeniedException
+                       | AuthenticationServiceException e) {
+            // AuthenticationServiceException: e.g. the password check timed out under load
             log.warn("Login failed for user '{}': {}", event.getUsername(), e.toString());
             event.getSource().setError(true);
         }
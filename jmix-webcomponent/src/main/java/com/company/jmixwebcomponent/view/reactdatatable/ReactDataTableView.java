@@ -1,15 +1,29 @@
 package com.company.jmixwebcomponent.view.reactdatatable;
 
+import com.company.jmixwebcomponent.app.UserSearchIndex;
+import com.company.jmixwebcomponent.component.DataManagerDataProvider;
 import com.company.jmixwebcomponent.component.ReactDataTable;
+import com.company.jmixwebcomponent.component.ReactDataTableBroadcaster;
+import com.company.jmixwebcomponent.component.ReactDataTableColumn;
+import com.company.jmixwebcomponent.component.ReactDataTableExporter;
+import com.company.jmixwebcomponent.component.ReactDataTablePageCache;
+import com.company.jmixwebcomponent.component.RowSerializer;
 import com.company.jmixwebcomponent.entity.User;
 import com.company.jmixwebcomponent.view.main.MainView;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vaadin.flow.component.ClickEvent;
+import com.vaadin.flow.component.html.Anchor;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.router.Route;
 import io.jmix.core.DataManager;
+import io.jmix.core.Metadata;
+import io.jmix.core.SaveContext;
 import io.jmix.flowui.Dialogs;
+import io.jmix.flowui.Notifications;
+import io.jmix.flowui.UiComponents;
 import io.jmix.flowui.ViewNavigators;
 import io.jmix.flowui.action.DialogAction;
+import io.jmix.flowui.kit.component.button.JmixButton;
 import io.jmix.flowui.view.*;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -20,24 +34,75 @@ import java.util.*;
 @ViewDescriptor(path = "react-data-table-view.xml")
 public class ReactDataTableView extends StandardView {
 
+    // immutable and thread-safe, shared by all instances of the view
+    private static final RowSerializer<User> ROWS = RowSerializer.<User>create()
+            .withColumn("id", User::getId) // ⭐ BẮT BUỘC
+            .withColumn("username", User::getUsername)
+            .withColumn("firstName", User::getFirstName)
+            .withColumn("lastName", User::getLastName)
+            .withColumn("email", User::getEmail)
+            .withColumn("active", User::getActive)
+            // not shown, sent back with row events for the optimistic lock check
+            .withColumn("version", User::getVersion);
+
+    @ViewComponent
+    private ReactDataTable<User> table;
+
+    @ViewComponent
+    private JmixButton deleteSelectedButton;
+
     @ViewComponent
-    private ReactDataTable table;
+    private HorizontalLayout buttonsPanel;
+
+    @ViewComponent
+    private MessageBundle messageBundle;
 
     @Autowired
     private DataManager dataManager;
 
+    @Autowired
+    private Metadata metadata;
+
     @Autowired
     private ViewNavigators viewNavigators;
 
     @Autowired
     private Dialogs dialogs;
 
-    private final ObjectMapper mapper = new ObjectMapper();
-    private List<User> users = new ArrayList<>();
+    @Autowired
+    private Notifications notifications;
+
+    @Autowired
+    private UiComponents uiComponents;
+
+    @Autowired
+    private ReactDataTablePageCache pageCache;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Autowired
+    private ReactDataTableBroadcaster broadcaster;
 
     @Subscribe
     public void onInit(InitEvent event) {
         table.setSizeFull();
+
+        buttonsPanel.add(
+                createExportLink(ReactDataTableExporter.Format.CSV, "exportCsvButton.text"),
+                createExportLink(ReactDataTableExporter.Format.XLSX, "exportXlsxButton.text"));
+    }
+
+    // exports all users of the current sort and filter, streamed page by page
+    private Anchor createExportLink(ReactDataTableExporter.Format format, String messageKey) {
+        JmixButton button = uiComponents.create(JmixButton.class);
+        button.setText(messageBundle.getMessage(messageKey));
+        button.setIcon(VaadinIcon.DOWNLOAD.create());
+
+        Anchor link = new Anchor(table.createExportResource(format, "users"), "");
+        link.getElement().setAttribute("download", true);
+        link.add(button);
+        return link;
     }
 
 
@@ -49,86 +114,100 @@ public class ReactDataTableView extends StandardView {
 
     private void initListeners() {
 
-        table.addRowEditListener(e -> {
-            try {
-                Map<String, Object> row =
-                        mapper.readValue(e.getDetailJson(), Map.class);
-
-                UUID userId = UUID.fromString(row.get("id").toString());
-
-                User user = dataManager.load(User.class)
-                        .id(userId)
-                        .one();
-
-                viewNavigators
+        // events carry only the row id: the entity comes from the page the table has already loaded
+        table.addRowEditListener(e -> table.findItem(e.getId())
+                .ifPresent(user -> viewNavigators
                         .detailView(this, User.class)
                         .editEntity(user)
-                        .navigate();
-
-            } catch (Exception ex) {
-                throw new RuntimeException(ex);
-            }
-        });
+                        .navigate()));
 
         table.addRowDeleteListener(e -> dialogs.createOptionDialog()
                 .withHeader("Vui lòng xác nhận")
                 .withText("Bạn có chắc chắn muốn xóa?")
                 .withActions(
                         new DialogAction(DialogAction.Type.YES)
-                                .withHandler(ev -> {
-                                    try {
-                                        Map<String, Object> row =
-                                                mapper.readValue(e.getDetailJson(), Map.class);
-
-                                        UUID userId = UUID.fromString(row.get("id").toString());
+                                .withHandler(ev -> table.findItem(e.getId()).ifPresent(user -> {
+                                    // delete only the state the user saw
+                                    if (e.getVersion() != null && !e.getVersion().equals(user.getVersion())) {
+                                        notifications.create(messageBundle.getMessage("rowChangedNotification"))
+                                                .withType(Notifications.Type.WARNING)
+                                                .show();
+                                        table.upsertItems(List.of(user));
+                                        return;
+                                    }
+                                    // items carry the version: fails if another session changed the user since
+                                    dataManager.remove(user);
+                                    table.removeRows(e.getId()); // only the removed row goes to the client
+                                })),
+                        new DialogAction(DialogAction.Type.NO)
+                )
+                .open());
 
-                                        User user = dataManager.load(User.class)
-                                                .id(userId)
-                                                .one();
+        table.addSelectionChangeListener(e ->
+                deleteSelectedButton.setEnabled(!e.getSelectedIds().isEmpty()));
+    }
 
-                                        dataManager.remove(user);
-                                        loadTable(); // reload
+    @Subscribe(id = "deleteSelectedButton", subject = "clickListener")
+    public void onDeleteSelectedButtonClick(final ClickEvent<JmixButton> event) {
+        Set<String> ids = Set.copyOf(table.getSelectedIds());
+        if (ids.isEmpty()) return;
 
-                                    } catch (Exception ex) {
-                                        throw new RuntimeException(ex);
-                                    }
-                                }),
+        dialogs.createOptionDialog()
+                .withHeader(messageBundle.getMessage("deleteSelectedDialog.header"))
+                .withText(messageBundle.formatMessage("deleteSelectedDialog.text", ids.size()))
+                .withActions(
+                        new DialogAction(DialogAction.Type.YES).withHandler(ev -> deleteUsers(ids)),
                         new DialogAction(DialogAction.Type.NO)
                 )
-                .open());
+                .open();
+    }
+
+    private void deleteUsers(Set<String> ids) {
+        List<UUID> userIds = ids.stream().map(UUID::fromString).toList();
+
+        // selected rows may be on other pages: one query for all of them
+        List<User> users = dataManager.load(User.class)
+                .query("select e from User e where e.id in :ids")
+                .parameter("ids", userIds)
+                .list();
+
+        // one transaction for all removals
+        SaveContext saveContext = new SaveContext();
+        users.forEach(saveContext::removing);
+        dataManager.save(saveContext);
 
+        // single patch with all removed ids instead of reloading the table
+        table.removeRows(users.stream().map(u -> u.getId().toString()).toArray(String[]::new));
+        deleteSelectedButton.setEnabled(!table.getSelectedIds().isEmpty());
     }
 
     private void loadTable() {
-        try {
-            users = dataManager.load(User.class).all().list();
-
-            List<Map<String, Object>> columns = List.of(
-                    Map.of("key", "username", "label", "Username"),
-                    Map.of("key", "firstName", "label", "First name"),
-                    Map.of("key", "lastName", "label", "Last name"),
-                    Map.of("key", "email", "label", "Email"),
-                    Map.of("key", "active", "label", "Active")
-            );
-
-            List<Map<String, Object>> rows = new ArrayList<>();
-
-            for (User u : users) {
-                Map<String, Object> m = new HashMap<>();
-                m.put("id", u.getId().toString()); // ⭐ BẮT BUỘC
-                m.put("username", u.getUsername());
-                m.put("firstName", u.getFirstName());
-                m.put("lastName", u.getLastName());
-                m.put("email", u.getEmail());
-                m.put("active", u.getActive());
-                rows.add(m);
-            }
-
-            table.setColumns(mapper.writeValueAsString(columns));
-            table.setRows(mapper.writeValueAsString(rows));
-
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+        table.setColumns(List.of(
+                new ReactDataTableColumn("username", "Username").withSortable(true).withFilterable(true),
+                new ReactDataTableColumn("firstName", "First name").withSortable(true).withFilterable(true),
+                new ReactDataTableColumn("lastName", "Last name").withSortable(true).withFilterable(true),
+                new ReactDataTableColumn("email", "Email").withSortable(true).withFilterable(true),
+                new ReactDataTableColumn("active", "Active")
+        ));
+
+        // pages are shared by all open instances of this view until a User changes
+        table.setPageCache(pageCache, User.class, "ReactDataTableView.users");
+
+        // lazy mode: only the requested page is loaded and sent to the browser,
+        // next pages seek past the last (username, id) instead of skipping rows,
+        // the filter text is looked up in the in-memory index before falling back to like
+        table.setDataProvider(
+                new DataManagerDataProvider<>(dataManager, metadata, User.class)
+                        .withOrderBy("e.username")
+                        .withKeysetPaging("username")
+                        // optimistic lock check when a row is deleted
+                        .withFetchProperties("version")
+                        .withSearchIndex(userSearchIndex),
+                ROWS);
+
+        // rows that are no longer on the loaded page are reloaded by the provider with the columns' fetch plan
+
+        // users changed or deleted in other sessions are patched into the loaded rows
+        table.setChangeBroadcaster(broadcaster, User.class);
     }
 }
@@ -1,7 +1,11 @@
 package com.company.jmixwebcomponent.view.user;
 
+import com.company.jmixwebcomponent.app.LookupDataCache;
 import com.company.jmixwebcomponent.entity.User;
+import com.company.jmixwebcomponent.security.PasswordHashingService;
 import com.company.jmixwebcomponent.view.main.MainView;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.combobox.ComboBox;
 import com.vaadin.flow.component.notification.Notification;
 import com.vaadin.flow.component.notification.NotificationVariant;
@@ -12,11 +16,8 @@ import io.jmix.flowui.Notifications;
 import io.jmix.flowui.component.textfield.TypedTextField;
 import io.jmix.flowui.view.*;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.List;
 import java.util.Objects;
-import java.util.TimeZone;
 
 @Route(value = "users/:id", layout = MainView.class)
 @ViewController(id = "User.detail")
@@ -40,13 +41,22 @@ public class UserDetailView extends StandardDetailView<User> {
     @Autowired
     private EntityStates entityStates;
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+    @Autowired
+    private LookupDataCache lookupDataCache;
 
     private boolean newEntity;
+    // hash of the entered password, null until hashed or after the password is edited
+    private String encodedPassword;
 
     @Subscribe
     public void onInit(final InitEvent event) {
-        timeZoneField.setItems(List.of(TimeZone.getAvailableIDs()));
+        // lazy: the shared list stays on the server, the browser only gets the page of matching ids it shows
+        timeZoneField.setItems(
+                query -> lookupDataCache.fetch(LookupDataCache.TIME_ZONES,
+                        query.getFilter().orElse(null), query.getOffset(), query.getLimit()),
+                query -> lookupDataCache.count(LookupDataCache.TIME_ZONES, query.getFilter().orElse(null)));
+        passwordField.addValueChangeListener(e -> encodedPassword = null);
     }
 
     @Subscribe
@@ -73,11 +83,27 @@ public class UserDetailView extends StandardDetailView<User> {
 
     @Subscribe
     public void onBeforeSave(final BeforeSaveEvent event) {
-        if (entityStates.isNew(getEditedEntity())) {
-            getEditedEntity().setPassword(passwordEncoder.encode(passwordField.getValue()));
+        if (!entityStates.isNew(getEditedEntity()) || encodedPassword != null) return;
 
-            newEntity = true;
-        }
+        // hashing takes ~100 ms of CPU: run it on the hashing pool instead of under the session lock,
+        // and save when the hash is ready
+        event.preventSave();
+        UI ui = UI.getCurrent();
+        passwordHashingService.encodeAsync(passwordField.getValue()).whenComplete((hash, e) -> {
+            try {
+                ui.access(() -> {
+                    if (e != null) {
+                        throw new IllegalStateException("Cannot hash the password", e); // session error handler
+                    }
+                    encodedPassword = hash;
+                    getEditedEntity().setPassword(hash);
+                    newEntity = true;
+                    event.resume();
+                });
+            } catch (UIDetachedException ignored) {
+                // the view was closed meanwhile, nothing to save
+            }
+        });
     }
 
     @Subscribe
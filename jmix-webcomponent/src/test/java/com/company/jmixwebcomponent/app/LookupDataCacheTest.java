@@ -0,0 +1,48 @@
+package com.company.jmixwebcomponent.app;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@link LookupDataCache} builds a list once and pages the filtered items.
+ */
+public class LookupDataCacheTest {
+
+    @Test
+    void test_listIsBuiltOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        LookupDataCache.LookupKey<String> key = new LookupDataCache.LookupKey<>("test",
+                () -> {
+                    loads.incrementAndGet();
+                    return List.of("a", "b");
+                },
+                Function.identity());
+
+        LookupDataCache cache = new LookupDataCache();
+        assertThat(cache.getItems(key)).containsExactly("a", "b");
+        assertThat(cache.fetch(key, null, 0, 10)).containsExactly("a", "b");
+        assertThat(loads).hasValue(1);
+
+        cache.invalidate(key);
+        cache.getItems(key);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void test_timeZonesAreFilteredAndPaged() {
+        LookupDataCache cache = new LookupDataCache();
+
+        assertThat(cache.fetch(LookupDataCache.TIME_ZONES, "BERL", 0, 10)).containsExactly("Europe/Berlin");
+
+        int europe = cache.count(LookupDataCache.TIME_ZONES, "europe/");
+        assertThat(europe).isGreaterThan(10);
+        assertThat(cache.fetch(LookupDataCache.TIME_ZONES, "europe/", 10, 5))
+                .hasSize(5)
+                .allMatch(id -> id.startsWith("Europe/"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.company.jmixwebcomponent.component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the columnar row format and compares its size with the plain array-of-objects format.
+ */
+public class ColumnarRowsEncoderTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void test_dictionaryEncodingOfLowCardinalityColumns() throws Exception {
+        List<Map<String, Object>> rows = createRows(10);
+
+        JsonNode encoded = mapper.readTree(ColumnarRowsEncoder.encode(
+                List.of("username", "active", "timeZoneId"), rows));
+
+        assertThat(encoded.get("n").asInt()).isEqualTo(10);
+
+        // unique values stay a plain array
+        JsonNode username = encoded.get("cols").get(0);
+        assertThat(username.isArray()).isTrue();
+        assertThat(username.get(3).asText()).isEqualTo("user3");
+
+        // repeating values become dictionary + indexes
+        JsonNode active = encoded.get("cols").get(1);
+        assertThat(active.get("dict").size()).isEqualTo(2);
+        assertThat(active.get("idx").size()).isEqualTo(10);
+
+        JsonNode timeZone = encoded.get("cols").get(2);
+        int idx = timeZone.get("idx").get(3).asInt();
+        JsonNode value = timeZone.get("dict").get(idx);
+        assertThat(value.isNull() ? null : value.asText()).isEqualTo(rows.get(3).get("timeZoneId"));
+    }
+
+    @Test
+    void test_payloadSizeAgainstPlainFormat() throws Exception {
+        List<Map<String, Object>> rows = createRows(10_000);
+
+        String plain = mapper.writeValueAsString(rows);
+        String compact = ColumnarRowsEncoder.encode(rows);
+
+        assertThat(compact.length()).isLessThan(plain.length() * 7 / 10);
+    }
+
+    private List<Map<String, Object>> createRows(int count) {
+        String[] timeZones = {"UTC", "Asia/Ho_Chi_Minh", "Europe/Berlin", "America/New_York", null};
+        Random random = new Random(42);
+
+        List<Map<String, Object>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> m = new HashMap<>();
+            m.put("id", UUID.randomUUID().toString());
+            m.put("username", "user" + i);
+            m.put("firstName", "First" + random.nextInt(500));
+            m.put("lastName", "Last" + random.nextInt(2000));
+            m.put("email", "user" + i + "@example.com");
+            m.put("active", i % 2 == 0);
+            m.put("timeZoneId", timeZones[i % timeZones.length]);
+            rows.add(m);
+        }
+        return rows;
+    }
+}
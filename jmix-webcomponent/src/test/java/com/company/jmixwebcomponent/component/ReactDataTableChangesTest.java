@@ -0,0 +1,113 @@
+package com.company.jmixwebcomponent.component;
+
+import com.company.jmixwebcomponent.entity.User;
+import io.jmix.core.event.EntityChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.jmix.core.event.EntityChangedEvent.Type.DELETED;
+import static io.jmix.core.event.EntityChangedEvent.Type.UPDATED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@link ReactDataTable} applies broadcast changes to the rows it shows, also when its page was
+ * served by the shared {@link ReactDataTablePageCache}.
+ */
+public class ReactDataTableChangesTest {
+
+    private static final RowSerializer<User> ROWS = RowSerializer.<User>create()
+            .withColumn("id", User::getId)
+            .withColumn("username", User::getUsername);
+
+    private final List<User> users = createUsers(25);
+    private final ReactDataTablePageCache pageCache = new ReactDataTablePageCache(500, 300);
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final List<String> resolvedIds = new ArrayList<>();
+    private final List<User> resolvedUsers = new ArrayList<>();
+
+    @Test
+    void test_cachedPageReceivesChanges() {
+        createTable();
+        ReactDataTable<User> table = createTable();
+        assertThat(fetches).hasValue(1); // the second table got the page from the cache
+
+        User updated = users.get(1);
+        table.applyChanges(List.of(
+                change(updated, UPDATED),
+                change(users.get(2), DELETED),
+                change(users.get(20), UPDATED)));
+
+        // only the shown row is reloaded, and the reloaded item serves row events
+        assertThat(resolvedIds).containsExactly(updated.getId().toString());
+        assertThat(table.findItem(updated.getId().toString())).containsSame(resolvedUsers.get(0));
+
+        // the shown row is removed rather than only resetting the count
+        assertThat(table.getElement().getProperty("totalCount", -1)).isEqualTo(users.size() - 1);
+    }
+
+    @Test
+    void test_rowsOfPreviousPageAreNotPatched() {
+        ReactDataTable<User> table = createTable();
+        table.loadPage(1, 10);
+
+        table.applyChanges(List.of(change(users.get(1), UPDATED), change(users.get(11), UPDATED)));
+
+        assertThat(resolvedIds).containsExactly(users.get(11).getId().toString());
+    }
+
+    private ReactDataTable<User> createTable() {
+        ReactDataTable<User> table = new ReactDataTable<>();
+        table.setColumns(List.of(new ReactDataTableColumn("username", "Username")));
+        table.setPageSize(10);
+        table.setPageCache(pageCache, User.class, "ReactDataTableChangesTest.users");
+        table.setItemResolver(id -> {
+            resolvedIds.add(id);
+            // a reload returns a new instance
+            User user = users.stream().filter(u -> u.getId().toString().equals(id)).findFirst()
+                    .map(ReactDataTableChangesTest::copy)
+                    .orElse(null);
+            if (user != null) resolvedUsers.add(user);
+            return user;
+        });
+        table.setDataProvider(new ReactDataTableDataProvider<User>() {
+            @Override
+            public List<User> fetch(ReactDataTableQuery query) {
+                fetches.incrementAndGet();
+                int from = Math.min(query.getFirstResult(), users.size());
+                return users.subList(from, Math.min(from + query.getMaxResults(), users.size()));
+            }
+
+            @Override
+            public int count(ReactDataTableQuery query) {
+                return users.size();
+            }
+        }, ROWS);
+        return table;
+    }
+
+    private static ReactDataTableBroadcaster.Change change(User user, EntityChangedEvent.Type type) {
+        return new ReactDataTableBroadcaster.Change(User.class.getName(), user.getId().toString(), type);
+    }
+
+    private static User copy(User user) {
+        User copy = new User();
+        copy.setId(user.getId());
+        copy.setUsername(user.getUsername());
+        return copy;
+    }
+
+    private static List<User> createUsers(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId(UUID.randomUUID());
+            user.setUsername("user" + i);
+            users.add(user);
+        }
+        return users;
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.jmixwebcomponent.component;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@link ReactDataTableExporter} loads the result page by page and escapes CSV values.
+ */
+public class ReactDataTableExporterTest {
+
+    private static final RowSerializer<String[]> ROWS = RowSerializer.<String[]>create()
+            .withColumn("name", r -> r[0])
+            .withColumn("note", r -> r[1]);
+
+    private static final List<ReactDataTableColumn> COLUMNS = List.of(
+            new ReactDataTableColumn("name", "Name"),
+            new ReactDataTableColumn("note", "Note"));
+
+    @Test
+    void test_csvIsWrittenPageByPage() throws Exception {
+        int total = 2 * ReactDataTableExporter.PAGE_SIZE + 5;
+        List<String[]> data = IntStream.range(0, total).mapToObj(i -> new String[]{"user" + i, null}).toList();
+
+        List<Integer> requestedOffsets = new ArrayList<>();
+        ReactDataTableExporter<String[]> exporter = new ReactDataTableExporter<>(COLUMNS, ROWS,
+                new ReactDataTableQuery(0, ReactDataTableExporter.PAGE_SIZE),
+                query -> {
+                    requestedOffsets.add(query.getFirstResult());
+                    int from = Math.min(total, query.getFirstResult());
+                    return data.subList(from, Math.min(total, from + query.getMaxResults()));
+                });
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exporter.write(ReactDataTableExporter.Format.CSV, out);
+
+        assertThat(count).isEqualTo(total);
+        assertThat(requestedOffsets).containsExactly(0, 1000, 2000);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(total + 1);
+        assertThat(lines[0]).isEqualTo("\uFEFFName,Note");
+        assertThat(lines[total]).isEqualTo("user" + (total - 1) + ",");
+    }
+
+    @Test
+    void test_csvEscaping() {
+        assertThat(ReactDataTableExporter.csvValue("plain")).isEqualTo("plain");
+        assertThat(ReactDataTableExporter.csvValue("a,b")).isEqualTo("\"a,b\"");
+        assertThat(ReactDataTableExporter.csvValue("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(ReactDataTableExporter.csvValue("=SUM(A1)")).isEqualTo("'=SUM(A1)");
+        assertThat(ReactDataTableExporter.csvValue(-5)).isEqualTo("-5");
+        assertThat(ReactDataTableExporter.csvValue(null)).isEmpty();
+    }
+}
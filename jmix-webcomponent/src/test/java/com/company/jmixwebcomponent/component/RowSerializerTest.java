@@ -0,0 +1,64 @@
+package com.company.jmixwebcomponent.component;
+
+import com.company.jmixwebcomponent.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares {@link RowSerializer} with the former map-per-row serialization. Allocation is measured by
+ * {@code RowSerializationBenchmark} ({@code gc.alloc.rate.norm}).
+ */
+public class RowSerializerTest {
+
+    private static final RowSerializer<User> SERIALIZER = RowSerializer.<User>create()
+            .withColumn("id", User::getId)
+            .withColumn("username", User::getUsername)
+            .withColumn("firstName", User::getFirstName)
+            .withColumn("lastName", User::getLastName)
+            .withColumn("email", User::getEmail)
+            .withColumn("active", User::getActive);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void test_sameJsonAsMapBasedSerialization() throws Exception {
+        List<User> users = createUsers(100);
+
+        assertThat(mapper.readTree(SERIALIZER.writeRows(users)))
+                .isEqualTo(mapper.readTree(writeWithMaps(users)));
+    }
+
+    private String writeWithMaps(List<User> users) throws Exception {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (User u : users) {
+            Map<String, Object> m = new HashMap<>();
+            m.put("id", u.getId().toString());
+            m.put("username", u.getUsername());
+            m.put("firstName", u.getFirstName());
+            m.put("lastName", u.getLastName());
+            m.put("email", u.getEmail());
+            m.put("active", u.getActive());
+            rows.add(m);
+        }
+        return new ObjectMapper().writeValueAsString(rows);
+    }
+
+    private List<User> createUsers(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setId(UUID.randomUUID());
+            user.setUsername("user" + i);
+            user.setFirstName("First" + (i % 500));
+            user.setLastName("Last" + (i % 2000));
+            user.setEmail("user" + i + "@example.com");
+            user.setActive(i % 10 != 0);
+            users.add(user);
+        }
+        return users;
+    }
+}
@@ -0,0 +1,77 @@
+package com.company.jmixwebcomponent.component;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that {@link TrigramIndex} answers substring queries like {@code lower(x) like '%text%'}.
+ */
+public class TrigramIndexTest {
+
+    private static final int[] FIRST_FIELD = {0};
+    private static final int[] BOTH_FIELDS = {0, 1};
+
+    @Test
+    void test_substringMatchIgnoresCase() {
+        TrigramIndex<Integer> index = new TrigramIndex<>(2);
+        index.put(1, "admin", "Administrator");
+        index.put(2, "jsmith", "John Smith");
+        index.put(3, "jdoe", null);
+
+        assertThat(index.search("MIN", BOTH_FIELDS, 10)).containsExactly(1);
+        assertThat(index.search("smi", BOTH_FIELDS, 10)).containsExactly(2);
+        assertThat(index.search("n sm", BOTH_FIELDS, 10)).containsExactly(2);
+        assertThat(index.search("xyz", BOTH_FIELDS, 10)).isEmpty();
+    }
+
+    @Test
+    void test_searchIsRestrictedToFields() {
+        TrigramIndex<Integer> index = new TrigramIndex<>(2);
+        index.put(1, "admin", "Administrator");
+        index.put(2, "jsmith", "John Smith");
+
+        assertThat(index.search("john", new int[]{0}, 10)).isEmpty();
+        assertThat(index.search("john", new int[]{1}, 10)).containsExactly(2);
+    }
+
+    @Test
+    void test_updateAndRemove() {
+        TrigramIndex<Integer> index = new TrigramIndex<>(1);
+        index.put(1, "alice");
+        index.put(1, "bob");
+
+        assertThat(index.search("ali", FIRST_FIELD, 10)).isEmpty();
+        assertThat(index.search("bob", FIRST_FIELD, 10)).containsExactly(1);
+
+        index.remove(1);
+        assertThat(index.search("bob", FIRST_FIELD, 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void test_compactionKeepsLiveEntries() {
+        TrigramIndex<Integer> index = new TrigramIndex<>(1);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 1000; i++) {
+                index.put(i, "user" + i + "-" + round);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(index.search("user42-2", FIRST_FIELD, 10)).containsExactly(42);
+        assertThat(index.search("42-1", FIRST_FIELD, 10)).isEmpty();
+    }
+
+    @Test
+    void test_unansweredQueriesReturnNull() {
+        TrigramIndex<Integer> index = new TrigramIndex<>(1);
+        for (int i = 0; i < 20; i++) {
+            index.put(i, "user" + i);
+        }
+
+        assertThat(index.search("us", FIRST_FIELD, 100)).isNull();
+        assertThat(index.search("user", FIRST_FIELD, 10)).isNull();
+        assertThat(index.search("user", FIRST_FIELD, 20)).hasSize(20);
+    }
+}
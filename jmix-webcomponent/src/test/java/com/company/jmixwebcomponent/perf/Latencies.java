@@ -0,0 +1,48 @@
+package com.company.jmixwebcomponent.perf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thread-safe collector of operation durations with nearest-rank percentiles.
+ */
+class Latencies {
+
+    private final List<Long> nanos = Collections.synchronizedList(new ArrayList<>());
+
+    void time(Runnable operation) {
+        long start = System.nanoTime();
+        operation.run();
+        record(System.nanoTime() - start);
+    }
+
+    void record(long durationNanos) {
+        nanos.add(durationNanos);
+    }
+
+    int count() {
+        return nanos.size();
+    }
+
+    /**
+     * @param percentile 0..100
+     * @return duration in milliseconds, 0 if nothing was recorded
+     */
+    double percentileMillis(double percentile) {
+        List<Long> sorted;
+        synchronized (nanos) {
+            sorted = new ArrayList<>(nanos);
+        }
+        if (sorted.isEmpty()) return 0;
+
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1)) / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d p50=%.1f ms p99=%.1f ms", count(), percentileMillis(50), percentileMillis(99));
+    }
+}
@@ -0,0 +1,247 @@
+package com.company.jmixwebcomponent.perf;
+
+import com.company.jmixwebcomponent.JmixwebcomponentApplication;
+import com.company.jmixwebcomponent.component.ReactDataTable;
+import com.company.jmixwebcomponent.component.ReactDataTablePageCache;
+import com.company.jmixwebcomponent.entity.User;
+import com.company.jmixwebcomponent.view.reactdatatable.ReactDataTableView;
+import com.company.jmixwebcomponent.view.user.UserListView;
+import com.vaadin.flow.component.ComponentUtil;
+import io.jmix.core.DataManager;
+import io.jmix.core.Id;
+import io.jmix.core.security.SystemAuthenticator;
+import io.jmix.flowui.ViewNavigators;
+import io.jmix.flowui.testassist.FlowuiTestAssistConfiguration;
+import io.jmix.flowui.testassist.UiTest;
+import io.jmix.flowui.testassist.UiTestUtils;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of {@link ReactDataTableView}: seeds users, opens the view once per simulated session and then
+ * drives all sessions concurrently with paging (some requests sorted or filtered), edits and deletes.
+ * Fails when p50/p99 server time or retained heap per session exceed {@code perf-budget.properties}.
+ * <p>
+ * Run with {@code ./gradlew perfTest}, sized with {@code -Pperf.users} (10 000 by default, up to 1 000 000),
+ * {@code -Pperf.sessions}, {@code -Pperf.pages}, {@code -Pperf.edits} and {@code -Pperf.deletes}.
+ * <p>
+ * The UI test assist provides one UI for the test thread, so views are opened one after another on it and
+ * left again, which detaches them. Their tables are then driven from worker threads the way the view's
+ * listeners do it; edit and delete skip the detail view and the confirmation dialog.
+ */
+@Tag("perf")
+@UiTest
+@SpringBootTest(classes = {JmixwebcomponentApplication.class, FlowuiTestAssistConfiguration.class},
+        properties = "main.datasource.url=jdbc:hsqldb:mem:perf")
+public class ReactDataTableViewPerfTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactDataTableViewPerfTest.class);
+
+    // "perfuser": seeded ids are known without loading them
+    private static final long ID_MSB = 0x7065726675736572L;
+    private static final int SEED_BATCH = 1000;
+    private static final int PAGE_SIZE = 10;
+
+    private static final String[] FIRST_NAMES = {"Anna", "Binh", "Carlos", "Dana", "Emil", "Fatima", "Goran", "Hoa"};
+    private static final String[] LAST_NAMES = {"Nguyen", "Smith", "Garcia", "Ivanova", "Tran", "Kowalski", "Le"};
+    private static final String[] SORT_KEYS = {"username", "firstName", "lastName", "email"};
+
+    private final int users = Integer.getInteger("perf.users", 10_000);
+    private final int sessions = Integer.getInteger("perf.sessions", 20);
+    private final int pagesPerSession = Integer.getInteger("perf.pages", 50);
+    private final int editsPerSession = Integer.getInteger("perf.edits", 5);
+    private final int deletesPerSession = Integer.getInteger("perf.deletes", 2);
+
+    @Autowired
+    DataManager dataManager;
+
+    @Autowired
+    ViewNavigators viewNavigators;
+
+    @Autowired
+    SystemAuthenticator systemAuthenticator;
+
+    @Autowired
+    ReactDataTablePageCache pageCache;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    void test_concurrentSessions() throws Exception {
+        assertThat(users)
+                .as("edited and deleted rows of the sessions must not overlap")
+                .isGreaterThan(sessions * (editsPerSession + deletesPerSession));
+
+        Properties budgets = loadBudgets();
+        seedUsers();
+
+        Latencies open = new Latencies();
+        List<ReactDataTableView> views = new ArrayList<>(sessions);
+
+        long heapBefore = usedHeap();
+        for (int s = 0; s < sessions; s++) {
+            long start = System.nanoTime();
+            viewNavigators.view(UiTestUtils.getCurrentView(), ReactDataTableView.class).navigate();
+            open.record(System.nanoTime() - start);
+            views.add(UiTestUtils.getCurrentView());
+
+            // navigating to the same route would reuse the view instance
+            viewNavigators.view(UiTestUtils.getCurrentView(), UserListView.class).navigate();
+        }
+        long heapPerSessionKb = Math.max(0, usedHeap() - heapBefore) / sessions / 1024;
+
+        Latencies pages = new Latencies();
+        Latencies edits = new Latencies();
+        Latencies deletes = new Latencies();
+
+        ExecutorService executor = Executors.newFixedThreadPool(sessions);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int s = 0; s < sessions; s++) {
+                int session = s;
+                ReactDataTable<User> table = UiTestUtils.getComponent(views.get(s), "table");
+                futures.add(executor.submit(() -> systemAuthenticator.runWithUser("admin",
+                        () -> runSession(session, table, pages, edits, deletes))));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("ReactDataTableView with {} users, {} sessions: open {}, page {}, edit {}, delete {}, heap {} KB/session",
+                users, sessions, open, pages, edits, deletes, heapPerSessionKb);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(open.percentileMillis(99)).as("open p99 ms")
+                .isLessThanOrEqualTo(budget(budgets, "open.p99-ms"));
+        softly.assertThat(pages.percentileMillis(50)).as("page p50 ms")
+                .isLessThanOrEqualTo(budget(budgets, "page.p50-ms"));
+        softly.assertThat(pages.percentileMillis(99)).as("page p99 ms")
+                .isLessThanOrEqualTo(budget(budgets, "page.p99-ms"));
+        softly.assertThat(edits.percentileMillis(99)).as("edit p99 ms")
+                .isLessThanOrEqualTo(budget(budgets, "edit.p99-ms"));
+        softly.assertThat(deletes.percentileMillis(99)).as("delete p99 ms")
+                .isLessThanOrEqualTo(budget(budgets, "delete.p99-ms"));
+        softly.assertThat((double) heapPerSessionKb).as("heap per session KB")
+                .isLessThanOrEqualTo(budget(budgets, "heap-per-session-kb"));
+        softly.assertAll();
+    }
+
+    private void runSession(int session, ReactDataTable<User> table,
+                            Latencies pages, Latencies edits, Latencies deletes) {
+        Random random = new Random(session);
+        int pageCount = Math.max(1, users / PAGE_SIZE);
+
+        for (int i = 0; i < pagesPerSession; i++) {
+            // mostly plain paging, every 5th request sorted, every 7th filtered
+            String sortKey = i % 5 == 0 ? SORT_KEYS[random.nextInt(SORT_KEYS.length)] : null;
+            String sortDirection = sortKey == null ? null : random.nextBoolean() ? "asc" : "desc";
+            String filter = i % 7 == 0 ? LAST_NAMES[random.nextInt(LAST_NAMES.length)].toLowerCase() : null;
+
+            ReactDataTable.PageRequestEvent event = new ReactDataTable.PageRequestEvent(table, true,
+                    random.nextInt(pageCount), PAGE_SIZE, sortKey, sortDirection, filter);
+            pages.time(() -> ComponentUtil.fireEvent(table, event));
+        }
+
+        // each session edits and deletes its own rows: no optimistic lock conflicts
+        for (int i = 0; i < editsPerSession; i++) {
+            String id = userId(session + i * sessions).toString();
+            String firstName = "Edited " + i;
+            // table items are partially loaded, the detail view edits a fully loaded instance
+            edits.time(() -> table.findItem(id).ifPresent(item -> {
+                User user = dataManager.load(Id.of(item)).one();
+                user.setFirstName(firstName);
+                table.upsertItems(List.of(dataManager.save(user)));
+            }));
+        }
+
+        for (int i = 0; i < deletesPerSession; i++) {
+            String id = userId(users - 1 - (session + i * sessions)).toString();
+            deletes.time(() -> table.findItem(id).ifPresent(user -> {
+                dataManager.remove(Id.of(user));
+                table.removeRows(id);
+            }));
+        }
+    }
+
+    private void seedUsers() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("delete from USER_ where USERNAME like 'perf-%'");
+
+        String sql = "insert into USER_ (ID, VERSION, USERNAME, PASSWORD, FIRST_NAME, LAST_NAME, EMAIL, ACTIVE)"
+                + " values (?, 1, ?, ?, ?, ?, ?, ?)";
+
+        // plain JDBC batches: a million users through DataManager would take longer than the test itself
+        for (int from = 0; from < users; from += SEED_BATCH) {
+            int to = Math.min(users, from + SEED_BATCH);
+            List<Object[]> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                String username = String.format("perf-%07d", i);
+                batch.add(new Object[]{userId(i), username, "{noop}perf",
+                        FIRST_NAMES[i % FIRST_NAMES.length], LAST_NAMES[i % LAST_NAMES.length],
+                        username + "@example.com", i % 10 != 0});
+            }
+            jdbc.batchUpdate(sql, batch);
+        }
+
+        // seeded behind the back of the entity events
+        pageCache.invalidateAll();
+    }
+
+    private static UUID userId(int index) {
+        return new UUID(ID_MSB, index);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Properties loadBudgets() throws IOException {
+        Properties budgets = new Properties();
+        try (InputStream in = ReactDataTableViewPerfTest.class.getResourceAsStream("/perf-budget.properties")) {
+            budgets.load(Objects.requireNonNull(in, "perf-budget.properties not found"));
+        }
+        // -Pbudget.<name>=<value> is passed as a system property by the perfTest task
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("budget.")) {
+                budgets.setProperty(key, System.getProperty(key));
+            }
+        }
+        return budgets;
+    }
+
+    private static double budget(Properties budgets, String name) {
+        return Double.parseDouble(budgets.getProperty("budget." + name));
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("delete from USER_ where USERNAME like 'perf-%'");
+        pageCache.invalidateAll();
+    }
+}
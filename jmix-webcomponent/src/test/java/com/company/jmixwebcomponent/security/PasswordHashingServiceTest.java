@@ -0,0 +1,86 @@
+package com.company.jmixwebcomponent.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that {@link PasswordHashingService} hashes with the configured bcrypt strength, reports
+ * {@code {noop}}, other Spring Security and weaker hashes for a rehash and bounds the wait of the blocking methods.
+ */
+public class PasswordHashingServiceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PasswordHashingService service = new PasswordHashingService(registry, 2, 10, 11, 100, 5000);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void test_encodeAndMatch() throws Exception {
+        String hash = service.encodeAsync("secret").get();
+
+        assertThat(hash).startsWith("{bcrypt}$2a$11$");
+        assertThat(service.matches("secret", hash)).isTrue();
+        assertThat(service.matches("other", hash)).isFalse();
+        assertThat(service.matchesAsync("secret", hash).get()).isTrue();
+        assertThat(service.upgradeEncoding(hash)).isFalse();
+        assertThat(registry.get("password.hashing").tag("operation", "encode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void test_outdatedHashesAreUpgraded() {
+        assertThat(service.matches("admin", "{noop}admin")).isTrue();
+        assertThat(service.upgradeEncoding("{noop}admin")).isTrue();
+
+        PasswordHashingService weaker = new PasswordHashingService(registry, 1, 10, 10, 100, 5000);
+        try {
+            assertThat(service.upgradeEncoding(weaker.encode("secret"))).isTrue();
+        } finally {
+            weaker.shutdown();
+        }
+    }
+
+    @Test
+    void test_otherSpringSecurityHashesMatch() {
+        String hash = "{pbkdf2@SpringSecurity_v5_8}"
+                + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8().encode("secret");
+
+        assertThat(service.matches("secret", hash)).isTrue();
+        assertThat(service.upgradeEncoding(hash)).isTrue();
+    }
+
+    @Test
+    void test_asyncResultIsTakenByTheNextMatch() throws Exception {
+        String hash = service.encodeAsync("secret").get();
+
+        assertThat(service.matchesAsync("secret", hash).get()).isTrue();
+        assertThat(service.matches("secret", hash)).isTrue();
+
+        // the blocking check did not hash again
+        assertThat(registry.get("password.hashing").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void test_blockingBridgeTimesOut() {
+        // a strength 14 hash takes far longer than 1 ms
+        PasswordHashingService slow = new PasswordHashingService(registry, 1, 10, 14, 100, 1);
+        try {
+            assertThatThrownBy(() -> slow.encode("secret")).isInstanceOf(AuthenticationServiceException.class);
+        } finally {
+            slow.shutdown();
+        }
+    }
+
+    @Test
+    void test_calibrationKeepsMinimumStrength() {
+        assertThat(PasswordHashingService.calibrate(0)).isEqualTo(PasswordHashingService.MIN_STRENGTH);
+    }
+}
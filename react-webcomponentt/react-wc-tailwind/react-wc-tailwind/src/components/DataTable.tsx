@@ -1,9 +1,46 @@
-import { useMemo, useState } from "react";
-import type { ColumnDef, Density, RowData } from "../types";
+import {
+  useEffect,
+  useLayoutEffect,
+  useMemo,
+  useRef,
+  useState,
+  type ReactNode,
+  type Ref,
+} from "react";
+import type {
+  ColumnDef,
+  Density,
+  RangeQuery,
+  RowData,
+  SortDirection,
+  TableQuery,
+} from "../types";
+
+const FILTER_DEBOUNCE_MS = 300;
+
+// Virtual scroll: rows rendered above/below the viewport
+const OVERSCAN_ROWS = 10;
+// first guess per density, replaced by the measured height of a rendered row
+const ESTIMATED_ROW_HEIGHT: Record<Density, number> = {
+  compact: 42,
+  normal: 56,
+  comfortable: 64,
+};
+
+type SortState = { key: string; direction: SortDirection } | null;
+
+function compareValues(a: unknown, b: unknown) {
+  if (a == null) return b == null ? 0 : -1;
+  if (b == null) return 1;
+  if (typeof a === "number" && typeof b === "number") return a - b;
+  return String(a).localeCompare(String(b));
+}
 
 type Props = {
   columns: ColumnDef[];
   rows: RowData[];
+  // changes when rows are patched in place
+  rowsVersion: number;
 
   pageSize: number;
   emptyText: string;
@@ -12,8 +49,31 @@ type Props = {
   editable: boolean;
   deletable: boolean;
 
+  // lazy mode: rows contain only the current page, paging is done by the server
+  lazy: boolean;
+  totalCount: number;
+  page: number;
+  onPageRequest: (query: TableQuery) => void;
+  // server is loading rows asynchronously
+  loading: boolean;
+
+  // virtual scroll mode: one scrollable list, rows come from the element's range store
+  virtual: boolean;
+  rangeGeneration: number;
+  rowAt: (index: number) => RowData | undefined;
+  onRangeRequest: (range: RangeQuery) => void;
+
+  // checkbox column; selection lives in the element so it survives paging
+  selectable: boolean;
+  selectedIds: ReadonlySet<string>;
+  onSelect: (ids: string[], selected: boolean) => void;
+
+  getRowId: (row: RowData) => string | null;
   getRowKey: (row: RowData, index: number) => string;
 
+  // called after every commit (render stats)
+  onCommit?: () => void;
+
   onEdit?: (row: RowData) => void;
   onDelete?: (row: RowData) => void;
 };
@@ -21,32 +81,360 @@ type Props = {
 export default function DataTable({
   columns,
   rows,
+  rowsVersion,
   pageSize,
   emptyText,
   density,
   editable,
   deletable,
+  lazy,
+  totalCount,
+  page: serverPage,
+  onPageRequest,
+  loading,
+  virtual,
+  rangeGeneration,
+  rowAt,
+  onRangeRequest,
+  selectable,
+  selectedIds,
+  onSelect,
+  getRowId,
   getRowKey,
+  onCommit,
   onEdit,
   onDelete,
 }: Props) {
   const [page, setPage] = useState(0);
 
+  const [sort, setSort] = useState<SortState>(null);
+  const [filterInput, setFilterInput] = useState("");
+  const [filter, setFilter] = useState("");
+
+  const containerRef = useRef<HTMLDivElement>(null);
+  const [scrollTop, setScrollTop] = useState(0);
+  const [viewportHeight, setViewportHeight] = useState(0);
+  const [rowHeight, setRowHeight] = useState(ESTIMATED_ROW_HEIGHT[density]);
+  const measuredRowRef = useRef<HTMLTableRowElement>(null);
+
   const size = Math.max(1, pageSize);
+  const filterable = columns.some((c) => c.filterable);
+
+  // debounce typing: one query per pause, not per keystroke
+  useEffect(() => {
+    const t = window.setTimeout(
+      () => setFilter(filterInput.trim()),
+      FILTER_DEBOUNCE_MS
+    );
+    return () => window.clearTimeout(t);
+  }, [filterInput]);
+
+  const toQuery = (p: number): TableQuery => ({
+    page: p,
+    sortKey: sort?.key,
+    sortDirection: sort?.direction,
+    filter: filter || undefined,
+  });
+
+  // sort/filter changed: lazy mode asks the server for the first page, otherwise restart locally
+  const lastQuery = useRef({ sort, filter });
+  useEffect(() => {
+    const prev = lastQuery.current;
+    if (prev.sort === sort && prev.filter === filter) return;
+    lastQuery.current = { sort, filter };
+
+    if (virtual) {
+      // the range effect below requests the new result from the top
+      if (containerRef.current) containerRef.current.scrollTop = 0;
+      setScrollTop(0);
+    } else if (lazy) {
+      onPageRequest({
+        page: 0,
+        sortKey: sort?.key,
+        sortDirection: sort?.direction,
+        filter: filter || undefined,
+      });
+    } else {
+      setPage(0);
+    }
+  }, [sort, filter, lazy, virtual, onPageRequest]);
+
+  // eager mode only: rows are all on the client already
+  const viewRows = useMemo(() => {
+    if (lazy) return rows;
+
+    let result = rows;
+    if (filter) {
+      const needle = filter.toLowerCase();
+      const keys = columns.filter((c) => c.filterable).map((c) => c.key);
+      result = result.filter((row) =>
+        keys.some((k) => String(row[k] ?? "").toLowerCase().includes(needle))
+      );
+    }
+    if (sort) {
+      const dir = sort.direction === "asc" ? 1 : -1;
+      result = [...result].sort(
+        (a, b) => compareValues(a[sort.key], b[sort.key]) * dir
+      );
+    }
+    return result;
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [lazy, rows, rowsVersion, columns, filter, sort]);
 
   const totalPages = useMemo(
-    () => Math.max(1, Math.ceil(rows.length / size)),
-    [rows.length, size]
+    () => Math.max(1, Math.ceil((lazy ? totalCount : viewRows.length) / size)),
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+    [lazy, totalCount, viewRows.length, rowsVersion, size]
   );
 
-  const safePage = Math.min(Math.max(0, page), totalPages - 1);
+  const safePage = Math.min(
+    Math.max(0, lazy ? serverPage : page),
+    totalPages - 1
+  );
 
   const pageRows = useMemo(() => {
+    if (lazy) return viewRows.slice();
     const start = safePage * size;
-    return rows.slice(start, start + size);
-  }, [rows, safePage, size]);
+    return viewRows.slice(start, start + size);
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [lazy, viewRows, rowsVersion, safePage, size]);
+
+  const goToPage = (next: number) => {
+    if (lazy) onPageRequest(toQuery(next));
+    else setPage(next);
+  };
+
+  /* ----- virtual scroll window ----- */
+
+  useEffect(() => {
+    const el = containerRef.current;
+    if (!virtual || !el) return;
+
+    setViewportHeight(el.clientHeight);
+    const observer = new ResizeObserver(() =>
+      setViewportHeight(el.clientHeight)
+    );
+    observer.observe(el);
+    return () => observer.disconnect();
+  }, [virtual]);
+
+  // rows have a uniform height (no wrapping), so one rendered row gives the real value
+  useLayoutEffect(() => {
+    const h = measuredRowRef.current?.getBoundingClientRect().height;
+    if (virtual && h && Math.abs(h - rowHeight) > 0.5) setRowHeight(h);
+  });
+
+  const visibleCount = Math.ceil(viewportHeight / rowHeight) + 1;
+  const windowStart = Math.max(
+    0,
+    Math.floor(scrollTop / rowHeight) - OVERSCAN_ROWS
+  );
+  // requested window is not clamped to totalCount: the answer carries the new count
+  const windowEnd = windowStart + visibleCount + 2 * OVERSCAN_ROWS;
+  const renderEnd = Math.min(windowEnd, totalCount);
+
+  useEffect(() => {
+    if (!virtual || viewportHeight === 0) return;
+
+    onRangeRequest({
+      first: windowStart,
+      count: windowEnd - windowStart,
+      sortKey: sort?.key,
+      sortDirection: sort?.direction,
+      filter: filter || undefined,
+    });
+  }, [
+    virtual,
+    viewportHeight,
+    windowStart,
+    windowEnd,
+    sort,
+    filter,
+    rangeGeneration,
+    onRangeRequest,
+  ]);
+
+  const scrollFrame = useRef(0);
+  const onScroll = () => {
+    if (!virtual || scrollFrame.current) return;
+    // at most one state update per frame
+    scrollFrame.current = requestAnimationFrame(() => {
+      scrollFrame.current = 0;
+      setScrollTop(containerRef.current?.scrollTop ?? 0);
+    });
+  };
+  useEffect(() => () => cancelAnimationFrame(scrollFrame.current), []);
+
+  // layout effects run in the commit, after the DOM is updated and before paint
+  useLayoutEffect(() => {
+    onCommit?.();
+  });
+
+  const toggleSort = (key: string) =>
+    setSort((prev) => {
+      if (!prev || prev.key !== key) return { key, direction: "asc" };
+      return prev.direction === "asc" ? { key, direction: "desc" } : null;
+    });
 
   const showActions = editable || deletable;
+  const colSpan =
+    columns.length + (showActions ? 1 : 0) + (selectable ? 1 : 0);
+
+  // "select page" = rows currently shown (the page, or the loaded rows of the virtual window)
+  const shownIds: string[] = [];
+  if (selectable) {
+    if (virtual) {
+      for (let i = windowStart; i < renderEnd; i++) {
+        const row = rowAt(i);
+        const id = row ? getRowId(row) : null;
+        if (id != null) shownIds.push(id);
+      }
+    } else {
+      for (const row of pageRows) {
+        const id = getRowId(row);
+        if (id != null) shownIds.push(id);
+      }
+    }
+  }
+  const shownSelected = shownIds.filter((id) => selectedIds.has(id)).length;
+  const allShownSelected =
+    shownIds.length > 0 && shownSelected === shownIds.length;
+
+  const renderRow = (
+    row: RowData,
+    i: number,
+    ref?: Ref<HTMLTableRowElement>
+  ) => (
+    <tr
+      key={getRowKey(row, i)}
+      ref={ref}
+      className={i % 2 === 0 ? "tw-row-even" : "tw-row-odd"}
+    >
+      {selectable && renderSelectCell(row)}
+
+      {columns.map((col) => (
+        <td
+          key={col.key}
+          className="tw-td"
+          style={{ textAlign: col.align ?? "center" }}
+        >
+          {String(row[col.key] ?? "")}
+        </td>
+      ))}
+
+      {showActions && (
+        <td className="tw-td tw-actions-cell">
+          <div className="tw-actions">
+            {editable && onEdit && (
+              <button
+                className="tw-action tw-action-edit"
+                onClick={() => onEdit(row)}
+                title="Edit"
+                type="button"
+              >
+                {/* icon */}
+                <svg
+                  viewBox="0 0 24 24"
+                  width="18"
+                  height="18"
+                  fill="none"
+                  stroke="currentColor"
+                  strokeWidth="2"
+                  strokeLinecap="round"
+                  strokeLinejoin="round"
+                >
+                  <path d="M12 20h9" />
+                  <path d="M16.5 3.5a2.1 2.1 0 0 1 3 3L7 19l-4 1 1-4Z" />
+                </svg>
+              </button>
+            )}
+
+            {deletable && onDelete && (
+              <button
+                className="tw-action tw-action-delete"
+                onClick={() => onDelete(row)}
+                title="Delete"
+                type="button"
+              >
+                {/* icon */}
+                <svg
+                  viewBox="0 0 24 24"
+                  width="18"
+                  height="18"
+                  fill="none"
+                  stroke="currentColor"
+                  strokeWidth="2"
+                  strokeLinecap="round"
+                  strokeLinejoin="round"
+                >
+                  <path d="M3 6h18" />
+                  <path d="M8 6V4h8v2" />
+                  <path d="M19 6l-1 14H6L5 6" />
+                  <path d="M10 11v6" />
+                  <path d="M14 11v6" />
+                </svg>
+              </button>
+            )}
+          </div>
+        </td>
+      )}
+    </tr>
+  );
+
+  const renderSelectCell = (row: RowData) => {
+    const id = getRowId(row);
+    return (
+      <td className="tw-td tw-select-cell">
+        {id != null && (
+          <input
+            type="checkbox"
+            className="tw-checkbox"
+            checked={selectedIds.has(id)}
+            onChange={(e) => onSelect([id], e.target.checked)}
+            aria-label="Select row"
+          />
+        )}
+      </td>
+    );
+  };
+
+  // placeholder for a row whose range has not arrived yet
+  const renderLoadingRow = (i: number) => (
+    <tr
+      key={`loading-${i}`}
+      className="tw-row-loading"
+      style={{ height: rowHeight }}
+    >
+      <td colSpan={colSpan} className="tw-td">
+        &nbsp;
+      </td>
+    </tr>
+  );
+
+  const renderSpacer = (key: string, rowCount: number) => (
+    <tr key={key} aria-hidden>
+      <td
+        colSpan={colSpan}
+        className="tw-spacer"
+        style={{ height: Math.max(0, rowCount) * rowHeight }}
+      />
+    </tr>
+  );
+
+  const renderVirtualRows = () => {
+    if (renderEnd <= windowStart) return [];
+
+    const out: ReactNode[] = [];
+    for (let i = windowStart; i < renderEnd; i++) {
+      const row = rowAt(i);
+      out.push(
+        row
+          ? renderRow(row, i, i === windowStart ? measuredRowRef : undefined)
+          : renderLoadingRow(i)
+      );
+    }
+    return out;
+  };
 
   if (!columns.length) {
     return <div className="tw-empty">No columns defined</div>;
@@ -54,17 +442,73 @@ export default function DataTable({
 
   return (
     <div className={`tw-wrapper tw-density-${density}`}>
-      <div className="tw-table-container">
+      {filterable && (
+        <div className="tw-toolbar">
+          <input
+            className="tw-filter"
+            type="search"
+            placeholder="Filter…"
+            value={filterInput}
+            onChange={(e) => setFilterInput(e.target.value)}
+          />
+        </div>
+      )}
+
+      {loading && <div className="tw-loading-bar" role="progressbar" />}
+
+      <div
+        ref={containerRef}
+        className={[
+          "tw-table-container",
+          virtual && "tw-virtual",
+          loading && "tw-busy",
+        ]
+          .filter(Boolean)
+          .join(" ")}
+        aria-busy={loading}
+        onScroll={virtual ? onScroll : undefined}
+      >
         <table className="tw-table">
           <thead>
             <tr>
+              {selectable && (
+                <th className="tw-th tw-select-header">
+                  <input
+                    type="checkbox"
+                    className="tw-checkbox"
+                    checked={allShownSelected}
+                    ref={(el) => {
+                      if (el) {
+                        el.indeterminate =
+                          shownSelected > 0 && !allShownSelected;
+                      }
+                    }}
+                    disabled={shownIds.length === 0}
+                    onChange={(e) => onSelect(shownIds, e.target.checked)}
+                    aria-label="Select page"
+                  />
+                </th>
+              )}
               {columns.map((col) => (
                 <th
                   key={col.key}
-                  className="tw-th"
+                  className={col.sortable ? "tw-th tw-th-sortable" : "tw-th"}
                   style={{ textAlign: col.align ?? "center" }}
+                  onClick={col.sortable ? () => toggleSort(col.key) : undefined}
+                  aria-sort={
+                    sort?.key === col.key
+                      ? sort.direction === "asc"
+                        ? "ascending"
+                        : "descending"
+                      : undefined
+                  }
                 >
                   {col.label}
+                  {sort?.key === col.key && (
+                    <span className="tw-sort-indicator">
+                      {sort.direction === "asc" ? "▲" : "▼"}
+                    </span>
+                  )}
                 </th>
               ))}
               {showActions && <th className="tw-th tw-actions-header">Actions</th>}
@@ -72,100 +516,43 @@ export default function DataTable({
           </thead>
 
           <tbody>
-            {pageRows.length === 0 ? (
+            {virtual ? (
+              totalCount === 0 ? (
+                <tr>
+                  <td colSpan={colSpan} className="tw-empty">
+                    {emptyText}
+                  </td>
+                </tr>
+              ) : (
+                <>
+                  {/* spacers keep the scrollbar sized for all totalCount rows */}
+                  {renderSpacer("top", windowStart)}
+                  {renderVirtualRows()}
+                  {renderSpacer(
+                    "bottom",
+                    totalCount - Math.max(renderEnd, windowStart)
+                  )}
+                </>
+              )
+            ) : pageRows.length === 0 ? (
               <tr>
-                <td
-                  colSpan={columns.length + (showActions ? 1 : 0)}
-                  className="tw-empty"
-                >
+                <td colSpan={colSpan} className="tw-empty">
                   {emptyText}
                 </td>
               </tr>
             ) : (
-              pageRows.map((row, i) => (
-                <tr
-                  key={getRowKey(row, i)}
-                  className={i % 2 === 0 ? "tw-row-even" : "tw-row-odd"}
-                >
-                  {columns.map((col) => (
-                    <td
-                      key={col.key}
-                      className="tw-td"
-                      style={{ textAlign: col.align ?? "center" }}
-                    >
-                      {String(row[col.key] ?? "")}
-                    </td>
-                  ))}
-
-                  {showActions && (
-                    <td className="tw-td tw-actions-cell">
-                      <div className="tw-actions">
-                        {editable && onEdit && (
-                          <button
-                            className="tw-action tw-action-edit"
-                            onClick={() => onEdit(row)}
-                            title="Edit"
-                            type="button"
-                          >
-                            {/* icon */}
-                            <svg
-                              viewBox="0 0 24 24"
-                              width="18"
-                              height="18"
-                              fill="none"
-                              stroke="currentColor"
-                              strokeWidth="2"
-                              strokeLinecap="round"
-                              strokeLinejoin="round"
-                            >
-                              <path d="M12 20h9" />
-                              <path d="M16.5 3.5a2.1 2.1 0 0 1 3 3L7 19l-4 1 1-4Z" />
-                            </svg>
-                          </button>
-                        )}
-
-                        {deletable && onDelete && (
-                          <button
-                            className="tw-action tw-action-delete"
-                            onClick={() => onDelete(row)}
-                            title="Delete"
-                            type="button"
-                          >
-                            {/* icon */}
-                            <svg
-                              viewBox="0 0 24 24"
-                              width="18"
-                              height="18"
-                              fill="none"
-                              stroke="currentColor"
-                              strokeWidth="2"
-                              strokeLinecap="round"
-                              strokeLinejoin="round"
-                            >
-                              <path d="M3 6h18" />
-                              <path d="M8 6V4h8v2" />
-                              <path d="M19 6l-1 14H6L5 6" />
-                              <path d="M10 11v6" />
-                              <path d="M14 11v6" />
-                            </svg>
-                          </button>
-                        )}
-                      </div>
-                    </td>
-                  )}
-                </tr>
-              ))
+              pageRows.map((row, i) => renderRow(row, i))
             )}
           </tbody>
         </table>
       </div>
 
-      {totalPages > 1 && (
+      {!virtual && totalPages > 1 && (
         <div className="tw-pagination">
           <button
             className="tw-page-btn"
             disabled={safePage === 0}
-            onClick={() => setPage(() => Math.max(0, safePage - 1))}
+            onClick={() => goToPage(Math.max(0, safePage - 1))}
             type="button"
           >
             ◀
@@ -178,7 +565,7 @@ export default function DataTable({
           <button
             className="tw-page-btn"
             disabled={safePage >= totalPages - 1}
-            onClick={() => setPage(() => Math.min(totalPages - 1, safePage + 1))}
+            onClick={() => goToPage(Math.min(totalPages - 1, safePage + 1))}
             type="button"
           >
             ▶
@@ -4,6 +4,42 @@ export interface ColumnDef {
   key: string;
   label: string;
   align?: "left" | "center" | "right";
+  sortable?: boolean;
+  filterable?: boolean;
+}
+
+export type SortDirection = "asc" | "desc";
+
+// Current page + sort + filter, sent to the server in lazy mode
+export interface TableQuery {
+  page: number;
+  sortKey?: string;
+  sortDirection?: SortDirection;
+  filter?: string;
 }
 
 export type RowData = Record<string, unknown>;
+
+// Compact wire format: one array per column, low-cardinality columns as dictionary + indexes
+export type ColumnarColumn = unknown[] | { dict: unknown[]; idx: number[] };
+
+export interface ColumnarRows {
+  n: number;
+  keys: string[];
+  cols: ColumnarColumn[];
+}
+
+// Viewport range requested in virtual scroll mode, with the sort/filter it belongs to
+export interface RangeQuery extends Omit<TableQuery, "page"> {
+  first: number;
+  count: number;
+}
+
+// Keyed patch sent by ReactDataTable.upsertRows/removeRows/clearRows
+export interface RowPatch {
+  upsert?: RowData[] | ColumnarRows;
+  remove?: unknown[];
+  clear?: boolean;
+  // full id order, sent only when rows were re-sorted
+  order?: unknown[];
+}
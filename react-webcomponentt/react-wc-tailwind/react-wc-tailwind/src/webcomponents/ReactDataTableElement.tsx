@@ -1,9 +1,49 @@
 import { createRoot, type Root } from "react-dom/client";
 import DataTable from "../components/DataTable";
-import type { ColumnDef, Density, RowData } from "../types";
+import type {
+  ColumnarRows,
+  ColumnDef,
+  Density,
+  RowData,
+  RangeQuery,
+  RowPatch,
+  TableQuery,
+} from "../types";
 import cssText from "../styles/tailwind-wc.compiled.css?raw";
 
-type RowEventDetail = { id?: string; row: RowData };
+// only the row id (and version if the row has one): the server resolves the item itself
+type RowEventDetail = { id: string | null; version: number | null };
+type PageRequestDetail = {
+  page: number;
+  pageSize: number;
+  sortKey: string | null;
+  sortDirection: string | null;
+  filter: string | null;
+};
+type SelectionChangeDetail = { ids: string[] };
+type RowsChunkAckDetail = { stream: number };
+type RangeRequestDetail = {
+  generation: number;
+  first: number;
+  count: number;
+  sortKey: string | null;
+  sortDirection: string | null;
+  filter: string | null;
+};
+// durations in ms since the last batch
+type RenderStatsDetail = { parse: number[]; render: number[] };
+
+// Render stats: samples are sent in one "render-stats" event at most every STATS_FLUSH_MS
+const STATS_FLUSH_MS = 10_000;
+const MAX_STATS_SAMPLES = 100;
+
+// Virtual scroll row store: rows are kept in fixed-size blocks, far-away blocks are evicted
+const RANGE_BLOCK_SIZE = 100;
+const MAX_RANGE_BLOCKS = 10;
+
+function rangeQueryKey(q: Omit<TableQuery, "page">) {
+  return JSON.stringify([q.sortKey ?? null, q.sortDirection ?? null, q.filter ?? null]);
+}
 
 function parseJsonArray<T>(raw: string, fallback: T[]): T[] {
   try {
@@ -14,6 +54,48 @@ function parseJsonArray<T>(raw: string, fallback: T[]): T[] {
   }
 }
 
+function isColumnarRows(v: unknown): v is ColumnarRows {
+  return (
+    typeof v === "object" &&
+    v !== null &&
+    Array.isArray((v as ColumnarRows).keys) &&
+    Array.isArray((v as ColumnarRows).cols)
+  );
+}
+
+// Expands the compact columnar payload (see ColumnarRowsEncoder.java) into row objects
+function decodeColumnarRows(v: ColumnarRows): RowData[] {
+  const n = clampInt(v.n, 0, 0);
+  const rows: RowData[] = new Array(n);
+  for (let r = 0; r < n; r++) rows[r] = {};
+
+  v.keys.forEach((key, c) => {
+    const col = v.cols[c];
+    if (Array.isArray(col)) {
+      for (let r = 0; r < n; r++) rows[r][key] = col[r] ?? null;
+    } else if (col) {
+      const { dict, idx } = col;
+      for (let r = 0; r < n; r++) rows[r][key] = dict[idx[r]] ?? null;
+    }
+  });
+
+  return rows;
+}
+
+function toRows(v: unknown): RowData[] {
+  if (Array.isArray(v)) return v as RowData[];
+  if (isColumnarRows(v)) return decodeColumnarRows(v);
+  return [];
+}
+
+function parseRows(raw: string): RowData[] {
+  try {
+    return toRows(JSON.parse(raw));
+  } catch {
+    return [];
+  }
+}
+
 function clampInt(v: unknown, fallback: number, min: number) {
   const n = typeof v === "number" ? v : Number(v);
   if (!Number.isFinite(n)) return fallback;
@@ -30,6 +112,11 @@ export class ReactDataTableElement extends HTMLElement {
   private _columns: ColumnDef[] = [];
   private _rows: RowData[] = [];
 
+  // id -> position in _rows, built lazily for patches
+  private _rowIndex: Map<string, number> | null = null;
+  // bumped on in-place patches so React sees a change
+  private _rowsVersion = 0;
+
   private _pageSize = 5;
   private _rowIdKey = "id";
   private _editable = true;
@@ -37,12 +124,40 @@ export class ReactDataTableElement extends HTMLElement {
   private _density: Density = "normal";
   private _emptyText = "No data";
 
+  // Lazy mode: rows hold only the current page, server owns paging
+  private _lazy = false;
+  private _totalCount = 0;
+  private _page = 0;
+  // set by ReactDataTable.java while an asynchronous load runs
+  private _loading = false;
+
+  // Selected row ids, kept across pages, sort and filter
+  private _selectable = false;
+  private _selection = new Set<string>();
+
+  // Virtual scroll mode: block index -> rows, filled by setRange() from ReactDataTable.java
+  private _virtual = false;
+  private _blocks = new Map<number, RowData[]>();
+  private _pendingBlocks = new Set<number>();
+  private _rangeQueryKey = rangeQueryKey({});
+  // bumped when the store is dropped; late answers for an older generation are ignored
+  private _rangeGeneration = 0;
+
   // Cache raw JSON to avoid re-parse/re-render
   private _columnsRaw: string | null = null;
   private _rowsRaw: string | null = null;
 
   private _renderQueued = false;
 
+  // Render stats: enabled by ReactDataTable.java when server metrics are on
+  private _renderStats = false;
+  private _parseTimes: number[] = [];
+  private _renderTimes: number[] = [];
+  private _statsTimer = 0;
+  private _markSeq = 0;
+  // start mark of a render request not committed yet
+  private _renderMark: string | null = null;
+
   static observedAttributes = [
     "columns",
     "rows",
@@ -52,6 +167,13 @@ export class ReactDataTableElement extends HTMLElement {
     "deletable",
     "density",
     "empty-text",
+    "lazy",
+    "total-count",
+    "page",
+    "virtual",
+    "selectable",
+    "loading",
+    "render-stats",
   ];
 
   /* ================= ATTRIBUTES ================= */
@@ -70,6 +192,26 @@ export class ReactDataTableElement extends HTMLElement {
       this.deletable = newValue !== null;
       return;
     }
+    if (name === "lazy") {
+      this.lazy = newValue !== null;
+      return;
+    }
+    if (name === "virtual") {
+      this.virtual = newValue !== null;
+      return;
+    }
+    if (name === "selectable") {
+      this.selectable = newValue !== null;
+      return;
+    }
+    if (name === "loading") {
+      this.loading = newValue !== null;
+      return;
+    }
+    if (name === "render-stats") {
+      this.renderStats = newValue !== null;
+      return;
+    }
 
     if (newValue == null) return;
 
@@ -92,6 +234,12 @@ export class ReactDataTableElement extends HTMLElement {
       case "empty-text":
         this.emptyText = newValue || "No data";
         break;
+      case "total-count":
+        this.totalCount = newValue;
+        break;
+      case "page":
+        this.page = newValue;
+        break;
     }
   }
 
@@ -112,15 +260,16 @@ export class ReactDataTableElement extends HTMLElement {
     return this._columns;
   }
 
-  set rows(value: RowData[] | string) {
+  set rows(value: RowData[] | ColumnarRows | string) {
     if (typeof value === "string") {
       if (value === this._rowsRaw) return;
       this._rowsRaw = value;
-      this._rows = parseJsonArray<RowData>(value, []);
+      this._rows = this.measureParse(() => parseRows(value));
     } else {
       this._rowsRaw = null;
-      this._rows = Array.isArray(value) ? value : [];
+      this._rows = this.measureParse(() => toRows(value));
     }
+    this._rowIndex = null;
     this.queueRender();
   }
   get rows() {
@@ -141,6 +290,7 @@ export class ReactDataTableElement extends HTMLElement {
     const next = (value || "id").trim();
     if (next === this._rowIdKey) return;
     this._rowIdKey = next;
+    this._rowIndex = null;
     this.queueRender();
   }
   get rowIdKey() {
@@ -187,6 +337,392 @@ export class ReactDataTableElement extends HTMLElement {
     return this._emptyText;
   }
 
+  set lazy(value: boolean) {
+    const next = Boolean(value);
+    if (next === this._lazy) return;
+    this._lazy = next;
+    this.queueRender();
+  }
+  get lazy() {
+    return this._lazy;
+  }
+
+  set totalCount(value: number | string) {
+    const next = clampInt(value, 0, 0);
+    if (next === this._totalCount) return;
+    this._totalCount = next;
+    this.queueRender();
+  }
+  get totalCount() {
+    return this._totalCount;
+  }
+
+  set page(value: number | string) {
+    const next = clampInt(value, 0, 0);
+    if (next === this._page) return;
+    this._page = next;
+    this.queueRender();
+  }
+  get page() {
+    return this._page;
+  }
+
+  set virtual(value: boolean) {
+    const next = Boolean(value);
+    if (next === this._virtual) return;
+    this._virtual = next;
+    this.resetRange();
+  }
+  get virtual() {
+    return this._virtual;
+  }
+
+  set selectable(value: boolean) {
+    const next = Boolean(value);
+    if (next === this._selectable) return;
+    this._selectable = next;
+    this.queueRender();
+  }
+  get selectable() {
+    return this._selectable;
+  }
+
+  set loading(value: boolean) {
+    const next = Boolean(value);
+    if (next === this._loading) return;
+    this._loading = next;
+    this.queueRender();
+  }
+  get loading() {
+    return this._loading;
+  }
+
+  set renderStats(value: boolean) {
+    const next = Boolean(value);
+    if (next === this._renderStats) return;
+    this._renderStats = next;
+    if (!next) this.dropStats();
+  }
+  get renderStats() {
+    return this._renderStats;
+  }
+
+  /* ================= SELECTION ================= */
+
+  get selectedIds() {
+    return [...this._selection];
+  }
+
+  // Called from ReactDataTable.java; no event, the server already knows
+  clearSelection() {
+    if (this._selection.size === 0) return;
+    this._selection.clear();
+    this.queueRender();
+  }
+
+  private select = (ids: string[], selected: boolean) => {
+    let changed = false;
+    for (const id of ids) {
+      if (selected === this._selection.has(id)) continue;
+      if (selected) this._selection.add(id);
+      else this._selection.delete(id);
+      changed = true;
+    }
+    if (!changed) return;
+
+    this.queueRender();
+
+    this.dispatchEvent(
+      new CustomEvent<SelectionChangeDetail>("selection-change", {
+        detail: { ids: [...this._selection] },
+        bubbles: true,
+        composed: true,
+      })
+    );
+  };
+
+  // removed rows leave the selection silently, ReactDataTable.java does the same
+  private deselectRemoved(patch: RowPatch) {
+    if (this._selection.size === 0) return;
+
+    if (patch.clear) {
+      this._selection.clear();
+    } else if (patch.remove?.length) {
+      for (const id of patch.remove) this._selection.delete(String(id));
+    }
+  }
+
+  /* ================= VIRTUAL SCROLL ================= */
+
+  // Called from ReactDataTable.java with the rows of a requested range (block aligned)
+  setRange(
+    generation: number,
+    first: number,
+    value: RowData[] | ColumnarRows | string,
+    totalCount: number
+  ) {
+    if (generation !== this._rangeGeneration) return;
+
+    const rows = this.measureParse(() =>
+      typeof value === "string" ? parseRows(value) : toRows(value)
+    );
+    const start = clampInt(first, 0, 0);
+
+    for (let i = 0; i < rows.length; i += RANGE_BLOCK_SIZE) {
+      const block = Math.floor((start + i) / RANGE_BLOCK_SIZE);
+      this._blocks.set(block, rows.slice(i, i + RANGE_BLOCK_SIZE));
+      this._pendingBlocks.delete(block);
+    }
+
+    this._totalCount = clampInt(totalCount, 0, 0);
+
+    // requested blocks past the end will never be answered with rows
+    const blockCount = Math.ceil(this._totalCount / RANGE_BLOCK_SIZE);
+    for (const block of this._pendingBlocks) {
+      if (block >= blockCount) this._pendingBlocks.delete(block);
+    }
+
+    this._rowsVersion++;
+    this.queueRender();
+  }
+
+  // Drops all rows; the table requests its viewport again (new data, row removed, refresh)
+  resetRange() {
+    this._blocks.clear();
+    this._pendingBlocks.clear();
+    this._rangeGeneration++;
+    this._rowsVersion++;
+    this.queueRender();
+  }
+
+  private rowAt = (index: number): RowData | undefined =>
+    this._blocks.get(Math.floor(index / RANGE_BLOCK_SIZE))?.[
+      index % RANGE_BLOCK_SIZE
+    ];
+
+  private requestRange = (range: RangeQuery) => {
+    const key = rangeQueryKey(range);
+    if (key !== this._rangeQueryKey) {
+      this._rangeQueryKey = key;
+      this.resetRange();
+    }
+    if (range.count <= 0) return;
+
+    const firstBlock = Math.floor(range.first / RANGE_BLOCK_SIZE);
+    const lastBlock = Math.floor((range.first + range.count - 1) / RANGE_BLOCK_SIZE);
+
+    this.evictBlocks(firstBlock, lastBlock);
+
+    // one event per run of missing blocks
+    let runStart = -1;
+    for (let b = firstBlock; b <= lastBlock + 1; b++) {
+      const missing =
+        b <= lastBlock && !this._blocks.has(b) && !this._pendingBlocks.has(b);
+
+      if (missing) {
+        this._pendingBlocks.add(b);
+        if (runStart < 0) runStart = b;
+      } else if (runStart >= 0) {
+        this.fireRangeRequest(runStart, b - runStart, range);
+        runStart = -1;
+      }
+    }
+  };
+
+  // Keeps at most MAX_RANGE_BLOCKS blocks, dropping the ones farthest from the viewport
+  private evictBlocks(firstBlock: number, lastBlock: number) {
+    const limit = Math.max(MAX_RANGE_BLOCKS, lastBlock - firstBlock + 1);
+    if (this._blocks.size <= limit) return;
+
+    const center = (firstBlock + lastBlock) / 2;
+    const farthestFirst = [...this._blocks.keys()]
+      .filter((b) => b < firstBlock || b > lastBlock)
+      .sort((a, b) => Math.abs(b - center) - Math.abs(a - center));
+
+    for (const block of farthestFirst) {
+      if (this._blocks.size <= limit) break;
+      this._blocks.delete(block);
+    }
+  }
+
+  private fireRangeRequest(block: number, blocks: number, range: RangeQuery) {
+    const detail: RangeRequestDetail = {
+      generation: this._rangeGeneration,
+      first: block * RANGE_BLOCK_SIZE,
+      count: blocks * RANGE_BLOCK_SIZE,
+      sortKey: range.sortKey ?? null,
+      sortDirection: range.sortDirection ?? null,
+      filter: range.filter ?? null,
+    };
+
+    this.dispatchEvent(
+      new CustomEvent<RangeRequestDetail>("range-request", {
+        detail,
+        bubbles: true,
+        composed: true,
+      })
+    );
+  }
+
+  /* ================= STREAMING ================= */
+
+  // Called from ReactDataTable.java in streaming mode: appends a chunk to the rows already shown,
+  // earlier chunks are not parsed again
+  appendRows(
+    stream: number,
+    value: RowData[] | ColumnarRows | string,
+    last: boolean
+  ) {
+    const rows = this.measureParse(() =>
+      typeof value === "string" ? parseRows(value) : toRows(value)
+    );
+
+    const target = this._rows;
+    const index = this._rowIndex;
+    for (const row of rows) {
+      if (index) {
+        const id = this.getRowId(row);
+        if (id != null) index.set(id, target.length);
+      }
+      target.push(row);
+    }
+
+    // _rows no longer match the rows property
+    this._rowsRaw = null;
+    this._rowsVersion++;
+    this.queueRender();
+
+    if (last) return;
+
+    // ack once the frame with the new rows is painted: the server does not send
+    // the next chunk before the browser has caught up
+    requestAnimationFrame(() =>
+      this.dispatchEvent(
+        new CustomEvent<RowsChunkAckDetail>("rows-chunk-ack", {
+          detail: { stream },
+          bubbles: true,
+          composed: true,
+        })
+      )
+    );
+  }
+
+  /* ================= ROW PATCHES ================= */
+
+  // Called from ReactDataTable.java: applies a keyed patch to _rows in place
+  applyRowPatch(value: RowPatch | string) {
+    let patch: RowPatch;
+    try {
+      patch =
+        typeof value === "string"
+          ? this.measureParse(() => JSON.parse(value) as RowPatch)
+          : value;
+    } catch {
+      return;
+    }
+    if (!patch) return;
+
+    const key = this._rowIdKey;
+
+    this.deselectRemoved(patch);
+
+    if (this._virtual) {
+      this.applyVirtualRowPatch(patch);
+      return;
+    }
+
+    if (patch.clear) {
+      this._rows = [];
+      this._rowIndex = null;
+    }
+
+    if (patch.remove?.length) {
+      const ids = new Set(patch.remove.map(String));
+      const rows = this._rows;
+
+      let w = 0;
+      for (let r = 0; r < rows.length; r++) {
+        const id = rows[r]?.[key];
+        if (id == null || !ids.has(String(id))) rows[w++] = rows[r];
+      }
+      rows.length = w;
+      this._rowIndex = null;
+    }
+
+    if (patch.upsert) {
+      const rows = this._rows;
+      const index = this.ensureRowIndex();
+
+      for (const row of toRows(patch.upsert)) {
+        const id = row?.[key];
+        const pos = id == null ? undefined : index.get(String(id));
+        if (pos !== undefined) {
+          rows[pos] = row;
+        } else {
+          if (id != null) index.set(String(id), rows.length);
+          rows.push(row);
+        }
+      }
+    }
+
+    if (patch.order) {
+      const rows = this._rows;
+      const index = this.ensureRowIndex();
+
+      const ordered: RowData[] = [];
+      for (const id of patch.order) {
+        const pos = index.get(String(id));
+        if (pos !== undefined) ordered.push(rows[pos]);
+      }
+      this._rows = ordered;
+      this._rowIndex = null;
+    }
+
+    // _rows no longer matches the last raw JSON
+    this._rowsRaw = null;
+    this._rowsVersion++;
+    this.queueRender();
+  }
+
+  // Row store holds only some ranges: update loaded rows in place, anything else reloads the viewport
+  private applyVirtualRowPatch(patch: RowPatch) {
+    if (patch.clear || patch.remove?.length || patch.order) {
+      this.resetRange();
+      return;
+    }
+    if (!patch.upsert) return;
+
+    const key = this._rowIdKey;
+    const updates = new Map<string, RowData>();
+    for (const row of toRows(patch.upsert)) {
+      const id = row?.[key];
+      if (id != null) updates.set(String(id), row);
+    }
+
+    for (const rows of this._blocks.values()) {
+      for (let i = 0; i < rows.length; i++) {
+        const id = rows[i]?.[key];
+        const row = id == null ? undefined : updates.get(String(id));
+        if (row) rows[i] = row;
+      }
+    }
+
+    this._rowsVersion++;
+    this.queueRender();
+  }
+
+  private ensureRowIndex() {
+    if (this._rowIndex) return this._rowIndex;
+
+    const index = new Map<string, number>();
+    this._rows.forEach((row, i) => {
+      const id = row?.[this._rowIdKey];
+      if (id != null) index.set(String(id), i);
+    });
+    this._rowIndex = index;
+    return index;
+  }
+
   /* ================= LIFECYCLE HELPERS ================= */
 
   // Fix case: Vaadin sets properties before custom element is defined
@@ -217,6 +753,17 @@ export class ReactDataTableElement extends HTMLElement {
     // boolean attributes: presence = true
     this._editable = this.hasAttribute("editable");
     this._deletable = this.hasAttribute("deletable");
+    this._lazy = this.hasAttribute("lazy");
+    this._virtual = this.hasAttribute("virtual");
+    this._selectable = this.hasAttribute("selectable");
+    this._loading = this.hasAttribute("loading");
+    this._renderStats = this.hasAttribute("render-stats");
+
+    const tc = this.getAttribute("total-count");
+    if (tc != null) this._totalCount = clampInt(tc, 0, 0);
+
+    const pg = this.getAttribute("page");
+    if (pg != null) this._page = clampInt(pg, 0, 0);
 
     const cols = this.getAttribute("columns");
     if (cols != null && cols !== this._columnsRaw) {
@@ -227,7 +774,8 @@ export class ReactDataTableElement extends HTMLElement {
     const rows = this.getAttribute("rows");
     if (rows != null && rows !== this._rowsRaw) {
       this._rowsRaw = rows;
-      this._rows = parseJsonArray<RowData>(rows, []);
+      this._rows = parseRows(rows);
+      this._rowIndex = null;
     }
   }
 
@@ -243,6 +791,13 @@ export class ReactDataTableElement extends HTMLElement {
     this.upgradeProperty("deletable");
     this.upgradeProperty("density");
     this.upgradeProperty("emptyText");
+    this.upgradeProperty("lazy");
+    this.upgradeProperty("totalCount");
+    this.upgradeProperty("page");
+    this.upgradeProperty("virtual");
+    this.upgradeProperty("selectable");
+    this.upgradeProperty("loading");
+    this.upgradeProperty("renderStats");
     this.upgradeProperty("columns");
     this.upgradeProperty("rows");
 
@@ -266,6 +821,85 @@ export class ReactDataTableElement extends HTMLElement {
   disconnectedCallback() {
     this.root?.unmount();
     this.root = null;
+    this.flushStats();
+    if (this._renderMark != null) performance.clearMarks(this._renderMark);
+    this._renderMark = null;
+  }
+
+  /* ================= RENDER STATS ================= */
+
+  private measureParse<R>(parse: () => R): R {
+    if (!this._renderStats) return parse();
+
+    const mark = this.mark("parse");
+    try {
+      return parse();
+    } finally {
+      this.measure("parse", mark, this._parseTimes);
+    }
+  }
+
+  private mark(phase: string) {
+    const name = `react-data-table:${phase}:${++this._markSeq}`;
+    performance.mark(name);
+    return name;
+  }
+
+  // Entries are cleared right away: a table that lives for hours would fill the
+  // performance timeline. DevTools recordings still show them.
+  private measure(phase: string, startMark: string, samples: number[]) {
+    const name = `react-data-table:${phase}`;
+    const entry = performance.measure(name, startMark);
+    performance.clearMarks(startMark);
+    performance.clearMeasures(name);
+
+    if (samples.length < MAX_STATS_SAMPLES) {
+      samples.push(Math.round(entry.duration * 10) / 10);
+    }
+    if (!this._statsTimer) {
+      this._statsTimer = window.setTimeout(() => {
+        this._statsTimer = 0;
+        this.flushStats();
+      }, STATS_FLUSH_MS);
+    }
+  }
+
+  // Called by DataTable after every commit; only renders requested by renderNow() are measured
+  private onCommit = () => {
+    if (this._renderMark == null) return;
+    const mark = this._renderMark;
+    this._renderMark = null;
+    this.measure("render", mark, this._renderTimes);
+  };
+
+  private flushStats() {
+    window.clearTimeout(this._statsTimer);
+    this._statsTimer = 0;
+    if (!this._parseTimes.length && !this._renderTimes.length) return;
+
+    const detail: RenderStatsDetail = {
+      parse: this._parseTimes,
+      render: this._renderTimes,
+    };
+    this._parseTimes = [];
+    this._renderTimes = [];
+
+    this.dispatchEvent(
+      new CustomEvent<RenderStatsDetail>("render-stats", {
+        detail,
+        bubbles: true,
+        composed: true,
+      })
+    );
+  }
+
+  private dropStats() {
+    window.clearTimeout(this._statsTimer);
+    this._statsTimer = 0;
+    this._parseTimes = [];
+    this._renderTimes = [];
+    if (this._renderMark != null) performance.clearMarks(this._renderMark);
+    this._renderMark = null;
   }
 
   /* ================= RENDER ================= */
@@ -280,6 +914,11 @@ export class ReactDataTableElement extends HTMLElement {
     });
   }
 
+  private getRowId = (row: RowData) => {
+    const v = row?.[this._rowIdKey];
+    return v == null ? null : String(v);
+  };
+
   private getRowKey = (row: RowData, index: number) => {
     const v = row?.[this._rowIdKey];
     return v == null ? String(index) : String(v);
@@ -287,9 +926,10 @@ export class ReactDataTableElement extends HTMLElement {
 
   private fire(name: "row-edit" | "row-delete", row: RowData) {
     const idVal = row?.[this._rowIdKey];
+    const version = row?.version;
     const detail: RowEventDetail = {
-      id: idVal == null ? undefined : String(idVal),
-      row,
+      id: idVal == null ? null : String(idVal),
+      version: typeof version === "number" ? version : null,
     };
 
     this.dispatchEvent(
@@ -301,22 +941,60 @@ export class ReactDataTableElement extends HTMLElement {
     );
   }
 
+  private requestPage = (query: TableQuery) => {
+    const detail: PageRequestDetail = {
+      page: query.page,
+      pageSize: this._pageSize,
+      sortKey: query.sortKey ?? null,
+      sortDirection: query.sortDirection ?? null,
+      filter: query.filter ?? null,
+    };
+
+    this.dispatchEvent(
+      new CustomEvent<PageRequestDetail>("page-request", {
+        detail,
+        bubbles: true,
+        composed: true,
+      })
+    );
+  };
+
   private renderNow() {
     if (!this.root) return;
 
     const editable = this._editable;
     const deletable = this._deletable;
 
+    // several queued renders before one commit count as one
+    if (this._renderStats && this._renderMark == null) {
+      this._renderMark = this.mark("render");
+    }
+
     this.root.render(
       <DataTable
         columns={this._columns}
         rows={this._rows}
+        rowsVersion={this._rowsVersion}
         pageSize={this._pageSize}
         emptyText={this._emptyText}
         density={this._density}
         editable={editable}
         deletable={deletable}
+        lazy={this._lazy}
+        totalCount={this._totalCount}
+        page={this._page}
+        onPageRequest={this.requestPage}
+        loading={this._loading}
+        virtual={this._virtual}
+        rangeGeneration={this._rangeGeneration}
+        rowAt={this.rowAt}
+        onRangeRequest={this.requestRange}
+        selectable={this._selectable}
+        selectedIds={this._selection}
+        onSelect={this.select}
+        getRowId={this.getRowId}
         getRowKey={this.getRowKey}
+        onCommit={this._renderStats ? this.onCommit : undefined}
         onEdit={editable ? (row) => this.fire("row-edit", row) : undefined}
         onDelete={deletable ? (row) => this.fire("row-delete", row) : undefined}
       />
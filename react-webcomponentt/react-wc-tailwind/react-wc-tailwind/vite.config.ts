@@ -1,19 +1,25 @@
 // vite.config.ts
 import { defineConfig } from "vite";
 
+// Production build of <react-data-table>: one minified, tree-shaken ES module with a content hash in its
+// name, and manifest.json telling the server which file is current (ReactDataTableModule.java).
+// The Gradle task buildReactDataTable sets REACT_DATA_TABLE_OUT_DIR to a directory served as static resources.
 export default defineConfig({
+  // public/ holds the dev page assets, they are not part of the module
+  publicDir: false,
   build: {
-    target: "es2017",
+    target: "es2020",
+    outDir: process.env.REACT_DATA_TABLE_OUT_DIR ?? "dist",
     emptyOutDir: true,
     minify: true,
-    lib: {
-      entry: "src/main.ts",
-      formats: ["iife"],
-      name: "ReactDataTableWC",
-      fileName: () => "react-data-table.js",
-    },
+    manifest: "manifest.json",
     rollupOptions: {
-      output: { inlineDynamicImports: true },
+      input: { "react-data-table": "src/main.ts" },
+      output: {
+        format: "es",
+        entryFileNames: "[name]-[hash].js",
+        inlineDynamicImports: true,
+      },
     },
   },
   define: {